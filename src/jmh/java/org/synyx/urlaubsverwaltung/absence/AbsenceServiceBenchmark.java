@@ -0,0 +1,72 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.synyx.urlaubsverwaltung.ParallelComputation;
+import org.synyx.urlaubsverwaltung.benchmark.InMemoryServices;
+import org.synyx.urlaubsverwaltung.benchmark.SyntheticData;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.workingtime.InMemoryWorkingTimes;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbsenceServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int persons;
+
+    @Param({"10"})
+    private int departments;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private SyntheticData data;
+    private List<Person> membersOfFirstDepartment;
+    private AbsenceService sut;
+
+    @Setup
+    public void setUp() {
+        data = SyntheticData.generate(Year.of(2024), persons, departments, 12, 3, 42L);
+        membersOfFirstDepartment = data.getDepartments().getFirst().getMembers();
+
+        final SettingsService settingsService = InMemoryServices.settingsService();
+        final ParallelComputation parallelComputation = InMemoryServices.parallelComputation(parallel);
+        sut = new AbsenceServiceImpl(InMemoryServices.applicationService(data), InMemoryServices.sickNoteService(data),
+            InMemoryWorkingTimes.workingTimeCalendarService(data, InMemoryServices.publicHolidaysService(settingsService), settingsService, parallelComputation),
+            parallelComputation);
+    }
+
+    @Benchmark
+    public List<AbsencePeriod> getOpenAbsencesOfAllPersonsForYear() {
+        final Year year = data.getYear();
+        return sut.getOpenAbsences(data.getPersons(), year.atDay(1), year.atMonth(Month.DECEMBER).atEndOfMonth());
+    }
+
+    @Benchmark
+    public List<AbsencePeriod> getOpenAbsencesOfDepartmentForMonth() {
+        final LocalDate firstOfMonth = data.getYear().atMonth(Month.MAY).atDay(1);
+        return sut.getOpenAbsences(membersOfFirstDepartment, firstOfMonth, firstOfMonth.plusMonths(1).minusDays(1));
+    }
+}
@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.account;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.synyx.urlaubsverwaltung.benchmark.InMemoryServices;
+import org.synyx.urlaubsverwaltung.benchmark.SyntheticData;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.workingtime.InMemoryWorkingTimes;
+
+import java.time.Clock;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VacationDaysServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int persons;
+
+    private SyntheticData data;
+    private VacationDaysService sut;
+
+    @Setup
+    public void setUp() {
+        data = SyntheticData.generate(Year.of(2024), persons, 10, 12, 3, 42L);
+
+        final SettingsService settingsService = InMemoryServices.settingsService();
+        final Clock clock = Clock.fixed(data.getYear().atMonth(Month.JUNE).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        sut = new VacationDaysService(
+            InMemoryWorkingTimes.workingTimeCalendarService(data, InMemoryServices.publicHolidaysService(settingsService), settingsService,
+                InMemoryServices.parallelComputation(false)),
+            InMemoryServices.applicationService(data), clock);
+    }
+
+    @Benchmark
+    public Map<Account, HolidayAccountVacationDays> getVacationDaysLeftOfAllAccounts() {
+        return sut.getVacationDaysLeft(data.getAccounts(), data.getYear());
+    }
+}
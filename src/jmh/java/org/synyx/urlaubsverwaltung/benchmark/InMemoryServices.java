@@ -0,0 +1,112 @@
+package org.synyx.urlaubsverwaltung.benchmark;
+
+import de.focus_shift.jollyday.core.HolidayManager;
+import de.focus_shift.jollyday.core.ManagerParameters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.synyx.urlaubsverwaltung.ParallelComputation;
+import org.synyx.urlaubsverwaltung.ParallelComputationProperties;
+import org.synyx.urlaubsverwaltung.account.AccountService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysServiceImpl;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * In-memory stand-ins for the services and repositories the calculation services depend on. Database queries are
+ * answered from a {@link SyntheticData} set, everything else is the production implementation.
+ *
+ * <p>
+ * The stand-ins are stub-only mocks, they do not record their invocations and therefore do not grow during a
+ * benchmark run.
+ */
+public final class InMemoryServices {
+
+    private InMemoryServices() {
+
+        // Hide constructor for util classes
+    }
+
+    public static SettingsService settingsService() {
+        final Settings settings = new Settings();
+        final SettingsService settingsService = mock(SettingsService.class, withSettings().stubOnly());
+        when(settingsService.getSettings()).thenReturn(settings);
+        return settingsService;
+    }
+
+    /**
+     * @param parallel whether independent elements are computed on all available processors
+     * @return the production parallel computation, with a threshold of two elements when computing in parallel
+     */
+    public static ParallelComputation parallelComputation(boolean parallel) {
+        final ParallelComputationProperties properties = new ParallelComputationProperties();
+        properties.setEnabled(parallel);
+        properties.setThreshold(2);
+        return new ParallelComputation(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * @return the production public holidays service with the holiday managers of all {@link SyntheticData#FEDERAL_STATES}
+     */
+    public static PublicHolidaysService publicHolidaysService(SettingsService settingsService) {
+        final Map<String, HolidayManager> holidayManagers = SyntheticData.FEDERAL_STATES.stream()
+            .map(FederalState::getCountry)
+            .distinct()
+            .map(country -> HolidayManager.getInstance(ManagerParameters.create(country)))
+            .collect(toMap(holidayManager -> holidayManager.getManagerParameter().getDisplayName(), Function.identity()));
+        return new PublicHolidaysServiceImpl(settingsService, holidayManagers);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ApplicationService applicationService(SyntheticData data) {
+        final ApplicationService applicationService = mock(ApplicationService.class, withSettings().stubOnly());
+        when(applicationService.getForStatesAndPerson(anyList(), anyList(), any(LocalDate.class), any(LocalDate.class)))
+            .thenAnswer(invocation -> data.getApplications(invocation.getArgument(0, Collection.class),
+                invocation.getArgument(1, List.class), invocation.getArgument(2), invocation.getArgument(3)));
+        return applicationService;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static SickNoteService sickNoteService(SyntheticData data) {
+        final SickNoteService sickNoteService = mock(SickNoteService.class, withSettings().stubOnly());
+        when(sickNoteService.getForStatesAndPerson(anyList(), anyList(), any(LocalDate.class), any(LocalDate.class)))
+            .thenAnswer(invocation -> data.getSickNotes(invocation.getArgument(0, Collection.class),
+                invocation.getArgument(1, List.class), invocation.getArgument(2), invocation.getArgument(3)));
+        return sickNoteService;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static AccountService accountService(SyntheticData data) {
+        final AccountService accountService = mock(AccountService.class, withSettings().stubOnly());
+        when(accountService.getHolidaysAccount(anyInt(), anyList()))
+            .thenAnswer(invocation -> data.getAccounts(invocation.getArgument(0, Integer.class), invocation.getArgument(1, List.class)));
+        return accountService;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static PersonBasedataService personBasedataService(SyntheticData data) {
+        final PersonBasedataService personBasedataService = mock(PersonBasedataService.class, withSettings().stubOnly());
+        when(personBasedataService.getBasedataByPersonId(anyList()))
+            .thenAnswer(invocation -> data.getBasedata(invocation.getArgument(0, List.class)).stream()
+                .collect(toMap(PersonBasedata::personId, Function.identity())));
+        return personBasedataService;
+    }
+}
@@ -0,0 +1,351 @@
+package org.synyx.urlaubsverwaltung.benchmark;
+
+import org.springframework.context.support.StaticMessageSource;
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.department.Department;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonId;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+import org.synyx.urlaubsverwaltung.workingtime.FederalState;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.math.BigDecimal.ZERO;
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.THURSDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.CANCELLED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OTHER;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.SPECIALLEAVE;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
+import static org.synyx.urlaubsverwaltung.period.DayLength.NOON;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.AUSTRIA_WIEN;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BAYERN_MUENCHEN;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_NORDRHEIN_WESTFALEN;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.SWITZERLAND_ZUERICH;
+
+/**
+ * Generates a reproducible data set of persons with their departments, working times, applications for leave,
+ * sick notes and holiday accounts for one year and holiday accounts for the next year, to drive the calculation services in benchmarks.
+ *
+ * <p>
+ * The persons are spread round-robin over the departments and federal states. Every fifth person reduces the
+ * working time to four days in the middle of the year. Applications and sick notes start on random days of the
+ * year, last up to two weeks and may overlap each other.
+ */
+public final class SyntheticData {
+
+    /**
+     * The first federal state is the system default, the working times of the others override it.
+     */
+    public static final List<FederalState> FEDERAL_STATES = List.of(GERMANY_BADEN_WUERTTEMBERG, GERMANY_BAYERN_MUENCHEN,
+        GERMANY_BERLIN, GERMANY_NORDRHEIN_WESTFALEN, AUSTRIA_WIEN, SWITZERLAND_ZUERICH);
+
+    private static final List<ApplicationStatus> APPLICATION_STATUSES = List.of(ALLOWED, ALLOWED, ALLOWED, ALLOWED, WAITING,
+        TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED, CANCELLED);
+
+    private static final List<DayLength> DAY_LENGTHS = List.of(FULL, FULL, FULL, FULL, FULL, FULL, MORNING, NOON);
+
+    private final Year year;
+    private final List<Person> persons;
+    private final List<Department> departments;
+    private final List<VacationType<?>> vacationTypes;
+    private final List<WorkingTime> workingTimes;
+    private final List<Application> applications;
+    private final List<SickNote> sickNotes;
+    private final List<Account> accounts;
+    private final List<Account> accountsNextYear;
+    private final LongAdder queries = new LongAdder();
+
+    private SyntheticData(Year year, List<Person> persons, List<Department> departments, List<VacationType<?>> vacationTypes,
+                          List<WorkingTime> workingTimes, List<Application> applications, List<SickNote> sickNotes,
+                          List<Account> accounts, List<Account> accountsNextYear) {
+        this.year = year;
+        this.persons = persons;
+        this.departments = departments;
+        this.vacationTypes = vacationTypes;
+        this.workingTimes = workingTimes;
+        this.applications = applications;
+        this.sickNotes = sickNotes;
+        this.accounts = accounts;
+        this.accountsNextYear = accountsNextYear;
+    }
+
+    /**
+     * Generates a data set. The same arguments always result in the same data set.
+     *
+     * @param year                         the data set is generated for
+     * @param numberOfPersons              number of persons
+     * @param numberOfDepartments          number of departments the persons are spread over
+     * @param applicationsPerPersonAndYear number of applications for leave of every person in the year
+     * @param sickNotesPerPersonAndYear    number of sick notes of every person in the year
+     * @param seed                         of the random generator
+     * @return the generated data set
+     */
+    public static SyntheticData generate(Year year, int numberOfPersons, int numberOfDepartments,
+                                         int applicationsPerPersonAndYear, int sickNotesPerPersonAndYear, long seed) {
+
+        final Random random = new Random(seed);
+
+        final List<Person> persons = IntStream.rangeClosed(1, numberOfPersons).mapToObj(SyntheticData::person).toList();
+        final List<Department> departments = departments(numberOfDepartments, persons);
+        final List<VacationType<?>> vacationTypes = vacationTypes();
+        final List<WorkingTime> workingTimes = workingTimes(year, persons);
+
+        final List<Application> applications = new ArrayList<>();
+        final List<SickNote> sickNotes = new ArrayList<>();
+        final List<Account> accounts = new ArrayList<>();
+
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setId(1L);
+        sickNoteType.setCategory(SICK_NOTE);
+        sickNoteType.setMessageKey("application.data.sicknotetype.sicknote");
+
+        long applicationId = 1;
+        long sickNoteId = 1;
+        for (Person person : persons) {
+            for (int i = 0; i < applicationsPerPersonAndYear; i++) {
+                final Application application = new Application();
+                application.setId(applicationId++);
+                application.setPerson(person);
+                application.setVacationType(vacationTypes.get(random.nextInt(vacationTypes.size())));
+                application.setStatus(APPLICATION_STATUSES.get(random.nextInt(APPLICATION_STATUSES.size())));
+                setPeriod(year, random, application::setStartDate, application::setEndDate, application::setDayLength);
+                applications.add(application);
+            }
+
+            for (int i = 0; i < sickNotesPerPersonAndYear; i++) {
+                final SickNote.Builder sickNote = SickNote.builder()
+                    .id(sickNoteId++)
+                    .person(person)
+                    .sickNoteType(sickNoteType)
+                    .status(ACTIVE);
+                setPeriod(year, random, sickNote::startDate, sickNote::endDate, sickNote::dayLength);
+                sickNotes.add(sickNote.build());
+            }
+
+            accounts.add(new Account(person, year.atDay(1), year.atMonth(Month.DECEMBER).atEndOfMonth(), true,
+                year.atMonth(Month.APRIL).atDay(1), BigDecimal.valueOf(30), BigDecimal.valueOf(random.nextInt(10)), ZERO, null));
+        }
+
+        // the holiday accounts of the next year carry over five remaining vacation days
+        final Year nextYear = year.plusYears(1);
+        final List<Account> accountsNextYear = persons.stream()
+            .map(person -> new Account(person, nextYear.atDay(1), nextYear.atMonth(Month.DECEMBER).atEndOfMonth(), true,
+                nextYear.atMonth(Month.APRIL).atDay(1), BigDecimal.valueOf(30), BigDecimal.valueOf(5), ZERO, null))
+            .toList();
+
+        return new SyntheticData(year, persons, departments, vacationTypes, workingTimes, applications, sickNotes, accounts, accountsNextYear);
+    }
+
+    public Year getYear() {
+        return year;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public List<Department> getDepartments() {
+        return departments;
+    }
+
+    public List<VacationType<?>> getVacationTypes() {
+        return vacationTypes;
+    }
+
+    public List<WorkingTime> getWorkingTimes() {
+        return workingTimes;
+    }
+
+    public List<Application> getApplications() {
+        return applications;
+    }
+
+    public List<SickNote> getSickNotes() {
+        return sickNotes;
+    }
+
+    public List<Account> getAccounts() {
+        return accounts;
+    }
+
+    public List<Account> getAccountsNextYear() {
+        return accountsNextYear;
+    }
+
+    /**
+     * @return number of in-memory queries answered so far, e.g. to show that a service queries in bulk
+     */
+    public long getQueries() {
+        return queries.sum();
+    }
+
+    /**
+     * In-memory equivalent of the database query for holiday accounts of persons in the given year.
+     */
+    public List<Account> getAccounts(int year, Collection<Person> persons) {
+        queries.increment();
+        final Set<Person> personSet = new HashSet<>(persons);
+        return Stream.concat(accounts.stream(), accountsNextYear.stream())
+            .filter(account -> account.getYear() == year)
+            .filter(account -> personSet.contains(account.getPerson()))
+            .toList();
+    }
+
+    /**
+     * In-memory equivalent of the database query for base data of persons. Every second person has a personnel number.
+     */
+    public List<PersonBasedata> getBasedata(Collection<Long> personIds) {
+        queries.increment();
+        return personIds.stream()
+            .filter(personId -> personId % 2 == 0)
+            .map(personId -> new PersonBasedata(new PersonId(personId), "P-" + personId, null))
+            .toList();
+    }
+
+    /**
+     * In-memory equivalent of the database query for applications of persons in the given states touching the
+     * given date range.
+     */
+    public List<Application> getApplications(Collection<ApplicationStatus> statuses, Collection<Person> persons, LocalDate start, LocalDate end) {
+        queries.increment();
+        final Set<Person> personSet = new HashSet<>(persons);
+        return applications.stream()
+            .filter(application -> personSet.contains(application.getPerson()))
+            .filter(application -> statuses.contains(application.getStatus()))
+            .filter(application -> !application.getStartDate().isAfter(end) && !application.getEndDate().isBefore(start))
+            .toList();
+    }
+
+    /**
+     * In-memory equivalent of the database query for sick notes of persons in the given states touching the
+     * given date range.
+     */
+    public List<SickNote> getSickNotes(Collection<SickNoteStatus> statuses, Collection<Person> persons, LocalDate start, LocalDate end) {
+        queries.increment();
+        final Set<Person> personSet = new HashSet<>(persons);
+        return sickNotes.stream()
+            .filter(sickNote -> personSet.contains(sickNote.getPerson()))
+            .filter(sickNote -> statuses.contains(sickNote.getStatus()))
+            .filter(sickNote -> !sickNote.getStartDate().isAfter(end) && !sickNote.getEndDate().isBefore(start))
+            .toList();
+    }
+
+    /**
+     * In-memory equivalent of the database query for working times of persons, the latest working time first.
+     */
+    public List<WorkingTime> getWorkingTimes(Collection<Person> persons) {
+        queries.increment();
+        final Set<Person> personSet = new HashSet<>(persons);
+        return workingTimes.stream()
+            .filter(workingTime -> personSet.contains(workingTime.getPerson()))
+            .sorted((one, other) -> other.getValidFrom().compareTo(one.getValidFrom()))
+            .toList();
+    }
+
+    private static Person person(int id) {
+        final Person person = new Person("person-" + id, "Person " + id, "Synthetic", "person-" + id + "@example.org");
+        person.setId((long) id);
+        person.setPermissions(List.of(USER));
+        return person;
+    }
+
+    private static List<Department> departments(int numberOfDepartments, List<Person> persons) {
+        final List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < numberOfDepartments; i++) {
+            final Department department = new Department();
+            department.setId((long) i + 1);
+            department.setName("Department " + (i + 1));
+
+            final int offset = i;
+            department.setMembers(IntStream.range(0, persons.size())
+                .filter(index -> index % numberOfDepartments == offset)
+                .mapToObj(persons::get)
+                .toList());
+
+            departments.add(department);
+        }
+        return departments;
+    }
+
+    private static List<VacationType<?>> vacationTypes() {
+        final StaticMessageSource messageSource = new StaticMessageSource();
+        return List.of(
+            ProvidedVacationType.builder(messageSource).id(1L).category(HOLIDAY).messageKey("application.data.vacationType.holiday").build(),
+            ProvidedVacationType.builder(messageSource).id(2L).category(SPECIALLEAVE).messageKey("application.data.vacationType.specialleave").build(),
+            ProvidedVacationType.builder(messageSource).id(3L).category(OTHER).messageKey("application.data.vacationType.other").visibleToEveryone(true).build()
+        );
+    }
+
+    private static List<WorkingTime> workingTimes(Year year, List<Person> persons) {
+        final List<WorkingTime> workingTimes = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            final Person person = persons.get(i);
+            final FederalState federalState = FEDERAL_STATES.get(i % FEDERAL_STATES.size());
+            final boolean isDefaultFederalState = federalState == FEDERAL_STATES.getFirst();
+
+            final WorkingTime workingTime = new WorkingTime(person, year.minusYears(2).atDay(1), federalState, isDefaultFederalState);
+            workingTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), FULL);
+            workingTimes.add(workingTime);
+
+            if (i % 5 == 0) {
+                final WorkingTime partTime = new WorkingTime(person, year.atMonth(Month.JULY).atDay(1), federalState, isDefaultFederalState);
+                partTime.setWorkingDays(List.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY), FULL);
+                workingTimes.add(partTime);
+            }
+        }
+        return workingTimes;
+    }
+
+    private static void setPeriod(Year year, Random random, Consumer<LocalDate> startDate,
+                                  Consumer<LocalDate> endDate, Consumer<DayLength> dayLength) {
+
+        final LocalDate start = year.atDay(1 + random.nextInt(year.length()));
+        final DayLength length = DAY_LENGTHS.get(random.nextInt(DAY_LENGTHS.size()));
+        final LocalDate end = length.isHalfDay() ? start : min(start.plusDays(random.nextInt(14)), year.atMonth(Month.DECEMBER).atEndOfMonth());
+
+        startDate.accept(start);
+        endDate.accept(end);
+        dayLength.accept(length);
+    }
+
+    private static LocalDate min(LocalDate one, LocalDate other) {
+        return one.isBefore(other) ? one : other;
+    }
+}
@@ -0,0 +1,151 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonId;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Resolves the department names of the requested persons, as done by the exports and statistics, with persons being
+ * member of one to three out of all departments.
+ * <p>
+ * Both benchmarks work on data held in memory, so the database is not part of the measurement. The projection query
+ * is served by filtering the (person id, department name) rows with the set of requested ids. The baseline gets the
+ * department entities the former {@code findDistinctByMembersPersonIn} query loaded and runs the former grouping
+ * algorithm on them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DepartmentServiceBenchmark {
+
+    @Param({"5000"})
+    private int persons;
+
+    @Param({"200"})
+    private int departments;
+
+    @Param({"100", "1000", "5000"})
+    private int requestedPersons;
+
+    private List<Person> requested;
+    private List<DepartmentEntity> departmentsOfRequested;
+    private DepartmentServiceImpl sut;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+
+        final List<DepartmentEntity> allDepartments = new ArrayList<>();
+        for (long departmentId = 0; departmentId < departments; departmentId++) {
+            final DepartmentEntity department = new DepartmentEntity();
+            department.setId(departmentId);
+            department.setName("Department " + departmentId);
+            department.setMembers(new ArrayList<>());
+            allDepartments.add(department);
+        }
+
+        final List<Person> allPersons = new ArrayList<>();
+        final List<DepartmentMemberName> memberNames = new ArrayList<>();
+        for (long personId = 1; personId <= persons; personId++) {
+            final Person person = new Person("user" + personId, "Last" + personId, "First" + personId, "user" + personId + "@example.org");
+            person.setId(personId);
+            allPersons.add(person);
+
+            final int memberships = 1 + random.nextInt(3);
+            random.ints(0, departments).distinct().limit(memberships)
+                .mapToObj(allDepartments::get)
+                .forEach(department -> {
+                    final DepartmentMemberEmbeddable member = new DepartmentMemberEmbeddable();
+                    member.setPerson(person);
+                    department.getMembers().add(member);
+                    memberNames.add(new DepartmentMemberName(person.getId(), department.getName()));
+                });
+        }
+        memberNames.sort(Comparator.comparing(DepartmentMemberName::departmentName));
+        requested = allPersons.subList(0, requestedPersons);
+
+        final Set<Person> requestedSet = new HashSet<>(requested);
+        departmentsOfRequested = allDepartments.stream()
+            .filter(department -> department.getMembers().stream().map(DepartmentMemberEmbeddable::getPerson).anyMatch(requestedSet::contains))
+            .toList();
+
+        final DepartmentRepository departmentRepository = mock(DepartmentRepository.class, withSettings().stubOnly());
+        when(departmentRepository.findDepartmentNamesByMemberIds(any())).thenAnswer(invocation -> {
+            final Collection<Long> personIds = invocation.getArgument(0);
+            return memberNames.stream().filter(memberName -> personIds.contains(memberName.personId())).toList();
+        });
+
+        final OrganisationGraphRegistry organisationGraphRegistry =
+            new OrganisationGraphRegistry(departmentRepository, mock(TenantContextHolder.class, withSettings().stubOnly()), Clock.systemUTC());
+
+        sut = new DepartmentServiceImpl(departmentRepository, organisationGraphRegistry,
+            mock(ApplicationService.class, withSettings().stubOnly()),
+            mock(ApplicationEventPublisher.class, withSettings().stubOnly()), Clock.systemUTC());
+    }
+
+    @Benchmark
+    public Map<PersonId, List<String>> getDepartmentNamesByMembers() {
+        return sut.getDepartmentNamesByMembers(requested);
+    }
+
+    /**
+     * The implementation before the projection query: departments are grouped by their members and every member is
+     * looked up in the list of requested persons.
+     */
+    @Benchmark
+    public Map<PersonId, List<String>> getDepartmentNamesByMembersBaseline() {
+
+        final Map<List<Person>, List<String>> departmentNamesByMembers = departmentsOfRequested.stream()
+            .collect(groupingBy(department -> department.getMembers().stream().map(DepartmentMemberEmbeddable::getPerson).toList(),
+                mapping(DepartmentEntity::getName, toList())));
+
+        final Map<PersonId, List<String>> departmentsByPerson = new HashMap<>();
+        departmentNamesByMembers.forEach((members, departmentNames) ->
+            members.forEach(person -> {
+                if (requested.contains(person)) {
+                    final PersonId personId = new PersonId(person.getId());
+                    final List<String> bucket = departmentsByPerson.getOrDefault(personId, List.of());
+                    departmentsByPerson.put(personId, Stream.concat(bucket.stream(), departmentNames.stream()).toList());
+                }
+            }));
+
+        return departmentsByPerson;
+    }
+}
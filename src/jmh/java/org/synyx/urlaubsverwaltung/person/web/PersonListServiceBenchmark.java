@@ -0,0 +1,84 @@
+package org.synyx.urlaubsverwaltung.person.web;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.synyx.urlaubsverwaltung.account.VacationDaysService;
+import org.synyx.urlaubsverwaltung.benchmark.InMemoryServices;
+import org.synyx.urlaubsverwaltung.benchmark.SyntheticData;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.workingtime.InMemoryWorkingTimes;
+
+import java.time.Clock;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Loads one page of the person list. Besides the time per page the benchmark reports the number of queries per page
+ * as {@code queriesPerPage}, which must not grow with the page size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonListServiceBenchmark {
+
+    @Param({"1000"})
+    private int persons;
+
+    @Param({"10", "50", "100", "500"})
+    private int pageSize;
+
+    private SyntheticData data;
+    private List<Person> page;
+    private PersonListService sut;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+
+        /**
+         * number of queries of the last loaded page
+         */
+        public long queriesPerPage;
+    }
+
+    @Setup
+    public void setUp() {
+        data = SyntheticData.generate(Year.of(2024), persons, 10, 12, 3, 42L);
+        page = data.getPersons().subList(0, pageSize);
+
+        final SettingsService settingsService = InMemoryServices.settingsService();
+        final Clock clock = Clock.fixed(data.getYear().atMonth(Month.JUNE).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        final VacationDaysService vacationDaysService = new VacationDaysService(
+            InMemoryWorkingTimes.workingTimeCalendarService(data, InMemoryServices.publicHolidaysService(settingsService), settingsService,
+                InMemoryServices.parallelComputation(false)),
+            InMemoryServices.applicationService(data), clock);
+
+        sut = new PersonListService(InMemoryServices.accountService(data), vacationDaysService, InMemoryServices.personBasedataService(data));
+    }
+
+    @Benchmark
+    public List<PersonListEntry> getEntriesOfPage(Queries queries) {
+        final long queriesBefore = data.getQueries();
+        final List<PersonListEntry> entries = sut.getEntries(page, data.getYear());
+        queries.queriesPerPage = data.getQueries() - queriesBefore;
+        return entries;
+    }
+}
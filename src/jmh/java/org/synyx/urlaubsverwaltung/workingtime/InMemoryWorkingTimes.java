@@ -0,0 +1,73 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.ParallelComputation;
+import org.synyx.urlaubsverwaltung.benchmark.SyntheticData;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Creates the production working time services on top of an in-memory {@link WorkingTimeRepository} answering
+ * from a {@link SyntheticData} set.
+ */
+public final class InMemoryWorkingTimes {
+
+    private InMemoryWorkingTimes() {
+
+        // Hide constructor for util classes
+    }
+
+    public static WorkingTimeCalendarService workingTimeCalendarService(SyntheticData data, PublicHolidaysService publicHolidaysService,
+                                                                        SettingsService settingsService, ParallelComputation parallelComputation) {
+        return new WorkingTimeCalendarServiceImpl(workingTimeRepository(data), publicHolidaysService, settingsService, parallelComputation);
+    }
+
+    public static WorkingTimeService workingTimeService(SyntheticData data, SettingsService settingsService) {
+        return new WorkingTimeServiceImpl(workingTimeRepository(data), settingsService, Clock.systemDefaultZone());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WorkingTimeRepository workingTimeRepository(SyntheticData data) {
+        final WorkingTimeRepository workingTimeRepository = mock(WorkingTimeRepository.class, withSettings().stubOnly());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(anyCollection()))
+            .thenAnswer(invocation -> toEntities(data.getWorkingTimes(invocation.getArgument(0, Collection.class))));
+        when(workingTimeRepository.findByPersonIn(anyList()))
+            .thenAnswer(invocation -> toEntities(data.getWorkingTimes(invocation.getArgument(0, List.class))));
+        when(workingTimeRepository.findByPersonOrderByValidFromDesc(any(Person.class)))
+            .thenAnswer(invocation -> toEntities(data.getWorkingTimes(List.of(invocation.getArgument(0, Person.class)))));
+        return workingTimeRepository;
+    }
+
+    private static List<WorkingTimeEntity> toEntities(List<WorkingTime> workingTimes) {
+        return workingTimes.stream().map(InMemoryWorkingTimes::toEntity).toList();
+    }
+
+    private static WorkingTimeEntity toEntity(WorkingTime workingTime) {
+        final WorkingTimeEntity entity = new WorkingTimeEntity();
+        entity.setPerson(workingTime.getPerson());
+        entity.setValidFrom(workingTime.getValidFrom());
+        entity.setMonday(workingTime.getDayLengthForWeekDay(DayOfWeek.MONDAY));
+        entity.setTuesday(workingTime.getDayLengthForWeekDay(DayOfWeek.TUESDAY));
+        entity.setWednesday(workingTime.getDayLengthForWeekDay(DayOfWeek.WEDNESDAY));
+        entity.setThursday(workingTime.getDayLengthForWeekDay(DayOfWeek.THURSDAY));
+        entity.setFriday(workingTime.getDayLengthForWeekDay(DayOfWeek.FRIDAY));
+        entity.setSaturday(workingTime.getDayLengthForWeekDay(DayOfWeek.SATURDAY));
+        entity.setSunday(workingTime.getDayLengthForWeekDay(DayOfWeek.SUNDAY));
+        if (!workingTime.isDefaultFederalState()) {
+            entity.setFederalStateOverride(workingTime.getFederalState());
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,67 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.benchmark.InMemoryServices;
+import org.synyx.urlaubsverwaltung.benchmark.SyntheticData;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkDaysCountServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int persons;
+
+    private List<WorkDaysCountPeriod> periods;
+    private WorkDaysCountService sut;
+
+    @Setup
+    public void setUp() {
+        final SyntheticData data = SyntheticData.generate(Year.of(2024), persons, 10, 12, 3, 42L);
+        periods = data.getApplications().stream()
+            .map(application -> new WorkDaysCountPeriod(application.getPerson(), application.getDayLength(),
+                new DateRange(application.getStartDate(), application.getEndDate())))
+            .toList();
+
+        final SettingsService settingsService = InMemoryServices.settingsService();
+        final PublicHolidaysService publicHolidaysService = InMemoryServices.publicHolidaysService(settingsService);
+        sut = new WorkDaysCountService(publicHolidaysService, InMemoryWorkingTimes.workingTimeService(data, settingsService), settingsService);
+    }
+
+    @Benchmark
+    public Map<WorkDaysCountPeriod, BigDecimal> getWorkDaysCountOfAllPeriods() {
+        return sut.getWorkDaysCount(periods);
+    }
+
+    @Benchmark
+    public void getWorkDaysCountPerPeriod(Blackhole blackhole) {
+        for (WorkDaysCountPeriod period : periods) {
+            final DateRange dateRange = period.dateRange();
+            blackhole.consume(sut.getWorkDaysCount(period.dayLength(), dateRange.startDate(), dateRange.endDate(), period.person()));
+        }
+    }
+}
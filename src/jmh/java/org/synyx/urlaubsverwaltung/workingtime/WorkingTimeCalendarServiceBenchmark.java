@@ -0,0 +1,54 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.synyx.urlaubsverwaltung.benchmark.InMemoryServices;
+import org.synyx.urlaubsverwaltung.benchmark.SyntheticData;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.time.Year;
+import java.util.Map;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkingTimeCalendarServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int persons;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private SyntheticData data;
+    private WorkingTimeCalendarService sut;
+
+    @Setup
+    public void setUp() {
+        data = SyntheticData.generate(Year.of(2024), persons, 10, 12, 3, 42L);
+
+        final SettingsService settingsService = InMemoryServices.settingsService();
+        sut = InMemoryWorkingTimes.workingTimeCalendarService(data, InMemoryServices.publicHolidaysService(settingsService), settingsService,
+            InMemoryServices.parallelComputation(parallel));
+    }
+
+    @Benchmark
+    public Map<Person, WorkingTimeCalendar> getWorkingTimesByPersonsForYear() {
+        return sut.getWorkingTimesByPersons(data.getPersons(), data.getYear());
+    }
+}
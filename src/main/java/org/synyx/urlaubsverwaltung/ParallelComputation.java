@@ -0,0 +1,106 @@
+package org.synyx.urlaubsverwaltung;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
+
+/**
+ * Maps independent and CPU-bound elements, e.g. the working time calendars of persons, on several cores when
+ * there are enough elements to do so. The elements are split into at most
+ * {@link ParallelComputationProperties#getMaxParallelism()} chunks that are mapped on virtual threads.
+ *
+ * <p>
+ * The mapper must not use the persistence context or other thread bound state of the calling thread, except the
+ * locale, which is handed over to the computing threads.
+ */
+@Component
+public class ParallelComputation {
+
+    private static final String METRIC_COMPUTATION = "computation";
+
+    private final ParallelComputationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ParallelComputation(ParallelComputationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Maps the given elements and records the duration as metric {@value METRIC_COMPUTATION} with the given name.
+     *
+     * @param name     of the computation for the metric
+     * @param elements to map
+     * @param mapper   to apply on every element, must be thread safe
+     * @return the mapped elements in the order of the given elements
+     */
+    public <T, R> List<R> map(String name, List<T> elements, Function<? super T, ? extends R> mapper) {
+
+        final int parallelism = Math.min(properties.getMaxParallelism(), elements.size());
+        final boolean parallel = properties.isEnabled() && parallelism > 1 && elements.size() >= properties.getThreshold();
+
+        final Timer timer = Timer.builder(METRIC_COMPUTATION)
+            .tag("name", name)
+            .tag("mode", parallel ? "parallel" : "sequential")
+            .register(meterRegistry);
+
+        return timer.record(() -> parallel ? mapParallel(elements, mapper, parallelism) : mapSequential(elements, mapper));
+    }
+
+    private static <T, R> List<R> mapSequential(List<T> elements, Function<? super T, ? extends R> mapper) {
+        final List<R> results = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            results.add(mapper.apply(element));
+        }
+        return results;
+    }
+
+    private static <T, R> List<R> mapParallel(List<T> elements, Function<? super T, ? extends R> mapper, int parallelism) {
+
+        final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        final int chunkSize = Math.ceilDiv(elements.size(), parallelism);
+
+        final List<Future<List<R>>> chunks = new ArrayList<>(parallelism);
+        try (ExecutorService executor = newVirtualThreadPerTaskExecutor()) {
+            for (int from = 0; from < elements.size(); from += chunkSize) {
+                final List<T> chunk = elements.subList(from, Math.min(from + chunkSize, elements.size()));
+                chunks.add(executor.submit(() -> {
+                    LocaleContextHolder.setLocaleContext(localeContext);
+                    try {
+                        return mapSequential(chunk, mapper);
+                    } finally {
+                        LocaleContextHolder.resetLocaleContext();
+                    }
+                }));
+            }
+
+            final List<R> results = new ArrayList<>(elements.size());
+            for (Future<List<R>> chunk : chunks) {
+                results.addAll(chunk.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the parallel computation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("parallel computation failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties("uv.parallel-computation")
+@Validated
+public class ParallelComputationProperties {
+
+    /**
+     * Computes independent elements, e.g. the working time calendars of persons, in parallel.
+     * Default is {@code true}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Minimum count of elements to compute them in parallel. Below this count
+     * the overhead of distributing the work outweighs the gain.
+     * Default is {@code 100}.
+     */
+    @Min(2)
+    private int threshold = 100;
+
+    /**
+     * Maximum count of elements that are computed at the same time.
+     * Default is the count of available processors.
+     */
+    @Min(1)
+    private int maxParallelism = Runtime.getRuntime().availableProcessors();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    public void setMaxParallelism(int maxParallelism) {
+        this.maxParallelism = maxParallelism;
+    }
+}
@@ -0,0 +1,83 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Caches values for the duration of the current web request, e.g. to resolve the signed-in user only once per
+ * request even though it is asked for by filters, controllers and interceptors.
+ *
+ * <p>
+ * Without a current request, e.g. in scheduled jobs, event listeners of asynchronous processing or streamed
+ * responses, nothing is cached and every lookup is delegated to the loader.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the cached values
+ */
+public final class RequestScopedCache<K, V> {
+
+    private final String attributeName;
+
+    public RequestScopedCache(String name) {
+        this.attributeName = RequestScopedCache.class.getName() + "." + name;
+    }
+
+    /**
+     * Returns the cached value of the given key, or loads and caches it. {@code null} values are not cached.
+     *
+     * @param key    of the value
+     * @param loader to load the value when it is not cached yet
+     * @return the value of the key, can be {@code null} when the loader returns {@code null}
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+
+        final Map<K, V> values = getValuesOfCurrentRequest();
+        if (values == null) {
+            return loader.apply(key);
+        }
+
+        final V cachedValue = values.get(key);
+        if (cachedValue != null) {
+            return cachedValue;
+        }
+
+        // no computeIfAbsent, the loader may use this cache itself
+        final V value = loader.apply(key);
+        if (value != null) {
+            values.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Drops all cached values of the current request, e.g. after the underlying data has been changed.
+     */
+    public void clear() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(attributeName, SCOPE_REQUEST);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, V> getValuesOfCurrentRequest() {
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Map<K, V> values = (Map<K, V>) requestAttributes.getAttribute(attributeName, SCOPE_REQUEST);
+        if (values == null) {
+            values = new HashMap<>();
+            requestAttributes.setAttribute(attributeName, values, SCOPE_REQUEST);
+        }
+        return values;
+    }
+}
@@ -50,4 +50,16 @@ public interface AbsenceService {
      * @return list of all matching absences
      */
     List<AbsencePeriod> getClosedAbsences(List<Person> persons, LocalDate start, LocalDate end);
+
+    /**
+     * Get the version of the absences for the given persons and date range, regardless of their status.
+     * The version changes as soon as an application for leave or a sick note of one of the persons is created,
+     * updated, deleted, moved into or out of the date range.
+     *
+     * @param persons list of {@link Person}s to get the version for
+     * @param start   start of the date range (inclusive)
+     * @param end     end of the date range (inclusive)
+     * @return the version of the absences, derived from the latest modification of every application for leave and sick note
+     */
+    String getAbsencesVersion(List<Person> persons, LocalDate start, LocalDate end);
 }
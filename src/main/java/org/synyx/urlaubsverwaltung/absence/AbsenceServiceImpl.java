@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.absence;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.ParallelComputation;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
@@ -12,19 +13,22 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.Collections.max;
 import static java.util.Collections.min;
+import static java.util.stream.Collectors.joining;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
 import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
@@ -39,15 +43,17 @@ public class AbsenceServiceImpl implements AbsenceService {
     private final ApplicationService applicationService;
     private final SickNoteService sickNoteService;
     private final WorkingTimeCalendarService workingTimeCalendarService;
+    private final ParallelComputation parallelComputation;
 
     @Autowired
     public AbsenceServiceImpl(
         ApplicationService applicationService, SickNoteService sickNoteService,
-        WorkingTimeCalendarService workingTimeCalendarService
+        WorkingTimeCalendarService workingTimeCalendarService, ParallelComputation parallelComputation
     ) {
         this.applicationService = applicationService;
         this.sickNoteService = sickNoteService;
         this.workingTimeCalendarService = workingTimeCalendarService;
+        this.parallelComputation = parallelComputation;
     }
 
     @Override
@@ -70,6 +76,18 @@ public class AbsenceServiceImpl implements AbsenceService {
         return getAbsences(persons, start, end, ApplicationStatus.inactiveStatuses(), SickNoteStatus.inactiveStatuses());
     }
 
+    @Override
+    public String getAbsencesVersion(List<Person> persons, LocalDate start, LocalDate end) {
+
+        final Map<Long, Instant> applications = new TreeMap<>(applicationService.getLastModifications(start, end, persons));
+        final Map<Long, Instant> sickNotes = new TreeMap<>(sickNoteService.getLastModifications(persons, start, end));
+
+        return Stream.concat(
+                applications.entrySet().stream().map(entry -> "application-" + entry.getKey() + "@" + entry.getValue()),
+                sickNotes.entrySet().stream().map(entry -> "sicknote-" + entry.getKey() + "@" + entry.getValue()))
+            .collect(joining(","));
+    }
+
     private List<AbsencePeriod> getAbsences(List<Person> persons, LocalDate start, LocalDate end, List<ApplicationStatus> byApplicationStatus, List<SickNoteStatus> bySickNoteStatus) {
 
         final DateRange askedDateRange = new DateRange(start, end);
@@ -90,20 +108,18 @@ public class AbsenceServiceImpl implements AbsenceService {
     }
 
     private List<AbsencePeriod> generateAbsencePeriodFromApplication(List<Application> applications, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
-        return applications.stream()
-            .map(application -> toAbsencePeriod(application, askedDateRange, workingTimeCalendarSupplier))
-            .toList();
+        return parallelComputation.map("application_absence_periods", applications,
+            application -> toAbsencePeriod(application, askedDateRange, workingTimeCalendarSupplier));
     }
 
     private List<AbsencePeriod> generateAbsencePeriodFromSickNotes(List<SickNote> sickNotes, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
-        return sickNotes.stream()
-            .map(sickNote -> toAbsencePeriod(sickNote, askedDateRange, workingTimeCalendarSupplier))
-            .toList();
+        return parallelComputation.map("sick_note_absence_periods", sickNotes,
+            sickNote -> toAbsencePeriod(sickNote, askedDateRange, workingTimeCalendarSupplier));
     }
 
     private List<AbsencePeriod> generateAbsencePeriodFromWorkingTimes(Map<Person, WorkingTimeCalendar> workingTimeCalendars) {
-        return workingTimeCalendars.entrySet().stream()
-            .map(this::toAbsencePeriod)
+        return parallelComputation.map("working_time_absence_periods", List.copyOf(workingTimeCalendars.entrySet()), this::toAbsencePeriod)
+            .stream()
             .flatMap(Collection::stream)
             .toList();
     }
@@ -113,35 +129,33 @@ public class AbsenceServiceImpl implements AbsenceService {
         final Person person = workingTimeCalendarEntry.getKey();
         final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendarEntry.getValue();
 
-        return workingTimeCalendar.workingDays().entrySet().stream()
-            .<AbsencePeriod>mapMulti((workingDayInformationEntry, consumer) -> {
-                final LocalDate date = workingDayInformationEntry.getKey();
-                final WorkingDayInformation workingDayInformation = workingDayInformationEntry.getValue();
-
-                if (!workingDayInformation.dayLength().isFull()) {
-                    if (workingDayInformation.morning() == workingDayInformation.noon()) {
-                        if (workingDayInformation.morning() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person), new AbsencePeriod.RecordNoonNoWorkday(person)))));
-                        } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person), new AbsencePeriod.RecordNoonPublicHoliday(person)))));
-                        }
-                    } else {
-                        if (workingDayInformation.morning() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person)))));
-                        } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person)))));
-                        }
-
-                        if (workingDayInformation.noon() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonNoWorkday(person)))));
-                        } else if (workingDayInformation.noon() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonPublicHoliday(person)))));
-                        }
+        final List<AbsencePeriod> absencePeriods = new ArrayList<>();
+
+        workingTimeCalendar.forEachWorkingDay((date, workingDayInformation) -> {
+            if (!workingDayInformation.dayLength().isFull()) {
+                if (workingDayInformation.morning() == workingDayInformation.noon()) {
+                    if (workingDayInformation.morning() == NO_WORKDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person), new AbsencePeriod.RecordNoonNoWorkday(person)))));
+                    } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person), new AbsencePeriod.RecordNoonPublicHoliday(person)))));
+                    }
+                } else {
+                    if (workingDayInformation.morning() == NO_WORKDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person)))));
+                    } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person)))));
+                    }
+
+                    if (workingDayInformation.noon() == NO_WORKDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonNoWorkday(person)))));
+                    } else if (workingDayInformation.noon() == PUBLIC_HOLIDAY) {
+                        absencePeriods.add(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonPublicHoliday(person)))));
                     }
                 }
+            }
+        });
 
-            })
-            .toList();
+        return absencePeriods;
     }
 
     private AbsencePeriod toAbsencePeriod(Application application, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
@@ -0,0 +1,32 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Absences of the persons of the absence overview for the months {@code from} to {@code to} (both inclusive).
+ */
+public class AbsenceOverviewDataDto {
+
+    private final YearMonth from;
+    private final YearMonth to;
+    private final List<AbsenceOverviewDataPersonDto> persons;
+
+    AbsenceOverviewDataDto(YearMonth from, YearMonth to, List<AbsenceOverviewDataPersonDto> persons) {
+        this.from = from;
+        this.to = to;
+        this.persons = persons;
+    }
+
+    public YearMonth getFrom() {
+        return from;
+    }
+
+    public YearMonth getTo() {
+        return to;
+    }
+
+    public List<AbsenceOverviewDataPersonDto> getPersons() {
+        return persons;
+    }
+}
@@ -0,0 +1,40 @@
+package org.synyx.urlaubsverwaltung.absence.web;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact representation of the absence overview days of a person.
+ *
+ * <p>
+ * {@code days} contains one entry per day of the requested months. Every entry is a bit set of the flags of
+ * {@link AbsenceOverviewDayType} in their declared order, starting with {@code waitingSickNoteMorning} as bit 0 up to
+ * {@code publicHolidayFull} as bit 20. Bit 21 is set when the day is a workday of the person.
+ *
+ * <p>
+ * {@code colors} only contains the days with an absence color, keyed by the index of the day in {@code days}.
+ */
+public class AbsenceOverviewDataPersonDto {
+
+    private final Long id;
+    private final List<Integer> days;
+    private final Map<Integer, AbsenceOverviewDayTypeColor> colors;
+
+    AbsenceOverviewDataPersonDto(Long id, List<Integer> days, Map<Integer, AbsenceOverviewDayTypeColor> colors) {
+        this.id = id;
+        this.days = days;
+        this.colors = colors;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public List<Integer> getDays() {
+        return days;
+    }
+
+    public Map<Integer, AbsenceOverviewDayTypeColor> getColors() {
+        return colors;
+    }
+}
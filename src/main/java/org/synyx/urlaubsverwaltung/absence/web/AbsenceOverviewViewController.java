@@ -3,7 +3,10 @@ package org.synyx.urlaubsverwaltung.absence.web;
 import de.focus_shift.launchpad.api.HasLaunchpad;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.propertyeditors.CustomCollectionEditor;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.context.MessageSource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
@@ -12,6 +15,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
@@ -22,20 +27,26 @@ import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHoliday;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 
 import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Year;
+import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -49,8 +60,11 @@ import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toMap;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.util.StringUtils.hasText;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -63,6 +77,8 @@ import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 public class AbsenceOverviewViewController implements HasLaunchpad {
 
     private static final VacationTypeColor ANONYMIZED_ABSENCE_COLOR = VacationTypeColor.YELLOW;
+    private static final int MAX_DATA_MONTHS = 12;
+    private static final int WORKDAY_BIT = 21;
 
     private final PersonService personService;
     private final DepartmentService departmentService;
@@ -72,6 +88,7 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
     private final AbsenceService absenceService;
     private final WorkingTimeService workingTimeService;
     private final VacationTypeService vacationTypeService;
+    private final SettingsService settingsService;
 
     @Autowired
     public AbsenceOverviewViewController(
@@ -79,7 +96,7 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
         MessageSource messageSource, Clock clock,
         PublicHolidaysService publicHolidaysService,
         AbsenceService absenceService, WorkingTimeService workingTimeService,
-        VacationTypeService vacationTypeService
+        VacationTypeService vacationTypeService, SettingsService settingsService
     ) {
         this.personService = personService;
         this.departmentService = departmentService;
@@ -89,6 +106,7 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
         this.absenceService = absenceService;
         this.workingTimeService = workingTimeService;
         this.vacationTypeService = vacationTypeService;
+        this.settingsService = settingsService;
     }
 
     @InitBinder
@@ -116,14 +134,7 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
                 final List<String> selectedDepartmentNames = getSelectedDepartmentNames(rawSelectedDepartments, visibleDepartments);
                 model.addAttribute("selectedDepartments", selectedDepartmentNames);
 
-                overviewPersons = visibleDepartments.stream()
-                    .filter(department -> selectedDepartmentNames.contains(department.getName()))
-                    .map(Department::getMembers)
-                    .flatMap(List::stream)
-                    .filter(member -> !member.hasRole(INACTIVE))
-                    .distinct()
-                    .sorted(comparing(Person::getFirstName))
-                    .toList();
+                overviewPersons = getActiveMembersOfDepartments(visibleDepartments, selectedDepartmentNames);
             }
         } else {
             overviewPersons = personService.getActivePersons();
@@ -165,6 +176,139 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
         return "absences/absences-overview";
     }
 
+    /**
+     * Provides the absences of the absence overview for the given months in a compact form, so that the months
+     * adjacent to the rendered overview can be fetched lazily. The response is tagged with the latest modifications
+     * of the absences of the selected persons stored in the database and is not calculated again as long as the
+     * client already knows it.
+     */
+    @GetMapping(value = "/data", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<AbsenceOverviewDataDto> absenceOverviewData(
+        @RequestParam YearMonth from,
+        @RequestParam YearMonth to,
+        @RequestParam(name = "department", required = false, defaultValue = "") List<String> rawSelectedDepartments,
+        WebRequest webRequest) {
+
+        if (from.isAfter(to) || !from.plusMonths(MAX_DATA_MONTHS).isAfter(to)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Absence overview data can only be requested for 1 to " + MAX_DATA_MONTHS + " months");
+        }
+
+        final Person signedInUser = personService.getSignedInUser();
+
+        final List<Person> overviewPersons;
+        if (departmentService.getNumberOfDepartments() > 0) {
+            final List<Department> visibleDepartments = departmentService.getDepartmentsPersonHasAccessTo(signedInUser);
+            overviewPersons = visibleDepartments.isEmpty()
+                ? List.of(signedInUser)
+                : getActiveMembersOfDepartments(visibleDepartments, getSelectedDepartmentNames(rawSelectedDepartments, visibleDepartments));
+        } else {
+            overviewPersons = personService.getActivePersons();
+        }
+
+        final List<Person> membersOfSignedInUser = getActiveMembersOfPerson(signedInUser);
+        final List<WorkingTime> workingTimeList = workingTimeService.getByPersons(overviewPersons);
+        final DateRange dateRange = new DateRange(from.atDay(1), to.atEndOfMonth());
+
+        final List<VacationType<?>> vacationTypes = vacationTypeService.getAllVacationTypes();
+
+        final String eTag = getAbsenceOverviewDataETag(signedInUser, membersOfSignedInUser, overviewPersons, workingTimeList, vacationTypes, dateRange);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        final Map<Long, VacationType<?>> vacationTypesById = vacationTypes.stream().collect(toMap(VacationType::getId, Function.identity()));
+
+        final Function<AbsencePeriod.RecordInfo, Boolean> shouldAnonymizeAbsenceType = recordInfo -> !recordInfo.getPerson().equals(signedInUser)
+            && !membersOfSignedInUser.contains(recordInfo.getPerson()) && !recordInfo.isVisibleToEveryone();
+
+        final Function<AbsencePeriod.RecordInfo, VacationTypeColor> recordInfoToColor = recordInfo -> recordInfoToColor(recordInfo, vacationTypesById::get);
+
+        final Map<Person, List<AbsenceOverviewPersonDayDto>> daysByPerson =
+            getAbsenceOverviewPersonDays(dateRange, overviewPersons, workingTimeList, shouldAnonymizeAbsenceType, recordInfoToColor);
+
+        final List<AbsenceOverviewDataPersonDto> persons = overviewPersons.stream()
+            .map(person -> toAbsenceOverviewDataPersonDto(person, daysByPerson.get(person)))
+            .toList();
+
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(new AbsenceOverviewDataDto(from, to, persons));
+    }
+
+    private String getAbsenceOverviewDataETag(Person signedInUser, List<Person> membersOfSignedInUser, List<Person> overviewPersons,
+                                              List<WorkingTime> workingTimeList, List<VacationType<?>> vacationTypes, DateRange dateRange) {
+
+        final String permissions = signedInUser.getPermissions().stream().map(Role::name).sorted().collect(joining(","));
+        final String members = membersOfSignedInUser.stream().map(Person::getId).sorted().map(String::valueOf).collect(joining(","));
+        final String persons = overviewPersons.stream().map(Person::getId).map(String::valueOf).collect(joining(","));
+        final String workingTimes = workingTimeList.stream()
+            .map(workingTime -> workingTime.getPerson().getId() + "@" + workingTime.getValidFrom() + ":" + workingTime.getFederalState() + ":"
+                + Arrays.stream(DayOfWeek.values()).map(workingTime::getDayLengthForWeekDay).map(String::valueOf).collect(joining(",")))
+            .sorted()
+            .collect(joining(";"));
+        final WorkingTimeSettings workingTimeSettings = settingsService.getSettings().getWorkingTimeSettings();
+        final String publicHolidays = workingTimeSettings.getWorkingDurationForChristmasEve() + "," + workingTimeSettings.getWorkingDurationForNewYearsEve();
+        final String vacationTypeColors = vacationTypes.stream()
+            .map(vacationType -> vacationType.getId() + ":" + vacationType.getColor() + ":" + vacationType.isVisibleToEveryone())
+            .sorted()
+            .collect(joining(","));
+        final String absences = absenceService.getAbsencesVersion(overviewPersons, dateRange.startDate(), dateRange.endDate());
+
+        return DigestUtils.md5Hex(String.join("|", String.valueOf(signedInUser.getId()), permissions, members, persons,
+            workingTimes, publicHolidays, vacationTypeColors, dateRange.startDate().toString(), dateRange.endDate().toString(), absences));
+    }
+
+    private static AbsenceOverviewDataPersonDto toAbsenceOverviewDataPersonDto(Person person, List<AbsenceOverviewPersonDayDto> personDays) {
+
+        final List<Integer> days = new ArrayList<>(personDays.size());
+        final Map<Integer, AbsenceOverviewDayTypeColor> colors = new LinkedHashMap<>();
+
+        for (int index = 0; index < personDays.size(); index++) {
+            final AbsenceOverviewPersonDayDto personDay = personDays.get(index);
+            days.add(encodeAbsenceOverviewPersonDay(personDay));
+
+            final AbsenceOverviewDayTypeColor color = personDay.getType().getColor();
+            if (color.getMorning() != null || color.getNoon() != null || color.getFull() != null) {
+                colors.put(index, color);
+            }
+        }
+
+        return new AbsenceOverviewDataPersonDto(person.getId(), days, colors);
+    }
+
+    private static int encodeAbsenceOverviewPersonDay(AbsenceOverviewPersonDayDto personDay) {
+        final AbsenceOverviewDayType type = personDay.getType();
+        final boolean[] flags = {
+            type.isWaitingSickNoteMorning(), type.isWaitingSickNoteNoon(), type.isWaitingSickNoteFull(),
+            type.isActiveSickNoteMorning(), type.isActiveSickNoteNoon(), type.isActiveSickNoteFull(),
+            type.isAbsenceMorning(), type.isAbsenceNoon(), type.isAbsenceFull(),
+            type.isWaitingAbsenceMorning(), type.isWaitingAbsenceNoon(), type.isWaitingAbsenceFull(),
+            type.isTemporaryAllowedAbsenceMorning(), type.isTemporaryAllowedAbsenceNoon(), type.isTemporaryAllowedAbsenceFull(),
+            type.isAllowedCancellationRequestedAbsenceMorning(), type.isAllowedCancellationRequestedAbsenceNoon(), type.isAllowedCancellationRequestedAbsenceFull(),
+            type.isPublicHolidayMorning(), type.isPublicHolidayNoon(), type.isPublicHolidayFull(),
+        };
+
+        int encoded = personDay.isWorkday() ? 1 << WORKDAY_BIT : 0;
+        for (int bit = 0; bit < flags.length; bit++) {
+            if (flags[bit]) {
+                encoded |= 1 << bit;
+            }
+        }
+        return encoded;
+    }
+
+    private static List<Person> getActiveMembersOfDepartments(List<Department> departments, List<String> selectedDepartmentNames) {
+        return departments.stream()
+            .filter(department -> selectedDepartmentNames.contains(department.getName()))
+            .map(Department::getMembers)
+            .flatMap(List::stream)
+            .filter(member -> !member.hasRole(INACTIVE))
+            .distinct()
+            .sorted(comparing(Person::getFirstName))
+            .toList();
+    }
+
     private List<VacationTypeColorDto> prepareVacationTypeColorsForLegend(boolean isSignedInUserAllowedToSeeAbsences, boolean isSignedInUserInOverview, List<VacationType<?>> vacationTypes, Locale locale) {
 
         List<VacationTypeColorDto> vacationTypeColorDtos;
@@ -200,20 +344,12 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
 
         final LocalDate today = LocalDate.now(clock);
         final List<WorkingTime> workingTimeList = workingTimeService.getByPersons(personList);
-        final List<AbsencePeriod> openAbsences = absenceService.getOpenAbsences(personList, dateRange.startDate(), dateRange.endDate());
+        final Map<Person, List<AbsenceOverviewPersonDayDto>> daysByPerson =
+            getAbsenceOverviewPersonDays(dateRange, personList, workingTimeList, shouldAnonymizeAbsenceType, recordInfoToColor);
 
         final HashMap<Integer, AbsenceOverviewMonthDto> monthsByNr = new HashMap<>();
 
-        final Map<Person, List<AbsencePeriod.Record>> absencePeriodRecordsByPerson = openAbsences.stream()
-            .map(AbsencePeriod::absenceRecords)
-            .flatMap(List::stream)
-            .collect(groupingBy(AbsencePeriod.Record::getPerson));
-
-        final Map<Person, Map<LocalDate, PublicHoliday>> publicHolidaysOfAllPersons = new HashMap<>();
-        for (Person person : personList) {
-            publicHolidaysOfAllPersons.put(person, getPublicHolidaysOfPerson(dateRange, person));
-        }
-
+        int dayIndex = 0;
         for (LocalDate date : dateRange) {
             final AbsenceOverviewMonthDto monthView = monthsByNr.computeIfAbsent(date.getMonthValue(),
                 monthValue -> initializeAbsenceOverviewMonthDto(date, personList, locale));
@@ -221,41 +357,60 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
             final AbsenceOverviewMonthDayDto tableHeadDay = tableHeadDay(date, today, locale);
             monthView.getDays().add(tableHeadDay);
 
-            final Map<AbsenceOverviewMonthPersonDto, Person> personByView = personList.stream()
-                .collect(
-                    toMap(person -> monthView.getPersons().stream()
-                        .filter(view -> view.getId().equals(person.getId()))
-                        .findFirst()
-                        .orElse(null), Function.identity())
-                );
+            // month person views are created in the order of the given persons
+            final List<AbsenceOverviewMonthPersonDto> personViews = monthView.getPersons();
+            for (int personIndex = 0; personIndex < personList.size(); personIndex++) {
+                final List<AbsenceOverviewPersonDayDto> personDays = daysByPerson.get(personList.get(personIndex));
+                personViews.get(personIndex).getDays().add(personDays.get(dayIndex));
+            }
+
+            dayIndex++;
+        }
+
+        return new ArrayList<>(monthsByNr.values());
+    }
+
+    private Map<Person, List<AbsenceOverviewPersonDayDto>> getAbsenceOverviewPersonDays(DateRange dateRange,
+                                                                                        List<Person> personList,
+                                                                                        List<WorkingTime> workingTimeList,
+                                                                                        Function<AbsencePeriod.RecordInfo, Boolean> shouldAnonymizeAbsenceType,
+                                                                                        Function<AbsencePeriod.RecordInfo, VacationTypeColor> recordInfoToColor) {
 
-            // create an absence day dto for every person of the department
-            for (AbsenceOverviewMonthPersonDto personView : monthView.getPersons()) {
+        final List<AbsencePeriod> openAbsences = absenceService.getOpenAbsences(personList, dateRange.startDate(), dateRange.endDate());
 
-                final Person person = personByView.get(personView);
+        final Map<Person, Map<LocalDate, List<AbsencePeriod.Record>>> absencePeriodRecordsByPersonAndDate = openAbsences.stream()
+            .map(AbsencePeriod::absenceRecords)
+            .flatMap(List::stream)
+            .collect(groupingBy(AbsencePeriod.Record::getPerson, groupingBy(AbsencePeriod.Record::getDate)));
 
-                final List<WorkingTime> personWorkingTimeList = workingTimeList
-                    .stream()
-                    .filter(workingTime -> workingTime.getPerson().equals(person))
-                    .sorted(comparing(WorkingTime::getValidFrom).reversed())
-                    .toList();
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeList.stream()
+            .sorted(comparing(WorkingTime::getValidFrom).reversed())
+            .collect(groupingBy(WorkingTime::getPerson));
+
+        final Map<Person, List<AbsenceOverviewPersonDayDto>> daysByPerson = new HashMap<>();
+        for (Person person : personList) {
 
-                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = Optional.ofNullable(absencePeriodRecordsByPerson.get(person))
-                    .stream()
-                    .flatMap(List::stream)
-                    .filter(absenceRecord -> absenceRecord.getDate().isEqual(date))
-                    .toList();
+            final Map<LocalDate, PublicHoliday> publicHolidays = getPublicHolidaysOfPerson(dateRange, person);
+            final Map<LocalDate, List<AbsencePeriod.Record>> absenceRecordsByDate = absencePeriodRecordsByPersonAndDate.getOrDefault(person, Map.of());
+            final List<WorkingTime> personWorkingTimeList = workingTimesByPerson.getOrDefault(person, List.of());
 
-                final AbsenceOverviewDayType personViewDayType = Optional.ofNullable(publicHolidaysOfAllPersons.get(person).get(date))
+            final List<AbsenceOverviewPersonDayDto> personDays = new ArrayList<>();
+            for (LocalDate date : dateRange) {
+
+                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = absenceRecordsByDate.getOrDefault(date, List.of());
+
+                final AbsenceOverviewDayType personViewDayType = Optional.ofNullable(publicHolidays.get(date))
                     .map(publicHoliday -> getAbsenceOverviewDayType(personAbsenceRecordsForDate, shouldAnonymizeAbsenceType, publicHoliday, recordInfoToColor))
                     .orElseGet(() -> getAbsenceOverviewDayType(personAbsenceRecordsForDate, shouldAnonymizeAbsenceType, recordInfoToColor))
                     .build();
 
-                personView.getDays().add(new AbsenceOverviewPersonDayDto(personViewDayType, isWorkday(date, personWorkingTimeList)));
+                personDays.add(new AbsenceOverviewPersonDayDto(personViewDayType, isWorkday(date, personWorkingTimeList)));
             }
+
+            daysByPerson.put(person, personDays);
         }
 
-        return new ArrayList<>(monthsByNr.values());
+        return daysByPerson;
     }
 
     private boolean isWorkday(LocalDate date, List<WorkingTime> workingTimeList) {
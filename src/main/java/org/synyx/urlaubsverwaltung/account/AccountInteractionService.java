@@ -5,6 +5,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Provides interactions with {@link Account}s like creating or editing.
@@ -68,6 +69,15 @@ public interface AccountInteractionService {
      */
     Account autoCreateOrUpdateNextYearsHolidaysAccount(Account referenceAccount);
 
+    /**
+     * Auto-creates new {@link Account}s or updates the existing {@link Account}s for the next year, based on the information of the given reference accounts.
+     * The left vacation days of all reference accounts are calculated at once and all accounts are saved together.
+     *
+     * @param referenceAccounts to get the information about annual vacation days, left vacation days etc.
+     * @return the created/updated holidays accounts
+     */
+    List<Account> autoCreateOrUpdateNextYearsHolidaysAccounts(List<Account> referenceAccounts);
+
     /**
      * Updates the remaining vacation days of all {@link Account}s that follow the {@link Account} of the given year. Updating is stopped when there is no next year's
      * {@link Account}.
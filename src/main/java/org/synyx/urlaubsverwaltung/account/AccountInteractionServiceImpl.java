@@ -12,6 +12,10 @@ import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -21,6 +25,10 @@ import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.Objects.requireNonNullElseGet;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -195,6 +203,55 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
         );
     }
 
+    @Override
+    public List<Account> autoCreateOrUpdateNextYearsHolidaysAccounts(List<Account> referenceAccounts) {
+
+        if (referenceAccounts.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Account, BigDecimal> leftVacationDaysByAccount = vacationDaysService.getTotalLeftVacationDays(referenceAccounts);
+
+        final List<Account> nextYearAccounts = new ArrayList<>(referenceAccounts.size());
+        referenceAccounts.stream()
+            .collect(groupingBy(Account::getYear, LinkedHashMap::new, toList()))
+            .forEach((year, referenceAccountsOfYear) -> {
+
+                final List<Person> persons = referenceAccountsOfYear.stream().map(Account::getPerson).toList();
+                final Map<Person, Account> existingNextYearAccountsByPerson = accountService.getHolidaysAccount(year + 1, persons).stream()
+                    .collect(toMap(Account::getPerson, identity(), (first, second) -> first));
+
+                for (Account referenceAccount : referenceAccountsOfYear) {
+                    final BigDecimal leftVacationDays = leftVacationDaysByAccount.getOrDefault(referenceAccount, ZERO);
+                    final Account existingNextYearAccount = existingNextYearAccountsByPerson.get(referenceAccount.getPerson());
+                    if (existingNextYearAccount != null) {
+                        setRemainingVacationDays(existingNextYearAccount, leftVacationDays);
+                        nextYearAccounts.add(existingNextYearAccount);
+                    } else {
+                        nextYearAccounts.add(createNextYearsHolidaysAccount(referenceAccount, leftVacationDays));
+                    }
+                }
+            });
+
+        final List<Account> savedAccounts = accountService.saveAll(nextYearAccounts);
+        LOG.info("Created or updated {} holidays accounts for the next year", savedAccounts.size());
+
+        return savedAccounts;
+    }
+
+    private static Account createNextYearsHolidaysAccount(Account referenceAccount, BigDecimal remainingVacationDays) {
+
+        final int nextYear = referenceAccount.getYear() + 1;
+        final LocalDate validFrom = Year.of(nextYear).atDay(1);
+        final LocalDate validTo = validFrom.with(lastDayOfYear());
+        final LocalDate expiryDateLocally = referenceAccount.getExpiryDateLocally() == null ? null : referenceAccount.getExpiryDateLocally().withYear(nextYear);
+
+        final Account account = new Account(referenceAccount.getPerson(), validFrom, validTo, referenceAccount.isDoRemainingVacationDaysExpireLocally(),
+            expiryDateLocally, referenceAccount.getAnnualVacationDays(), remainingVacationDays, ZERO, referenceAccount.getComment());
+        account.setActualVacationDays(referenceAccount.getAnnualVacationDays());
+        return account;
+    }
+
     /**
      * calculate remaining vacation days starting from today's month, round to ceiling
      */
@@ -213,13 +270,17 @@ class AccountInteractionServiceImpl implements AccountInteractionService {
     private void updateRemainingVacationDays(Account newAccount, Account lastAccount) {
 
         final BigDecimal leftVacationDays = vacationDaysService.getTotalLeftVacationDays(lastAccount);
-        newAccount.setRemainingVacationDays(leftVacationDays);
+        setRemainingVacationDays(newAccount, leftVacationDays);
+
+        accountService.save(newAccount);
+    }
+
+    private static void setRemainingVacationDays(Account account, BigDecimal leftVacationDays) {
+        account.setRemainingVacationDays(leftVacationDays);
 
         // number of not expiring remaining vacation days is greater than remaining vacation days
-        if (newAccount.getRemainingVacationDaysNotExpiring().compareTo(leftVacationDays) > 0) {
-            newAccount.setRemainingVacationDaysNotExpiring(leftVacationDays);
+        if (account.getRemainingVacationDaysNotExpiring().compareTo(leftVacationDays) > 0) {
+            account.setRemainingVacationDaysNotExpiring(leftVacationDays);
         }
-
-        accountService.save(newAccount);
     }
 }
@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.account;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -41,6 +42,18 @@ public class AccountProperties {
         @CronExpression
         private String cron = "0 0 5 1 1 *";
 
+        /**
+         * Number of persons whose holidays accounts are updated together in one transaction
+         */
+        @Min(1)
+        private int chunkSize = 500;
+
+        /**
+         * Number of chunks that are updated at the same time
+         */
+        @Min(1)
+        private int parallelism = 4;
+
         public String getCron() {
             return cron;
         }
@@ -48,6 +61,22 @@ public class AccountProperties {
         public void setCron(String cron) {
             this.cron = cron;
         }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
     }
 
     public static class VacationDaysReminder {
@@ -64,6 +93,12 @@ public class AccountProperties {
         @CronExpression
         private String expiredRemainingVacationDaysCron = "0 0 6 * * *";
 
+        /**
+         * Number of persons whose holiday accounts and left vacation days are calculated together
+         */
+        @Min(1)
+        private int chunkSize = 500;
+
         public String getVacationDaysLeftCron() {
             return vacationDaysLeftCron;
         }
@@ -79,5 +114,13 @@ public class AccountProperties {
         public void setExpiredRemainingVacationDaysCron(String expiredRemainingVacationDaysCron) {
             this.expiredRemainingVacationDaysCron = expiredRemainingVacationDaysCron;
         }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
     }
 }
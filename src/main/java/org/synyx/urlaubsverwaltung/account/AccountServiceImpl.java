@@ -7,7 +7,9 @@ import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -74,6 +76,19 @@ class AccountServiceImpl implements AccountService {
         return mapToAccount(savedAccountEntity, remainingVacationDaysExpireGlobally(), expiryDateGlobally);
     }
 
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        final List<AccountEntity> savedAccountEntities = accountRepository.saveAll(accounts.stream().map(this::mapToAccountEntity).toList());
+
+        final CachedSupplier<Boolean> expireGlobally = new CachedSupplier<>(this::remainingVacationDaysExpireGlobally);
+        final Map<Integer, LocalDate> expiryDateGloballyByYear = new HashMap<>();
+
+        return savedAccountEntities.stream()
+            .map(accountEntity -> mapToAccount(accountEntity, expireGlobally.get(),
+                expiryDateGloballyByYear.computeIfAbsent(accountEntity.getYear(), year -> globallyExpiryDate(Year.of(year)))))
+            .toList();
+    }
+
     private Account mapToAccount(AccountEntity accountEntity, boolean doRemainingVacationDaysExpireGlobally, LocalDate expiryDateGlobally) {
         final Account account = new Account(
             accountEntity.getPerson(),
@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,9 +17,14 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 
@@ -29,11 +36,15 @@ public class TurnOfTheYearAccountUpdaterService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final String METRIC_TURN_OF_THE_YEAR = "account.turn.of.the.year";
+
     private final PersonService personService;
     private final AccountService accountService;
     private final AccountInteractionService accountInteractionService;
     private final VacationDaysReminderService vacationDaysReminderService;
     private final MailService mailService;
+    private final AccountProperties accountProperties;
+    private final MeterRegistry meterRegistry;
     private final Clock clock;
 
     @Autowired
@@ -41,16 +52,28 @@ public class TurnOfTheYearAccountUpdaterService {
         PersonService personService, AccountService accountService,
         AccountInteractionService accountInteractionService,
         VacationDaysReminderService vacationDaysReminderService,
-        MailService mailService, Clock clock
+        MailService mailService, AccountProperties accountProperties,
+        MeterRegistry meterRegistry, Clock clock
     ) {
         this.personService = personService;
         this.accountService = accountService;
         this.accountInteractionService = accountInteractionService;
         this.vacationDaysReminderService = vacationDaysReminderService;
         this.mailService = mailService;
+        this.accountProperties = accountProperties;
+        this.meterRegistry = meterRegistry;
         this.clock = clock;
     }
 
+    /**
+     * Updates the holidays accounts of all active persons in chunks of {@link AccountProperties.Update#getChunkSize()}
+     * persons, whereby every chunk is updated in its own transaction and up to {@link AccountProperties.Update#getParallelism()}
+     * chunks at the same time. The office is notified and the persons are reminded only if all chunks have been updated.
+     *
+     * <p>
+     * The update is recalculated from the holidays accounts of the last year, so it can be repeated
+     * after a failed run without changing already updated holidays accounts.
+     */
     public void updateAccountsForNextPeriod() {
 
         LOG.info("Starting update of holidays accounts to calculate the remaining vacation days.");
@@ -60,22 +83,78 @@ public class TurnOfTheYearAccountUpdaterService {
 
         // get all persons
         final List<Person> persons = personService.getActivePersons();
+        final List<List<Person>> chunks = chunks(persons, accountProperties.getUpdate().getChunkSize());
+
+        final Counter updatedAccountsCounter = meterRegistry.counter(METRIC_TURN_OF_THE_YEAR + ".accounts");
+        final AtomicInteger updatedChunks = new AtomicInteger();
+        final Function<List<Person>, List<Account>> chunkUpdater = chunk -> {
+            final List<Account> updatedAccountsOfChunk = updateAccountsOfChunk(year, chunk);
+            updatedAccountsCounter.increment(updatedAccountsOfChunk.size());
+            LOG.info("Updated holidays accounts of chunk {} / {}", updatedChunks.incrementAndGet(), chunks.size());
+            return updatedAccountsOfChunk;
+        };
+
+        final List<Account> updatedAccounts = meterRegistry.timer(METRIC_TURN_OF_THE_YEAR).record(() -> {
+            final int parallelism = Math.min(accountProperties.getUpdate().getParallelism(), chunks.size());
+            return parallelism > 1 ? updateParallel(chunks, chunkUpdater, parallelism) : updateSequential(chunks, chunkUpdater);
+        });
+
+        LOG.info("Updated holidays accounts: {} / {}", updatedAccounts.size(), persons.size());
+        sendSuccessfullyUpdatedAccountsNotification(updatedAccounts);
+        vacationDaysReminderService.remindForRemainingVacationDays();
+    }
+
+    private List<Account> updateAccountsOfChunk(int year, List<Person> persons) {
 
         // get all their accounts and calculate the remaining vacation days for the new year
+        final List<Account> accountsLastYear = accountService.getHolidaysAccount(year - 1, persons).stream()
+            .filter(account -> account.getAnnualVacationDays() != null)
+            .toList();
+
+        return accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccounts(accountsLastYear);
+    }
+
+    private static List<Account> updateSequential(List<List<Person>> chunks, Function<List<Person>, List<Account>> chunkUpdater) {
         final List<Account> updatedAccounts = new ArrayList<>();
-        for (Person person : persons) {
-            final Optional<Account> accountLastYear = accountService.getHolidaysAccount(year - 1, person);
-            if (accountLastYear.isPresent() && accountLastYear.get().getAnnualVacationDays() != null) {
-                LOG.info("Updating account of person with id {}", person.getId());
-                final Account holidaysAccount = accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(accountLastYear.get());
-                LOG.info("Setting remaining vacation days of person with id {} to {} for {}", person.getId(), holidaysAccount.getRemainingVacationDays(), year);
-                updatedAccounts.add(holidaysAccount);
+        for (List<Person> chunk : chunks) {
+            updatedAccounts.addAll(chunkUpdater.apply(chunk));
+        }
+        return updatedAccounts;
+    }
+
+    private static List<Account> updateParallel(List<List<Person>> chunks, Function<List<Person>, List<Account>> chunkUpdater, int parallelism) {
+
+        final List<Future<List<Account>>> futures = new ArrayList<>(chunks.size());
+        try (ExecutorService executor = newFixedThreadPool(parallelism, Thread.ofVirtual().name("turn-of-the-year-", 0).factory())) {
+            for (List<Person> chunk : chunks) {
+                futures.add(executor.submit(() -> chunkUpdater.apply(chunk)));
+            }
+
+            final List<Account> updatedAccounts = new ArrayList<>();
+            for (Future<List<Account>> future : futures) {
+                updatedAccounts.addAll(future.get());
+            }
+            return updatedAccounts;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while updating the holidays accounts", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("update of holidays accounts failed", e.getCause());
         }
+    }
 
-        LOG.info("Updated holidays accounts: {} / {}", updatedAccounts.size(), persons.size());
-        sendSuccessfullyUpdatedAccountsNotification(updatedAccounts);
-        vacationDaysReminderService.remindForRemainingVacationDays();
+    private static <T> List<List<T>> chunks(List<T> elements, int chunkSize) {
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < elements.size(); from += chunkSize) {
+            chunks.add(elements.subList(from, Math.min(from + chunkSize, elements.size())));
+        }
+        return chunks;
     }
 
     /**
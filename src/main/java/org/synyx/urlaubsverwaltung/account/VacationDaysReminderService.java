@@ -1,5 +1,8 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,7 +18,7 @@ import java.time.Year;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.BigDecimal.ZERO;
@@ -30,17 +33,21 @@ public class VacationDaysReminderService {
     private final AccountService accountService;
     private final VacationDaysService vacationDaysService;
     private final MailService mailService;
+    private final AccountProperties accountProperties;
+    private final MeterRegistry meterRegistry;
     private final Clock clock;
 
     @Autowired
     VacationDaysReminderService(
         PersonService personService, AccountService accountService, VacationDaysService vacationDaysService,
-        MailService mailService, Clock clock
+        MailService mailService, AccountProperties accountProperties, MeterRegistry meterRegistry, Clock clock
     ) {
         this.personService = personService;
         this.accountService = accountService;
         this.vacationDaysService = vacationDaysService;
         this.mailService = mailService;
+        this.accountProperties = accountProperties;
+        this.meterRegistry = meterRegistry;
         this.clock = clock;
     }
 
@@ -51,22 +58,27 @@ public class VacationDaysReminderService {
     public void remindForCurrentlyLeftVacationDays() {
         final Year year = Year.now(clock);
         final Year nextYear = year.plusYears(1);
-        final List<Person> persons = personService.getActivePersons();
-
-        accountService.getHolidaysAccount(year.getValue(), persons)
-            .forEach(holidayAccountThisYear -> {
-                final BigDecimal vacationDaysLeft = vacationDaysService.getTotalLeftVacationDays(holidayAccountThisYear);
+        final LocalDate today = LocalDate.now(clock);
+
+        forEachChunkOfActivePersons("currently_left_vacation_days", year, (holidayAccountsVacationDays, holidayAccountsNextYear) -> {
+            int reminded = 0;
+            for (HolidayAccountVacationDays holidayAccountVacationDays : holidayAccountsVacationDays) {
+                final Account holidayAccountThisYear = holidayAccountVacationDays.account();
+                final BigDecimal vacationDaysLeft = holidayAccountVacationDays.vacationDaysYear()
+                    .getLeftVacationDays(today, holidayAccountThisYear.doRemainingVacationDaysExpire(), holidayAccountThisYear.getExpiryDate());
                 if (vacationDaysLeft.compareTo(ZERO) > 0) {
 
-                    final Optional<Account> holidaysAccountsNextYear = accountService.getHolidaysAccount(nextYear.getValue(), holidayAccountThisYear.getPerson());
-                    final Account holidayAccountNextWithFallbackThisYear = holidaysAccountsNextYear.orElse(holidayAccountThisYear);
+                    final Account holidayAccountNextWithFallbackThisYear = holidayAccountsNextYear.getOrDefault(holidayAccountThisYear.getPerson(), holidayAccountThisYear);
                     if (holidayAccountNextWithFallbackThisYear.doRemainingVacationDaysExpire()) {
                         final LocalDate expiryDate = holidayAccountNextWithFallbackThisYear.getExpiryDate().withYear(nextYear.getValue());
                         sendReminderForCurrentlyLeftVacationDays(holidayAccountNextWithFallbackThisYear.getPerson(), vacationDaysLeft, expiryDate);
                         LOG.info("Reminded person with id {} for {} currently left vacation days", holidayAccountNextWithFallbackThisYear.getPerson().getId(), vacationDaysLeft);
+                        reminded++;
                     }
                 }
-            });
+            }
+            return reminded;
+        });
     }
 
     /**
@@ -76,72 +88,120 @@ public class VacationDaysReminderService {
     public void remindForRemainingVacationDays() {
 
         final Year year = Year.now(clock);
-        final List<Person> persons = personService.getActivePersons();
 
-        final List<Account> holidaysAccounts = accountService.getHolidaysAccount(year.getValue(), persons);
+        forEachChunkOfActivePersons("remaining_vacation_days", year, (holidayAccountsVacationDays, holidayAccountsNextYear) -> {
+            int reminded = 0;
+            for (HolidayAccountVacationDays holidayAccountVacationDays : holidayAccountsVacationDays) {
+                final Account account = holidayAccountVacationDays.account();
+                if (!account.doRemainingVacationDaysExpire()) {
+                    continue;
+                }
 
-        if (!holidaysAccounts.isEmpty()) {
+                final VacationDaysLeft vacationDaysLeft = holidayAccountVacationDays.vacationDaysDateRange();
+                final BigDecimal remainingVacationDaysLeft = vacationDaysLeft.getRemainingVacationDays()
+                    .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
+
+                if (remainingVacationDaysLeft.compareTo(ZERO) > 0) {
+                    sendReminderForRemainingVacationDaysNotification(account.getPerson(), remainingVacationDaysLeft, account.getExpiryDate().minusDays(1), account.getExpiryDate());
+                    LOG.info("Reminded person with id {} for {} remaining vacation days in year {}.", account.getPerson().getId(), remainingVacationDaysLeft, year);
+                    reminded++;
+                }
+            }
+            return reminded;
+        });
+    }
 
-            final List<Account> holidaysAccountsNextYear = accountService.getHolidaysAccount(year.plusYears(1).getValue(), persons);
-            final Map<Account, HolidayAccountVacationDays> accountHolidayAccountVacationDaysMap = vacationDaysService.getVacationDaysLeft(holidaysAccounts, year, holidaysAccountsNextYear);
+    /**
+     * Notify about expired remaining vacation days
+     */
+    public void notifyForExpiredRemainingVacationDays() {
+        final Year currentYear = Year.now(clock);
+        final LocalDate currentDate = LocalDate.now(clock);
 
-            accountHolidayAccountVacationDaysMap.keySet().stream()
-                .filter(Account::doRemainingVacationDaysExpire)
-                .forEach(account -> {
+        forEachChunkOfActivePersons("expired_remaining_vacation_days", currentYear, (holidayAccountsVacationDays, holidayAccountsNextYear) -> {
+            int notified = 0;
+            for (HolidayAccountVacationDays holidayAccountVacationDays : holidayAccountsVacationDays) {
+                final Account account = holidayAccountVacationDays.account();
+                if (!account.doRemainingVacationDaysExpire()) {
+                    continue;
+                }
 
-                    final HolidayAccountVacationDays holidayAccountVacationDays = accountHolidayAccountVacationDaysMap.get(account);
-                    final VacationDaysLeft vacationDaysLeft = holidayAccountVacationDays.vacationDaysDateRange();
+                final VacationDaysLeft vacationDaysLeft = holidayAccountVacationDays.vacationDaysDateRange();
 
-                    final BigDecimal remainingVacationDaysLeft = vacationDaysLeft.getRemainingVacationDays()
+                final LocalDate expiryDate = account.getExpiryDate();
+                if (account.getExpiryNotificationSentDate() == null && (currentDate.isEqual(expiryDate) || currentDate.isAfter(expiryDate))) {
+
+                    final BigDecimal expiredRemainingVacationDays = vacationDaysLeft.getRemainingVacationDays()
                         .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
+                    if (expiredRemainingVacationDays.compareTo(ZERO) > 0) {
+                        final BigDecimal totalLeftVacationDays = holidayAccountVacationDays.vacationDaysYear()
+                            .getLeftVacationDays(currentDate, true, expiryDate);
+
+                        sendNotificationForExpiredRemainingVacationDays(account.getPerson(), expiredRemainingVacationDays, totalLeftVacationDays, vacationDaysLeft.getRemainingVacationDaysNotExpiring(), account.getExpiryDate());
+                        LOG.info("Notified person with id {} for {} expired remaining vacation days in year {}.", account.getPerson().getId(), expiredRemainingVacationDays, currentYear);
 
-                    if (remainingVacationDaysLeft.compareTo(ZERO) > 0) {
-                        sendReminderForRemainingVacationDaysNotification(account.getPerson(), remainingVacationDaysLeft, account.getExpiryDate().minusDays(1), account.getExpiryDate());
-                        LOG.info("Reminded person with id {} for {} remaining vacation days in year {}.", account.getPerson().getId(), remainingVacationDaysLeft, year);
+                        account.setExpiryNotificationSentDate(currentDate);
+                        accountService.save(account);
+                        notified++;
                     }
-                });
-        }
+                }
+            }
+            return notified;
+        });
     }
 
     /**
-     * Notify about expired remaining vacation days
+     * Calculates the left vacation days of the holiday accounts of all active persons chunk by chunk with one
+     * bulk calculation per chunk and hands them over to the given consumer. The duration of the run, the number of
+     * processed holiday accounts and the number of sent mails are recorded as metrics tagged with the given job name.
+     *
+     * @param job      name of the reminder job
+     * @param year     of the holiday accounts
+     * @param consumer of the holiday accounts with their vacation days and the holiday accounts of the next year
+     *                 by person, returns the number of sent mails
      */
-    public void notifyForExpiredRemainingVacationDays() {
-        final Year currentYear = Year.now(clock);
-        final LocalDate currentDate = LocalDate.now(clock);
+    private void forEachChunkOfActivePersons(String job, Year year, ChunkConsumer consumer) {
+
+        final Tags tags = Tags.of("job", job);
+        final Timer.Sample sample = Timer.start(meterRegistry);
 
         final List<Person> persons = personService.getActivePersons();
-        final List<Account> holidaysAccounts = accountService.getHolidaysAccount(currentYear.getValue(), persons);
+        final int chunkSize = accountProperties.getVacationDaysReminder().getChunkSize();
 
-        if (!holidaysAccounts.isEmpty()) {
+        int processed = 0;
+        int mails = 0;
+        for (int from = 0; from < persons.size(); from += chunkSize) {
+            final List<Person> chunk = persons.subList(from, Math.min(from + chunkSize, persons.size()));
 
-            final List<Account> holidaysAccountsNextYear = accountService.getHolidaysAccount(currentYear.plusYears(1).getValue(), persons);
-            final Map<Account, HolidayAccountVacationDays> accountHolidayAccountVacationDaysMap = vacationDaysService.getVacationDaysLeft(holidaysAccounts, currentYear, holidaysAccountsNextYear);
+            final List<Account> holidayAccounts = accountService.getHolidaysAccount(year.getValue(), chunk);
+            if (holidayAccounts.isEmpty()) {
+                continue;
+            }
 
-            accountHolidayAccountVacationDaysMap.keySet().stream()
-                .filter(Account::doRemainingVacationDaysExpire)
-                .forEach(account -> {
+            final List<Account> holidayAccountsNextYear = accountService.getHolidaysAccount(year.plusYears(1).getValue(), chunk);
+            final Map<Account, HolidayAccountVacationDays> vacationDaysLeftByAccount = vacationDaysService.getVacationDaysLeft(holidayAccounts, year, holidayAccountsNextYear);
 
-                    final HolidayAccountVacationDays holidayAccountVacationDays = accountHolidayAccountVacationDaysMap.get(account);
-                    final VacationDaysLeft vacationDaysLeft = holidayAccountVacationDays.vacationDaysDateRange();
+            final List<HolidayAccountVacationDays> holidayAccountsVacationDays = holidayAccounts.stream()
+                .map(vacationDaysLeftByAccount::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-                    final LocalDate expiryDate = account.getExpiryDate();
-                    if (account.getExpiryNotificationSentDate() == null && (currentDate.isEqual(expiryDate) || currentDate.isAfter(expiryDate))) {
+            final Map<Person, Account> holidayAccountsNextYearByPerson = new HashMap<>();
+            holidayAccountsNextYear.forEach(account -> holidayAccountsNextYearByPerson.put(account.getPerson(), account));
 
-                        final BigDecimal expiredRemainingVacationDays = vacationDaysLeft.getRemainingVacationDays()
-                            .subtract(vacationDaysLeft.getRemainingVacationDaysNotExpiring());
-                        if (expiredRemainingVacationDays.compareTo(ZERO) > 0) {
-                            final BigDecimal totalLeftVacationDays = vacationDaysService.getTotalLeftVacationDays(account);
+            mails += consumer.accept(holidayAccountsVacationDays, holidayAccountsNextYearByPerson);
+            processed += holidayAccountsVacationDays.size();
+        }
 
-                            sendNotificationForExpiredRemainingVacationDays(account.getPerson(), expiredRemainingVacationDays, totalLeftVacationDays, vacationDaysLeft.getRemainingVacationDaysNotExpiring(), account.getExpiryDate());
-                            LOG.info("Notified person with id {} for {} expired remaining vacation days in year {}.", account.getPerson().getId(), expiredRemainingVacationDays, currentYear);
+        meterRegistry.counter("vacation.days.reminder.accounts", tags).increment(processed);
+        meterRegistry.counter("vacation.days.reminder.mails", tags).increment(mails);
+        sample.stop(meterRegistry.timer("vacation.days.reminder", tags));
+        LOG.info("Processed {} holiday accounts of {} persons and sent {} mails for job={}", processed, persons.size(), mails, job);
+    }
 
-                            account.setExpiryNotificationSentDate(currentDate);
-                            accountService.save(account);
-                        }
-                    }
-                });
-        }
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        int accept(List<HolidayAccountVacationDays> holidayAccountsVacationDays, Map<Person, Account> holidayAccountsNextYearByPerson);
     }
 
     private void sendReminderForCurrentlyLeftVacationDays(Person person, BigDecimal vacationDaysLeft, LocalDate expiryDateNextYear) {
@@ -14,6 +14,8 @@ import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -67,6 +69,26 @@ public class VacationDaysService {
             .getLeftVacationDays(today, account.doRemainingVacationDaysExpire(), account.getExpiryDate());
     }
 
+    /**
+     * Calculates the total number of days that are left to be used for applying for leave for all given accounts at once.
+     * See {@link #getTotalLeftVacationDays(Account)}.
+     *
+     * @param accounts to calculate the total number of left vacation days for
+     * @return total number of left vacation days by {@link Account}
+     */
+    Map<Account, BigDecimal> getTotalLeftVacationDays(List<Account> accounts) {
+        final LocalDate today = LocalDate.now(clock);
+
+        final Map<Account, BigDecimal> totalLeftVacationDays = new HashMap<>();
+        accounts.stream()
+            .collect(groupingBy(Account::getYear))
+            .forEach((year, accountsOfYear) -> getVacationDaysLeft(accountsOfYear, Year.of(year)).forEach((account, holidayAccountVacationDays) ->
+                totalLeftVacationDays.put(account, holidayAccountVacationDays.vacationDaysYear()
+                    .getLeftVacationDays(today, account.doRemainingVacationDaysExpire(), account.getExpiryDate()))));
+
+        return totalLeftVacationDays;
+    }
+
     /**
      * @param holidayAccounts {@link Account} to determine configured expiryDate of {@link Application}s
      * @param year            year to calculate left vacation days for.
@@ -129,6 +151,8 @@ public class VacationDaysService {
         final List<Account> holidayAccountsForYear = holidayAccounts.stream().filter(account -> account.getYear() == from.getYear()).toList();
         final List<Person> persons = holidayAccountsForYear.stream().map(Account::getPerson).toList();
         final Map<Person, WorkingTimeCalendar> workingTimeCalendars = workingTimeCalendarService.getWorkingTimesByPersons(persons, Year.of(from.getYear()));
+        final Map<Person, BigDecimal> vacationDaysUsedNextYearByPerson = getUsedRemainingVacationDays(holidayAccountsNextYear, Year.of(from.getYear() + 1));
+
         return getUsedVacationDays(holidayAccountsForYear, dateRange, workingTimeCalendars).entrySet().stream()
             .map(entry -> {
                 final Account account = entry.getKey();
@@ -139,12 +163,7 @@ public class VacationDaysService {
                 final UsedVacationDaysTuple usedVacationDaysTuple = entry.getValue();
                 final UsedVacationDaysYear usedVacationDaysYear = usedVacationDaysTuple.usedVacationDaysYear();
 
-                final BigDecimal vacationDaysUsedNextYear = holidayAccountsNextYear.stream()
-                    .filter(holidayAccountNextYear -> holidayAccountNextYear.getPerson().equals(account.getPerson()))
-                    .filter(holidayAccountNextYear -> holidayAccountNextYear.getYear() == from.getYear() + 1)
-                    .findFirst()
-                    .map(this::getUsedRemainingVacationDays)
-                    .orElse(ZERO);
+                final BigDecimal vacationDaysUsedNextYear = vacationDaysUsedNextYearByPerson.getOrDefault(account.getPerson(), ZERO);
 
                 final VacationDaysLeft vacationDaysLeftYear = VacationDaysLeft.builder()
                     .withAnnualVacation(vacationDays)
@@ -177,13 +196,33 @@ public class VacationDaysService {
      * @return the used remaining vacation days
      */
     BigDecimal getUsedRemainingVacationDays(Account account) {
+        return getUsedRemainingVacationDays(List.of(account), Year.of(account.getYear())).getOrDefault(account.getPerson(), ZERO);
+    }
 
-        if (account.getRemainingVacationDays().signum() > 0) {
+    /**
+     * Calculates the used remaining vacation days of all given accounts of the given year at once, so that the
+     * applications and working times are queried only once instead of once per account.
+     *
+     * @param accounts to calculate used remaining vacation days of, accounts of other years are ignored
+     * @param year     of the accounts
+     * @return the used remaining vacation days by person, persons without used remaining vacation days are not included
+     */
+    private Map<Person, BigDecimal> getUsedRemainingVacationDays(List<Account> accounts, Year year) {
 
-            final Year year = Year.of(account.getYear());
-            final VacationDaysLeft left = getVacationDaysLeft(List.of(account), year)
-                .get(account)
-                .vacationDaysYear();
+        final Map<Person, Account> accountsWithRemainingVacationDays = accounts.stream()
+            .filter(account -> account.getYear() == year.getValue())
+            .filter(account -> account.getRemainingVacationDays().signum() > 0)
+            .collect(toMap(Account::getPerson, identity(), (first, second) -> first, LinkedHashMap::new));
+
+        if (accountsWithRemainingVacationDays.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<Account, HolidayAccountVacationDays> vacationDaysLeftByAccount = getVacationDaysLeft(List.copyOf(accountsWithRemainingVacationDays.values()), year);
+
+        final Map<Person, BigDecimal> usedRemainingVacationDays = new HashMap<>();
+        accountsWithRemainingVacationDays.forEach((person, account) -> {
+            final VacationDaysLeft left = vacationDaysLeftByAccount.get(account).vacationDaysYear();
 
             final BigDecimal usedVacationDays = account.getActualVacationDays()
                 .add(account.getRemainingVacationDays())
@@ -193,11 +232,11 @@ public class VacationDaysService {
             final BigDecimal notUsedVacationDays = usedVacationDays.subtract(account.getActualVacationDays());
 
             if (notUsedVacationDays.signum() > 0) {
-                return notUsedVacationDays;
+                usedRemainingVacationDays.put(person, notUsedVacationDays);
             }
-        }
+        });
 
-        return ZERO;
+        return usedRemainingVacationDays;
     }
 
     private Map<Account, UsedVacationDaysTuple> getUsedVacationDays(List<Account> holidayAccounts, DateRange dateRange, Map<Person, WorkingTimeCalendar> workingTimeCalendarsByPerson) {
@@ -272,7 +311,7 @@ public class VacationDaysService {
             dateRangeWorkDaysCountAfterExpiryDate = workingTimeCalendar.workingTime(applicationStartOrFirstDayOfYearOrFrom, applicationEndOrLastDayOfYearOrTo);
         }
 
-        final WorkingTimeCalendar.WorkingDayInformation workingDayInformation = workingTimeCalendar.workingDays().get(application.getStartDate());
+        final WorkingTimeCalendar.WorkingDayInformation workingDayInformation = workingTimeCalendar.workingDayInformation(application.getStartDate()).orElse(null);
 
         final UsedVacationDaysDateRange dateRangeUsedVacationDays;
         if (application.getDayLength().isHalfDay() && workingDayInformation != null && !workingDayInformation.hasHalfDayPublicHoliday()) {
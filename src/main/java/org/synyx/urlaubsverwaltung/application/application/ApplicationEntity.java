@@ -11,6 +11,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.synyx.urlaubsverwaltung.DurationConverter;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeEntity;
 import org.synyx.urlaubsverwaltung.period.DayLength;
@@ -18,6 +20,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -161,6 +164,14 @@ public class ApplicationEntity extends AbstractTenantAwareEntity {
 
     private LocalDate upcomingApplicationsReminderSend;
 
+    /**
+     * Point in time of the latest insert or update of this application for leave, set by the database.
+     *
+     * @since 5.23.0
+     */
+    @UpdateTimestamp(source = SourceType.DB)
+    private Instant lastModification;
+
     public Long getId() {
         return id;
     }
@@ -345,6 +356,10 @@ public class ApplicationEntity extends AbstractTenantAwareEntity {
         this.upcomingApplicationsReminderSend = upcomingApplicationsReminderSend;
     }
 
+    public Instant getLastModification() {
+        return lastModification;
+    }
+
     public List<HolidayReplacementEntity> getHolidayReplacements() {
         return holidayReplacements;
     }
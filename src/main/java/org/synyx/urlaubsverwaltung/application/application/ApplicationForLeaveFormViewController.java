@@ -28,6 +28,7 @@ import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.person.web.PersonPropertyEditor;
@@ -46,6 +47,7 @@ import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -497,19 +499,22 @@ class ApplicationForLeaveFormViewController implements HasLaunchpad {
     }
 
     private void appendDepartmentsToReplacements(ApplicationForLeaveForm appForm) {
-        final List<Department> departments = departmentService.getAllDepartments();
+        final Map<PersonId, List<String>> departmentNamesByPerson = departmentService.getDepartmentNamesByMembers(holidayReplacementPersonsOfApplication(appForm));
         for (HolidayReplacementDto replacementDto : appForm.getHolidayReplacements()) {
-            List<String> departmentNames = departmentNamesForPerson(replacementDto.getPerson(), departments);
+            List<String> departmentNames = departmentNamesForPerson(replacementDto.getPerson(), departmentNamesByPerson);
             replacementDto.setDepartments(departmentNames);
         }
     }
 
     private ApplicationForLeaveForm mapToApplicationForm(Application application, Locale locale) {
 
-        final List<Department> departments = departmentService.getAllDepartments();
+        final List<Person> holidayReplacementPersons = application.getHolidayReplacements().stream()
+            .map(HolidayReplacementEntity::getPerson)
+            .toList();
+        final Map<PersonId, List<String>> departmentNamesByPerson = departmentService.getDepartmentNamesByMembers(holidayReplacementPersons);
 
         final List<HolidayReplacementDto> holidayReplacementDtos = application.getHolidayReplacements().stream()
-            .map(holidayReplacementEntity -> toDto(holidayReplacementEntity, departments))
+            .map(holidayReplacementEntity -> toDto(holidayReplacementEntity, departmentNamesByPerson))
             .toList();
 
         return new ApplicationForLeaveForm.Builder()
@@ -537,18 +542,15 @@ class ApplicationForLeaveFormViewController implements HasLaunchpad {
         return dto;
     }
 
-    private List<String> departmentNamesForPerson(Person person, List<Department> departments) {
-        return departments.stream()
-            .filter(d -> d.getMembers().contains(person))
-            .map(Department::getName)
-            .toList();
+    private static List<String> departmentNamesForPerson(Person person, Map<PersonId, List<String>> departmentNamesByPerson) {
+        return departmentNamesByPerson.getOrDefault(new PersonId(person.getId()), List.of());
     }
 
-    private HolidayReplacementDto toDto(HolidayReplacementEntity holidayReplacementEntity, List<Department> departments) {
+    private HolidayReplacementDto toDto(HolidayReplacementEntity holidayReplacementEntity, Map<PersonId, List<String>> departmentNamesByPerson) {
         final HolidayReplacementDto holidayReplacementDto = new HolidayReplacementDto();
         holidayReplacementDto.setPerson(holidayReplacementEntity.getPerson());
         holidayReplacementDto.setNote(holidayReplacementEntity.getNote());
-        holidayReplacementDto.setDepartments(departmentNamesForPerson(holidayReplacementEntity.getPerson(), departments));
+        holidayReplacementDto.setDepartments(departmentNamesForPerson(holidayReplacementEntity.getPerson(), departmentNamesByPerson));
         return holidayReplacementDto;
     }
 
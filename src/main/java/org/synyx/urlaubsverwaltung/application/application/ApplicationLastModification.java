@@ -0,0 +1,12 @@
+package org.synyx.urlaubsverwaltung.application.application;
+
+import java.time.Instant;
+
+/**
+ * Latest modification of an application for leave, without loading the application for leave itself.
+ *
+ * @param applicationId    id of the application for leave
+ * @param lastModification point in time of the latest insert or update of the application for leave
+ */
+record ApplicationLastModification(Long applicationId, Instant lastModification) {
+}
@@ -26,11 +26,82 @@ interface ApplicationRepository extends CrudRepository<ApplicationEntity, Long>
 
     List<ApplicationEntity> findByStatusInAndPersonInAndEndDateIsGreaterThanEqual(List<ApplicationStatus> statuses, List<Person> persons, LocalDate sinceStartDate);
 
-    List<ApplicationEntity> findByStatusInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(List<ApplicationStatus> statuses, LocalDate start, LocalDate end);
-
-    List<ApplicationEntity> findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(List<ApplicationStatus> statuses, List<Person> persons, LocalDate start, LocalDate end);
-
-    List<ApplicationEntity> findByPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqualAndStatusIn(List<Person> persons, LocalDate start, LocalDate end, List<ApplicationStatus> statuses);
+    /**
+     * Native query of {@link #findOverlappingByStatusNames(Collection, LocalDate, LocalDate)}.
+     */
+    String FIND_OVERLAPPING_BY_STATUS_NAMES = """
+        SELECT a.*
+        FROM application a
+        WHERE a.status IN (:statuses)
+        AND a.date_range && daterange(:start, :end, '[]')
+        """;
+
+    /**
+     * Native query of {@link #findOverlappingByStatusNamesAndPersonIds(Collection, Collection, LocalDate, LocalDate)}.
+     */
+    String FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS = """
+        SELECT a.*
+        FROM application a
+        WHERE a.status IN (:statuses)
+        AND a.person_id IN (:personIds)
+        AND a.date_range && daterange(:start, :end, '[]')
+        """;
+
+    /**
+     * Finds the applications for leave with one of the given statuses overlapping the given inclusive date range.
+     *
+     * @param statuses of the applications for leave
+     * @param start    first day of the date range
+     * @param end      last day of the date range
+     * @return applications for leave overlapping the date range
+     */
+    default List<ApplicationEntity> findOverlapping(List<ApplicationStatus> statuses, LocalDate start, LocalDate end) {
+        if (statuses.isEmpty()) {
+            return List.of();
+        }
+        return findOverlappingByStatusNames(statusNames(statuses), start, end);
+    }
+
+    /**
+     * Same as {@link #findOverlapping(List, LocalDate, LocalDate)} restricted to the given persons.
+     *
+     * @param statuses of the applications for leave
+     * @param persons  to find the applications for leave of
+     * @param start    first day of the date range
+     * @param end      last day of the date range
+     * @return applications for leave of the persons overlapping the date range
+     */
+    default List<ApplicationEntity> findOverlappingOfPersons(List<ApplicationStatus> statuses, List<Person> persons, LocalDate start, LocalDate end) {
+        if (statuses.isEmpty() || persons.isEmpty()) {
+            return List.of();
+        }
+        return findOverlappingByStatusNamesAndPersonIds(statusNames(statuses), persons.stream().map(Person::getId).toList(), start, end);
+    }
+
+    /**
+     * Finds the applications for leave with one of the given statuses overlapping the given inclusive date range.
+     * The overlap is checked on the generated {@code date_range} column, which is served by a GiST index
+     * instead of two separate indices on the start and end date.
+     *
+     * @param statuses names of the {@link ApplicationStatus}, must not be empty
+     * @param start    first day of the date range
+     * @param end      last day of the date range
+     * @return applications for leave overlapping the date range
+     */
+    @Query(nativeQuery = true, value = FIND_OVERLAPPING_BY_STATUS_NAMES)
+    List<ApplicationEntity> findOverlappingByStatusNames(@Param("statuses") Collection<String> statuses, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    /**
+     * Same as {@link #findOverlappingByStatusNames(Collection, LocalDate, LocalDate)} restricted to the given persons.
+     *
+     * @param statuses  names of the {@link ApplicationStatus}, must not be empty
+     * @param personIds ids of the persons, must not be empty
+     * @param start     first day of the date range
+     * @param end       last day of the date range
+     * @return applications for leave of the persons overlapping the date range
+     */
+    @Query(nativeQuery = true, value = FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS)
+    List<ApplicationEntity> findOverlappingByStatusNamesAndPersonIds(@Param("statuses") Collection<String> statuses, @Param("personIds") Collection<Long> personIds, @Param("start") LocalDate start, @Param("end") LocalDate end);
 
     @Query(
         "select x from application x "
@@ -48,6 +119,15 @@ interface ApplicationRepository extends CrudRepository<ApplicationEntity, Long>
     )
     List<ApplicationEntity> getApplicationsForACertainTimeAndPerson(LocalDate startDate, LocalDate endDate, Person person);
 
+    @Query("""
+        select new org.synyx.urlaubsverwaltung.application.application.ApplicationLastModification(x.id, x.lastModification)
+        from application x
+        where x.person in :persons and x.endDate >= :start and x.startDate <= :end
+        """)
+    List<ApplicationLastModification> findLastModificationsOfPersons(@Param("persons") List<Person> persons, @Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    List<ApplicationEntity> findByStatusInAndPersonInAndVacationTypeCategory(List<ApplicationStatus> statuses, List<Person> persons, VacationCategory vacationCategory);
+
     List<ApplicationEntity> findByStatusInAndPersonAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqualAndVacationTypeCategory(List<ApplicationStatus> statuses, Person person, LocalDate start, LocalDate end, VacationCategory vacationCategory);
 
     @Query(
@@ -72,4 +152,8 @@ interface ApplicationRepository extends CrudRepository<ApplicationEntity, Long>
     List<ApplicationEntity> deleteByPerson(Person person);
 
     List<ApplicationEntity> findAllByHolidayReplacements_Person(Person person);
+
+    private static List<String> statusNames(List<ApplicationStatus> statuses) {
+        return statuses.stream().map(ApplicationStatus::name).toList();
+    }
 }
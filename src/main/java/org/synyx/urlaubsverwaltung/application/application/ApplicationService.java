@@ -4,6 +4,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -55,6 +56,17 @@ public interface ApplicationService {
      */
     List<Application> getApplicationsForACertainPeriodAndStatus(LocalDate startDate, LocalDate endDate, List<Person> persons, List<ApplicationStatus> statuses);
 
+    /**
+     * Gets the latest modification of every {@link Application} of the given persons overlapping the period between
+     * startDate and endDate, regardless of its status.
+     *
+     * @param startDate {@link LocalDate}
+     * @param endDate   {@link LocalDate}
+     * @param persons   {@link Person}s to consider
+     * @return the point in time of the latest modification by id of the {@link Application}
+     */
+    Map<Long, Instant> getLastModifications(LocalDate startDate, LocalDate endDate, List<Person> persons);
+
     /**
      * Returns all {@link Application}s where their start or end date is overlapping with the given period between startDate and endDate
      * and filters by the person, status and vacation category
@@ -112,6 +124,16 @@ public interface ApplicationService {
      */
     List<Application> getForStatesAndPerson(List<ApplicationStatus> statuses, List<Person> persons);
 
+    /**
+     * Get all {@link Application} with specific states, persons and vacation category
+     *
+     * @param statuses         {@link ApplicationStatus} to filter
+     * @param persons          {@link Person}s to consider
+     * @param vacationCategory {@link VacationCategory} that should be filtered for
+     * @return all {@link Application}
+     */
+    List<Application> getForStatesAndPersonAndVacationCategory(List<ApplicationStatus> statuses, List<Person> persons, VacationCategory vacationCategory);
+
     /**
      * Get all {@link Application} with specific states and persons
      *
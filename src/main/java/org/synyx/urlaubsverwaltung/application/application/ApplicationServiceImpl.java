@@ -12,6 +12,7 @@ import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -64,7 +65,13 @@ class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     public List<Application> getApplicationsForACertainPeriodAndStatus(LocalDate startDate, LocalDate endDate, List<Person> persons, List<ApplicationStatus> statuses) {
-        return toApplication(applicationRepository.findByPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqualAndStatusIn(persons, startDate, endDate, statuses));
+        return toApplication(applicationRepository.findOverlappingOfPersons(statuses, persons, startDate, endDate));
+    }
+
+    @Override
+    public Map<Long, Instant> getLastModifications(LocalDate startDate, LocalDate endDate, List<Person> persons) {
+        return applicationRepository.findLastModificationsOfPersons(persons, startDate, endDate).stream()
+            .collect(toMap(ApplicationLastModification::applicationId, ApplicationLastModification::lastModification));
     }
 
     @Override
@@ -102,6 +109,11 @@ class ApplicationServiceImpl implements ApplicationService {
         return toApplication(applicationRepository.findByStatusInAndPersonIn(statuses, persons));
     }
 
+    @Override
+    public List<Application> getForStatesAndPersonAndVacationCategory(List<ApplicationStatus> statuses, List<Person> persons, VacationCategory vacationCategory) {
+        return toApplication(applicationRepository.findByStatusInAndPersonInAndVacationTypeCategory(statuses, persons, vacationCategory));
+    }
+
     @Override
     public List<Application> getForStatesAndPersonSince(List<ApplicationStatus> statuses, List<Person> persons, LocalDate since) {
         return toApplication(applicationRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqual(statuses, persons, since));
@@ -109,12 +121,12 @@ class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     public List<Application> getForStatesAndPerson(List<ApplicationStatus> statuses, List<Person> persons, LocalDate start, LocalDate end) {
-        return toApplication(applicationRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(statuses, persons, start, end));
+        return toApplication(applicationRepository.findOverlappingOfPersons(statuses, persons, start, end));
     }
 
     @Override
     public List<Application> getForStates(List<ApplicationStatus> statuses, LocalDate start, LocalDate end) {
-        return toApplication(applicationRepository.findByStatusInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(statuses, start, end));
+        return toApplication(applicationRepository.findOverlapping(statuses, start, end));
     }
 
     @Override
@@ -4,13 +4,13 @@ package org.synyx.urlaubsverwaltung.application.export;
 import com.opencsv.CSVWriter;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.csv.CsvExportService;
+import org.synyx.urlaubsverwaltung.csv.StreamingCsvExportService;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.text.DecimalFormat;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.text.NumberFormat.getInstance;
@@ -19,7 +19,9 @@ import static java.time.format.FormatStyle.MEDIUM;
 import static java.time.format.FormatStyle.SHORT;
 
 @Service
-class ApplicationForLeaveCsvExportService implements CsvExportService<ApplicationForLeaveExport> {
+class ApplicationForLeaveCsvExportService implements StreamingCsvExportService<ApplicationForLeaveExport> {
+
+    private static final int COLUMNS = 9;
 
     private final MessageSource messageSource;
 
@@ -38,7 +40,7 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
+    public void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter) {
 
         final String[] csvHeader = {
             getTranslation(locale, "person.account.basedata.personnelNumber"),
@@ -52,13 +54,18 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
             getTranslation(locale, "applications.export.days"),
         };
 
+        csvWriter.writeNext(csvHeader);
+    }
+
+    @Override
+    public void writeRows(FilterPeriod period, Locale locale, Stream<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
+
         final DateTimeFormatter dateTimeFormatter = ofLocalizedDate(MEDIUM).withLocale(locale);
         final DecimalFormat decimalFormat = (DecimalFormat) getInstance(locale);
-        csvWriter.writeNext(csvHeader);
 
         applicationForLeaveExports.forEach(applicationForLeaveExport ->
             applicationForLeaveExport.getApplicationForLeaves().forEach(applicationForLeave -> {
-                final String[] applicationCsvRow = new String[csvHeader.length];
+                final String[] applicationCsvRow = new String[COLUMNS];
                 applicationCsvRow[0] = applicationForLeaveExport.getPersonalNumber();
                 applicationCsvRow[1] = applicationForLeaveExport.getFirstName();
                 applicationCsvRow[2] = applicationForLeaveExport.getLastName();
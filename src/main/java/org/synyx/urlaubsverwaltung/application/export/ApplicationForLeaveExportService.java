@@ -5,9 +5,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -19,13 +19,14 @@ import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.groupingBy;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -35,13 +36,13 @@ import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
+import static org.synyx.urlaubsverwaltung.search.PersonSortSupport.isSortByPersonAttribute;
+import static org.synyx.urlaubsverwaltung.search.PersonSortSupport.toPersonPageRequest;
 
 @Service
 @Transactional
 class ApplicationForLeaveExportService {
 
-    private static final String PERSON_PREFIX = "person.";
-
     private final ApplicationService applicationService;
     private final DepartmentService departmentService;
     private final PersonBasedataService personBasedataService;
@@ -72,7 +73,7 @@ class ApplicationForLeaveExportService {
         final Pageable pageable = pageableSearchQuery.getPageable();
 
         final Page<Person> relevantMembersPage = getMembersForPerson(person, pageableSearchQuery);
-        final List<Person> relevantMembers = relevantMembersPage.getContent();
+        final List<Person> relevantMembers = getMembersOfPage(relevantMembersPage, pageable);
         final List<Long> relevantPersonIds = relevantMembers.stream().map(Person::getId).toList();
 
         if (relevantPersonIds.isEmpty()) {
@@ -86,41 +87,35 @@ class ApplicationForLeaveExportService {
             applicationsByPerson.putIfAbsent(member, List.of());
         }
 
-
         final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(relevantPersonIds);
         final Map<PersonId, List<String>> departmentsByPersonId = departmentService.getDepartmentNamesByMembers(relevantMembers);
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysByPeriod = workDaysCountService.getWorkDaysCount(applications.stream().map(ApplicationForLeaveExportService::toWorkDaysCountPeriod).toList());
 
-        Stream<ApplicationForLeaveExport> exportsStream = applicationsByPerson.entrySet()
+        final List<ApplicationForLeaveExport> content = applicationsByPerson.entrySet()
             .stream()
-            .map(toApplicationForLeaveExport(basedataByPersonId, departmentsByPersonId));
-
-        if (relevantMembersPage.getPageable().isUnpaged()) {
-            // we don't have to restrict the statistics if persons page is paged and or sorted already.
-            // otherwise we have fetched ALL persons -> therefore skip and limit statistics content.
-            exportsStream = exportsStream
-                .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-                .limit(pageable.getPageSize());
-        }
-
-        final List<ApplicationForLeaveExport> content = exportsStream
+            .map(toApplicationForLeaveExport(basedataByPersonId, departmentsByPersonId, workDaysByPeriod))
             .sorted(new SortComparator<>(ApplicationForLeaveExport.class, pageable.getSort()))
             .toList();
 
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
-    private Function<Map.Entry<Person, List<Application>>, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
+    private Function<Map.Entry<Person, List<Application>>, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons, Map<WorkDaysCountPeriod, BigDecimal> workDaysByPeriod) {
         return personListEntry ->
         {
             final Person person = personListEntry.getKey();
             final PersonId personId = new PersonId(person.getId());
             final String personnelNumber = basedataForPersons.getOrDefault(personId, new PersonBasedata(personId, "", "")).personnelNumber();
             final List<String> departments = departmentsForPersons.getOrDefault(personId, List.of());
-            final List<ApplicationForLeave> applicationForLeaves = personListEntry.getValue().stream().map(app -> new ApplicationForLeave(app, workDaysCountService)).toList();
+            final List<ApplicationForLeave> applicationForLeaves = personListEntry.getValue().stream().map(app -> new ApplicationForLeave(app, workDaysByPeriod.get(toWorkDaysCountPeriod(app)))).toList();
             return new ApplicationForLeaveExport(personnelNumber, person.getFirstName(), person.getLastName(), applicationForLeaves, departments);
         };
     }
 
+    private static WorkDaysCountPeriod toWorkDaysCountPeriod(Application application) {
+        return new WorkDaysCountPeriod(application.getPerson(), application.getDayLength(), new DateRange(application.getStartDate(), application.getEndDate()));
+    }
+
     private List<Application> getApplications(Person person, List<Person> members, LocalDate from, LocalDate to) {
         if (person.hasRole(OFFICE) || person.hasRole(BOSS) || person.hasRole(DEPARTMENT_HEAD) || person.hasRole(SECOND_STAGE_AUTHORITY)) {
             return applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), members, from, to);
@@ -131,38 +126,32 @@ class ApplicationForLeaveExportService {
 
     private Page<Person> getMembersForPerson(Person person, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
-        final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final boolean sortByPerson = isSortByPersonAttribute(pageable.getSort());
 
         if (person.hasRole(OFFICE) || person.hasRole(BOSS)) {
             final PageableSearchQuery query = sortByPerson
-                ? new PageableSearchQuery(mapToPersonPageRequest(pageable), pageableSearchQuery.getQuery())
+                ? new PageableSearchQuery(toPersonPageRequest(pageable), pageableSearchQuery.getQuery())
                 : new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), pageableSearchQuery.getQuery());
 
             return personService.getActivePersons(query);
         }
 
-        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? mapToPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
+        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? toPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
         return departmentService.getManagedMembersOfPerson(person, query);
     }
 
-    private boolean isSortByPersonAttribute(Pageable pageable) {
-        for (Sort.Order order : pageable.getSort()) {
-            if (!order.getProperty().startsWith(PERSON_PREFIX)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private PageRequest mapToPersonPageRequest(Pageable statisticsPageRequest) {
-        Sort personSort = Sort.unsorted();
-
-        for (Sort.Order order : statisticsPageRequest.getSort()) {
-            if (order.getProperty().startsWith(PERSON_PREFIX)) {
-                personSort = personSort.and(Sort.by(order.getDirection(), order.getProperty().replace(PERSON_PREFIX, "")));
-            }
+    /**
+     * Members are fetched unpaged when the export is not sorted by person attributes. Only the members of the
+     * requested page are used then, so that applications and work days are determined for them only.
+     */
+    private static List<Person> getMembersOfPage(Page<Person> membersPage, Pageable pageable) {
+        if (membersPage.getPageable().isPaged() || pageable.isUnpaged()) {
+            return membersPage.getContent();
         }
 
-        return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), personSort);
+        return membersPage.getContent().stream()
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .toList();
     }
 }
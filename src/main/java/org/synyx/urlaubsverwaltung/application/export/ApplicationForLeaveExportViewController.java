@@ -4,20 +4,18 @@ import de.focus_shift.launchpad.api.HasLaunchpad;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.StreamingCSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
@@ -29,11 +27,12 @@ import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.springframework.http.HttpStatus.OK;
+import static org.synyx.urlaubsverwaltung.csv.CsvDownloadSupport.csvHeaders;
+import static org.synyx.urlaubsverwaltung.csv.CsvDownloadSupport.streamAll;
 import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_PRIVILEGED_USER;
 
 @Controller
@@ -64,7 +63,6 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
     public ResponseEntity<ByteArrayResource> downloadCsvExport(
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
-        @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
         @RequestParam(value = "query", required = false, defaultValue = "") String query,
         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
         Locale locale
@@ -77,20 +75,36 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
         }
 
         final Person signedInUser = personService.getSignedInUser();
-
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
 
         final Page<ApplicationForLeaveExport> exportPage = applicationForLeaveExportService.getAll(signedInUser, period.startDate(), period.endDate(), pageableSearchQuery);
-        final List<ApplicationForLeaveExport> export = exportPage.getContent();
-        final CSVFile csvFile = applicationForLeaveCsvExportService.generateCSV(period, locale, export);
+        final List<ApplicationForLeaveExport> exports = exportPage.getContent();
+        final CSVFile csvFile = applicationForLeaveCsvExportService.generateCSV(period, locale, exports);
+
+        return ResponseEntity.status(OK).headers(csvHeaders(csvFile.fileName())).body(csvFile.resource());
+    }
+
+    @PreAuthorize(IS_PRIVILEGED_USER)
+    @GetMapping(value = "/export", params = "allElements=true")
+    public ResponseEntity<StreamingResponseBody> downloadAllCsvExport(
+        @RequestParam(value = "from", defaultValue = "") String from,
+        @RequestParam(value = "to", defaultValue = "") String to,
+        @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+        Locale locale
+    ) {
+        final FilterPeriod period = toFilterPeriod(from, to, locale);
+
+        // NOTE: Not supported at the moment
+        if (period.startDate().getYear() != period.endDate().getYear()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final Person signedInUser = personService.getSignedInUser();
 
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        final Stream<ApplicationForLeaveExport> exports = streamAll(pageable.getSort(), searchQuery -> applicationForLeaveExportService.getAll(signedInUser, period.startDate(), period.endDate(), searchQuery));
+        final StreamingCSVFile csvFile = applicationForLeaveCsvExportService.generateStreamingCSV(period, locale, exports);
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(csvHeaders(csvFile.fileName())).body(csvFile.body());
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
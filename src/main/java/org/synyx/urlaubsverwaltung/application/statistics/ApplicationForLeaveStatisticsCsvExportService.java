@@ -7,7 +7,7 @@ import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
-import org.synyx.urlaubsverwaltung.csv.CsvExportService;
+import org.synyx.urlaubsverwaltung.csv.StreamingCsvExportService;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
@@ -16,6 +16,7 @@ import java.text.DecimalFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.text.NumberFormat.getInstance;
@@ -23,7 +24,9 @@ import static java.time.format.DateTimeFormatter.ofLocalizedDate;
 import static java.time.format.FormatStyle.SHORT;
 
 @Service
-class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<ApplicationForLeaveStatistics> {
+class ApplicationForLeaveStatisticsCsvExportService implements StreamingCsvExportService<ApplicationForLeaveStatistics> {
+
+    private static final int COLUMNS = 11;
 
     private final MessageSource messageSource;
     private final VacationTypeService vacationTypeService;
@@ -45,7 +48,7 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
+    public void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter) {
 
         final String[] csvHeader = {
             getTranslation(locale, "person.account.basedata.personnelNumber"),
@@ -73,17 +76,20 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
             getTranslation(locale, "duration.overtime")
         };
 
-        final DecimalFormat decimalFormat = (DecimalFormat) getInstance(locale);
-
         csvWriter.writeNext(csvHeader);
         csvWriter.writeNext(csvSubHeader);
+    }
 
+    @Override
+    public void writeRows(FilterPeriod period, Locale locale, Stream<ApplicationForLeaveStatistics> statistics, CSVWriter csvWriter) {
+
+        final DecimalFormat decimalFormat = (DecimalFormat) getInstance(locale);
         final List<VacationType<?>> allVacationTypes = vacationTypeService.getAllVacationTypes();
 
         final String translatedTextTotal = getTranslation(locale, "applications.statistics.total");
-        for (ApplicationForLeaveStatistics applicationForLeaveStatistics : statistics) {
+        statistics.forEach(applicationForLeaveStatistics -> {
 
-            final String[] csvRow = new String[csvHeader.length];
+            final String[] csvRow = new String[COLUMNS];
             csvRow[0] = applicationForLeaveStatistics.getPersonBasedata().map(PersonBasedata::personnelNumber).orElse("");
             csvRow[1] = applicationForLeaveStatistics.getPerson().getFirstName();
             csvRow[2] = applicationForLeaveStatistics.getPerson().getLastName();
@@ -102,14 +108,14 @@ class ApplicationForLeaveStatisticsCsvExportService implements CsvExportService<
 
             for (final VacationType<?> type : allVacationTypes) {
                 if (applicationForLeaveStatistics.hasVacationType(type)) {
-                    final String[] csvRowVacationTypes = new String[csvHeader.length];
+                    final String[] csvRowVacationTypes = new String[COLUMNS];
                     csvRowVacationTypes[3] = type.getLabel(locale);
                     csvRowVacationTypes[4] = decimalFormat.format(applicationForLeaveStatistics.getAllowedVacationDays(type));
                     csvRowVacationTypes[5] = decimalFormat.format(applicationForLeaveStatistics.getWaitingVacationDays(type));
                     csvWriter.writeNext(csvRowVacationTypes);
                 }
             }
-        }
+        });
     }
 
     private String getTranslation(Locale locale, String key, Object... args) {
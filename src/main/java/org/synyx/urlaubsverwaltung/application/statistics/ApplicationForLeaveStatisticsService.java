@@ -5,7 +5,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
@@ -26,6 +25,8 @@ import java.util.stream.Stream;
 
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
+import static org.synyx.urlaubsverwaltung.search.PersonSortSupport.isSortByPersonAttribute;
+import static org.synyx.urlaubsverwaltung.search.PersonSortSupport.toPersonPageRequest;
 
 @Service
 class ApplicationForLeaveStatisticsService {
@@ -88,38 +89,17 @@ class ApplicationForLeaveStatisticsService {
 
     private Page<Person> getAllRelevantPersons(Person person, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
-        final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final boolean sortByPerson = isSortByPersonAttribute(pageable.getSort());
 
         if (person.hasRole(BOSS) || person.hasRole(OFFICE)) {
             final PageableSearchQuery query = sortByPerson
-                ? new PageableSearchQuery(mapToPersonPageRequest(pageable), pageableSearchQuery.getQuery())
+                ? new PageableSearchQuery(toPersonPageRequest(pageable), pageableSearchQuery.getQuery())
                 : new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), pageableSearchQuery.getQuery());
 
             return personService.getActivePersons(query);
         }
 
-        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? mapToPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
+        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? toPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
         return departmentService.getManagedMembersOfPerson(person, query);
     }
-
-    private PageRequest mapToPersonPageRequest(Pageable statisticsPageRequest) {
-        Sort personSort = Sort.unsorted();
-
-        for (Sort.Order order : statisticsPageRequest.getSort()) {
-            if (order.getProperty().startsWith("person.")) {
-                personSort = personSort.and(Sort.by(order.getDirection(), order.getProperty().replace("person.", "")));
-            }
-        }
-
-        return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), personSort);
-    }
-
-    private boolean isSortByPersonAttribute(Pageable pageable) {
-        for (Sort.Order order : pageable.getSort()) {
-            if (!order.getProperty().startsWith("person.")) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
@@ -1,19 +1,14 @@
 package org.synyx.urlaubsverwaltung.application.statistics;
 
 import de.focus_shift.launchpad.api.HasLaunchpad;
-import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -22,8 +17,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
 import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.StreamingCSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
@@ -42,14 +39,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.stream.Collectors.joining;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.util.StringUtils.hasText;
 import static org.synyx.urlaubsverwaltung.application.statistics.ApplicationForLeaveStatisticsMapper.mapToApplicationForLeaveStatisticsDto;
+import static org.synyx.urlaubsverwaltung.csv.CsvDownloadSupport.csvHeaders;
+import static org.synyx.urlaubsverwaltung.csv.CsvDownloadSupport.streamAll;
 import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_PRIVILEGED_USER;
 import static org.synyx.urlaubsverwaltung.web.html.PaginationPageLinkBuilder.buildPageLinkPrefix;
 
@@ -154,9 +152,8 @@ class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
-        @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
         @RequestParam(value = "query", required = false, defaultValue = "") String query,
-        Locale locale, HttpServletResponse response
+        Locale locale
     ) {
         final FilterPeriod period = toFilterPeriod(from, to, locale);
 
@@ -166,20 +163,36 @@ class ApplicationForLeaveStatisticsViewController implements HasLaunchpad {
         }
 
         final Person signedInUser = personService.getSignedInUser();
-
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
 
         final Page<ApplicationForLeaveStatistics> statisticsPage = applicationForLeaveStatisticsService.getStatistics(signedInUser, period, pageableSearchQuery);
         final List<ApplicationForLeaveStatistics> statistics = statisticsPage.getContent();
         final CSVFile csvFile = applicationForLeaveStatisticsCsvExportService.generateCSV(period, locale, statistics);
 
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        return ResponseEntity.status(OK).headers(csvHeaders(csvFile.fileName())).body(csvFile.resource());
+    }
+
+    @PreAuthorize(IS_PRIVILEGED_USER)
+    @GetMapping(value = "/download", params = "allElements=true")
+    public ResponseEntity<StreamingResponseBody> downloadAllCSV(
+        @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+        @RequestParam(value = "from", defaultValue = "") String from,
+        @RequestParam(value = "to", defaultValue = "") String to,
+        Locale locale
+    ) {
+        final FilterPeriod period = toFilterPeriod(from, to, locale);
+
+        // NOTE: Not supported at the moment
+        if (period.startDate().getYear() != period.endDate().getYear()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final Person signedInUser = personService.getSignedInUser();
+
+        final Stream<ApplicationForLeaveStatistics> statistics = streamAll(pageable.getSort(), searchQuery -> applicationForLeaveStatisticsService.getStatistics(signedInUser, period, searchQuery));
+        final StreamingCSVFile csvFile = applicationForLeaveStatisticsCsvExportService.generateStreamingCSV(period, locale, statistics);
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(csvHeaders(csvFile.fileName())).body(csvFile.body());
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
@@ -6,16 +6,21 @@ import org.springframework.stereotype.Service;
 public class VacationTypeImportService {
 
     private final VacationTypeRepository vacationTypeRepository;
+    private final VacationTypeRegistry vacationTypeRegistry;
 
-    VacationTypeImportService(VacationTypeRepository vacationTypeRepository) {
+    VacationTypeImportService(VacationTypeRepository vacationTypeRepository, VacationTypeRegistry vacationTypeRegistry) {
         this.vacationTypeRepository = vacationTypeRepository;
+        this.vacationTypeRegistry = vacationTypeRegistry;
     }
 
     public void deleteAll() {
         vacationTypeRepository.deleteAll();
+        vacationTypeRegistry.invalidate();
     }
 
     public VacationTypeEntity importVacationType(VacationTypeEntity vacationType) {
-        return vacationTypeRepository.save(vacationType);
+        final VacationTypeEntity importedVacationType = vacationTypeRepository.save(vacationType);
+        vacationTypeRegistry.invalidate();
+        return importedVacationType;
     }
 }
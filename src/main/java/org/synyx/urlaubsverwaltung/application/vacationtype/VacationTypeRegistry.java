@@ -0,0 +1,132 @@
+package org.synyx.urlaubsverwaltung.application.vacationtype;
+
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMPLETION;
+
+/**
+ * Keeps the converted vacation types of every tenant in memory, so that the vacation types are read from the
+ * database only once instead of on every request. The vacation types of a tenant are loaded on first access and
+ * reloaded after a vacation type of the tenant has been created or updated.
+ */
+@Component
+class VacationTypeRegistry {
+
+    private record VacationTypes(
+        long version,
+        List<VacationType<?>> all,
+        List<VacationType<?>> active,
+        Map<Long, VacationType<?>> byId,
+        Map<VacationCategory, List<VacationType<?>>> activeWithoutCategory
+    ) {
+    }
+
+    private final VacationTypeRepository vacationTypeRepository;
+    private final MessageSource messageSource;
+    private final TenantContextHolder tenantContextHolder;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<TenantId, VacationTypes> vacationTypesByTenant = new ConcurrentHashMap<>();
+
+    VacationTypeRegistry(VacationTypeRepository vacationTypeRepository, MessageSource messageSource, TenantContextHolder tenantContextHolder) {
+        this.vacationTypeRepository = vacationTypeRepository;
+        this.messageSource = messageSource;
+        this.tenantContextHolder = tenantContextHolder;
+    }
+
+    /**
+     * @return all vacation types ordered by id
+     */
+    List<VacationType<?>> getAll() {
+        return vacationTypes().all();
+    }
+
+    /**
+     * @return all active vacation types ordered by id
+     */
+    List<VacationType<?>> getActive() {
+        return vacationTypes().active();
+    }
+
+    /**
+     * @param vacationCategory to exclude
+     * @return all active vacation types that are not of the given category ordered by id
+     */
+    List<VacationType<?>> getActiveWithoutCategory(VacationCategory vacationCategory) {
+        return vacationTypes().activeWithoutCategory().get(vacationCategory);
+    }
+
+    Optional<VacationType<?>> getById(Long id) {
+        return Optional.ofNullable(vacationTypes().byId().get(id));
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMPLETION, fallbackExecution = true, classes = {
+        VacationTypeCreatedEvent.class,
+        VacationTypeUpdatedEvent.class,
+    })
+    void onVacationTypeChanged() {
+        invalidate();
+    }
+
+    /**
+     * Discards the vacation types of the current tenant, e.g. after vacation types have been changed without
+     * publishing an event. The vacation types are reloaded on next access.
+     */
+    void invalidate() {
+        // vacation types loaded concurrently before the commit are outdated as well, therefore the version is increased
+        version.incrementAndGet();
+        tenantContextHolder.getCurrentTenantId().ifPresent(vacationTypesByTenant::remove);
+    }
+
+    private VacationTypes vacationTypes() {
+        // the version is read before loading, a change during loading outdates the loaded vacation types right away
+        final long currentVersion = version.get();
+
+        final Optional<TenantId> maybeTenantId = tenantContextHolder.getCurrentTenantId();
+        if (maybeTenantId.isEmpty()) {
+            return load(currentVersion);
+        }
+
+        final TenantId tenantId = maybeTenantId.get();
+        final VacationTypes vacationTypes = vacationTypesByTenant.get(tenantId);
+        if (vacationTypes != null && vacationTypes.version() == currentVersion) {
+            return vacationTypes;
+        }
+
+        final VacationTypes loadedVacationTypes = load(currentVersion);
+        vacationTypesByTenant.put(tenantId, loadedVacationTypes);
+        return loadedVacationTypes;
+    }
+
+    private VacationTypes load(long currentVersion) {
+
+        final List<VacationType<?>> all = vacationTypeRepository.findAll(Sort.by("id")).stream()
+            .<VacationType<?>>map(vacationTypeEntity -> VacationTypeServiceImpl.convert(vacationTypeEntity, messageSource))
+            .toList();
+
+        final List<VacationType<?>> active = all.stream().filter(VacationType::isActive).toList();
+
+        final Map<VacationCategory, List<VacationType<?>>> activeWithoutCategory = new EnumMap<>(VacationCategory.class);
+        for (VacationCategory vacationCategory : VacationCategory.values()) {
+            activeWithoutCategory.put(vacationCategory, active.stream().filter(vacationType -> vacationType.getCategory() != vacationCategory).toList());
+        }
+
+        final Map<Long, VacationType<?>> byId = all.stream().collect(toMap(VacationType::getId, identity()));
+
+        return new VacationTypes(currentVersion, all, active, byId, activeWithoutCategory);
+    }
+}
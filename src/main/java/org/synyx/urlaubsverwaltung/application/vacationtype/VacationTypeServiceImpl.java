@@ -4,10 +4,10 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
@@ -15,7 +15,6 @@ import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
@@ -35,40 +34,38 @@ public class VacationTypeServiceImpl implements VacationTypeService {
     private final VacationTypeRepository vacationTypeRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
+    private final VacationTypeRegistry vacationTypeRegistry;
 
     @Autowired
     VacationTypeServiceImpl(VacationTypeRepository vacationTypeRepository,
                             ApplicationEventPublisher applicationEventPublisher,
-                            MessageSource messageSource) {
+                            MessageSource messageSource,
+                            VacationTypeRegistry vacationTypeRegistry) {
         this.vacationTypeRepository = vacationTypeRepository;
         this.applicationEventPublisher = applicationEventPublisher;
         this.messageSource = messageSource;
+        this.vacationTypeRegistry = vacationTypeRegistry;
     }
 
     @Override
     public Optional<VacationType<?>> getById(Long id) {
-        return Optional.of(convert(vacationTypeRepository.getReferenceById(id), messageSource));
+        return vacationTypeRegistry.getById(id)
+            .or(() -> Optional.of(convert(vacationTypeRepository.getReferenceById(id), messageSource)));
     }
 
     @Override
     public List<VacationType<?>> getAllVacationTypes() {
-        return vacationTypeRepository.findAll(Sort.by("id")).stream()
-            .map(vacationTypeEntity -> convert(vacationTypeEntity, messageSource))
-            .collect(toList());
+        return new ArrayList<>(vacationTypeRegistry.getAll());
     }
 
     @Override
     public List<VacationType<?>> getActiveVacationTypes() {
-        return vacationTypeRepository.findByActiveIsTrueOrderById().stream()
-            .map(vacationTypeEntity -> convert(vacationTypeEntity, messageSource))
-            .collect(toList());
+        return new ArrayList<>(vacationTypeRegistry.getActive());
     }
 
     @Override
     public List<VacationType<?>> getActiveVacationTypesWithoutCategory(VacationCategory vacationCategory) {
-        return getActiveVacationTypes().stream()
-            .filter(vacationType -> vacationType.getCategory() != vacationCategory)
-            .collect(toList());
+        return new ArrayList<>(vacationTypeRegistry.getActiveWithoutCategory(vacationCategory));
     }
 
     @Override
@@ -1,6 +1,8 @@
 package org.synyx.urlaubsverwaltung.calendar;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DurationUnit;
@@ -45,6 +47,9 @@ public class CalendarProperties {
     @DurationUnit(ChronoUnit.MINUTES)
     private Duration refreshInterval = Duration.ofDays(1);
 
+    @Valid
+    private FeedCache feedCache = new FeedCache();
+
     public String getOrganizer() {
         return organizer;
     }
@@ -60,4 +65,61 @@ public class CalendarProperties {
     public void setRefreshInterval(Duration refreshInterval) {
         this.refreshInterval = refreshInterval;
     }
+
+    public FeedCache getFeedCache() {
+        return feedCache;
+    }
+
+    public void setFeedCache(FeedCache feedCache) {
+        this.feedCache = feedCache;
+    }
+
+    public static class FeedCache {
+
+        /**
+         * Keeps the rendered iCal feeds in memory until an absence, person or department changes.
+         * Default is {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum count of rendered iCal feeds kept in memory. The least recently used feed is dropped first.
+         * Default is {@code 1000}.
+         */
+        @Min(1)
+        private int maxEntries = 1000;
+
+        /**
+         * Maximum time a rendered iCal feed is served. Changes made on other instances of the Urlaubsverwaltung
+         * are not noticed by this instance and are served after this time at the latest. A longer time renders
+         * the feeds less often, but serves outdated feeds for longer when running more than one instance.
+         * Default is ten seconds (PT10S).
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration timeToLive = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
 }
@@ -29,6 +29,7 @@ public class CompanyCalendarService {
     private final ICalService iCalService;
     private final PersonService personService;
     private final MessageSource messageSource;
+    private final ICalFeedCache iCalFeedCache;
     private final Clock clock;
 
     @Autowired
@@ -36,13 +37,14 @@ public class CompanyCalendarService {
         CalendarAbsenceService calendarAbsenceService,
         CompanyCalendarRepository companyCalendarRepository,
         ICalService iCalService, PersonService personService,
-        MessageSource messageSource, Clock clock
+        MessageSource messageSource, ICalFeedCache iCalFeedCache, Clock clock
     ) {
         this.calendarAbsenceService = calendarAbsenceService;
         this.companyCalendarRepository = companyCalendarRepository;
         this.iCalService = iCalService;
         this.personService = personService;
         this.messageSource = messageSource;
+        this.iCalFeedCache = iCalFeedCache;
         this.clock = clock;
     }
 
@@ -56,7 +58,10 @@ public class CompanyCalendarService {
         companyCalendar.setCalendarPeriod(calendarPeriod);
         companyCalendar.generateSecret();
 
-        return companyCalendarRepository.save(companyCalendar);
+        final CompanyCalendar savedCompanyCalendar = companyCalendarRepository.save(companyCalendar);
+        iCalFeedCache.invalidate();
+
+        return savedCompanyCalendar;
     }
 
     public Optional<CompanyCalendar> getCompanyCalendar(long personId) {
@@ -93,6 +98,7 @@ public class CompanyCalendarService {
         final Person person = getPersonOrThrow(personId);
 
         companyCalendarRepository.deleteByPerson(person);
+        iCalFeedCache.invalidate();
     }
 
     @EventListener
@@ -116,6 +122,8 @@ public class CompanyCalendarService {
                 companyCalendarRepository.deleteByPerson(person);
             }
         }
+
+        iCalFeedCache.invalidate();
     }
 
     private Person getPersonOrThrow(Long personId) {
@@ -30,13 +30,14 @@ public class DepartmentCalendarService {
     private final DepartmentCalendarRepository departmentCalendarRepository;
     private final ICalService iCalService;
     private final MessageSource messageSource;
+    private final ICalFeedCache iCalFeedCache;
     private final Clock clock;
 
     @Autowired
     DepartmentCalendarService(
         CalendarAbsenceService absenceService, DepartmentService departmentService,
         PersonService personService, DepartmentCalendarRepository departmentCalendarRepository,
-        ICalService iCalService, MessageSource messageSource, Clock clock
+        ICalService iCalService, MessageSource messageSource, ICalFeedCache iCalFeedCache, Clock clock
     ) {
         this.absenceService = absenceService;
         this.departmentService = departmentService;
@@ -44,6 +45,7 @@ public class DepartmentCalendarService {
         this.departmentCalendarRepository = departmentCalendarRepository;
         this.iCalService = iCalService;
         this.messageSource = messageSource;
+        this.iCalFeedCache = iCalFeedCache;
         this.clock = clock;
     }
 
@@ -53,6 +55,7 @@ public class DepartmentCalendarService {
         final Person person = getPersonOrThrow(personId);
 
         departmentCalendarRepository.deleteByDepartmentIdAndPerson(departmentId, person);
+        iCalFeedCache.invalidate();
     }
 
     DepartmentCalendar createCalendarForDepartmentAndPerson(long departmentId, long personId, Period calendarPeriod) {
@@ -70,7 +73,10 @@ public class DepartmentCalendarService {
         departmentCalendar.setCalendarPeriod(calendarPeriod);
         departmentCalendar.generateSecret();
 
-        return departmentCalendarRepository.save(departmentCalendar);
+        final DepartmentCalendar savedDepartmentCalendar = departmentCalendarRepository.save(departmentCalendar);
+        iCalFeedCache.invalidate();
+
+        return savedDepartmentCalendar;
     }
 
     Optional<DepartmentCalendar> getCalendarForDepartment(Long departmentId, Long personId) {
@@ -119,6 +125,7 @@ public class DepartmentCalendarService {
         final Person person = getPersonOrThrow(personId);
 
         departmentCalendarRepository.deleteByPerson(person);
+        iCalFeedCache.invalidate();
     }
 
     @EventListener
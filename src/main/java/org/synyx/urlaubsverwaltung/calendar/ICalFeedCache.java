@@ -0,0 +1,182 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedTemporarilyEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancellationRequestedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeclinedCancellationRequestEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeletedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.department.DepartmentDeletedEvent;
+import org.synyx.urlaubsverwaltung.department.DepartmentUpdatedEvent;
+import org.synyx.urlaubsverwaltung.department.PersonLeftDepartmentEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteAcceptedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCancelledEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteDeletedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteToApplicationConvertedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMPLETION;
+
+/**
+ * Keeps the rendered iCal feeds, so that calendar clients polling an unchanged feed are answered without
+ * collecting the absences and rendering the feed again.
+ *
+ * <p>
+ * Every change of an absence, a person, a department, the settings or a calendar itself invalidates all feeds of this
+ * instance. Changes made on other instances are only noticed after the time to live of a feed, therefore the time to
+ * live is short by default. A feed is rendered again on the next day at the latest, because the period of a feed is
+ * relative to today.
+ */
+@Component
+class ICalFeedCache {
+
+    enum Scope {
+        PERSON,
+        DEPARTMENT,
+        COMPANY,
+    }
+
+    record Key(Scope scope, Long departmentId, Long personId, String secret, Locale locale) {
+    }
+
+    record Feed(byte[] content, String eTag, Instant lastModified) {
+    }
+
+    private record Entry(Feed feed, long version, LocalDate renderedOn, Instant renderedAt) {
+    }
+
+    private final CalendarProperties.FeedCache properties;
+    private final Clock clock;
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Key, Entry> entries;
+
+    ICalFeedCache(CalendarProperties calendarProperties, Clock clock) {
+        this.properties = calendarProperties.getFeedCache();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > properties.getMaxEntries();
+            }
+        };
+    }
+
+    /**
+     * Returns the cached feed of the given key if it is still up-to-date, otherwise the feed is rendered and cached.
+     * Nothing is cached when the renderer throws, e.g. because the secret is invalid.
+     *
+     * @param key      of the feed
+     * @param renderer to render the feed
+     * @return the up-to-date feed
+     */
+    Feed get(Key key, Supplier<ByteArrayResource> renderer) {
+
+        final Instant now = Instant.now(clock);
+        final LocalDate today = LocalDate.now(clock);
+
+        if (!properties.isEnabled()) {
+            return toFeed(renderer.get().getByteArray(), null, now);
+        }
+
+        // the version is read before rendering, a change during rendering invalidates the rendered feed right away
+        final long currentVersion = version.get();
+
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null && entry.version() == currentVersion && entry.renderedOn().equals(today)
+            && entry.renderedAt().plus(properties.getTimeToLive()).isAfter(now)) {
+            return entry.feed();
+        }
+
+        final Feed feed = toFeed(renderer.get().getByteArray(), entry == null ? null : entry.feed(), now);
+        synchronized (entries) {
+            entries.put(key, new Entry(feed, currentVersion, today, now));
+        }
+
+        return feed;
+    }
+
+    /**
+     * Invalidates all feeds, e.g. because a calendar secret has been changed. Within a transaction the feeds are
+     * invalidated again after its completion, so that no feed rendered with uncommitted data survives.
+     */
+    void invalidate() {
+        version.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMPLETION, fallbackExecution = true, classes = {
+        ApplicationAppliedEvent.class,
+        ApplicationAllowedEvent.class,
+        ApplicationAllowedTemporarilyEvent.class,
+        ApplicationRejectedEvent.class,
+        ApplicationCancelledEvent.class,
+        ApplicationCancellationRequestedEvent.class,
+        ApplicationDeclinedCancellationRequestEvent.class,
+        ApplicationRevokedEvent.class,
+        ApplicationUpdatedEvent.class,
+        ApplicationDeletedEvent.class,
+        ApplicationCreatedFromSickNoteEvent.class,
+        SickNoteCreatedEvent.class,
+        SickNoteAcceptedEvent.class,
+        SickNoteUpdatedEvent.class,
+        SickNoteCancelledEvent.class,
+        SickNoteDeletedEvent.class,
+        SickNoteToApplicationConvertedEvent.class,
+        DepartmentUpdatedEvent.class,
+        DepartmentDeletedEvent.class,
+        PersonLeftDepartmentEvent.class,
+        PersonUpdatedEvent.class,
+        PersonDisabledEvent.class,
+        PersonDeletedEvent.class,
+        SettingsUpdatedEvent.class,
+    })
+    void onChange() {
+        invalidate();
+    }
+
+    private static Feed toFeed(byte[] content, Feed previousFeed, Instant now) {
+        final String eTag = DigestUtils.md5Hex(content);
+        if (previousFeed != null && previousFeed.eTag().equals(eTag)) {
+            return previousFeed;
+        }
+        return new Feed(content, eTag, now.truncatedTo(SECONDS));
+    }
+}
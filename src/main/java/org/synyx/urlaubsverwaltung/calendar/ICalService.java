@@ -2,13 +2,11 @@ package org.synyx.urlaubsverwaltung.calendar;
 
 import net.fortuna.ical4j.data.CalendarOutputter;
 import net.fortuna.ical4j.model.Calendar;
-import net.fortuna.ical4j.model.ParameterList;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.parameter.Cn;
 import net.fortuna.ical4j.model.property.Attendee;
 import net.fortuna.ical4j.model.property.Organizer;
 import net.fortuna.ical4j.model.property.ProdId;
-import net.fortuna.ical4j.model.property.RefreshInterval;
 import net.fortuna.ical4j.model.property.Sequence;
 import net.fortuna.ical4j.model.property.Uid;
 import net.fortuna.ical4j.model.property.XProperty;
@@ -23,42 +21,96 @@ import org.synyx.urlaubsverwaltung.user.UserSettingsService;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
+import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
+import static java.time.ZoneOffset.UTC;
 import static net.fortuna.ical4j.model.parameter.Role.REQ_PARTICIPANT;
 import static net.fortuna.ical4j.model.property.immutable.ImmutableCalScale.GREGORIAN;
 import static net.fortuna.ical4j.model.property.immutable.ImmutableMethod.CANCEL;
 import static net.fortuna.ical4j.model.property.immutable.ImmutableTransp.TRANSPARENT;
 import static net.fortuna.ical4j.model.property.immutable.ImmutableVersion.VERSION_2_0;
 import static org.synyx.urlaubsverwaltung.calendar.ICalType.CANCELLED;
-import static org.synyx.urlaubsverwaltung.calendar.ICalType.PUBLISHED;
 
 
 @Service
 public class ICalService {
 
+    private static final DateTimeFormatter ICAL_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter ICAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
     private final CalendarProperties calendarProperties;
     private final MessageSource messageSource;
     private final UserSettingsService userSettingsService;
+    private final Clock clock;
 
     @Autowired
     ICalService(
         CalendarProperties calendarProperties,
         MessageSource messageSource,
-        UserSettingsService userSettingsService
+        UserSettingsService userSettingsService,
+        Clock clock
     ) {
         this.calendarProperties = calendarProperties;
         this.messageSource = messageSource;
         this.userSettingsService = userSettingsService;
+        this.clock = clock;
     }
 
     public ByteArrayResource getCalendar(String title, List<CalendarAbsence> absences, Person recipient) {
-        final Calendar calendar = generateCalendar(title, absences, recipient);
-        return writeCalenderIntoRessource(calendar);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeCalendar(title, absences, recipient, outputStream);
+        return new ByteArrayResource(outputStream.toByteArray());
+    }
+
+    /**
+     * Writes the calendar with the given absences event by event to the given output stream, without building
+     * the calendar in memory. The output stream is flushed but not closed.
+     *
+     * @param title        of the calendar
+     * @param absences     to write as events
+     * @param recipient    of the calendar, used for the translation of the summaries
+     * @param outputStream to write the calendar to
+     */
+    public void writeCalendar(String title, List<CalendarAbsence> absences, Person recipient, OutputStream outputStream) {
+
+        final Locale locale = userSettingsService.getEffectiveLocale(List.of(recipient)).get(recipient);
+        final String dtStamp = ICAL_DATE_TIME.format(ZonedDateTime.now(clock).withZoneSameInstant(UTC));
+        final String organizer = "ORGANIZER:mailto:" + calendarProperties.getOrganizer();
+
+        // the summary only depends on the absence type and the person, so it is translated once per combination
+        final Map<Summary, String> summaries = new HashMap<>();
+
+        try {
+            final ICalWriter writer = new ICalWriter(outputStream);
+            writer.line("BEGIN:VCALENDAR");
+            writer.line("VERSION:2.0");
+            writer.line("PRODID:-//Urlaubsverwaltung//iCal4j 1.0//DE");
+            writer.line("CALSCALE:GREGORIAN");
+            writer.line("X-MICROSOFT-CALSCALE:GREGORIAN");
+            writer.text("X-WR-CALNAME", title);
+            writer.line("REFRESH-INTERVAL:" + ICalWriter.duration(calendarProperties.getRefreshInterval()));
+
+            for (CalendarAbsence absence : absences) {
+                final Person person = absence.getPerson();
+                final String summary = summaries.computeIfAbsent(new Summary(absence.getCalendarAbsenceTypeMessageKey(), person.getNiceName()),
+                    key -> getTranslation(locale, key.messageKey(), key.niceName()));
+                writeEvent(writer, absence, summary, person.equals(recipient), dtStamp, organizer);
+            }
+
+            writer.line("END:VCALENDAR");
+            writer.flush();
+        } catch (IOException e) {
+            throw new CalendarException("iCal calendar could not be written to output stream", e);
+        }
     }
 
     public ByteArrayResource getSingleAppointment(CalendarAbsence absence, ICalType method, Person recipient) {
@@ -66,13 +118,6 @@ public class ICalService {
         return writeCalenderIntoRessource(calendar);
     }
 
-    private Calendar generateCalendar(String title, List<CalendarAbsence> absences, Person recipient) {
-        final Calendar calendar = prepareCalendar(absences, PUBLISHED, recipient);
-        calendar.add(new XProperty("X-WR-CALNAME", title));
-        calendar.add(new RefreshInterval(new ParameterList(), calendarProperties.getRefreshInterval()));
-        return calendar;
-    }
-
     private Calendar generateForSingleAppointment(CalendarAbsence absence, ICalType method, Person recipient) {
         return prepareCalendar(List.of(absence), method, recipient);
     }
@@ -136,6 +181,41 @@ public class ICalService {
         return Optional.of(event);
     }
 
+    private void writeEvent(ICalWriter writer, CalendarAbsence absence, String summary, boolean isOwn, String dtStamp, String organizer) throws IOException {
+
+        final ZonedDateTime startDateTime = absence.getStartDate();
+        final ZonedDateTime endDateTime = absence.getEndDate();
+
+        writer.line("BEGIN:VEVENT");
+        writer.line("DTSTAMP:" + dtStamp);
+        if (absence.isAllDay()) {
+            writer.line("DTSTART;VALUE=DATE:" + ICAL_DATE.format(startDateTime.toLocalDate()));
+            if (!isSameDay(startDateTime, endDateTime)) {
+                writer.line("DTEND;VALUE=DATE:" + ICAL_DATE.format(endDateTime.toLocalDate()));
+            }
+        } else {
+            writer.line("DTSTART:" + ICAL_DATE_TIME.format(startDateTime.withZoneSameInstant(UTC)));
+            writer.line("DTEND:" + ICAL_DATE_TIME.format(endDateTime.withZoneSameInstant(UTC)));
+        }
+        writer.text("SUMMARY", summary);
+        if (absence.isAllDay()) {
+            writer.line("X-MICROSOFT-CDO-ALLDAYEVENT:TRUE");
+        }
+        writer.line("UID:" + generateUid(absence));
+
+        final Person person = absence.getPerson();
+        if (person.getEmail() != null) {
+            writer.line("ATTENDEE;ROLE=REQ-PARTICIPANT;CN=" + ICalWriter.parameterValue(person.getNiceName()) + ":mailto:" + person.getEmail());
+        }
+
+        if (absence.isHolidayReplacement() || !isOwn) {
+            writer.line("TRANSP:TRANSPARENT");
+        }
+
+        writer.line(organizer);
+        writer.line("END:VEVENT");
+    }
+
     private Attendee generateAttendee(CalendarAbsence absence) {
         final Attendee attendee = new Attendee(URI.create("mailto:" + absence.getPerson().getEmail()));
         attendee.add(REQ_PARTICIPANT);
@@ -168,6 +248,9 @@ public class ICalService {
         return byteArrayResource;
     }
 
+    private record Summary(String messageKey, String niceName) {
+    }
+
     private String getTranslation(Locale locale, String key, Object... args) {
         return messageSource.getMessage(key, args, locale);
     }
@@ -10,12 +10,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Locale;
+import java.util.function.Supplier;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.synyx.urlaubsverwaltung.calendar.ICalFeedCache.Scope.COMPANY;
+import static org.synyx.urlaubsverwaltung.calendar.ICalFeedCache.Scope.DEPARTMENT;
+import static org.synyx.urlaubsverwaltung.calendar.ICalFeedCache.Scope.PERSON;
 
 @Hidden
 @Controller
@@ -25,70 +31,71 @@ public class ICalViewController {
     private final PersonCalendarService personCalendarService;
     private final DepartmentCalendarService departmentCalendarService;
     private final CompanyCalendarService companyCalendarService;
+    private final ICalFeedCache iCalFeedCache;
 
     @Autowired
     ICalViewController(
         PersonCalendarService personCalendarService,
         DepartmentCalendarService departmentCalendarService,
-        CompanyCalendarService companyCalendarService
+        CompanyCalendarService companyCalendarService,
+        ICalFeedCache iCalFeedCache
     ) {
         this.personCalendarService = personCalendarService;
         this.departmentCalendarService = departmentCalendarService;
         this.companyCalendarService = companyCalendarService;
+        this.iCalFeedCache = iCalFeedCache;
     }
 
     @GetMapping("/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForPerson(Locale locale, HttpServletResponse response, @PathVariable Long personId, @RequestParam String secret) {
+    public String getCalendarForPerson(Locale locale, WebRequest webRequest, HttpServletResponse response, @PathVariable Long personId, @RequestParam String secret) {
 
-        final ByteArrayResource iCal;
-        try {
-            iCal = personCalendarService.getCalendarForPerson(personId, secret, locale);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(BAD_REQUEST, "Could not generate person calendar");
-        } catch (CalendarException e) {
-            throw new ResponseStatusException(NO_CONTENT);
-        }
+        final ICalFeedCache.Key key = new ICalFeedCache.Key(PERSON, null, personId, secret, locale);
+        final ICalFeedCache.Feed iCal = getFeed(key, () -> personCalendarService.getCalendarForPerson(personId, secret, locale), "Could not generate person calendar");
 
-        setContentTypeAndHeaders(response);
-
-        return new String(iCal.getByteArray());
+        return toResponse(iCal, webRequest, response);
     }
 
     @GetMapping("/departments/{departmentId}/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForDepartment(Locale locale, HttpServletResponse response, @PathVariable Long departmentId, @PathVariable Long personId, @RequestParam String secret) {
+    public String getCalendarForDepartment(Locale locale, WebRequest webRequest, HttpServletResponse response, @PathVariable Long departmentId, @PathVariable Long personId, @RequestParam String secret) {
 
-        final ByteArrayResource iCal;
-        try {
-            iCal = departmentCalendarService.getCalendarForDepartment(departmentId, personId, secret, locale);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(BAD_REQUEST, "Could not generate department calendar");
-        } catch (CalendarException e) {
-            throw new ResponseStatusException(NO_CONTENT);
-        }
-
-        setContentTypeAndHeaders(response);
+        final ICalFeedCache.Key key = new ICalFeedCache.Key(DEPARTMENT, departmentId, personId, secret, locale);
+        final ICalFeedCache.Feed iCal = getFeed(key, () -> departmentCalendarService.getCalendarForDepartment(departmentId, personId, secret, locale), "Could not generate department calendar");
 
-        return new String(iCal.getByteArray());
+        return toResponse(iCal, webRequest, response);
     }
 
     @GetMapping("/company/persons/{personId}/calendar")
     @ResponseBody
-    public String getCalendarForCompany(Locale locale, HttpServletResponse response, @PathVariable Long personId, @RequestParam String secret) {
+    public String getCalendarForCompany(Locale locale, WebRequest webRequest, HttpServletResponse response, @PathVariable Long personId, @RequestParam String secret) {
+
+        final ICalFeedCache.Key key = new ICalFeedCache.Key(COMPANY, null, personId, secret, locale);
+        final ICalFeedCache.Feed iCal = getFeed(key, () -> companyCalendarService.getCalendarForAll(personId, secret, locale), "Could not generate company calendar");
+
+        return toResponse(iCal, webRequest, response);
+    }
 
-        final ByteArrayResource iCal;
+    private ICalFeedCache.Feed getFeed(ICalFeedCache.Key key, Supplier<ByteArrayResource> renderer, String badRequestReason) {
         try {
-            iCal = companyCalendarService.getCalendarForAll(personId, secret, locale);
+            return iCalFeedCache.get(key, renderer);
         } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(BAD_REQUEST, "Could not generate company calendar");
+            throw new ResponseStatusException(BAD_REQUEST, badRequestReason);
         } catch (CalendarException e) {
             throw new ResponseStatusException(NO_CONTENT);
         }
+    }
+
+    private String toResponse(ICalFeedCache.Feed iCal, WebRequest webRequest, HttpServletResponse response) {
+
+        // calendar clients poll the feeds, an unchanged feed is answered with 304 and without a body
+        if (webRequest.checkNotModified(iCal.eTag(), iCal.lastModified().toEpochMilli())) {
+            return null;
+        }
 
         setContentTypeAndHeaders(response);
 
-        return new String(iCal.getByteArray());
+        return new String(iCal.content(), UTF_8);
     }
 
     private void setContentTypeAndHeaders(HttpServletResponse response) {
@@ -0,0 +1,120 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.time.Duration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes iCalendar content lines (RFC 5545) to an {@link OutputStream} without holding the whole calendar in memory.
+ * Lines are terminated with CRLF and folded after 75 octets.
+ */
+final class ICalWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+
+    ICalWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+    }
+
+    /**
+     * Writes the given content line as it is, folded if it exceeds the maximum line length.
+     *
+     * @param line content line without line break
+     */
+    void line(String line) throws IOException {
+        int lineOctets = 0;
+        int index = 0;
+        while (index < line.length()) {
+            final int codePoint = line.codePointAt(index);
+            final int octets = utf8Octets(codePoint);
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                writer.write(CRLF);
+                writer.write(' ');
+                lineOctets = 1;
+            }
+            writer.write(line, index, Character.charCount(codePoint));
+            lineOctets += octets;
+            index += Character.charCount(codePoint);
+        }
+        writer.write(CRLF);
+    }
+
+    /**
+     * Writes a property with a value of type TEXT, escaping the value.
+     */
+    void text(String name, String value) throws IOException {
+        line(name + ":" + escapeText(value));
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    static String escapeText(String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    // line breaks are written as \n
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    static String parameterValue(String value) {
+        final String withoutQuotes = value.replace("\"", "");
+        if (withoutQuotes.indexOf(':') >= 0 || withoutQuotes.indexOf(';') >= 0 || withoutQuotes.indexOf(',') >= 0) {
+            return "\"" + withoutQuotes + "\"";
+        }
+        return withoutQuotes;
+    }
+
+    static String duration(Duration duration) {
+        final StringBuilder value = new StringBuilder(duration.isNegative() ? "-P" : "P");
+        final Duration absolute = duration.abs();
+        final long days = absolute.toDays();
+        if (days > 0) {
+            value.append(days).append('D');
+        }
+        final Duration time = absolute.minusDays(days);
+        if (!time.isZero() || days == 0) {
+            value.append('T');
+            if (time.toHoursPart() > 0) {
+                value.append(time.toHoursPart()).append('H');
+            }
+            if (time.toMinutesPart() > 0) {
+                value.append(time.toMinutesPart()).append('M');
+            }
+            if (time.toSecondsPart() > 0 || time.isZero()) {
+                value.append(time.toSecondsPart()).append('S');
+            }
+        }
+        return value.toString();
+    }
+
+    private static int utf8Octets(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        }
+        return 4;
+    }
+}
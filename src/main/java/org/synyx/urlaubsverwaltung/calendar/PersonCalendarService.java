@@ -27,19 +27,21 @@ public class PersonCalendarService {
     private final PersonCalendarRepository personCalendarRepository;
     private final ICalService iCalService;
     private final MessageSource messageSource;
+    private final ICalFeedCache iCalFeedCache;
     private final Clock clock;
 
     @Autowired
     PersonCalendarService(
         CalendarAbsenceService absenceService, PersonService personService,
         PersonCalendarRepository personCalendarRepository, ICalService iCalService,
-        MessageSource messageSource, Clock clock
+        MessageSource messageSource, ICalFeedCache iCalFeedCache, Clock clock
     ) {
         this.absenceService = absenceService;
         this.personService = personService;
         this.personCalendarRepository = personCalendarRepository;
         this.iCalService = iCalService;
         this.messageSource = messageSource;
+        this.iCalFeedCache = iCalFeedCache;
         this.clock = clock;
     }
 
@@ -53,7 +55,10 @@ public class PersonCalendarService {
         personCalendar.setCalendarPeriod(calendarPeriod);
         personCalendar.generateSecret();
 
-        return personCalendarRepository.save(personCalendar);
+        final PersonCalendar savedPersonCalendar = personCalendarRepository.save(personCalendar);
+        iCalFeedCache.invalidate();
+
+        return savedPersonCalendar;
     }
 
     public Optional<PersonCalendar> getPersonCalendar(Long personId) {
@@ -94,6 +99,7 @@ public class PersonCalendarService {
         final Person person = getPersonOrThrow(personId);
 
         personCalendarRepository.deleteByPerson(person);
+        iCalFeedCache.invalidate();
     }
 
     @EventListener
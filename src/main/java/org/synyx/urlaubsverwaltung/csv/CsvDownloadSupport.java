@@ -0,0 +1,55 @@
+package org.synyx.urlaubsverwaltung.csv;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.synyx.urlaubsverwaltung.search.PageStreamSupport;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.synyx.urlaubsverwaltung.search.PersonSortSupport.isSortByPersonAttribute;
+
+/**
+ * Shared parts of the csv download of all elements of a paged overview.
+ */
+public class CsvDownloadSupport {
+
+    private CsvDownloadSupport() {
+        // Utility classes should not have public constructors java:S1118
+    }
+
+    /**
+     * Streams all elements for the csv download. Elements sorted by person attributes are loaded page by page,
+     * as their persons are sorted by the database. Any other sort requires all elements at once.
+     *
+     * @param sort       of the elements
+     * @param pageLoader loads a page of the elements
+     * @param <T>        type of the elements
+     * @return all elements in the given sort
+     */
+    public static <T> Stream<T> streamAll(Sort sort, Function<PageableSearchQuery, Page<T>> pageLoader) {
+        if (isSortByPersonAttribute(sort)) {
+            return PageStreamSupport.stream(pageable -> pageLoader.apply(new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort))));
+        }
+
+        return pageLoader.apply(new PageableSearchQuery(PageRequest.of(0, MAX_VALUE, sort))).stream();
+    }
+
+    /**
+     * @param fileName of the csv file
+     * @return response headers for downloading a csv file with the given name
+     */
+    public static HttpHeaders csvHeaders(String fileName) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("text", "csv", UTF_8));
+        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(fileName, UTF_8).build());
+        return headers;
+    }
+}
@@ -0,0 +1,76 @@
+package org.synyx.urlaubsverwaltung.csv;
+
+import com.opencsv.CSVWriter;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
+import static com.opencsv.ICSVWriter.DEFAULT_QUOTE_CHARACTER;
+import static com.opencsv.ICSVWriter.NO_QUOTE_CHARACTER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link CsvExportService} that is able to write the csv directly into the response
+ * without holding the whole file or all of its data in memory.
+ */
+public interface StreamingCsvExportService<T> extends CsvExportService<T> {
+
+    /**
+     * Writes the header rows into the csv writer
+     *
+     * @param period    to add period to csv
+     * @param locale    for i18n (messages and number formats)
+     * @param csvWriter to write the header rows to
+     */
+    void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter);
+
+    /**
+     * Writes the rows of the given data into the csv writer. The data is consumed only once.
+     *
+     * @param period    to add period to csv
+     * @param locale    for i18n (messages and number formats)
+     * @param data      are the main information for the csv
+     * @param csvWriter to write the rows to
+     */
+    void writeRows(FilterPeriod period, Locale locale, Stream<T> data, CSVWriter csvWriter);
+
+    @Override
+    default void write(FilterPeriod period, Locale locale, List<T> data, CSVWriter csvWriter) {
+        writeHeader(period, locale, csvWriter);
+        writeRows(period, locale, data.stream(), csvWriter);
+    }
+
+    /**
+     * Retrieves a {@link StreamingCSVFile} containing the filename and the response body.
+     * The data stream is consumed and closed not before the response body is written.
+     *
+     * @param period will be used to create the content of the csv file
+     * @param data   will be used to create the content of the csv file
+     * @return a {@link StreamingCSVFile} containing the filename and the response body
+     */
+    default StreamingCSVFile generateStreamingCSV(FilterPeriod period, Locale locale, Stream<T> data) {
+        return new StreamingCSVFile(fileName(period, locale), outputStream -> writeTo(outputStream, period, locale, data));
+    }
+
+    private void writeTo(OutputStream outputStream, FilterPeriod period, Locale locale, Stream<T> data) throws IOException {
+        outputStream.write(bom());
+
+        // the servlet output stream is closed by the container, therefore only flush the writer
+        final CSVWriter csvWriter = new CSVWriter(new OutputStreamWriter(outputStream, UTF_8), separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END);
+        try (data) {
+            writeHeader(period, locale, csvWriter);
+            writeRows(period, locale, data, csvWriter);
+        }
+
+        csvWriter.flush();
+        if (csvWriter.checkError()) {
+            throw new IOException("csv data could not be written to response", csvWriter.getException());
+        }
+    }
+}
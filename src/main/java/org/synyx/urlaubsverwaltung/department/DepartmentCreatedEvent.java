@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DepartmentCreatedEvent(UUID id, Instant createdAt, Department department) {
+
+    public static DepartmentCreatedEvent of(Department department) {
+        return new DepartmentCreatedEvent(UUID.randomUUID(), Instant.now(), department);
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Fetch;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
 
@@ -21,6 +22,7 @@ import java.util.Objects;
 import static jakarta.persistence.FetchType.EAGER;
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.time.ZoneOffset.UTC;
+import static org.hibernate.annotations.FetchMode.SUBSELECT;
 
 @Entity(name = "department")
 public class DepartmentEntity extends AbstractTenantAwareEntity {
@@ -46,13 +48,16 @@ public class DepartmentEntity extends AbstractTenantAwareEntity {
 
     @CollectionTable(name = "department_member", joinColumns = @JoinColumn(name = "department_id"))
     @ElementCollection(fetch = EAGER)
+    @Fetch(SUBSELECT)
     private List<DepartmentMemberEmbeddable> members = new ArrayList<>();
 
     @OneToMany(fetch = EAGER)
+    @Fetch(SUBSELECT)
     @CollectionTable(name = "department_department_head")
     private List<Person> departmentHeads = new ArrayList<>();
 
     @OneToMany(fetch = EAGER)
+    @Fetch(SUBSELECT)
     @CollectionTable(name = "department_second_stage_authority")
     private List<Person> secondStageAuthorities = new ArrayList<>();
 
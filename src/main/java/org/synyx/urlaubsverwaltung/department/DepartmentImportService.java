@@ -6,16 +6,20 @@ import org.springframework.stereotype.Service;
 public class DepartmentImportService {
 
     private final DepartmentRepository departmentRepository;
+    private final OrganisationGraphRegistry organisationGraphRegistry;
 
-    DepartmentImportService(DepartmentRepository departmentRepository) {
+    DepartmentImportService(DepartmentRepository departmentRepository, OrganisationGraphRegistry organisationGraphRegistry) {
         this.departmentRepository = departmentRepository;
+        this.organisationGraphRegistry = organisationGraphRegistry;
     }
 
     public void deleteAll() {
         departmentRepository.deleteAll();
+        organisationGraphRegistry.invalidate();
     }
 
     public void importDepartment(DepartmentEntity departmentEntity) {
         departmentRepository.save(departmentEntity);
+        organisationGraphRegistry.invalidate();
     }
 }
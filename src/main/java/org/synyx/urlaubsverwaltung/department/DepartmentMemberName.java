@@ -0,0 +1,10 @@
+package org.synyx.urlaubsverwaltung.department;
+
+/**
+ * Name of a department a person is member of.
+ *
+ * @param personId       id of the member
+ * @param departmentName name of the department
+ */
+record DepartmentMemberName(Long personId, String departmentName) {
+}
@@ -0,0 +1,10 @@
+package org.synyx.urlaubsverwaltung.department;
+
+/**
+ * Number of members of a department.
+ *
+ * @param departmentId id of the department
+ * @param membersCount number of members
+ */
+record DepartmentMembersCount(Long departmentId, Long membersCount) {
+}
@@ -0,0 +1,10 @@
+package org.synyx.urlaubsverwaltung.department;
+
+/**
+ * Assignment of a person to a department, e.g. as member or department head, by ids only.
+ *
+ * @param departmentId id of the department
+ * @param personId     id of the assigned person
+ */
+record DepartmentPersonLink(Long departmentId, Long personId) {
+}
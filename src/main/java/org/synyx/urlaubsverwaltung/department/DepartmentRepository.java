@@ -1,8 +1,12 @@
 package org.synyx.urlaubsverwaltung.department;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.Role;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,7 +24,37 @@ interface DepartmentRepository extends JpaRepository<DepartmentEntity, Long> {
 
     List<DepartmentEntity> findByMembersPerson(Person person);
 
-    List<DepartmentEntity> findDistinctByMembersPersonIn(List<Person> person);
-
     Optional<DepartmentEntity> findFirstByName(String departmentName);
+
+    @Query("select new org.synyx.urlaubsverwaltung.department.DepartmentPersonLink(d.id, m.person.id) from department d join d.members m")
+    List<DepartmentPersonLink> findAllMemberLinks();
+
+    @Query("select new org.synyx.urlaubsverwaltung.department.DepartmentPersonLink(d.id, h.id) from department d join d.departmentHeads h")
+    List<DepartmentPersonLink> findAllDepartmentHeadLinks();
+
+    @Query("select new org.synyx.urlaubsverwaltung.department.DepartmentPersonLink(d.id, s.id) from department d join d.secondStageAuthorities s")
+    List<DepartmentPersonLink> findAllSecondStageAuthorityLinks();
+
+    @Query("""
+        select new org.synyx.urlaubsverwaltung.department.DepartmentMemberName(m.person.id, d.name)
+        from department d join d.members m
+        where m.person.id in :personIds
+        order by lower(d.name)
+        """)
+    List<DepartmentMemberName> findDepartmentNamesByMemberIds(@Param("personIds") Collection<Long> personIds);
+
+    @Query("""
+        select new org.synyx.urlaubsverwaltung.department.DepartmentSummaryRow(d.id, d.name, d.description, d.lastModification, d.twoStageApproval, count(m.person.id))
+        from department d left join d.members m
+        group by d.id, d.name, d.description, d.lastModification, d.twoStageApproval
+        """)
+    List<DepartmentSummaryRow> findAllSummaryRows();
+
+    @Query("""
+        select new org.synyx.urlaubsverwaltung.department.DepartmentMembersCount(d.id, count(p.id))
+        from department d join d.members m join m.person p join p.permissions permission
+        where permission = :role
+        group by d.id
+        """)
+    List<DepartmentMembersCount> countMembersWithRole(@Param("role") Role role);
 }
@@ -68,6 +68,14 @@ public interface DepartmentService {
      */
     List<Department> getAllDepartments();
 
+    /**
+     * Returns all departments without loading their members, e.g. to list the departments or to offer them
+     * in a filter. Use {@link #getAllDepartments()} if the members are needed.
+     *
+     * @return summaries of all departments ordered by the department name
+     */
+    List<DepartmentSummary> getAllDepartmentSummaries();
+
     /**
      * Finds all departments the given person is member of.
      *
@@ -263,8 +271,8 @@ public interface DepartmentService {
     /**
      * Get all department names for the given persons as a map.
      *
-     * @param persons
-     * @return a map of personId mapped to department names
+     * @param persons to get the department names of
+     * @return a map of personId mapped to department names ordered by name, persons without department are missing
      */
     Map<PersonId, List<String>> getDepartmentNamesByMembers(List<Person> persons);
 
@@ -20,27 +20,30 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.Comparator.comparing;
 import static java.util.function.Predicate.isEqual;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 
@@ -53,13 +56,16 @@ class DepartmentServiceImpl implements DepartmentService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final DepartmentRepository departmentRepository;
+    private final OrganisationGraphRegistry organisationGraphRegistry;
     private final ApplicationService applicationService;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
     @Autowired
-    DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
+    DepartmentServiceImpl(DepartmentRepository departmentRepository, OrganisationGraphRegistry organisationGraphRegistry,
+                          ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
         this.departmentRepository = departmentRepository;
+        this.organisationGraphRegistry = organisationGraphRegistry;
         this.applicationService = applicationService;
         this.applicationEventPublisher = applicationEventPublisher;
         this.clock = clock;
@@ -73,19 +79,18 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public List<Person> getManagedActiveMembersOfPerson(Person person) {
 
-        final List<DepartmentEntity> departments;
+        final OrganisationGraph organisationGraph = organisationGraphRegistry.get();
 
-        if (person.hasRole(DEPARTMENT_HEAD) && person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person);
-        } else if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments = departmentRepository.findByDepartmentHeads(person);
-        } else if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findBySecondStageAuthorities(person);
-        } else {
-            departments = List.of();
+        final Set<Long> departmentIds = new HashSet<>();
+        if (person.hasRole(DEPARTMENT_HEAD)) {
+            departmentIds.addAll(organisationGraph.getDepartmentHeadDepartmentIds(person.getId()));
         }
 
-        return departments.stream()
+        if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
+            departmentIds.addAll(organisationGraph.getSecondStageAuthorityDepartmentIds(person.getId()));
+        }
+
+        return findAllById(departmentIds).stream()
             .map(DepartmentEntity::getMembers)
             .flatMap(List::stream)
             .map(DepartmentMemberEmbeddable::getPerson)
@@ -179,9 +184,11 @@ class DepartmentServiceImpl implements DepartmentService {
         departmentEntity.setMembers(departmentMembers);
 
         final DepartmentEntity createdDepartmentEntity = departmentRepository.save(departmentEntity);
+        organisationGraphRegistry.invalidate();
         final Department createdDepartment = mapToDepartment(createdDepartmentEntity);
 
         LOG.info("Created department: {}", createdDepartment);
+        applicationEventPublisher.publishEvent(DepartmentCreatedEvent.of(createdDepartment));
 
         return createdDepartment;
     }
@@ -201,10 +208,12 @@ class DepartmentServiceImpl implements DepartmentService {
         departmentEntity.setMembers(departmentMembers);
 
         final DepartmentEntity updatedDepartmentEntity = departmentRepository.save(departmentEntity);
+        organisationGraphRegistry.invalidate();
         final Department updatedDepartment = mapToDepartment(updatedDepartmentEntity);
         sendMemberLeftDepartmentEvent(department, currentDepartmentEntity);
 
         LOG.info("Updated department: {}", updatedDepartment);
+        applicationEventPublisher.publishEvent(DepartmentUpdatedEvent.of(updatedDepartment));
 
         return updatedDepartment;
     }
@@ -272,6 +281,8 @@ class DepartmentServiceImpl implements DepartmentService {
 
         if (this.departmentExists(departmentId)) {
             departmentRepository.deleteById(departmentId);
+            organisationGraphRegistry.invalidate();
+            applicationEventPublisher.publishEvent(DepartmentDeletedEvent.of(departmentId));
         } else {
             LOG.info("No department found for ID = {}, deletion is not necessary.", departmentId);
         }
@@ -285,6 +296,25 @@ class DepartmentServiceImpl implements DepartmentService {
             .toList();
     }
 
+    @Override
+    public List<DepartmentSummary> getAllDepartmentSummaries() {
+
+        final Map<Long, Long> inactiveMembersCounts = departmentRepository.countMembersWithRole(INACTIVE).stream()
+            .collect(toMap(DepartmentMembersCount::departmentId, DepartmentMembersCount::membersCount));
+
+        final Map<Long, List<Long>> departmentHeadIds = departmentRepository.findAllDepartmentHeadLinks().stream()
+            .collect(groupingBy(DepartmentPersonLink::departmentId, mapping(DepartmentPersonLink::personId, toList())));
+
+        return departmentRepository.findAllSummaryRows().stream()
+            .map(row -> {
+                final long inactiveMembersCount = inactiveMembersCounts.getOrDefault(row.id(), 0L);
+                return new DepartmentSummary(row.id(), row.name(), row.description(), row.lastModification(), row.twoStageApproval(),
+                    row.membersCount() - inactiveMembersCount, inactiveMembersCount, departmentHeadIds.getOrDefault(row.id(), List.of()));
+            })
+            .sorted(comparing(departmentSummary -> departmentSummary.name().toLowerCase()))
+            .toList();
+    }
+
     @Override
     public List<Department> getAssignedDepartmentsOfMember(Person member) {
         return departmentRepository.findByMembersPerson(member).stream()
@@ -316,19 +346,19 @@ class DepartmentServiceImpl implements DepartmentService {
             return getAllDepartments();
         }
 
-        final List<Department> departments = new ArrayList<>();
+        final OrganisationGraph organisationGraph = organisationGraphRegistry.get();
+
+        final Set<Long> departmentIds = new HashSet<>(organisationGraph.getMemberDepartmentIds(person.getId()));
         if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments.addAll(getManagedDepartmentsOfSecondStageAuthority(person));
+            departmentIds.addAll(organisationGraph.getSecondStageAuthorityDepartmentIds(person.getId()));
         }
 
         if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments.addAll(getManagedDepartmentsOfDepartmentHead(person));
+            departmentIds.addAll(organisationGraph.getDepartmentHeadDepartmentIds(person.getId()));
         }
 
-        departments.addAll(getAssignedDepartmentsOfMember(person));
-
-        return departments.stream()
-            .distinct()
+        return findAllById(departmentIds).stream()
+            .map(this::mapToDepartment)
             .sorted(departmentComparator())
             .toList();
     }
@@ -356,9 +386,11 @@ class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public List<Person> getMembersForDepartmentHead(Person departmentHead) {
-        return getManagedDepartmentsOfDepartmentHead(departmentHead).stream()
-            .map(Department::getMembers)
+        final Set<Long> departmentIds = organisationGraphRegistry.get().getDepartmentHeadDepartmentIds(departmentHead.getId());
+        return findAllById(departmentIds).stream()
+            .map(DepartmentEntity::getMembers)
             .flatMap(List::stream)
+            .map(DepartmentMemberEmbeddable::getPerson)
             .distinct()
             .toList();
     }
@@ -375,7 +407,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isDepartmentHeadAllowedToManagePerson(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getManagedMembersOfDepartmentHead(departmentHead).contains(person);
+            return organisationGraphRegistry.get().isManagedByDepartmentHead(departmentHead.getId(), person.getId());
         }
 
         return false;
@@ -393,7 +425,7 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean isSecondStageAuthorityAllowedToManagePerson(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getManagedMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return organisationGraphRegistry.get().isMemberOfDepartmentOfSecondStageAuthority(secondStageAuthority.getId(), person.getId());
         }
 
         return false;
@@ -435,25 +467,20 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public Map<PersonId, List<String>> getDepartmentNamesByMembers(List<Person> persons) {
 
-        final Map<List<Person>, List<Department>> personDepartmentList = departmentRepository.findDistinctByMembersPersonIn(persons).stream()
-            .map(this::mapToDepartment)
-            .collect(groupingBy(Department::getMembers));
+        final Set<Long> personIds = persons.stream()
+            .map(Person::getId)
+            .filter(Objects::nonNull)
+            .collect(toSet());
 
         final Map<PersonId, List<String>> departmentsByPerson = new HashMap<>();
-        personDepartmentList.forEach((personList, departmentList) -> {
-
-            final List<String> departmentNames = departmentList.stream()
-                .map(Department::getName)
-                .toList();
+        if (personIds.isEmpty()) {
+            return departmentsByPerson;
+        }
 
-            personList.forEach(person -> {
-                if (persons.contains(person)) {
-                    final PersonId personId = new PersonId(person.getId());
-                    final List<String> bucket = departmentsByPerson.getOrDefault(personId, List.of());
-                    departmentsByPerson.put(personId, merge(departmentNames, bucket));
-                }
-            });
-        });
+        for (DepartmentMemberName departmentMemberName : departmentRepository.findDepartmentNamesByMemberIds(personIds)) {
+            departmentsByPerson.computeIfAbsent(new PersonId(departmentMemberName.personId()), personId -> new ArrayList<>())
+                .add(departmentMemberName.departmentName());
+        }
 
         return departmentsByPerson;
     }
@@ -478,10 +505,6 @@ class DepartmentServiceImpl implements DepartmentService {
         return personDepartments.stream().anyMatch(otherPersonDepartments::contains);
     }
 
-    private static List<String> merge(Collection<String> departmentNames, Collection<String> bucket) {
-        return Stream.concat(bucket.stream(), departmentNames.stream()).toList();
-    }
-
     private Predicate<Person> isNotSecondStageIn(Department department) {
         return person -> !department.getSecondStageAuthorities().contains(person);
     }
@@ -601,7 +624,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isSecondStageAuthorityAllowedToAccessPersonData(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return organisationGraphRegistry.get().isMemberOfDepartmentOfSecondStageAuthority(secondStageAuthority.getId(), person.getId());
         }
 
         return false;
@@ -609,7 +632,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isDepartmentHeadAllowedToAccessPersonData(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getMembersForDepartmentHead(departmentHead).contains(person);
+            return organisationGraphRegistry.get().isMemberOfDepartmentOfDepartmentHead(departmentHead.getId(), person.getId());
         }
 
         return false;
@@ -622,4 +645,9 @@ class DepartmentServiceImpl implements DepartmentService {
     private Comparator<Department> departmentComparator() {
         return comparing(department -> department.getName().toLowerCase());
     }
+
+    private List<DepartmentEntity> findAllById(Set<Long> departmentIds) {
+        // the organisation graph already knows whether there is anything to load
+        return departmentIds.isEmpty() ? List.of() : departmentRepository.findAllById(departmentIds);
+    }
 }
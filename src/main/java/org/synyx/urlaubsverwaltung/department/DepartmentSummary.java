@@ -0,0 +1,52 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
+
+/**
+ * Lightweight view of a {@link Department} without its members, e.g. to list departments or to offer them
+ * in a filter. Loading summaries does not load any person.
+ *
+ * @param id                   id of the department
+ * @param name                 name of the department
+ * @param description          description of the department
+ * @param lastModification     date of the last modification
+ * @param twoStageApproval     whether applications for leave of members need two approvals
+ * @param activeMembersCount   number of active members
+ * @param inactiveMembersCount number of inactive members
+ * @param departmentHeadIds    ids of the department heads
+ */
+public record DepartmentSummary(
+    Long id,
+    String name,
+    String description,
+    LocalDate lastModification,
+    boolean twoStageApproval,
+    long activeMembersCount,
+    long inactiveMembersCount,
+    List<Long> departmentHeadIds
+) {
+
+    /**
+     * @param department with loaded members
+     * @return the summary of the given department
+     */
+    public static DepartmentSummary of(Department department) {
+        final long inactiveMembersCount = department.getMembers().stream().filter(member -> member.hasRole(INACTIVE)).count();
+        return new DepartmentSummary(department.getId(), department.getName(), department.getDescription(),
+            department.getLastModification(), department.isTwoStageApproval(),
+            department.getMembers().size() - inactiveMembersCount, inactiveMembersCount,
+            department.getDepartmentHeads().stream().map(Person::getId).toList());
+    }
+
+    /**
+     * @return number of all members, active and inactive
+     */
+    public long membersCount() {
+        return activeMembersCount + inactiveMembersCount;
+    }
+}
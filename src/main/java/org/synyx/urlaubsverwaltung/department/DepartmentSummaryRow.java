@@ -0,0 +1,16 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import java.time.LocalDate;
+
+/**
+ * Columns of a department and the number of its members, as selected for a {@link DepartmentSummary}.
+ */
+record DepartmentSummaryRow(
+    Long id,
+    String name,
+    String description,
+    LocalDate lastModification,
+    boolean twoStageApproval,
+    Long membersCount
+) {
+}
@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DepartmentUpdatedEvent(UUID id, Instant createdAt, Department department) {
+
+    public static DepartmentUpdatedEvent of(Department department) {
+        return new DepartmentUpdatedEvent(UUID.randomUUID(), Instant.now(), department);
+    }
+}
@@ -0,0 +1,134 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the department assignments of all persons by ids. Every person of the snapshot gets a dense
+ * index, so that the members and second stage authorities of a department are kept as bit sets of these indices.
+ */
+final class OrganisationGraph {
+
+    private final long version;
+    private final Map<Long, Integer> personIndices;
+    private final Map<Long, Set<Long>> memberDepartments;
+    private final Map<Long, Set<Long>> departmentHeadDepartments;
+    private final Map<Long, Set<Long>> secondStageAuthorityDepartments;
+    private final Map<Long, BitSet> members;
+    private final Map<Long, BitSet> secondStageAuthorities;
+
+    private OrganisationGraph(long version, Map<Long, Integer> personIndices,
+                              Map<Long, Set<Long>> memberDepartments, Map<Long, Set<Long>> departmentHeadDepartments,
+                              Map<Long, Set<Long>> secondStageAuthorityDepartments,
+                              Map<Long, BitSet> members, Map<Long, BitSet> secondStageAuthorities) {
+        this.version = version;
+        this.personIndices = personIndices;
+        this.memberDepartments = memberDepartments;
+        this.departmentHeadDepartments = departmentHeadDepartments;
+        this.secondStageAuthorityDepartments = secondStageAuthorityDepartments;
+        this.members = members;
+        this.secondStageAuthorities = secondStageAuthorities;
+    }
+
+    static OrganisationGraph of(long version, Collection<DepartmentPersonLink> memberLinks,
+                                Collection<DepartmentPersonLink> departmentHeadLinks,
+                                Collection<DepartmentPersonLink> secondStageAuthorityLinks) {
+
+        final Map<Long, Integer> personIndices = new HashMap<>();
+        final Map<Long, BitSet> members = bitSetsByDepartment(memberLinks, personIndices);
+        final Map<Long, BitSet> secondStageAuthorities = bitSetsByDepartment(secondStageAuthorityLinks, personIndices);
+
+        return new OrganisationGraph(version, Map.copyOf(personIndices),
+            departmentsByPerson(memberLinks), departmentsByPerson(departmentHeadLinks), departmentsByPerson(secondStageAuthorityLinks),
+            members, secondStageAuthorities);
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * @param personId id of the person
+     * @return ids of the departments the person is member of
+     */
+    Set<Long> getMemberDepartmentIds(Long personId) {
+        return personId == null ? Set.of() : memberDepartments.getOrDefault(personId, Set.of());
+    }
+
+    /**
+     * @param personId id of the person
+     * @return ids of the departments the person is department head of
+     */
+    Set<Long> getDepartmentHeadDepartmentIds(Long personId) {
+        return personId == null ? Set.of() : departmentHeadDepartments.getOrDefault(personId, Set.of());
+    }
+
+    /**
+     * @param personId id of the person
+     * @return ids of the departments the person is second stage authority of
+     */
+    Set<Long> getSecondStageAuthorityDepartmentIds(Long personId) {
+        return personId == null ? Set.of() : secondStageAuthorityDepartments.getOrDefault(personId, Set.of());
+    }
+
+    /**
+     * @return {@code true} if the person is member of at least one department of the department head
+     */
+    boolean isMemberOfDepartmentOfDepartmentHead(Long departmentHeadId, Long personId) {
+        final Integer personIndex = personIndex(personId);
+        return personIndex != null && getDepartmentHeadDepartmentIds(departmentHeadId).stream()
+            .anyMatch(departmentId -> isSet(members, departmentId, personIndex));
+    }
+
+    /**
+     * @return {@code true} if the person is member of at least one department of the department head and
+     * not second stage authority of this department
+     */
+    boolean isManagedByDepartmentHead(Long departmentHeadId, Long personId) {
+        final Integer personIndex = personIndex(personId);
+        return personIndex != null && getDepartmentHeadDepartmentIds(departmentHeadId).stream()
+            .anyMatch(departmentId -> isSet(members, departmentId, personIndex) && !isSet(secondStageAuthorities, departmentId, personIndex));
+    }
+
+    /**
+     * @return {@code true} if the person is member of at least one department of the second stage authority
+     */
+    boolean isMemberOfDepartmentOfSecondStageAuthority(Long secondStageAuthorityId, Long personId) {
+        final Integer personIndex = personIndex(personId);
+        return personIndex != null && getSecondStageAuthorityDepartmentIds(secondStageAuthorityId).stream()
+            .anyMatch(departmentId -> isSet(members, departmentId, personIndex));
+    }
+
+    private Integer personIndex(Long personId) {
+        return personId == null ? null : personIndices.get(personId);
+    }
+
+    private static boolean isSet(Map<Long, BitSet> bitSets, Long departmentId, int personIndex) {
+        final BitSet bitSet = bitSets.get(departmentId);
+        return bitSet != null && bitSet.get(personIndex);
+    }
+
+    private static Map<Long, BitSet> bitSetsByDepartment(Collection<DepartmentPersonLink> links, Map<Long, Integer> personIndices) {
+        final Map<Long, BitSet> bitSets = new HashMap<>();
+        for (DepartmentPersonLink link : links) {
+            final int personIndex = personIndices.computeIfAbsent(link.personId(), personId -> personIndices.size());
+            bitSets.computeIfAbsent(link.departmentId(), departmentId -> new BitSet()).set(personIndex);
+        }
+        // bit sets are mutable, therefore they must never leave this class
+        return Map.copyOf(bitSets);
+    }
+
+    private static Map<Long, Set<Long>> departmentsByPerson(Collection<DepartmentPersonLink> links) {
+        final Map<Long, Set<Long>> departments = new HashMap<>();
+        for (DepartmentPersonLink link : links) {
+            departments.computeIfAbsent(link.personId(), personId -> new HashSet<>()).add(link.departmentId());
+        }
+        final Map<Long, Set<Long>> immutableDepartments = new HashMap<>();
+        departments.forEach((personId, departmentIds) -> immutableDepartments.put(personId, Set.copyOf(departmentIds)));
+        return Map.copyOf(immutableDepartments);
+    }
+}
@@ -0,0 +1,101 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMPLETION;
+
+/**
+ * Keeps the {@link OrganisationGraph} of every tenant in memory, so that the department assignments of a person
+ * can be checked without loading departments. The graph of a tenant is built on first access and rebuilt after
+ * a department of the tenant has been created, updated or deleted by this instance. Departments changed by other
+ * instances of the application are visible after {@link #GRAPH_TIME_TO_LIVE} at the latest, as every graph is
+ * rebuilt after that time.
+ */
+@Component
+class OrganisationGraphRegistry {
+
+    static final Duration GRAPH_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+    private final DepartmentRepository departmentRepository;
+    private final TenantContextHolder tenantContextHolder;
+    private final Clock clock;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<TenantId, LoadedGraph> graphsByTenant = new ConcurrentHashMap<>();
+
+    OrganisationGraphRegistry(DepartmentRepository departmentRepository, TenantContextHolder tenantContextHolder, Clock clock) {
+        this.departmentRepository = departmentRepository;
+        this.tenantContextHolder = tenantContextHolder;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the organisation graph of the current tenant
+     */
+    OrganisationGraph get() {
+        // the version is read before loading, a change during loading outdates the loaded graph right away
+        final long currentVersion = version.get();
+
+        final Optional<TenantId> maybeTenantId = tenantContextHolder.getCurrentTenantId();
+        if (maybeTenantId.isEmpty()) {
+            return load(currentVersion);
+        }
+
+        final Instant now = Instant.now(clock);
+        final TenantId tenantId = maybeTenantId.get();
+        final LoadedGraph loadedGraph = graphsByTenant.get(tenantId);
+        if (loadedGraph != null && loadedGraph.isValid(currentVersion, now)) {
+            return loadedGraph.graph();
+        }
+
+        final OrganisationGraph graph = load(currentVersion);
+        graphsByTenant.put(tenantId, new LoadedGraph(graph, now));
+        return graph;
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMPLETION, fallbackExecution = true, classes = {
+        DepartmentCreatedEvent.class,
+        DepartmentUpdatedEvent.class,
+        DepartmentDeletedEvent.class,
+        PersonLeftDepartmentEvent.class,
+    })
+    void onDepartmentChanged() {
+        invalidate();
+    }
+
+    /**
+     * Discards the organisation graph of the current tenant, e.g. after departments have been changed without
+     * publishing an event. The graph is rebuilt on next access.
+     */
+    void invalidate() {
+        // graphs loaded concurrently before the commit are outdated as well, therefore the version is increased
+        version.incrementAndGet();
+        tenantContextHolder.getCurrentTenantId().ifPresent(graphsByTenant::remove);
+    }
+
+    private OrganisationGraph load(long currentVersion) {
+        return OrganisationGraph.of(currentVersion,
+            departmentRepository.findAllMemberLinks(),
+            departmentRepository.findAllDepartmentHeadLinks(),
+            departmentRepository.findAllSecondStageAuthorityLinks()
+        );
+    }
+
+    private record LoadedGraph(OrganisationGraph graph, Instant loadedAt) {
+
+        boolean isValid(long currentVersion, Instant now) {
+            return graph.version() == currentVersion && now.isBefore(loadedAt.plus(GRAPH_TIME_TO_LIVE));
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package org.synyx.urlaubsverwaltung.department.web;
 
-import org.synyx.urlaubsverwaltung.department.Department;
-import org.synyx.urlaubsverwaltung.person.Role;
+import org.synyx.urlaubsverwaltung.department.DepartmentSummary;
 
 import java.util.List;
 
@@ -11,20 +10,20 @@ final class DepartmentDepartmentOverviewDtoMapper {
         // prevents init
     }
 
-    static List<DepartmentOverviewDto> mapToDepartmentOverviewDtos(List<Department> departments) {
+    static List<DepartmentOverviewDto> mapToDepartmentOverviewDtos(List<DepartmentSummary> departments) {
         return departments.stream().map(DepartmentDepartmentOverviewDtoMapper::mapToDepartmentOverviewDto).toList();
     }
 
-    static DepartmentOverviewDto mapToDepartmentOverviewDto(Department department) {
+    static DepartmentOverviewDto mapToDepartmentOverviewDto(DepartmentSummary department) {
 
         final DepartmentOverviewDto departmentOverviewDto = new DepartmentOverviewDto();
-        departmentOverviewDto.setId(department.getId());
-        departmentOverviewDto.setName(department.getName());
-        departmentOverviewDto.setDescription(department.getDescription());
-        departmentOverviewDto.setActiveMembersCount((int) department.getMembers().stream().filter(member -> !member.hasRole(Role.INACTIVE)).count());
-        departmentOverviewDto.setInactiveMembersCount((int) department.getMembers().stream().filter(member -> member.hasRole(Role.INACTIVE)).count());
-        departmentOverviewDto.setLastModification(department.getLastModification());
-        departmentOverviewDto.setTwoStageApproval(department.isTwoStageApproval());
+        departmentOverviewDto.setId(department.id());
+        departmentOverviewDto.setName(department.name());
+        departmentOverviewDto.setDescription(department.description());
+        departmentOverviewDto.setActiveMembersCount((int) department.activeMembersCount());
+        departmentOverviewDto.setInactiveMembersCount((int) department.inactiveMembersCount());
+        departmentOverviewDto.setLastModification(department.lastModification());
+        departmentOverviewDto.setTwoStageApproval(department.twoStageApproval());
 
         return departmentOverviewDto;
     }
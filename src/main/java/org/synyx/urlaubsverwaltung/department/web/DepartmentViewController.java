@@ -19,6 +19,7 @@ import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.department.DepartmentSummary;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.web.PersonPropertyEditor;
@@ -67,7 +68,7 @@ public class DepartmentViewController implements HasLaunchpad {
     @GetMapping("/department")
     public String showAllDepartments(Model model) {
 
-        final List<Department> departments = departmentService.getAllDepartments();
+        final List<DepartmentSummary> departments = departmentService.getAllDepartmentSummaries();
         model.addAttribute("departments", mapToDepartmentOverviewDtos(departments));
 
         final Person signedInUser = personService.getSignedInUser();
@@ -0,0 +1,145 @@
+package org.synyx.urlaubsverwaltung.extension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Republishes events for extensions in batches of persons, so that the absences of a person have to be calculated
+ * only once per batch instead of once per event. After every batch a checkpoint is stored, which is used to resume
+ * the republishing of the same date range if {@link ExtensionRepublishProperties#isResumeFromCheckpoint()} is enabled.
+ * The checkpoint is deleted as soon as the last batch has been republished, so a completed run is never resumed.
+ */
+@Component
+@ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
+public class BatchRepublisher {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final ExtensionRepublishProperties properties;
+    private final RepublishCheckpointRepository checkpointRepository;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final Map<String, AtomicLong> remainingPersonsByEventType = new ConcurrentHashMap<>();
+
+    BatchRepublisher(ExtensionRepublishProperties properties, RepublishCheckpointRepository checkpointRepository,
+                     MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.checkpointRepository = checkpointRepository;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Republishes the given sources (e.g. applications for leave) grouped by batches of persons ordered by the id of
+     * the person.
+     *
+     * @param eventType      name of the republished events, used for the checkpoint, logging and metrics
+     * @param start          start of the republished date range
+     * @param end            end of the republished date range
+     * @param sources        to republish the events for
+     * @param personOf       to get the person of a source
+     * @param batchPublisher publishes the events of all sources of one batch
+     * @param <T>            type of the sources
+     */
+    public <T> void republish(String eventType, LocalDate start, LocalDate end, List<T> sources,
+                              Function<T, Person> personOf, Consumer<List<T>> batchPublisher) {
+
+        final NavigableMap<Long, List<T>> sourcesByPersonId = new TreeMap<>();
+        for (T source : sources) {
+            sourcesByPersonId.computeIfAbsent(personOf.apply(source).getId(), id -> new ArrayList<>()).add(source);
+        }
+
+        final NavigableMap<Long, List<T>> pendingSourcesByPersonId = getCheckpoint(eventType, start, end)
+            .map(lastPersonId -> {
+                LOG.info("Resuming republishing of events with type={} after personId={}", eventType, lastPersonId);
+                return sourcesByPersonId.tailMap(lastPersonId, false);
+            })
+            .orElse(sourcesByPersonId);
+
+        if (pendingSourcesByPersonId.isEmpty()) {
+            deleteCheckpoint(eventType);
+            return;
+        }
+
+        final Tags tags = Tags.of("type", eventType);
+        final Counter republished = meterRegistry.counter("extension.republish.events", tags);
+        final Timer batchTimer = meterRegistry.timer("extension.republish.batch", tags);
+        final AtomicLong remainingPersons = remainingPersonsByEventType.computeIfAbsent(eventType,
+            type -> meterRegistry.gauge("extension.republish.remaining.persons", tags, new AtomicLong()));
+        remainingPersons.set(pendingSourcesByPersonId.size());
+
+        final int batchSize = properties.getBatchSize();
+        final List<T> batch = new ArrayList<>();
+        int personsInBatch = 0;
+        for (Map.Entry<Long, List<T>> entry : pendingSourcesByPersonId.entrySet()) {
+            batch.addAll(entry.getValue());
+            personsInBatch++;
+
+            final boolean lastBatch = entry.getKey().equals(pendingSourcesByPersonId.lastKey());
+            if (personsInBatch == batchSize || lastBatch) {
+                batchTimer.record(() -> batchPublisher.accept(List.copyOf(batch)));
+                if (lastBatch) {
+                    deleteCheckpoint(eventType);
+                } else {
+                    saveCheckpoint(eventType, start, end, entry.getKey());
+                }
+
+                republished.increment(batch.size());
+                remainingPersons.addAndGet(-personsInBatch);
+                LOG.info("Republished {} events with type={}, {} persons remaining", batch.size(), eventType, remainingPersons.get());
+
+                batch.clear();
+                personsInBatch = 0;
+            }
+        }
+    }
+
+    private Optional<Long> getCheckpoint(String eventType, LocalDate start, LocalDate end) {
+        if (!properties.isResumeFromCheckpoint()) {
+            return Optional.empty();
+        }
+
+        return checkpointRepository.findByEventType(eventType)
+            .filter(checkpoint -> checkpoint.getPeriodStart().equals(start) && checkpoint.getPeriodEnd().equals(end))
+            .map(RepublishCheckpointEntity::getLastPersonId);
+    }
+
+    private void saveCheckpoint(String eventType, LocalDate start, LocalDate end, Long lastPersonId) {
+        final RepublishCheckpointEntity checkpoint = checkpointRepository.findByEventType(eventType)
+            .orElseGet(RepublishCheckpointEntity::new);
+        checkpoint.setEventType(eventType);
+        checkpoint.setPeriodStart(start);
+        checkpoint.setPeriodEnd(end);
+        checkpoint.setLastPersonId(lastPersonId);
+        checkpoint.setUpdatedAt(Instant.now(clock));
+        checkpointRepository.save(checkpoint);
+    }
+
+    private void deleteCheckpoint(String eventType) {
+        checkpointRepository.findByEventType(eventType).ifPresent(checkpointRepository::delete);
+    }
+}
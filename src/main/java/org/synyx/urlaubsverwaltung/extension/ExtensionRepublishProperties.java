@@ -0,0 +1,41 @@
+package org.synyx.urlaubsverwaltung.extension;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties("uv.extensions.republish")
+@Validated
+public class ExtensionRepublishProperties {
+
+    /**
+     * Number of persons whose events are republished together. The absences of all persons of a batch
+     * are calculated at once for the whole date range of their events.
+     */
+    @Min(1)
+    private int batchSize = 100;
+
+    /**
+     * When enabled the republishing continues after the last completely republished batch of persons
+     * of the same date range instead of republishing all events again, e.g. after a restart.
+     */
+    private boolean resumeFromCheckpoint = false;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isResumeFromCheckpoint() {
+        return resumeFromCheckpoint;
+    }
+
+    public void setResumeFromCheckpoint(boolean resumeFromCheckpoint) {
+        this.resumeFromCheckpoint = resumeFromCheckpoint;
+    }
+}
@@ -0,0 +1,114 @@
+package org.synyx.urlaubsverwaltung.extension;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+@Entity
+@Table(name = "extension_republish_checkpoint")
+public class RepublishCheckpointEntity extends AbstractTenantAwareEntity {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "extension_republish_checkpoint_generator")
+    @SequenceGenerator(name = "extension_republish_checkpoint_generator", sequenceName = "extension_republish_checkpoint_id_seq")
+    private Long id;
+
+    @NotNull
+    private String eventType;
+
+    @NotNull
+    private LocalDate periodStart;
+
+    @NotNull
+    private LocalDate periodEnd;
+
+    @NotNull
+    private Long lastPersonId;
+
+    @NotNull
+    private Instant updatedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    public void setPeriodEnd(LocalDate periodEnd) {
+        this.periodEnd = periodEnd;
+    }
+
+    public Long getLastPersonId() {
+        return lastPersonId;
+    }
+
+    public void setLastPersonId(Long lastPersonId) {
+        this.lastPersonId = lastPersonId;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RepublishCheckpointEntity{" +
+            "id=" + id +
+            ", eventType='" + eventType + '\'' +
+            ", periodStart=" + periodStart +
+            ", periodEnd=" + periodEnd +
+            ", lastPersonId=" + lastPersonId +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RepublishCheckpointEntity that = (RepublishCheckpointEntity) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,10 @@
+package org.synyx.urlaubsverwaltung.extension;
+
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.Optional;
+
+interface RepublishCheckpointRepository extends CrudRepository<RepublishCheckpointEntity, Long> {
+
+    Optional<RepublishCheckpointEntity> findByEventType(String eventType);
+}
@@ -27,11 +27,17 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.VACATION;
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
@@ -243,6 +249,49 @@ public class ApplicationEventHandlerExtension {
             });
     }
 
+    /**
+     * Publishes the given events with the absences of all their persons calculated at once, instead of calculating
+     * the absences for every single event.
+     *
+     * @param events to publish
+     */
+    void republish(List<ApplicationAllowedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final List<Application> applications = events.stream().map(ApplicationAllowedEvent::application).toList();
+        final Map<Long, AbsencePeriod> absencePeriodsByApplicationId = getAbsencePeriodsByApplicationId(applications);
+
+        final String tenantId = tenantSupplier.get();
+        for (ApplicationAllowedEvent event : events) {
+            Optional.ofNullable(absencePeriodsByApplicationId.get(event.application().getId()))
+                .filter(isFullOrSameDayLength(event.application().getDayLength()))
+                .map(toApplicationAllowedEventDTO(tenantId, event))
+                .ifPresent(applicationEventPublisher::publishEvent);
+        }
+    }
+
+    private Map<Long, AbsencePeriod> getAbsencePeriodsByApplicationId(List<Application> applications) {
+        final List<Person> persons = applications.stream().map(Application::getPerson).distinct().toList();
+        final LocalDate start = applications.stream().map(Application::getStartDate).min(LocalDate::compareTo).orElseThrow();
+        final LocalDate end = applications.stream().map(Application::getEndDate).max(LocalDate::compareTo).orElseThrow();
+
+        final Map<Long, AbsencePeriod> absencePeriodsByApplicationId = new HashMap<>();
+        for (AbsencePeriod absencePeriod : absenceService.getOpenAbsences(persons, start, end)) {
+            getVacationId(absencePeriod).ifPresent(applicationId -> absencePeriodsByApplicationId.putIfAbsent(applicationId, absencePeriod));
+        }
+        return absencePeriodsByApplicationId;
+    }
+
+    private static Optional<Long> getVacationId(AbsencePeriod absencePeriod) {
+        return absencePeriod.absenceRecords().stream()
+            .flatMap(absenceRecord -> Stream.concat(absenceRecord.getMorning().stream(), absenceRecord.getNoon().stream()))
+            .filter(recordInfo -> recordInfo.getAbsenceType() == VACATION)
+            .findFirst()
+            .flatMap(AbsencePeriod.RecordInfo::getId);
+    }
+
     private Optional<AbsencePeriod> getAbsencePeriods(Application application) {
         return absenceService.getOpenAbsences(application.getPerson(), application.getStartDate(), application.getEndDate()).stream()
             .filter(isFullOrSameDayLength(application.getDayLength()))
@@ -4,10 +4,13 @@ import org.slf4j.Logger;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.extension.BatchRepublisher;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -22,21 +25,20 @@ public class ApplicationEventRepublisher {
 
     private final ApplicationService applicationService;
     private final ApplicationEventHandlerExtension applicationEventHandlerExtension;
+    private final BatchRepublisher batchRepublisher;
 
-    ApplicationEventRepublisher(ApplicationService applicationService, ApplicationEventHandlerExtension applicationEventHandlerExtension) {
+    ApplicationEventRepublisher(ApplicationService applicationService, ApplicationEventHandlerExtension applicationEventHandlerExtension,
+                                BatchRepublisher batchRepublisher) {
         this.applicationService = applicationService;
         this.applicationEventHandlerExtension = applicationEventHandlerExtension;
+        this.batchRepublisher = batchRepublisher;
     }
 
     public void republishEvents(LocalDate start, LocalDate end) {
         LOG.info("Republishing all events with type=ApplicationAllowedEvent");
-        applicationService.getApplicationsForACertainPeriodAndState(start, end, ALLOWED)
-            .stream()
-            .map(ApplicationAllowedEvent::of)
-            .forEach(event -> {
-                LOG.info("Publishing ApplicationAllowedEvent with id={} for personId={} with startDate={} and endDate={}", event.application().getId(), event.application().getPerson().getId(), event.application().getStartDate(), event.application().getEndDate());
-                applicationEventHandlerExtension.on(event);
-            });
+        final List<Application> applications = applicationService.getApplicationsForACertainPeriodAndState(start, end, ALLOWED);
+        batchRepublisher.republish("ApplicationAllowedEvent", start, end, applications, Application::getPerson,
+            batch -> applicationEventHandlerExtension.republish(batch.stream().map(ApplicationAllowedEvent::of).toList()));
         LOG.info("Republished all events with type=ApplicationAllowedEvent");
     }
 }
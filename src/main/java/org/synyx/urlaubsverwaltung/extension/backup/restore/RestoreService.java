@@ -4,6 +4,7 @@ package org.synyx.urlaubsverwaltung.extension.backup.restore;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.extension.backup.model.UrlaubsverwaltungBackupDTO;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeImportService;
 
 import java.util.List;
 
@@ -24,8 +25,9 @@ class RestoreService {
     private final DepartmentRestoreService departmentRestoreService;
     private final ApplicationRestoreService applicationRestoreService;
     private final CalendarIntegrationRestoreService calendarIntegrationRestoreService;
+    private final OvertimeImportService overtimeImportService;
 
-    RestoreService(SettingsRestoreService settingsRestoreService, PersonRestoreService personRestoreService, OvertimeRestoreService overtimeRestoreService, SickNoteRestoreService sickNoteRestoreService, CalendarsRestoreService calendarsRestoreService, DepartmentRestoreService departmentRestoreService, ApplicationRestoreService applicationRestoreService, CalendarIntegrationRestoreService calendarIntegrationRestoreService) {
+    RestoreService(SettingsRestoreService settingsRestoreService, PersonRestoreService personRestoreService, OvertimeRestoreService overtimeRestoreService, SickNoteRestoreService sickNoteRestoreService, CalendarsRestoreService calendarsRestoreService, DepartmentRestoreService departmentRestoreService, ApplicationRestoreService applicationRestoreService, CalendarIntegrationRestoreService calendarIntegrationRestoreService, OvertimeImportService overtimeImportService) {
         this.settingsRestoreService = settingsRestoreService;
         this.personRestoreService = personRestoreService;
         this.overtimeRestoreService = overtimeRestoreService;
@@ -34,6 +36,7 @@ class RestoreService {
         this.departmentRestoreService = departmentRestoreService;
         this.applicationRestoreService = applicationRestoreService;
         this.calendarIntegrationRestoreService = calendarIntegrationRestoreService;
+        this.overtimeImportService = overtimeImportService;
     }
 
     void restoreData(UrlaubsverwaltungBackupDTO backupToRestore) {
@@ -43,6 +46,7 @@ class RestoreService {
         overtimeRestoreService.restore(backupToRestore.overtimes());
 
         final List<ImportedIdTuple> createdApplications = applicationRestoreService.restore(backupToRestore.applications());
+        overtimeImportService.buildMissingLedgers();
         final List<ImportedIdTuple> createdSicknotes = sickNoteRestoreService.restore(backupToRestore.sickNotes());
         calendarIntegrationRestoreService.restore(backupToRestore.calendarIntegration(), createdApplications, createdSicknotes);
 
@@ -26,11 +26,17 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.SICK;
 
 
 @Component
@@ -254,6 +260,49 @@ public class SickNoteEventHandlerExtension {
             .ifPresent(applicationEventPublisher::publishEvent);
     }
 
+    /**
+     * Publishes the given events with the absences of all their persons calculated at once, instead of calculating
+     * the absences for every single event.
+     *
+     * @param events to publish
+     */
+    void republish(List<SickNoteCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final List<SickNote> sickNotes = events.stream().map(SickNoteCreatedEvent::sickNote).toList();
+        final Map<Long, AbsencePeriod> absencePeriodsBySickNoteId = getAbsencePeriodsBySickNoteId(sickNotes);
+
+        final String tenantId = tenantSupplier.get();
+        for (SickNoteCreatedEvent event : events) {
+            Optional.ofNullable(absencePeriodsBySickNoteId.get(event.sickNote().getId()))
+                .filter(isFullOrSameDayLength(event.sickNote().getDayLength()))
+                .map(toSickNoteCreatedEventDTO(tenantId, event))
+                .ifPresent(applicationEventPublisher::publishEvent);
+        }
+    }
+
+    private Map<Long, AbsencePeriod> getAbsencePeriodsBySickNoteId(List<SickNote> sickNotes) {
+        final List<Person> persons = sickNotes.stream().map(SickNote::getPerson).distinct().toList();
+        final LocalDate start = sickNotes.stream().map(SickNote::getStartDate).min(LocalDate::compareTo).orElseThrow();
+        final LocalDate end = sickNotes.stream().map(SickNote::getEndDate).max(LocalDate::compareTo).orElseThrow();
+
+        final Map<Long, AbsencePeriod> absencePeriodsBySickNoteId = new HashMap<>();
+        for (AbsencePeriod absencePeriod : absenceService.getOpenAbsences(persons, start, end)) {
+            getSickNoteId(absencePeriod).ifPresent(sickNoteId -> absencePeriodsBySickNoteId.putIfAbsent(sickNoteId, absencePeriod));
+        }
+        return absencePeriodsBySickNoteId;
+    }
+
+    private static Optional<Long> getSickNoteId(AbsencePeriod absencePeriod) {
+        return absencePeriod.absenceRecords().stream()
+            .flatMap(absenceRecord -> Stream.concat(absenceRecord.getMorning().stream(), absenceRecord.getNoon().stream()))
+            .filter(recordInfo -> recordInfo.getAbsenceType() == SICK)
+            .findFirst()
+            .flatMap(AbsencePeriod.RecordInfo::getId);
+    }
+
     private Optional<AbsencePeriod> getAbsencePeriods(SickNote sickNote) {
         return absenceService.getOpenAbsences(sickNote.getPerson(), sickNote.getStartDate(), sickNote.getEndDate()).stream()
             .filter(isFullOrSameDayLength(sickNote.getDayLength()))
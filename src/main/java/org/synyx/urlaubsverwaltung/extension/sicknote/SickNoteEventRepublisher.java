@@ -4,10 +4,13 @@ import org.slf4j.Logger;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.extension.BatchRepublisher;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -21,21 +24,20 @@ public class SickNoteEventRepublisher {
 
     private final SickNoteService sickNoteService;
     private final SickNoteEventHandlerExtension sickNoteEventHandlerExtension;
+    private final BatchRepublisher batchRepublisher;
 
-    SickNoteEventRepublisher(SickNoteService sickNoteService, SickNoteEventHandlerExtension sickNoteEventHandlerExtension) {
+    SickNoteEventRepublisher(SickNoteService sickNoteService, SickNoteEventHandlerExtension sickNoteEventHandlerExtension,
+                             BatchRepublisher batchRepublisher) {
         this.sickNoteService = sickNoteService;
         this.sickNoteEventHandlerExtension = sickNoteEventHandlerExtension;
+        this.batchRepublisher = batchRepublisher;
     }
 
     public void republishEvents(LocalDate start, LocalDate end) {
         LOG.info("Republishing all events with type sickNoteCreatedEvent");
-        sickNoteService.getAllActiveByPeriod(start, end)
-            .stream()
-            .map(SickNoteCreatedEvent::of)
-            .forEach(event -> {
-                LOG.info("Publishing sickNoteCreatedEvent with id={} for personId={} with startDate={} and endDate={}", event.sickNote().getId(), event.sickNote().getPerson().getId(), event.sickNote().getStartDate(), event.sickNote().getEndDate());
-                sickNoteEventHandlerExtension.on(event);
-            });
+        final List<SickNote> sickNotes = sickNoteService.getAllActiveByPeriod(start, end);
+        batchRepublisher.republish("SickNoteCreatedEvent", start, end, sickNotes, SickNote::getPerson,
+            batch -> sickNoteEventHandlerExtension.republish(batch.stream().map(SickNoteCreatedEvent::of).toList()));
         LOG.info("Republished all events with type=SickNoteCreatedEvent");
     }
 }
@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.mail;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,10 +18,12 @@ class MailConfiguration {
     private static final String UTF_8 = "UTF-8";
 
     private final ApplicationContext applicationContext;
+    private final ThymeleafProperties thymeleafProperties;
 
     @Autowired
-    MailConfiguration(ApplicationContext applicationContext) {
+    MailConfiguration(ApplicationContext applicationContext, ThymeleafProperties thymeleafProperties) {
         this.applicationContext = applicationContext;
+        this.thymeleafProperties = thymeleafProperties;
     }
 
     @Bean
@@ -47,7 +50,8 @@ class MailConfiguration {
         textEmailTemplateResolver.setSuffix(".txt");
         textEmailTemplateResolver.setTemplateMode(TEXT);
         textEmailTemplateResolver.setCharacterEncoding(UTF_8);
-        textEmailTemplateResolver.setCacheable(false);
+        // parsed templates are reused for every mail, unless template caching is disabled e.g. by the devtools
+        textEmailTemplateResolver.setCacheable(thymeleafProperties.isCache());
         return textEmailTemplateResolver;
     }
 }
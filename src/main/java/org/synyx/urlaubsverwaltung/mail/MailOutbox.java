@@ -0,0 +1,176 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+/**
+ * Persistent queue of rendered mails. Mails are enqueued by the {@link MailService} and delivered regularly in
+ * batches of {@link MailProperties#getBatchSize()} mails by {@link MailOutboxConfiguration}. Mails that could not be
+ * sent are retried with an exponential backoff until {@link MailProperties.Outbox#getMaxAttempts()} is reached.
+ */
+@Service
+class MailOutbox {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailSenderService mailSenderService;
+    private final MailProperties mailProperties;
+    private final Clock clock;
+
+    private final Counter enqueuedCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter discardedCounter;
+    private final AtomicLong backlog;
+
+    MailOutbox(MailOutboxRepository mailOutboxRepository, MailSenderService mailSenderService,
+               MailProperties mailProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSenderService = mailSenderService;
+        this.mailProperties = mailProperties;
+        this.clock = clock;
+        this.enqueuedCounter = meterRegistry.counter("mail.outbox.enqueued");
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+        this.discardedCounter = meterRegistry.counter("mail.outbox.discarded");
+        this.backlog = meterRegistry.gauge("mail.outbox.backlog", new AtomicLong());
+    }
+
+    /**
+     * Enqueues the given mails to be delivered with the next run. The mails are stored in a new transaction,
+     * as mails are mostly sent after the transaction of the notified change has been completed.
+     *
+     * @param mails to enqueue
+     */
+    @Transactional(propagation = REQUIRES_NEW)
+    public void enqueue(List<OutboundMail> mails) {
+
+        if (mails.isEmpty()) {
+            return;
+        }
+
+        final Instant now = Instant.now(clock);
+        mailOutboxRepository.saveAll(mails.stream().map(mail -> toEntity(mail, now)).toList());
+
+        enqueuedCounter.increment(mails.size());
+        backlog.addAndGet(mails.size());
+    }
+
+    /**
+     * Delivers all due mails in batches. Stops as soon as no mail of a batch could be sent, e.g. because
+     * the mail server is not available, and continues with the next run.
+     */
+    void deliver() {
+
+        final int batchSize = mailProperties.getBatchSize();
+
+        List<MailOutboxEntity> batch = mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(Instant.now(clock), Limit.of(batchSize));
+        while (!batch.isEmpty()) {
+
+            final int sent = deliver(batch);
+            if (sent == 0 || batch.size() < batchSize) {
+                break;
+            }
+
+            batch = mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(Instant.now(clock), Limit.of(batchSize));
+        }
+
+        backlog.set(mailOutboxRepository.count());
+    }
+
+    private int deliver(List<MailOutboxEntity> batch) {
+
+        final List<OutboundMail> mails = batch.stream().map(MailOutbox::toOutboundMail).toList();
+        final Map<OutboundMail, Exception> failedMails = mailSenderService.sendEmails(mails);
+
+        final Instant now = Instant.now(clock);
+        final List<MailOutboxEntity> done = new ArrayList<>();
+        final List<MailOutboxEntity> retries = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            final MailOutboxEntity entity = batch.get(i);
+            final Exception failure = failedMails.get(mails.get(i));
+            if (failure == null) {
+                done.add(entity);
+                continue;
+            }
+
+            entity.setAttempts(entity.getAttempts() + 1);
+            if (entity.getAttempts() >= mailProperties.getOutbox().getMaxAttempts()) {
+                LOG.error("Discarding email with id={} to {} after {} failed attempts", entity.getId(), entity.getRecipient(), entity.getAttempts(), failure);
+                discardedCounter.increment();
+                done.add(entity);
+            } else {
+                entity.setNextAttemptAt(now.plus(backoff(entity.getAttempts())));
+                LOG.info("Retrying email with id={} after {} at {}", entity.getId(), failure.getMessage(), entity.getNextAttemptAt());
+                retries.add(entity);
+            }
+        }
+
+        mailOutboxRepository.deleteAll(done);
+        mailOutboxRepository.saveAll(retries);
+
+        final int sent = batch.size() - failedMails.size();
+        sentCounter.increment(sent);
+        failedCounter.increment(failedMails.size());
+
+        return sent;
+    }
+
+    /**
+     * @param attempts number of failed attempts, at least one
+     * @return time to wait until the next attempt, doubled with every attempt up to {@link MailProperties.Outbox#getMaxBackoff()}
+     */
+    Duration backoff(int attempts) {
+        final Duration initialBackoff = mailProperties.getOutbox().getInitialBackoff();
+        final Duration maxBackoff = mailProperties.getOutbox().getMaxBackoff();
+
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static MailOutboxEntity toEntity(OutboundMail mail, Instant now) {
+        final MailOutboxEntity entity = new MailOutboxEntity();
+        entity.setSender(mail.from());
+        entity.setReplyTo(mail.replyTo());
+        entity.setRecipient(mail.recipient());
+        entity.setSubject(mail.subject());
+        entity.setBody(mail.text());
+        entity.setAttachments(mail.attachments().stream().map(MailOutbox::toEmbeddable).toList());
+        entity.setAttempts(0);
+        entity.setNextAttemptAt(now);
+        entity.setCreatedAt(now);
+        return entity;
+    }
+
+    private static MailOutboxAttachmentEmbeddable toEmbeddable(MailAttachment attachment) {
+        final MailOutboxAttachmentEmbeddable embeddable = new MailOutboxAttachmentEmbeddable();
+        embeddable.setName(attachment.getName());
+        embeddable.setContent(attachment.getContent().getByteArray());
+        return embeddable;
+    }
+
+    private static OutboundMail toOutboundMail(MailOutboxEntity entity) {
+        final List<MailAttachment> attachments = entity.getAttachments().stream()
+            .map(attachment -> new MailAttachment(attachment.getName(), new ByteArrayResource(attachment.getContent())))
+            .toList();
+        return new OutboundMail(entity.getSender(), entity.getReplyTo(), entity.getRecipient(), entity.getSubject(), entity.getBody(), attachments);
+    }
+}
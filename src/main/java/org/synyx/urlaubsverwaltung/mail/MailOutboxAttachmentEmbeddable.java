@@ -0,0 +1,50 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+@Embeddable
+public class MailOutboxAttachmentEmbeddable {
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content", nullable = false)
+    private byte[] content;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public void setContent(byte[] content) {
+        this.content = content;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MailOutboxAttachmentEmbeddable that = (MailOutboxAttachmentEmbeddable) o;
+        return Objects.equals(name, that.name) && Arrays.equals(content, that.content);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, Arrays.hashCode(content));
+    }
+}
@@ -0,0 +1,39 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+import org.synyx.urlaubsverwaltung.tenancy.configuration.single.ConditionalOnSingleTenantMode;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnSingleTenantMode
+class MailOutboxConfiguration implements SchedulingConfigurer {
+
+    private final MailProperties mailProperties;
+    private final MailOutbox mailOutbox;
+    private final ScheduleLocking scheduleLocking;
+    private final TaskScheduler taskScheduler;
+
+    @Autowired
+    MailOutboxConfiguration(MailProperties mailProperties, MailOutbox mailOutbox, ScheduleLocking scheduleLocking, TaskScheduler taskScheduler) {
+        this.mailProperties = mailProperties;
+        this.mailOutbox = mailOutbox;
+        this.scheduleLocking = scheduleLocking;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        // the outbox is delivered frequently, so the lock is released right after the delivery
+        taskRegistrar.addFixedDelayTask(
+            scheduleLocking.withLock("MailOutboxDelivery", mailOutbox::deliver, Duration.ofMinutes(15), Duration.ZERO),
+            mailProperties.getOutbox().getDelay()
+        );
+    }
+}
@@ -0,0 +1,164 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static jakarta.persistence.FetchType.EAGER;
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+@Entity
+@Table(name = "mail_outbox")
+public class MailOutboxEntity extends AbstractTenantAwareEntity {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "mail_outbox_generator")
+    @SequenceGenerator(name = "mail_outbox_generator", sequenceName = "mail_outbox_id_seq")
+    private Long id;
+
+    @NotNull
+    private String sender;
+
+    @NotNull
+    private String replyTo;
+
+    @NotNull
+    private String recipient;
+
+    @NotNull
+    private String subject;
+
+    @NotNull
+    private String body;
+
+    @ElementCollection(fetch = EAGER)
+    @CollectionTable(name = "mail_outbox_attachment", joinColumns = @JoinColumn(name = "mail_outbox_id"))
+    @BatchSize(size = 50)
+    private List<MailOutboxAttachmentEmbeddable> attachments = new ArrayList<>();
+
+    private int attempts;
+
+    @NotNull
+    private Instant nextAttemptAt;
+
+    @NotNull
+    private Instant createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getSender() {
+        return sender;
+    }
+
+    public void setSender(String sender) {
+        this.sender = sender;
+    }
+
+    public String getReplyTo() {
+        return replyTo;
+    }
+
+    public void setReplyTo(String replyTo) {
+        this.replyTo = replyTo;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public List<MailOutboxAttachmentEmbeddable> getAttachments() {
+        return attachments;
+    }
+
+    public void setAttachments(List<MailOutboxAttachmentEmbeddable> attachments) {
+        this.attachments = attachments;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "MailOutboxEntity{" +
+            "id=" + id +
+            ", attempts=" + attempts +
+            ", nextAttemptAt=" + nextAttemptAt +
+            ", createdAt=" + createdAt +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MailOutboxEntity that = (MailOutboxEntity) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,12 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.CrudRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+interface MailOutboxRepository extends CrudRepository<MailOutboxEntity, Long> {
+
+    List<MailOutboxEntity> findByNextAttemptAtLessThanEqualOrderByIdAsc(Instant now, Limit limit);
+}
@@ -1,11 +1,16 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import org.hibernate.validator.constraints.URL;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Validated
 @ConfigurationProperties("uv.mail")
 public class MailProperties {
@@ -27,6 +32,15 @@ public class MailProperties {
     @URL
     private String applicationUrl;
 
+    /**
+     * Number of mails that are sent over one connection to the mail server
+     */
+    @Min(1)
+    private int batchSize = 50;
+
+    @Valid
+    private Outbox outbox = new Outbox();
+
     public String getFrom() {
         return from;
     }
@@ -66,4 +80,79 @@ public class MailProperties {
     public void setApplicationUrl(String applicationUrl) {
         this.applicationUrl = applicationUrl;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public void setOutbox(Outbox outbox) {
+        this.outbox = outbox;
+    }
+
+    public static class Outbox {
+
+        /**
+         * Delay between two deliveries of the queued mails
+         */
+        @NotNull
+        private Duration delay = Duration.ofSeconds(10);
+
+        /**
+         * Number of attempts to send a mail before it is discarded
+         */
+        @Min(1)
+        private int maxAttempts = 10;
+
+        /**
+         * Time to wait before the first retry of a failed mail, doubled with every further attempt
+         */
+        @NotNull
+        private Duration initialBackoff = Duration.ofMinutes(1);
+
+        /**
+         * Maximum time to wait before the retry of a failed mail
+         */
+        @NotNull
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        public Duration getDelay() {
+            return delay;
+        }
+
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
 }
@@ -1,18 +1,21 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.lang.Nullable;
 import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -23,82 +26,86 @@ class MailSenderService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final JavaMailSender mailSender;
+    private final Timer sendTimer;
 
     @Autowired
-    MailSenderService(JavaMailSender mailSender) {
+    MailSenderService(JavaMailSender mailSender, MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
+        this.sendTimer = meterRegistry.timer("mail.send");
     }
 
     /**
-     * Send a mail with the given subject and text to the given recipients.
+     * Sends the given mails over one connection to the mail server. Mails without recipient are skipped.
      *
-     * @param from      mail address from where the mail is sent
-     * @param recipient mail address where the mail should be sent to
-     * @param subject   mail subject
-     * @param text      mail body
+     * @param mails to send
+     * @return the mails that could not be sent with the reason by identity, empty if all mails have been sent
      */
-    void sendEmail(String from, String replyTo, @Nullable String recipient, String subject, String text) {
+    Map<OutboundMail, Exception> sendEmails(List<OutboundMail> mails) {
 
-        if (recipient == null || recipient.isBlank()) {
-            LOG.warn("Could not send email to empty recipients!");
-            return;
+        final Map<OutboundMail, Exception> failedMails = new IdentityHashMap<>();
+        final Map<MimeMessage, OutboundMail> mailsByMimeMessage = new IdentityHashMap<>();
+        final List<MimeMessage> mimeMessages = new ArrayList<>(mails.size());
+
+        for (OutboundMail mail : mails) {
+            if (mail.recipient() == null || mail.recipient().isBlank()) {
+                LOG.warn("Could not send email to empty recipients!");
+                continue;
+            }
+
+            try {
+                final MimeMessage mimeMessage = createMimeMessage(mail);
+                mailsByMimeMessage.put(mimeMessage, mail);
+                mimeMessages.add(mimeMessage);
+            } catch (MessagingException e) {
+                failedMails.put(mail, e);
+            }
         }
 
-        final SimpleMailMessage mailMessage = new SimpleMailMessage();
-        mailMessage.setFrom(from);
-        mailMessage.setReplyTo(replyTo);
-        mailMessage.setTo(recipient);
-        mailMessage.setSubject(subject);
-        mailMessage.setText(text);
+        if (mimeMessages.isEmpty()) {
+            return failedMails;
+        }
 
         try {
-            mailSender.send(mailMessage);
-
-            if (LOG.isDebugEnabled()) {
-                for (String recipient1 : mailMessage.getTo()) {
-                    LOG.debug("Sent email to {}", recipient1);
-                }
-                LOG.debug("To={}\n\nSubject={}\n\nText={}",
-                    Arrays.toString(mailMessage.getTo()), mailMessage.getSubject(), mailMessage.getText());
+            sendTimer.record(() -> mailSender.send(mimeMessages.toArray(MimeMessage[]::new)));
+            LOG.debug("Sent {} emails", mimeMessages.size());
+        } catch (MailSendException ex) {
+            if (ex.getFailedMessages().isEmpty()) {
+                mimeMessages.forEach(mimeMessage -> failedMails.put(mailsByMimeMessage.get(mimeMessage), ex));
+            } else {
+                ex.getFailedMessages().forEach((message, exception) -> {
+                    final OutboundMail failedMail = mailsByMimeMessage.get(message);
+                    if (failedMail != null) {
+                        failedMails.put(failedMail, exception);
+                    }
+                });
             }
         } catch (MailException ex) {
-            for (String recipient1 : mailMessage.getTo()) {
-                LOG.error("Sending email to {} failed", recipient1, ex);
-            }
+            mimeMessages.forEach(mimeMessage -> failedMails.put(mailsByMimeMessage.get(mimeMessage), ex));
         }
+
+        failedMails.forEach((mail, exception) -> LOG.warn("Sending email to {} failed: {}", mail.recipient(), exception.getMessage()));
+
+        return failedMails;
     }
 
-    /**
-     * Send a mail with the given subject and text to the given recipients.
-     *
-     * @param from            mail address from where the mail is sent
-     * @param recipient       mail address where the mail should be sent to
-     * @param subject         mail subject
-     * @param text            mail body
-     * @param mailAttachments List of attachments to add to the mail
-     */
-    void sendEmail(String from, String replyTo, @Nullable String recipient, String subject, String text, List<MailAttachment> mailAttachments) {
+    private MimeMessage createMimeMessage(OutboundMail mail) throws MessagingException {
 
-        if (recipient == null || recipient.isBlank()) {
-            LOG.warn("Could not send email to empty recipients!");
-            return;
+        final MimeMessage mimeMessage = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, !mail.attachments().isEmpty());
+        helper.setFrom(mail.from());
+        helper.setReplyTo(mail.replyTo());
+        helper.setTo(mail.recipient());
+        helper.setSubject(mail.subject());
+        helper.setText(mail.text());
+
+        for (MailAttachment mailAttachment : mail.attachments()) {
+            helper.addAttachment(mailAttachment.getName(), mailAttachment.getContent());
         }
 
-        final MimeMessage mimeMessage = mailSender.createMimeMessage();
-        try {
-            final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
-            helper.setFrom(from);
-            helper.setReplyTo(replyTo);
-            helper.setTo(recipient);
-            helper.setSubject(subject);
-            helper.setText(text);
-
-            for (MailAttachment mailAttachment : mailAttachments) {
-                helper.addAttachment(mailAttachment.getName(), mailAttachment.getContent());
-            }
-        } catch (MessagingException e) {
-            LOG.error("Sending email to {} failed", recipient, e);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("To={}\n\nSubject={}\n\nText={}", mail.recipient(), mail.subject(), mail.text());
         }
-        mailSender.send(mimeMessage);
+
+        return mimeMessage;
     }
 }
@@ -1,10 +1,11 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.MessageSource;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.user.UserSettingsService;
@@ -12,6 +13,7 @@ import org.thymeleaf.ITemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -27,61 +29,76 @@ class MailServiceImpl implements MailService {
 
     private final MessageSource emailMessageSource;
     private final ITemplateEngine emailTemplateEngine;
-    private final MailSenderService mailSenderService;
+    private final MailOutbox mailOutbox;
     private final MailProperties mailProperties;
     private final UserSettingsService userSettingsService;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
     MailServiceImpl(
         MessageSource emailMessageSource,
         ITemplateEngine emailTemplateEngine,
-        MailSenderService mailSenderService,
+        MailOutbox mailOutbox,
         MailProperties mailProperties,
-        UserSettingsService userSettingsService
+        UserSettingsService userSettingsService,
+        MeterRegistry meterRegistry
     ) {
         this.emailMessageSource = emailMessageSource;
         this.emailTemplateEngine = emailTemplateEngine;
         this.mailProperties = mailProperties;
-        this.mailSenderService = mailSenderService;
+        this.mailOutbox = mailOutbox;
         this.userSettingsService = userSettingsService;
+        this.meterRegistry = meterRegistry;
     }
 
-    @Async
+    /**
+     * Renders the mail for every recipient and enqueues the rendered mails into the {@link MailOutbox}, which delivers
+     * them asynchronously. The template model and the subject are created only once per locale of the recipients.
+     */
     @Override
     public void send(final Mail mail) {
 
         final List<Person> recipients = getRecipients(mail);
         final Map<Person, Locale> effectiveLocales = userSettingsService.getEffectiveLocale(recipients);
 
-        recipients.forEach(recipient -> {
+        final Map<Locale, List<Person>> recipientsByLocale = new LinkedHashMap<>();
+        recipients.forEach(recipient -> recipientsByLocale.computeIfAbsent(effectiveLocales.get(recipient), locale -> new ArrayList<>()).add(recipient));
 
-            final Locale effectiveLocale = effectiveLocales.get(recipient);
+        final String from = generateMailAddressAndDisplayName(mailProperties.getFrom(), mailProperties.getFromDisplayName());
 
-            final Context context = new Context(effectiveLocale);
-            context.setVariables(mail.getTemplateModel(effectiveLocale));
-            context.setVariable("baseLinkURL", getApplicationUrl());
-            context.setVariable("rightPadder", RightPadder.getInstance());
-            context.setVariable("recipient", recipient);
+        final String replyToMailAdress = mail.getReplyTo().map(Person::getEmail).orElse(mailProperties.getReplyTo());
+        final String replyToDisplayName = mail.getReplyTo().map(Person::getNiceName).orElse(mailProperties.getReplyToDisplayName());
+        final String replyTo = generateMailAddressAndDisplayName(replyToMailAdress, replyToDisplayName);
 
-            final String from = generateMailAddressAndDisplayName(mailProperties.getFrom(), mailProperties.getFromDisplayName());
+        final List<MailAttachment> mailAttachments = mail.getMailAttachments().orElse(List.of());
+        final Timer renderTimer = meterRegistry.timer("mail.render", "template", mail.getTemplateName());
 
-            final String replyToMailAdress = mail.getReplyTo().map(Person::getEmail).orElse(mailProperties.getReplyTo());
-            final String replyToDisplayName = mail.getReplyTo().map(Person::getNiceName).orElse(mailProperties.getReplyToDisplayName());
-            final String replyTo = generateMailAddressAndDisplayName(replyToMailAdress, replyToDisplayName);
+        final List<OutboundMail> outboundMails = new ArrayList<>(recipients.size());
+        recipientsByLocale.forEach((effectiveLocale, recipientsOfLocale) -> {
 
-            final String email = recipient.getEmail();
+            final Map<String, Object> templateModel = mail.getTemplateModel(effectiveLocale);
             final String subject = getTranslation(effectiveLocale, mail.getSubjectMessageKey(), mail.getSubjectMessageArguments());
-            final String body = emailTemplateEngine.process(mail.getTemplateName(), context);
-
-            if (email != null) {
-                mail.getMailAttachments().ifPresentOrElse(
-                    mailAttachments -> mailSenderService.sendEmail(from, replyTo, email, subject, body, mailAttachments),
-                    () -> mailSenderService.sendEmail(from, replyTo, email, subject, body)
-                );
-            } else {
-                LOG.debug("Could not send mail to E-Mail-Address of person with id {}, because email is null.", recipient.getId());
+
+            for (Person recipient : recipientsOfLocale) {
+
+                final String email = recipient.getEmail();
+                if (email == null) {
+                    LOG.debug("Could not send mail to E-Mail-Address of person with id {}, because email is null.", recipient.getId());
+                    continue;
+                }
+
+                final Context context = new Context(effectiveLocale);
+                context.setVariables(templateModel);
+                context.setVariable("baseLinkURL", getApplicationUrl());
+                context.setVariable("rightPadder", RightPadder.getInstance());
+                context.setVariable("recipient", recipient);
+
+                final String body = renderTimer.record(() -> emailTemplateEngine.process(mail.getTemplateName(), context));
+                outboundMails.add(new OutboundMail(from, replyTo, email, subject, body, mailAttachments));
             }
         });
+
+        mailOutbox.enqueue(outboundMails);
     }
 
     private List<Person> getRecipients(Mail mail) {
@@ -0,0 +1,22 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * A rendered mail to exactly one recipient that is ready to be sent by the {@link MailSenderService}.
+ *
+ * @param from        mail address from where the mail is sent
+ * @param replyTo     mail address to reply to
+ * @param recipient   mail address where the mail should be sent to
+ * @param subject     mail subject
+ * @param text        mail body
+ * @param attachments of the mail, empty if there are none
+ */
+record OutboundMail(String from, String replyTo, @Nullable String recipient, String subject, String text, List<MailAttachment> attachments) {
+
+    OutboundMail(String from, String replyTo, @Nullable String recipient, String subject, String text) {
+        this(from, replyTo, recipient, subject, text, List.of());
+    }
+}
@@ -5,15 +5,27 @@ import org.springframework.stereotype.Service;
 @Service
 public class OvertimeImportService {
 
+    private static final int LEDGER_BATCH_SIZE = 100;
+
     private final OvertimeRepository overtimeRepository;
     private final OvertimeCommentRepository overtimeCommentRepository;
+    private final OvertimeLedgerRepository overtimeLedgerRepository;
+    private final OvertimeLedgerService overtimeLedgerService;
 
-    OvertimeImportService(OvertimeRepository overtimeRepository, OvertimeCommentRepository overtimeCommentRepository) {
+    OvertimeImportService(OvertimeRepository overtimeRepository, OvertimeCommentRepository overtimeCommentRepository,
+                          OvertimeLedgerRepository overtimeLedgerRepository, OvertimeLedgerService overtimeLedgerService) {
         this.overtimeRepository = overtimeRepository;
         this.overtimeCommentRepository = overtimeCommentRepository;
+        this.overtimeLedgerRepository = overtimeLedgerRepository;
+        this.overtimeLedgerService = overtimeLedgerService;
     }
 
+    /**
+     * Deletes all overtime records together with the overtime ledger, which is built again by
+     * {@link #buildMissingLedgers()} after the overtime records and applications for leave have been imported.
+     */
     public void deleteAll() {
+        overtimeLedgerRepository.deleteAll();
         overtimeCommentRepository.deleteAll();
         overtimeRepository.deleteAll();
     }
@@ -27,4 +39,20 @@ public class OvertimeImportService {
         overtimeCommentRepository.save(overtimeComment);
     }
 
+    /**
+     * Builds the overtime ledger of every person without ledger in batches. Every batch is a transaction of its
+     * own, unless this is called within a transaction.
+     *
+     * @return the number of persons whose ledger has been built
+     */
+    public int buildMissingLedgers() {
+        int builtLedgers = 0;
+        int builtLedgersOfBatch;
+        do {
+            builtLedgersOfBatch = overtimeLedgerService.buildMissingLedgers(LEDGER_BATCH_SIZE);
+            builtLedgers += builtLedgersOfBatch;
+        } while (builtLedgersOfBatch == LEDGER_BATCH_SIZE);
+        return builtLedgers;
+    }
+
 }
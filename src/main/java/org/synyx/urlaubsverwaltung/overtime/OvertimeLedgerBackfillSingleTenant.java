@@ -0,0 +1,39 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.tenancy.configuration.single.ConditionalOnSingleTenantMode;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Builds the missing overtime ledgers on startup, so that reading the left overtime never has to build a ledger.
+ */
+@Component
+@ConditionalOnSingleTenantMode
+class OvertimeLedgerBackfillSingleTenant {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final OvertimeImportService overtimeImportService;
+
+    OvertimeLedgerBackfillSingleTenant(OvertimeImportService overtimeImportService) {
+        this.overtimeImportService = overtimeImportService;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    void buildMissingLedgers() {
+        try {
+            final int builtLedgers = overtimeImportService.buildMissingLedgers();
+            if (builtLedgers > 0) {
+                LOG.info("Built the overtime ledger of {} persons", builtLedgers);
+            }
+        } catch (DataIntegrityViolationException exception) {
+            LOG.info("Overtime ledgers are being built by another instance at the same time");
+        }
+    }
+}
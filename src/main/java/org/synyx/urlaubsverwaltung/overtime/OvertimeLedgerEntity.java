@@ -0,0 +1,123 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static jakarta.persistence.FetchType.LAZY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+/**
+ * Overtime and overtime reduction of a person in one year together with the left overtime at the end of this year.
+ * The durations are kept in seconds, as the shares of overtime records and applications spanning several years are.
+ */
+@Entity
+@Table(name = "overtime_ledger")
+public class OvertimeLedgerEntity extends AbstractTenantAwareEntity {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "overtime_ledger_generator")
+    @SequenceGenerator(name = "overtime_ledger_generator", sequenceName = "overtime_ledger_id_seq")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY, optional = false)
+    private Person person;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private long overtimeSeconds;
+
+    @Column(nullable = false)
+    private long overtimeReductionSeconds;
+
+    @Column(nullable = false)
+    private long closingBalanceSeconds;
+
+    protected OvertimeLedgerEntity() {
+        // OK
+    }
+
+    OvertimeLedgerEntity(Person person, int year) {
+        this.person = person;
+        this.year = year;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public Duration getOvertime() {
+        return Duration.ofSeconds(overtimeSeconds);
+    }
+
+    public void setOvertime(Duration overtime) {
+        this.overtimeSeconds = overtime.getSeconds();
+    }
+
+    public Duration getOvertimeReduction() {
+        return Duration.ofSeconds(overtimeReductionSeconds);
+    }
+
+    public void setOvertimeReduction(Duration overtimeReduction) {
+        this.overtimeReductionSeconds = overtimeReduction.getSeconds();
+    }
+
+    /**
+     * @return the left overtime at the end of the year, i.e. all overtime minus all overtime reduction until then
+     */
+    public Duration getClosingBalance() {
+        return Duration.ofSeconds(closingBalanceSeconds);
+    }
+
+    public void setClosingBalance(Duration closingBalance) {
+        this.closingBalanceSeconds = closingBalance.getSeconds();
+    }
+
+    @Override
+    public String toString() {
+        return "OvertimeLedgerEntity{" +
+            "id=" + id +
+            ", year=" + year +
+            ", overtime=" + getOvertime() +
+            ", overtimeReduction=" + getOvertimeReduction() +
+            ", closingBalance=" + getClosingBalance() +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OvertimeLedgerEntity that = (OvertimeLedgerEntity) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,82 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static jakarta.persistence.LockModeType.PESSIMISTIC_WRITE;
+
+/**
+ * Allows access to the yearly overtime ledger of persons.
+ */
+interface OvertimeLedgerRepository extends CrudRepository<OvertimeLedgerEntity, Long> {
+
+    /**
+     * Finds the ledger entries of the person and locks them until the end of the transaction.
+     *
+     * @param person to find the ledger entries of
+     * @return ledger entries of the person ordered by year
+     */
+    @Lock(PESSIMISTIC_WRITE)
+    List<OvertimeLedgerEntity> findByPersonOrderByYear(Person person);
+
+    /**
+     * Locks the person until the end of the transaction, as long as the person has no ledger entries to lock yet.
+     *
+     * @param person to lock
+     * @return the locked person
+     */
+    @Lock(PESSIMISTIC_WRITE)
+    @Query("SELECT person FROM Person person WHERE person = :person")
+    Optional<Person> lockPerson(@Param("person") Person person);
+
+    Optional<OvertimeLedgerEntity> findFirstByPersonOrderByYearDesc(Person person);
+
+    /**
+     * Finds persons without any ledger entry, e.g. persons with overtime from before the ledger existed.
+     *
+     * @param limit maximum number of persons to find
+     * @return persons without ledger ordered by id
+     */
+    @Query("""
+        SELECT person
+        FROM Person person
+        WHERE NOT EXISTS (
+            SELECT ledger.id
+            FROM OvertimeLedgerEntity ledger
+            WHERE ledger.person = person
+        )
+        ORDER BY person.id
+        """)
+    List<Person> findPersonsWithoutLedger(Limit limit);
+
+    /**
+     * Finds the latest ledger entry before the given year of every given person.
+     *
+     * @param persons to find the ledger entries of
+     * @param year    entries of this year and later are not considered
+     * @return at most one ledger entry per person
+     */
+    @Query("""
+        SELECT ledger
+        FROM OvertimeLedgerEntity ledger
+        WHERE ledger.person IN :persons
+        AND ledger.year = (
+            SELECT MAX(previous.year)
+            FROM OvertimeLedgerEntity previous
+            WHERE previous.person = ledger.person AND previous.year < :year
+        )
+        """)
+    List<OvertimeLedgerEntity> findLatestBeforeYear(@Param("persons") Collection<Person> persons, @Param("year") int year);
+
+    @Modifying
+    void deleteByPerson(Person person);
+}
@@ -0,0 +1,294 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import jakarta.transaction.Transactional;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.time.Duration.ZERO;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OVERTIME;
+
+/**
+ * Keeps a ledger of the overtime and overtime reduction per person and year with the left overtime at the end of
+ * every year, so that the left overtime of a person can be read without summing up all overtime records and
+ * overtime reductions since the beginning.
+ *
+ * <p>
+ * The ledger of a person contains an entry for every year with overtime or overtime reduction. Years without entry
+ * have the closing balance of the previous entry. The ledgers of persons with overtime from before the ledger existed
+ * are built once on startup, see {@link #buildMissingLedgers(int)}. Afterward, only the years of a changed overtime
+ * record or application for leave are recalculated. Reading never writes the ledger, a person without any entry
+ * simply has no overtime yet.
+ *
+ * <p>
+ * Updates lock the ledger entries of the person, or the person as long as there are none, before the overtime records
+ * and applications for leave are read. Concurrent updates of the same person are therefore applied one after the
+ * other and the later one reads the overtime committed by the earlier one.
+ */
+@Transactional
+@Service
+class OvertimeLedgerService {
+
+    private final OvertimeLedgerRepository overtimeLedgerRepository;
+    private final OvertimeRepository overtimeRepository;
+    private final ApplicationService applicationService;
+    private final Clock clock;
+
+    OvertimeLedgerService(OvertimeLedgerRepository overtimeLedgerRepository, OvertimeRepository overtimeRepository,
+                          ApplicationService applicationService, Clock clock) {
+        this.overtimeLedgerRepository = overtimeLedgerRepository;
+        this.overtimeRepository = overtimeRepository;
+        this.applicationService = applicationService;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the left overtime of the given persons at the end of the year before the given year.
+     *
+     * @param persons to get the left overtime of
+     * @param year    the left overtime at the beginning of this year is returned
+     * @return the left overtime of every given person, {@link Duration#ZERO} if the person has no overtime before the year
+     */
+    Map<Person, Duration> getLeftOvertimeBeforeYear(List<Person> persons, int year) {
+
+        if (persons.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<Long, Duration> closingBalanceByPersonId = overtimeLedgerRepository.findLatestBeforeYear(persons, year).stream()
+            .collect(toMap(entry -> entry.getPerson().getId(), OvertimeLedgerEntity::getClosingBalance));
+
+        return persons.stream()
+            .collect(toMap(Function.identity(), person -> closingBalanceByPersonId.getOrDefault(person.getId(), ZERO)));
+    }
+
+    /**
+     * Returns the left overtime of the given person including all overtime records and overtime reductions in the future.
+     *
+     * @param person to get the left overtime of
+     * @return the left overtime of the person, never {@code null}
+     */
+    Duration getLeftOvertime(Person person) {
+        return overtimeLedgerRepository.findFirstByPersonOrderByYearDesc(person)
+            .map(OvertimeLedgerEntity::getClosingBalance)
+            .orElse(ZERO);
+    }
+
+    /**
+     * Recalculates the years of the given date range in the ledger of the person, e.g. after an overtime record
+     * has been created in this date range.
+     *
+     * @param person    whose ledger should be updated
+     * @param startDate of the changed date range
+     * @param endDate   of the changed date range
+     */
+    void update(Person person, LocalDate startDate, LocalDate endDate) {
+
+        final List<OvertimeLedgerEntity> entries = lockLedger(person);
+        if (entries.isEmpty()) {
+            build(List.of(person));
+            return;
+        }
+
+        final LocalDate firstDayOfFirstYear = Year.of(startDate.getYear()).atDay(1);
+        final LocalDate lastDayOfLastYear = endDate.with(lastDayOfYear());
+        final List<Overtime> overtimes = overtimeRepository.findByPersonAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(person, firstDayOfFirstYear, lastDayOfLastYear);
+        final List<Application> overtimeReductions = applicationService.getApplicationsForACertainPeriodAndPersonAndVacationCategory(firstDayOfFirstYear, lastDayOfLastYear, person, activeStatuses(), OVERTIME);
+
+        final List<Integer> years = IntStream.rangeClosed(startDate.getYear(), endDate.getYear()).boxed().toList();
+        save(person, entries, years, yearlyOvertime(overtimes, overtimeReductions));
+    }
+
+    /**
+     * Recalculates every year in the ledger of the person, e.g. after an overtime record has been edited and the
+     * previous date range is unknown.
+     *
+     * @param person whose ledger should be rebuilt
+     */
+    void rebuild(Person person) {
+
+        final List<OvertimeLedgerEntity> entries = lockLedger(person);
+        final Map<Integer, YearlyOvertime> yearlyOvertime = yearlyOvertime(overtimeRepository.findByPerson(person),
+            applicationService.getForStatesAndPersonAndVacationCategory(activeStatuses(), List.of(person), OVERTIME));
+
+        final Set<Integer> years = new TreeSet<>(yearlyOvertime.keySet());
+        entries.forEach(entry -> years.add(entry.getYear()));
+
+        save(person, entries, years, yearlyOvertime);
+    }
+
+    /**
+     * Builds the ledger of the next persons without any ledger entry, e.g. after the ledger has been introduced.
+     *
+     * @param batchSize maximum number of persons whose ledger is built
+     * @return the number of persons whose ledger has been built, {@code 0} if every person has a ledger
+     */
+    int buildMissingLedgers(int batchSize) {
+        final List<Person> personsWithoutLedger = overtimeLedgerRepository.findPersonsWithoutLedger(Limit.of(batchSize));
+        if (!personsWithoutLedger.isEmpty()) {
+            build(personsWithoutLedger);
+        }
+        return personsWithoutLedger.size();
+    }
+
+    void deleteByPerson(Person person) {
+        overtimeLedgerRepository.deleteByPerson(person);
+    }
+
+    @EventListener
+    void on(ApplicationAppliedEvent event) {
+        updateOvertimeReduction(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationAllowedEvent event) {
+        updateOvertimeReduction(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationCreatedFromSickNoteEvent event) {
+        updateOvertimeReduction(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationRejectedEvent event) {
+        updateOvertimeReduction(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationCancelledEvent event) {
+        updateOvertimeReduction(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationRevokedEvent event) {
+        updateOvertimeReduction(event.application());
+    }
+
+    /**
+     * The previous date range and vacation type of an edited application are unknown, therefore the whole ledger
+     * of the person is rebuilt.
+     */
+    @EventListener
+    void on(ApplicationUpdatedEvent event) {
+        rebuild(event.application().getPerson());
+    }
+
+    private void updateOvertimeReduction(Application application) {
+        if (application.getVacationType().isOfCategory(OVERTIME)) {
+            update(application.getPerson(), application.getStartDate(), application.getEndDate());
+        }
+    }
+
+    /**
+     * Locks the ledger entries of the person until the end of the transaction. A person without entries has nothing
+     * to lock, therefore the person is locked instead and the entries are read again, because a concurrent update
+     * may have built the ledger in the meantime.
+     */
+    private List<OvertimeLedgerEntity> lockLedger(Person person) {
+
+        final List<OvertimeLedgerEntity> entries = overtimeLedgerRepository.findByPersonOrderByYear(person);
+        if (!entries.isEmpty()) {
+            return entries;
+        }
+
+        overtimeLedgerRepository.lockPerson(person);
+        return overtimeLedgerRepository.findByPersonOrderByYear(person);
+    }
+
+    /**
+     * Builds the ledger of persons without ledger entries with two queries for all of them.
+     */
+    private void build(List<Person> persons) {
+
+        final Map<Person, List<Overtime>> overtimesByPerson = overtimeRepository.findByPersonIsIn(persons).stream()
+            .collect(groupingBy(Overtime::getPerson));
+        final Map<Person, List<Application>> overtimeReductionsByPerson = applicationService.getForStatesAndPersonAndVacationCategory(activeStatuses(), persons, OVERTIME).stream()
+            .collect(groupingBy(Application::getPerson));
+
+        for (Person person : persons) {
+            final Map<Integer, YearlyOvertime> yearlyOvertime = yearlyOvertime(
+                overtimesByPerson.getOrDefault(person, List.of()), overtimeReductionsByPerson.getOrDefault(person, List.of()));
+            save(person, List.of(), new TreeSet<>(yearlyOvertime.keySet()), yearlyOvertime);
+        }
+    }
+
+    private void save(Person person, List<OvertimeLedgerEntity> entries, Collection<Integer> years, Map<Integer, YearlyOvertime> yearlyOvertime) {
+
+        final NavigableMap<Integer, OvertimeLedgerEntity> entriesByYear = new TreeMap<>();
+        entries.forEach(entry -> entriesByYear.put(entry.getYear(), entry));
+
+        for (Integer year : years) {
+            final YearlyOvertime overtimeOfYear = yearlyOvertime.getOrDefault(year, YearlyOvertime.identity());
+            final OvertimeLedgerEntity entry = entriesByYear.computeIfAbsent(year, newYear -> new OvertimeLedgerEntity(person, newYear));
+            entry.setOvertime(overtimeOfYear.overtime());
+            entry.setOvertimeReduction(overtimeOfYear.overtimeReduction());
+        }
+
+        // a person without overtime gets an empty entry, otherwise the person would be found without ledger again
+        if (entriesByYear.isEmpty()) {
+            final int currentYear = Year.now(clock).getValue();
+            entriesByYear.put(currentYear, new OvertimeLedgerEntity(person, currentYear));
+        }
+
+        Duration closingBalance = ZERO;
+        for (OvertimeLedgerEntity entry : entriesByYear.values()) {
+            closingBalance = closingBalance.plus(entry.getOvertime()).minus(entry.getOvertimeReduction());
+            entry.setClosingBalance(closingBalance);
+        }
+
+        overtimeLedgerRepository.saveAll(new ArrayList<>(entriesByYear.values()));
+    }
+
+    private static Map<Integer, YearlyOvertime> yearlyOvertime(List<Overtime> overtimes, List<Application> overtimeReductions) {
+
+        final Map<Integer, YearlyOvertime> yearlyOvertime = new HashMap<>();
+        overtimes.forEach(overtime -> overtime.getDurationByYear().forEach((year, duration) ->
+            yearlyOvertime.merge(year, new YearlyOvertime(duration, ZERO), YearlyOvertime::plus)));
+        overtimeReductions.forEach(application -> application.getHoursByYear().forEach((year, duration) ->
+            yearlyOvertime.merge(year, new YearlyOvertime(ZERO, duration), YearlyOvertime::plus)));
+
+        return yearlyOvertime;
+    }
+
+    private record YearlyOvertime(Duration overtime, Duration overtimeReduction) {
+
+        static YearlyOvertime identity() {
+            return new YearlyOvertime(ZERO, ZERO);
+        }
+
+        YearlyOvertime plus(YearlyOvertime other) {
+            return new YearlyOvertime(overtime.plus(other.overtime), overtimeReduction.plus(other.overtimeReduction));
+        }
+    }
+}
@@ -20,6 +20,8 @@ interface OvertimeRepository extends CrudRepository<Overtime, Long> {
 
     List<Overtime> findByPerson(Person person);
 
+    List<Overtime> findByPersonIsIn(Collection<Person> persons);
+
     @Query("""
         SELECT SUM(overtime.duration)
         FROM Overtime overtime
@@ -38,7 +40,42 @@ interface OvertimeRepository extends CrudRepository<Overtime, Long> {
 
     List<Overtime> findByPersonAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(Person person, LocalDate start, LocalDate end);
 
-    List<Overtime> findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(Collection<Person> persons, LocalDate start, LocalDate end);
+    /**
+     * Native query of {@link #findOverlappingByPersonIds(Collection, LocalDate, LocalDate)}.
+     */
+    String FIND_OVERLAPPING_BY_PERSON_IDS = """
+        SELECT o.*
+        FROM overtime o
+        WHERE o.person_id IN (:personIds)
+        AND o.date_range && daterange(:start, :end, '[]')
+        """;
+
+    /**
+     * Finds the overtime records of the given persons overlapping the given inclusive date range.
+     *
+     * @param persons to find the overtime records of
+     * @param start   first day of the date range
+     * @param end     last day of the date range
+     * @return overtime records of the persons overlapping the date range
+     */
+    default List<Overtime> findOverlappingOfPersons(Collection<Person> persons, LocalDate start, LocalDate end) {
+        if (persons.isEmpty()) {
+            return List.of();
+        }
+        return findOverlappingByPersonIds(persons.stream().map(Person::getId).toList(), start, end);
+    }
+
+    /**
+     * Finds the overtime records of the given persons overlapping the given inclusive date range. The overlap is
+     * checked on the generated {@code date_range} column, which is served by a GiST index.
+     *
+     * @param personIds ids of the persons, must not be empty
+     * @param start     first day of the date range
+     * @param end       last day of the date range
+     * @return overtime records of the persons overlapping the date range
+     */
+    @Query(nativeQuery = true, value = FIND_OVERLAPPING_BY_PERSON_IDS)
+    List<Overtime> findOverlappingByPersonIds(@Param("personIds") Collection<Long> personIds, @Param("start") LocalDate start, @Param("end") LocalDate end);
 
     List<Overtime> findByPersonIsInAndStartDateIsLessThanEqual(Collection<Person> persons, LocalDate until);
 
@@ -17,7 +17,6 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Year;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,7 +24,6 @@ import java.util.Optional;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.RoundingMode.HALF_EVEN;
 import static java.time.Duration.ZERO;
-import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.stream.Collectors.groupingBy;
@@ -46,6 +44,7 @@ class OvertimeServiceImpl implements OvertimeService {
 
     private final OvertimeRepository overtimeRepository;
     private final OvertimeCommentRepository overtimeCommentRepository;
+    private final OvertimeLedgerService overtimeLedgerService;
     private final ApplicationService applicationService;
     private final OvertimeMailService overtimeMailService;
     private final SettingsService settingsService;
@@ -55,6 +54,7 @@ class OvertimeServiceImpl implements OvertimeService {
     public OvertimeServiceImpl(
         OvertimeRepository overtimeRepository,
         OvertimeCommentRepository overtimeCommentRepository,
+        OvertimeLedgerService overtimeLedgerService,
         ApplicationService applicationService,
         OvertimeMailService overtimeMailService,
         SettingsService settingsService,
@@ -62,6 +62,7 @@ class OvertimeServiceImpl implements OvertimeService {
     ) {
         this.overtimeRepository = overtimeRepository;
         this.overtimeCommentRepository = overtimeCommentRepository;
+        this.overtimeLedgerService = overtimeLedgerService;
         this.applicationService = applicationService;
         this.overtimeMailService = overtimeMailService;
         this.settingsService = settingsService;
@@ -84,6 +85,13 @@ class OvertimeServiceImpl implements OvertimeService {
         overtime.onUpdate();
         final Overtime savedOvertime = overtimeRepository.save(overtime);
 
+        // the previous date range of an edited overtime record is unknown
+        if (isNewOvertime) {
+            overtimeLedgerService.update(overtime.getPerson(), overtime.getStartDate(), overtime.getEndDate());
+        } else {
+            overtimeLedgerService.rebuild(overtime.getPerson());
+        }
+
         // save comment
         final OvertimeCommentAction action = isNewOvertime ? CREATED : EDITED;
         final OvertimeComment overtimeComment = new OvertimeComment(author, savedOvertime, action, clock);
@@ -122,22 +130,12 @@ class OvertimeServiceImpl implements OvertimeService {
 
     @Override
     public Duration getTotalOvertimeForPersonBeforeYear(Person person, int year) {
-        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
-        final LocalDate lastDayOfBeforeYear = firstDayOfYear.minusYears(1).with(lastDayOfYear());
-        final Duration totalOvertimeReductionBeforeYear = applicationService.getTotalOvertimeReductionOfPersonUntil(person, lastDayOfBeforeYear);
-        final Duration totalOvertimeBeforeYear = overtimeRepository.findByPersonAndStartDateIsBefore(person, firstDayOfYear).stream()
-            .map(overtime -> overtime.getTotalDurationBefore(year))
-            .reduce(ZERO, Duration::plus);
-
-        return totalOvertimeBeforeYear.minus(totalOvertimeReductionBeforeYear);
+        return overtimeLedgerService.getLeftOvertimeBeforeYear(List.of(person), year).getOrDefault(person, ZERO);
     }
 
     @Override
     public Duration getLeftOvertimeForPerson(Person person) {
-        final Duration totalOvertime = getTotalOvertimeForPerson(person);
-        final Duration overtimeReduction = applicationService.getTotalOvertimeReductionOfPerson(person);
-
-        return totalOvertime.minus(overtimeReduction);
+        return overtimeLedgerService.getLeftOvertime(person);
     }
 
     @Override
@@ -160,7 +158,7 @@ class OvertimeServiceImpl implements OvertimeService {
             .filter(application -> activeStatuses().contains(application.getStatus()))
             .collect(groupingBy(Application::getPerson));
 
-        final Map<Person, Duration> overtimeSumBeforeYearByPerson = getOvertimeSumBeforeYear(persons, start.getYear());
+        final Map<Person, Duration> overtimeSumBeforeYearByPerson = overtimeLedgerService.getLeftOvertimeBeforeYear(persons, start.getYear());
         final Map<Person, Duration> yearOvertimeSumByPerson = getTotalOvertimeUntil(persons, start.with(firstDayOfYear()), start.with(lastDayOfYear()));
         final Map<Person, Duration> dateRangeOvertimeSumByPerson = getTotalOvertimeUntil(persons, start, end);
         final Map<Person, OvertimeReduction> dateRangeOvertimeReductionByPerson = getOvertimeReduction(overtimeApplicationsByPerson, start, end);
@@ -188,34 +186,9 @@ class OvertimeServiceImpl implements OvertimeService {
         return overtimeRepository.findAllByPersonId(personId);
     }
 
-    private Map<Person, Duration> getOvertimeSumBeforeYear(Collection<Person> persons, int year) {
-
-        final LocalDate lastDayOfLastYear = Year.of(year - 1).atDay(1).with(lastDayOfYear());
-        final Map<Person, Duration> totalReductionBeforeYearByPerson = applicationService.getTotalOvertimeReductionOfPersonUntil(persons, lastDayOfLastYear);
-        final Map<Person, Duration> overtimesStartingWithoutRequestedYearByPerson = getTotalOvertimeUntil(persons, lastDayOfLastYear);
-        return persons.stream()
-            .map(person -> {
-                final Duration totalOvertimeReductionBeforeYear = totalReductionBeforeYearByPerson.getOrDefault(person, ZERO);
-                final Duration totalOvertimeBeforeYear = overtimesStartingWithoutRequestedYearByPerson.getOrDefault(person, ZERO);
-                final Duration duration = totalOvertimeBeforeYear.minus(totalOvertimeReductionBeforeYear);
-                return Map.entry(person, duration);
-            })
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private Map<Person, Duration> getTotalOvertimeUntil(Collection<Person> persons, LocalDate until) {
-        return overtimeRepository.findByPersonIsInAndStartDateIsLessThanEqual(persons, until).stream()
-            .map(overtime -> {
-                final DateRange requestedDateRange = new DateRange(overtime.getStartDate(), until);
-                final Duration overtimeDurationForDateRange = overtime.getDurationForDateRange(requestedDateRange);
-                return Map.entry(overtime.getPerson(), overtimeDurationForDateRange);
-            })
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue, Duration::plus));
-    }
-
     private Map<Person, Duration> getTotalOvertimeUntil(List<Person> persons, LocalDate start, LocalDate end) {
         final DateRange requestedDateRange = new DateRange(start, end);
-        return overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, start, end).stream()
+        return overtimeRepository.findOverlappingOfPersons(persons, start, end).stream()
             .map(overtime -> {
                 final Duration overtimeDurationForDateRange = overtime.getDurationForDateRange(requestedDateRange);
                 return Map.entry(overtime.getPerson(), overtimeDurationForDateRange);
@@ -286,6 +259,7 @@ class OvertimeServiceImpl implements OvertimeService {
         final Person personToBeDeleted = event.person();
         overtimeCommentRepository.deleteByOvertimePerson(personToBeDeleted);
         deleteCommentAuthor(personToBeDeleted);
+        overtimeLedgerService.deleteByPerson(personToBeDeleted);
         overtimeRepository.deleteByPerson(personToBeDeleted);
     }
 
@@ -295,13 +269,6 @@ class OvertimeServiceImpl implements OvertimeService {
         overtimeCommentRepository.saveAll(overtimeComments);
     }
 
-    private Duration getTotalOvertimeForPerson(Person person) {
-        return overtimeRepository.calculateTotalHoursForPerson(person)
-            .map(totalHours -> Math.round(totalHours * 60))
-            .map(totalMinutes -> Duration.of(totalMinutes, MINUTES))
-            .orElse(ZERO);
-    }
-
     private record OvertimeReduction(Duration reductionOverall, Duration reductionDateRange) {
 
         static OvertimeReduction identity() {
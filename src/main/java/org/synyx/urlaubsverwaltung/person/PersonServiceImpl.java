@@ -11,6 +11,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.RequestScopedCache;
 import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
@@ -51,6 +52,7 @@ class PersonServiceImpl implements PersonService {
     private final AccountInteractionService accountInteractionService;
     private final WorkingTimeWriteService workingTimeWriteService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final RequestScopedCache<String, Person> signedInUsers = new RequestScopedCache<>("signedInUsers");
 
     @Autowired
     PersonServiceImpl(
@@ -102,6 +104,7 @@ class PersonServiceImpl implements PersonService {
         person.setPermissions(permissions);
 
         final Person createdPerson = personRepository.save(person);
+        signedInUsers.clear();
         LOG.info("Created person: {}", createdPerson);
 
         accountInteractionService.createDefaultAccount(createdPerson);
@@ -120,6 +123,7 @@ class PersonServiceImpl implements PersonService {
         }
 
         final Person updatedPerson = personRepository.save(normalizePerson(person));
+        signedInUsers.clear();
         LOG.info("Updated person: {}", updatedPerson);
 
         if (updatedPerson.isInactive()) {
@@ -143,6 +147,7 @@ class PersonServiceImpl implements PersonService {
         accountInteractionService.deleteAllByPerson(person);
         workingTimeWriteService.deleteAllByPerson(person);
         personRepository.delete(person);
+        signedInUsers.clear();
 
         final String status = person.isActive() ? "active" : "inactive";
         LOG.info("person with id {} ({}) and status {} deleted by signed in user with id {}", person.getId(), person.getUsername(), status, signedInUser.getId());
@@ -213,13 +218,14 @@ class PersonServiceImpl implements PersonService {
             throw new IllegalStateException("No authentication found in context.");
         }
 
+        // resolved once per request, the signed-in user is asked for by filters, controllers and interceptors
         final String username = authentication.getName();
-        final Optional<Person> person = getPersonByUsername(username);
-        if (person.isEmpty()) {
+        final Person person = signedInUsers.get(username, name -> getPersonByUsername(name).orElse(null));
+        if (person == null) {
             throw new IllegalStateException("Can not get the person for the signed in user with username = " + username);
         }
 
-        return person.get();
+        return person;
     }
 
     /**
@@ -243,6 +249,7 @@ class PersonServiceImpl implements PersonService {
         person.setPermissions(permissions);
 
         final Person savedPerson = personRepository.save(person);
+        signedInUsers.clear();
 
         LOG.info("Add 'OFFICE' role to person: {}", person);
 
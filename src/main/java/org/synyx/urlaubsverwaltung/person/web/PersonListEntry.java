@@ -0,0 +1,24 @@
+package org.synyx.urlaubsverwaltung.person.web;
+
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.account.HolidayAccountVacationDays;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
+
+import java.util.Optional;
+
+/**
+ * Everything the person list shows of one person.
+ *
+ * @param person                     the person
+ * @param basedata                   base data of the person, if there is any
+ * @param holidaysAccount            holidays account of the selected year, if there is any
+ * @param holidayAccountVacationDays left vacation days of the holidays account of the selected year, if there is any
+ */
+record PersonListEntry(
+    Person person,
+    Optional<PersonBasedata> basedata,
+    Optional<Account> holidaysAccount,
+    Optional<HolidayAccountVacationDays> holidayAccountVacationDays
+) {
+}
@@ -0,0 +1,75 @@
+package org.synyx.urlaubsverwaltung.person.web;
+
+import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.account.AccountService;
+import org.synyx.urlaubsverwaltung.account.HolidayAccountVacationDays;
+import org.synyx.urlaubsverwaltung.account.VacationDaysService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonId;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Read model of the person list. Loads base data, holidays accounts and left vacation days of a whole page of
+ * persons at once, so that the number of queries does not depend on the number of persons.
+ */
+@Service
+class PersonListService {
+
+    private final AccountService accountService;
+    private final VacationDaysService vacationDaysService;
+    private final PersonBasedataService personBasedataService;
+
+    PersonListService(AccountService accountService, VacationDaysService vacationDaysService, PersonBasedataService personBasedataService) {
+        this.accountService = accountService;
+        this.vacationDaysService = vacationDaysService;
+        this.personBasedataService = personBasedataService;
+    }
+
+    /**
+     * @param persons to get the entries of
+     * @param year    of the holidays accounts and left vacation days
+     * @return an entry for every given person in the order of the given persons
+     */
+    List<PersonListEntry> getEntries(List<Person> persons, Year year) {
+
+        if (persons.isEmpty()) {
+            return List.of();
+        }
+
+        final List<Long> personIds = persons.stream().map(Person::getId).toList();
+        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(personIds);
+
+        final List<Account> holidaysAccounts = accountService.getHolidaysAccount(year.getValue(), persons);
+        final List<Account> holidaysAccountsNextYear = accountService.getHolidaysAccount(year.plusYears(1).getValue(), persons);
+
+        final Map<Account, HolidayAccountVacationDays> vacationDaysLeftByAccount = vacationDaysService.getVacationDaysLeft(holidaysAccounts, year, holidaysAccountsNextYear);
+
+        final Map<Person, Account> holidaysAccountByPerson = byPerson(holidaysAccounts);
+
+        return persons.stream()
+            .map(person -> {
+                final Optional<Account> holidaysAccount = Optional.ofNullable(holidaysAccountByPerson.get(person));
+                return new PersonListEntry(
+                    person,
+                    Optional.ofNullable(basedataByPersonId.get(new PersonId(person.getId()))),
+                    holidaysAccount,
+                    holidaysAccount.map(vacationDaysLeftByAccount::get)
+                );
+            })
+            .toList();
+    }
+
+    private static Map<Person, Account> byPerson(List<Account> accounts) {
+        return accounts.stream().collect(toMap(Account::getPerson, identity(), (first, second) -> first));
+    }
+}
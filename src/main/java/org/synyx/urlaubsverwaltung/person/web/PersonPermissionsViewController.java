@@ -18,7 +18,6 @@ import org.synyx.urlaubsverwaltung.person.PersonMailService;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.person.UnknownPersonException;
-import org.synyx.urlaubsverwaltung.security.SessionService;
 
 import java.util.Collection;
 import java.util.List;
@@ -40,21 +39,18 @@ public class PersonPermissionsViewController implements HasLaunchpad {
     private final DepartmentService departmentService;
     private final PersonMailService personMailService;
     private final PersonPermissionsDtoValidator validator;
-    private final SessionService sessionService;
 
     @Autowired
     PersonPermissionsViewController(
         PersonService personService,
         DepartmentService departmentService,
         PersonMailService personMailService,
-        PersonPermissionsDtoValidator validator,
-        SessionService sessionService
+        PersonPermissionsDtoValidator validator
     ) {
         this.personService = personService;
         this.departmentService = departmentService;
         this.personMailService = personMailService;
         this.validator = validator;
-        this.sessionService = sessionService;
     }
 
     @PreAuthorize(IS_OFFICE)
@@ -91,8 +87,6 @@ public class PersonPermissionsViewController implements HasLaunchpad {
             personMailService.sendPersonGainedMorePermissionsNotification(updatedPerson, mapRoleToPermissionsDto(addedPermissions));
         }
 
-        sessionService.markSessionToReloadAuthorities(updatedPerson.getUsername());
-
         redirectAttributes.addFlashAttribute("updateSuccess", true);
         return "redirect:/web/person/" + updatedPerson.getId();
     }
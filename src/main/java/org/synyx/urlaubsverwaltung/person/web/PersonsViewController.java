@@ -15,16 +15,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.synyx.urlaubsverwaltung.account.Account;
-import org.synyx.urlaubsverwaltung.account.AccountService;
 import org.synyx.urlaubsverwaltung.account.HolidayAccountVacationDays;
 import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
-import org.synyx.urlaubsverwaltung.account.VacationDaysService;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.department.DepartmentSummary;
 import org.synyx.urlaubsverwaltung.department.web.UnknownDepartmentException;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
-import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
 import org.synyx.urlaubsverwaltung.web.html.HtmlOptgroupDto;
@@ -62,21 +60,16 @@ import static org.synyx.urlaubsverwaltung.web.html.PaginationPageLinkBuilder.bui
 public class PersonsViewController implements HasLaunchpad {
 
     private final PersonService personService;
-    private final AccountService accountService;
-    private final VacationDaysService vacationDaysService;
     private final DepartmentService departmentService;
-    private final PersonBasedataService personBasedataService;
+    private final PersonListService personListService;
     private final Clock clock;
 
     @Autowired
-    public PersonsViewController(PersonService personService, AccountService accountService,
-                                 VacationDaysService vacationDaysService, DepartmentService departmentService,
-                                 PersonBasedataService personBasedataService, Clock clock) {
+    PersonsViewController(PersonService personService, DepartmentService departmentService,
+                          PersonListService personListService, Clock clock) {
         this.personService = personService;
-        this.accountService = accountService;
-        this.vacationDaysService = vacationDaysService;
         this.departmentService = departmentService;
-        this.personBasedataService = personBasedataService;
+        this.personListService = personListService;
         this.clock = clock;
     }
 
@@ -179,15 +172,15 @@ public class PersonsViewController implements HasLaunchpad {
         return departmentService.getManagedInactiveMembersOfPerson(signedInUser, personPageableSearchQuery);
     }
 
-    private List<Department> getRelevantDepartmentsSortedByName(Person signedInUser) {
-
-        final Set<Department> relevantDepartments = new HashSet<>();
+    private List<DepartmentSummary> getRelevantDepartmentsSortedByName(Person signedInUser) {
 
         if (signedInUser.hasRole(BOSS) || signedInUser.hasRole(OFFICE)) {
-            departmentService.getAllDepartments().stream()
-                .collect(toCollection(() -> relevantDepartments));
+            // all departments are relevant, the members are not needed for the filter
+            return departmentService.getAllDepartmentSummaries();
         }
 
+        final Set<Department> relevantDepartments = new HashSet<>();
+
         if (signedInUser.hasRole(DEPARTMENT_HEAD)) {
             departmentService.getManagedDepartmentsOfDepartmentHead(signedInUser).stream()
                 .collect(toCollection(() -> relevantDepartments));
@@ -206,30 +199,23 @@ public class PersonsViewController implements HasLaunchpad {
         return Stream.of(relevantDepartments).flatMap(Set::stream)
             .distinct()
             .sorted(comparing(Department::getName))
+            .map(DepartmentSummary::of)
             .toList();
     }
 
     private Page<PersonDto> personPage(Page<Person> personPage, Sort originalAccountSort, int year, LocalDate now) {
 
         final List<PersonDto> personDtos = new ArrayList<>(personPage.getContent().size());
-        final List<Person> persons = personPage.stream().toList();
-
-        final List<Account> holidaysAccounts = accountService.getHolidaysAccount(year, persons);
-        final List<Account> holidaysAccountsNextYear = accountService.getHolidaysAccount(year+1, persons);
 
-        final Map<Account, HolidayAccountVacationDays> accountHolidayAccountVacationDaysMap = vacationDaysService.getVacationDaysLeft(holidaysAccounts, Year.of(year), holidaysAccountsNextYear);
-
-        for (Person person : personPage) {
+        for (PersonListEntry personListEntry : personListService.getEntries(personPage.getContent(), Year.of(year))) {
+            final Person person = personListEntry.person();
             final PersonDto.Builder personDtoBuilder = PersonDto.builder();
 
-            final Optional<Account> maybeAccount = accountHolidayAccountVacationDaysMap.keySet().stream()
-                .filter(account -> account.getPerson().equals(person))
-                .findFirst();
-
-            if (maybeAccount.isPresent()) {
+            final Optional<HolidayAccountVacationDays> maybeHolidayAccountVacationDays = personListEntry.holidayAccountVacationDays();
+            if (maybeHolidayAccountVacationDays.isPresent()) {
 
-                final Account account = maybeAccount.get();
-                final HolidayAccountVacationDays holidayAccountVacationDays = accountHolidayAccountVacationDaysMap.get(account);
+                final HolidayAccountVacationDays holidayAccountVacationDays = maybeHolidayAccountVacationDays.get();
+                final Account account = holidayAccountVacationDays.account();
 
                 final boolean doRemainingVacationDaysExpire = account.doRemainingVacationDaysExpire();
                 final LocalDate expiryDate = account.getExpiryDate();
@@ -257,7 +243,7 @@ public class PersonsViewController implements HasLaunchpad {
                 .initials(person.getInitials())
                 .lastName(lastName);
 
-            personBasedataService.getBasedataByPersonId(person.getId())
+            personListEntry.basedata()
                 .ifPresent(personBasedata -> personDtoBuilder.personnelNumber(personBasedata.personnelNumber()));
 
             final PersonDto personDto = personDtoBuilder.build();
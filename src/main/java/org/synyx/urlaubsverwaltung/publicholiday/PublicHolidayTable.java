@@ -0,0 +1,120 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.jollyday.core.Holiday;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Immutable lookup table of the public holidays of one federal state in one year.
+ * <p>
+ * The holidays are indexed by the day of the year, so that a lookup for a single day does not
+ * need to evaluate any holiday rules again. Settings dependent information like the working duration
+ * of christmas eve or new years eve is not part of this table and has to be resolved by the caller.
+ */
+final class PublicHolidayTable {
+
+    private static final Holiday[] NO_HOLIDAYS = new Holiday[0];
+
+    private final Year year;
+    private final Holiday[][] holidaysByDayOfYear;
+
+    private PublicHolidayTable(Year year, Holiday[][] holidaysByDayOfYear) {
+        this.year = year;
+        this.holidaysByDayOfYear = holidaysByDayOfYear;
+    }
+
+    /**
+     * Creates a new table for the given year. Holidays outside of the given year are ignored.
+     *
+     * @param year     the year of the table
+     * @param holidays the holidays of the year
+     * @return the immutable table of the holidays
+     */
+    static PublicHolidayTable of(Year year, Collection<Holiday> holidays) {
+
+        final Holiday[][] holidaysByDayOfYear = new Holiday[year.length()][];
+        for (Holiday holiday : holidays) {
+            final LocalDate date = holiday.getDate();
+            if (date.getYear() != year.getValue()) {
+                continue;
+            }
+
+            final int index = date.getDayOfYear() - 1;
+            final Holiday[] holidaysOfDay = holidaysByDayOfYear[index] == null ? NO_HOLIDAYS : holidaysByDayOfYear[index];
+            if (!Arrays.asList(holidaysOfDay).contains(holiday)) {
+                final Holiday[] extended = Arrays.copyOf(holidaysOfDay, holidaysOfDay.length + 1);
+                extended[holidaysOfDay.length] = holiday;
+                holidaysByDayOfYear[index] = extended;
+            }
+        }
+
+        return new PublicHolidayTable(year, holidaysByDayOfYear);
+    }
+
+    Year getYear() {
+        return year;
+    }
+
+    /**
+     * @param date to check
+     * @return {@code true} if there is at least one public holiday at the given date, {@code false} otherwise
+     * or if the date is not in the year of this table.
+     */
+    boolean isPublicHoliday(LocalDate date) {
+        return holidaysAt(date).length > 0;
+    }
+
+    /**
+     * @param date to get the public holidays for
+     * @return the public holidays at the given date, never {@code null}.
+     */
+    List<Holiday> getHolidays(LocalDate date) {
+        final Holiday[] holidays = holidaysAt(date);
+        return holidays.length == 0 ? emptyList() : List.of(holidays);
+    }
+
+    /**
+     * Returns the public holidays of the given date range (inclusive from and to) sorted by date.
+     * Only the part of the date range that lies in the year of this table is considered.
+     *
+     * @param from start of the date range
+     * @param to   end of the date range
+     * @return the public holidays of the date range, never {@code null}.
+     */
+    List<Holiday> getHolidays(LocalDate from, LocalDate to) {
+
+        final LocalDate firstDayOfYear = year.atDay(1);
+        final LocalDate lastDayOfYear = year.atDay(year.length());
+        final LocalDate start = from.isBefore(firstDayOfYear) ? firstDayOfYear : from;
+        final LocalDate end = to.isAfter(lastDayOfYear) ? lastDayOfYear : to;
+        if (start.isAfter(end)) {
+            return emptyList();
+        }
+
+        final List<Holiday> holidays = new ArrayList<>();
+        for (int index = start.getDayOfYear() - 1; index < end.getDayOfYear(); index++) {
+            final Holiday[] holidaysOfDay = holidaysByDayOfYear[index];
+            if (holidaysOfDay != null) {
+                holidays.addAll(Arrays.asList(holidaysOfDay));
+            }
+        }
+
+        return holidays;
+    }
+
+    private Holiday[] holidaysAt(LocalDate date) {
+        if (date.getYear() != year.getValue()) {
+            return NO_HOLIDAYS;
+        }
+
+        final Holiday[] holidays = holidaysByDayOfYear[date.getDayOfYear() - 1];
+        return holidays == null ? NO_HOLIDAYS : holidays;
+    }
+}
@@ -5,7 +5,6 @@ import de.focus_shift.jollyday.core.HolidayManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.workingtime.FederalState;
@@ -13,15 +12,16 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 
 import java.time.LocalDate;
 import java.time.Month;
-import java.util.HashSet;
+import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static de.focus_shift.jollyday.core.HolidayType.PUBLIC_HOLIDAY;
-import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
 import static org.synyx.urlaubsverwaltung.util.DateUtil.isChristmasEve;
 import static org.synyx.urlaubsverwaltung.util.DateUtil.isNewYearsEve;
@@ -31,6 +31,7 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
 
     private final Map<String, HolidayManager> holidayManagers;
     private final SettingsService settingsService;
+    private final Map<PublicHolidayTableKey, PublicHolidayTable> publicHolidayTables = new ConcurrentHashMap<>();
 
     @Autowired
     public PublicHolidaysServiceImpl(SettingsService settingsService, Map<String, HolidayManager> holidayManagers) {
@@ -40,23 +41,22 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
 
     @Override
     public boolean isPublicHoliday(LocalDate date, FederalState federalState) {
-        if (isChristmasEve(date) || isNewYearsEve(date)) {
-            return true;
-        }
-
-        return getHolidayManager(federalState)
-            .map(holidayManager -> holidayManager.isHoliday(date, federalState.getCodes()))
-            .orElse(false);
+        return getPublicHolidayTable(federalState, Year.from(date)).isPublicHoliday(date);
     }
 
     @Override
     public Optional<PublicHoliday> getPublicHoliday(LocalDate date, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
-        return getPublicHolidays(date, date, federalState, workingTimeSettings).stream().findFirst();
+        final List<Holiday> holidays = getPublicHolidayTable(federalState, Year.from(date)).getHolidays(date);
+        if (holidays.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(toPublicHoliday(holidays.getFirst(), workingTimeSettings, LocaleContextHolder.getLocale()));
     }
 
     @Override
     public Optional<PublicHoliday> getPublicHoliday(LocalDate date, FederalState federalState) {
-        return getPublicHolidays(date, date, federalState).stream().findFirst();
+        return getPublicHoliday(date, federalState, getWorkingTimeSettings());
     }
 
     @Override
@@ -67,48 +67,50 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
     public List<PublicHoliday> getPublicHolidays(LocalDate from, LocalDate to, FederalState federalState, WorkingTimeSettings workingTimeSettings) {
         final Locale locale = LocaleContextHolder.getLocale();
 
-        return getHolidays(from, to, federalState).stream()
-            .map(holiday -> new PublicHoliday(holiday.getDate(), getHolidayDayLength(workingTimeSettings, holiday.getDate(), federalState), holiday.getDescription(locale)))
-            .toList();
+        final List<PublicHoliday> publicHolidays = new ArrayList<>();
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            getPublicHolidayTable(federalState, Year.of(year)).getHolidays(from, to).stream()
+                .map(holiday -> toPublicHoliday(holiday, workingTimeSettings, locale))
+                .forEach(publicHolidays::add);
+        }
+
+        return publicHolidays;
+    }
+
+    private static PublicHoliday toPublicHoliday(Holiday holiday, WorkingTimeSettings workingTimeSettings, Locale locale) {
+        return new PublicHoliday(holiday.getDate(), getHolidayDayLength(workingTimeSettings, holiday.getDate()), holiday.getDescription(locale));
     }
 
-    private DayLength getHolidayDayLength(WorkingTimeSettings workingTimeSettings, LocalDate date, FederalState federalState) {
-        DayLength workingTime = FULL;
-        if (isPublicHoliday(date, federalState)) {
-            if (isChristmasEve(date)) {
-                workingTime = workingTimeSettings.getWorkingDurationForChristmasEve();
-            } else if (isNewYearsEve(date)) {
-                workingTime = workingTimeSettings.getWorkingDurationForNewYearsEve();
-            } else {
-                workingTime = ZERO;
-            }
+    private static DayLength getHolidayDayLength(WorkingTimeSettings workingTimeSettings, LocalDate date) {
+        final DayLength workingTime;
+        if (isChristmasEve(date)) {
+            workingTime = workingTimeSettings.getWorkingDurationForChristmasEve();
+        } else if (isNewYearsEve(date)) {
+            workingTime = workingTimeSettings.getWorkingDurationForNewYearsEve();
+        } else {
+            workingTime = ZERO;
         }
 
         return workingTime.getInverse();
     }
 
-    private Set<Holiday> getHolidays(final LocalDate from, final LocalDate to, FederalState federalState) {
-
-        final Set<Holiday> holidays = getHolidayManager(federalState)
-            .map(holidayManager -> holidayManager.getHolidays(from, to, PUBLIC_HOLIDAY, federalState.getCodes()))
-            .orElseGet(HashSet::new);
-
-        final DateRange requestRange = new DateRange(from, to);
-
-        int year = from.getYear();
-        while (year <= to.getYear()) {
-            final LocalDate christmas = LocalDate.of(year, Month.DECEMBER, 24);
-            if (requestRange.isOverlapping(new DateRange(christmas, christmas))) {
-                holidays.add(new Holiday(christmas, "CHRISTMAS_EVE", PUBLIC_HOLIDAY));
-            }
-            final LocalDate newYear = LocalDate.of(year, Month.DECEMBER, 31);
-            if (requestRange.isOverlapping(new DateRange(newYear, newYear))) {
-                holidays.add(new Holiday(newYear, "NEW_YEARS_EVE", PUBLIC_HOLIDAY));
-            }
-            year++;
-        }
+    private PublicHolidayTable getPublicHolidayTable(FederalState federalState, Year year) {
+        return publicHolidayTables.computeIfAbsent(new PublicHolidayTableKey(federalState, year), key -> createPublicHolidayTable(federalState, year));
+    }
+
+    private PublicHolidayTable createPublicHolidayTable(FederalState federalState, Year year) {
+
+        final LocalDate firstDayOfYear = year.atDay(1);
+        final LocalDate lastDayOfYear = year.atDay(year.length());
 
-        return holidays;
+        final List<Holiday> holidays = new ArrayList<>(getHolidayManager(federalState)
+            .map(holidayManager -> holidayManager.getHolidays(firstDayOfYear, lastDayOfYear, PUBLIC_HOLIDAY, federalState.getCodes()))
+            .orElseGet(Set::of));
+
+        holidays.add(new Holiday(LocalDate.of(year.getValue(), Month.DECEMBER, 24), "CHRISTMAS_EVE", PUBLIC_HOLIDAY));
+        holidays.add(new Holiday(LocalDate.of(year.getValue(), Month.DECEMBER, 31), "NEW_YEARS_EVE", PUBLIC_HOLIDAY));
+
+        return PublicHolidayTable.of(year, holidays);
     }
 
     private Optional<HolidayManager> getHolidayManager(FederalState federalState) {
@@ -118,4 +120,7 @@ public class PublicHolidaysServiceImpl implements PublicHolidaysService {
     private WorkingTimeSettings getWorkingTimeSettings() {
         return settingsService.getSettings().getWorkingTimeSettings();
     }
+
+    private record PublicHolidayTableKey(FederalState federalState, Year year) {
+    }
 }
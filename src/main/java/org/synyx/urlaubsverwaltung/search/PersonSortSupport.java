@@ -0,0 +1,45 @@
+package org.synyx.urlaubsverwaltung.search;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Supports pages of elements that are sorted by attributes of their person, prefixed with {@code person.},
+ * e.g. {@code person.firstName}. Only these can be sorted by the database while loading the persons.
+ */
+public class PersonSortSupport {
+
+    private static final String PERSON_PREFIX = "person.";
+
+    private PersonSortSupport() {
+        // Utility classes should not have public constructors java:S1118
+    }
+
+    /**
+     * @param sort of the elements
+     * @return {@code true} if the elements are sorted by person attributes only or not sorted at all
+     */
+    public static boolean isSortByPersonAttribute(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().startsWith(PERSON_PREFIX));
+    }
+
+    /**
+     * Maps the page request of the elements to a page request of their persons, keeping only the person attributes
+     * of the sort without their prefix.
+     *
+     * @param pageable of the elements
+     * @return page request of the persons with the same page number and size
+     */
+    public static PageRequest toPersonPageRequest(Pageable pageable) {
+        Sort personSort = Sort.unsorted();
+
+        for (Sort.Order order : pageable.getSort()) {
+            if (order.getProperty().startsWith(PERSON_PREFIX)) {
+                personSort = personSort.and(Sort.by(order.getDirection(), order.getProperty().substring(PERSON_PREFIX.length())));
+            }
+        }
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), personSort);
+    }
+}
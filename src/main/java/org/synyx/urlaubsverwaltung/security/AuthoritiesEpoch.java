@@ -0,0 +1,17 @@
+package org.synyx.urlaubsverwaltung.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Authentication details with the authorities epoch of the person the authorities of the authentication were
+ * loaded at. Stored with the security context in the session.
+ *
+ * @param epoch   of the loaded authorities
+ * @param details the original details of the authentication, e.g. the {@code WebAuthenticationDetails} of the login
+ */
+record AuthoritiesEpoch(long epoch, Object details) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2L;
+}
@@ -0,0 +1,28 @@
+package org.synyx.urlaubsverwaltung.security;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties("uv.security.authorities-epoch")
+public class AuthoritiesEpochProperties {
+
+    /**
+     * Time the authorities epoch of a person is used before it is read from the database again, i.e. the maximum
+     * time until changes of other instances of the application are visible. Changes of the own instance are visible
+     * as soon as they have been committed.
+     */
+    @NotNull
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+}
@@ -0,0 +1,10 @@
+package org.synyx.urlaubsverwaltung.security;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+interface AuthoritiesEpochRepository extends JpaRepository<AuthoritiesEpochEntity, Long> {
+
+    Optional<AuthoritiesEpochEntity> findByUsername(String username);
+}
@@ -0,0 +1,119 @@
+package org.synyx.urlaubsverwaltung.security;
+
+import org.slf4j.Logger;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.stream.Collectors.joining;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Keeps an authorities epoch per person, which is increased whenever the permissions of the person have changed.
+ * Authentications remember the epoch their authorities have been loaded at, see {@link AuthoritiesEpoch}, and are
+ * reloaded by the {@link ReloadAuthenticationAuthoritiesFilter} as soon as the epoch of the person is greater.
+ *
+ * <p>
+ * The epochs are stored in the database. The epoch of a person is read again from the database after
+ * {@link AuthoritiesEpochProperties#getRefreshInterval()}, so that changes of other instances of the application are
+ * visible after that interval at the latest, independent of when they have been committed. Changes of the own
+ * instance are visible as soon as they have been committed. Persons whose permissions have never been changed have
+ * the epoch {@code 0}.
+ */
+@Service
+class AuthoritiesEpochService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final AuthoritiesEpochRepository authoritiesEpochRepository;
+    private final AuthoritiesEpochProperties authoritiesEpochProperties;
+    private final PersonService personService;
+    private final Clock clock;
+
+    private final Map<String, LoadedEpoch> epochs = new ConcurrentHashMap<>();
+
+    AuthoritiesEpochService(AuthoritiesEpochRepository authoritiesEpochRepository, AuthoritiesEpochProperties authoritiesEpochProperties,
+                            PersonService personService, Clock clock) {
+        this.authoritiesEpochRepository = authoritiesEpochRepository;
+        this.authoritiesEpochProperties = authoritiesEpochProperties;
+        this.personService = personService;
+        this.clock = clock;
+    }
+
+    /**
+     * @param username of the person
+     * @return the current authorities epoch of the person, {@code 0} if the permissions of the person have never been changed
+     */
+    long getEpoch(String username) {
+        if (username == null) {
+            return 0;
+        }
+
+        final Instant now = Instant.now(clock);
+        final LoadedEpoch loadedEpoch = epochs.get(username);
+        if (loadedEpoch != null && now.isBefore(loadedEpoch.loadedAt().plus(authoritiesEpochProperties.getRefreshInterval()))) {
+            return loadedEpoch.epoch();
+        }
+
+        final long epoch = authoritiesEpochRepository.findByUsername(username).map(AuthoritiesEpochEntity::getEpoch).orElse(0L);
+        epochs.put(username, new LoadedEpoch(epoch, now));
+        return epoch;
+    }
+
+    @Transactional
+    @EventListener
+    void increaseEpochIfPermissionsChanged(PersonUpdatedEvent event) {
+
+        final String username = event.getUsername();
+        final String permissions = personService.getPersonByID(event.getPersonId())
+            .map(AuthoritiesEpochService::toPermissions)
+            .orElse("");
+
+        final Optional<AuthoritiesEpochEntity> maybeAuthoritiesEpoch = authoritiesEpochRepository.findByUsername(username);
+        if (maybeAuthoritiesEpoch.map(AuthoritiesEpochEntity::getPermissions).filter(permissions::equals).isPresent()) {
+            return;
+        }
+
+        final AuthoritiesEpochEntity authoritiesEpoch = maybeAuthoritiesEpoch.orElseGet(() -> {
+            final AuthoritiesEpochEntity entity = new AuthoritiesEpochEntity();
+            entity.setUsername(username);
+            return entity;
+        });
+        authoritiesEpoch.setEpoch(authoritiesEpoch.getEpoch() + 1);
+        authoritiesEpoch.setPermissions(permissions);
+
+        final AuthoritiesEpochEntity savedAuthoritiesEpoch = authoritiesEpochRepository.save(authoritiesEpoch);
+        LOG.debug("Increased authorities epoch of person with username {} to {}", username, savedAuthoritiesEpoch.getEpoch());
+    }
+
+    /**
+     * Forgets the loaded epoch of the updated person once the update has been committed, so that the next request
+     * reads the committed epoch together with the committed permissions.
+     */
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    void forgetEpoch(PersonUpdatedEvent event) {
+        epochs.remove(event.getUsername());
+    }
+
+    private static String toPermissions(Person person) {
+        return person.getPermissions().stream()
+            .map(Enum::name)
+            .sorted()
+            .collect(joining(","));
+    }
+
+    private record LoadedEpoch(long epoch, Instant loadedAt) {
+    }
+}
@@ -4,7 +4,6 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.springframework.security.core.Authentication;
@@ -22,43 +21,41 @@ import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
 import java.io.IOException;
 import java.util.List;
 
-import static java.lang.Boolean.TRUE;
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
-import static org.synyx.urlaubsverwaltung.security.SessionServiceImpl.RELOAD_AUTHORITIES;
 
 class ReloadAuthenticationAuthoritiesFilter extends OncePerRequestFilter {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final PersonService personService;
-    private final SessionService sessionService;
+    private final AuthoritiesEpochService authoritiesEpochService;
     private final DelegatingSecurityContextRepository securityContextRepository;
     private final TenantContextHolder tenantContextHolder;
 
-    ReloadAuthenticationAuthoritiesFilter(PersonService personService, SessionService sessionService, DelegatingSecurityContextRepository securityContextRepository, TenantContextHolder tenantContextHolder) {
+    ReloadAuthenticationAuthoritiesFilter(PersonService personService, AuthoritiesEpochService authoritiesEpochService, DelegatingSecurityContextRepository securityContextRepository, TenantContextHolder tenantContextHolder) {
         this.personService = personService;
-        this.sessionService = sessionService;
+        this.authoritiesEpochService = authoritiesEpochService;
         this.securityContextRepository = securityContextRepository;
         this.tenantContextHolder = tenantContextHolder;
     }
 
+    /**
+     * Compares the authorities epoch the authentication has been loaded at with the current one of the person. Neither
+     * creates nor writes the session.
+     */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        final HttpSession session = request.getSession();
-        if (session == null) {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof OAuth2AuthenticationToken)) {
             return true;
         }
 
-        final Boolean reload = (Boolean) session.getAttribute(RELOAD_AUTHORITIES);
-        return !TRUE.equals(reload);
+        return loadedEpoch(authentication) >= authoritiesEpochService.getEpoch(authentication.getName());
     }
 
     @Override
     public void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain chain) throws ServletException, IOException {
-        final HttpSession session = request.getSession();
-        sessionService.unmarkSessionToReloadAuthorities(session.getId());
-
         final SecurityContext context = SecurityContextHolder.getContext();
         final Authentication authentication = context.getAuthentication();
 
@@ -68,9 +65,12 @@ class ReloadAuthenticationAuthoritiesFilter extends OncePerRequestFilter {
 
         try {
             tenantContextHolder.setTenantId(new TenantId(tenantId));
+            // the epoch is read before the person, a concurrent update results in another reload with the next request
+            final long epoch = authoritiesEpochService.getEpoch(authentication.getName());
             final Person signedInUser = personService.getSignedInUser();
             final List<SimpleGrantedAuthority> updatedAuthorities = getUpdatedAuthorities(signedInUser);
-            final Authentication updatedAuthentication = new OAuth2AuthenticationToken(oAuth2Auth.getPrincipal(), updatedAuthorities, oAuth2Auth.getAuthorizedClientRegistrationId());
+            final OAuth2AuthenticationToken updatedAuthentication = new OAuth2AuthenticationToken(oAuth2Auth.getPrincipal(), updatedAuthorities, oAuth2Auth.getAuthorizedClientRegistrationId());
+            updatedAuthentication.setDetails(new AuthoritiesEpoch(epoch, originalDetails(authentication)));
 
             context.setAuthentication(updatedAuthentication);
             securityContextRepository.saveContext(context, request, response);
@@ -82,6 +82,15 @@ class ReloadAuthenticationAuthoritiesFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
+    private static long loadedEpoch(Authentication authentication) {
+        // authentications without epoch have been loaded at login, before the person has been updated for the first time
+        return authentication.getDetails() instanceof AuthoritiesEpoch authoritiesEpoch ? authoritiesEpoch.epoch() : 0;
+    }
+
+    private static Object originalDetails(Authentication authentication) {
+        return authentication.getDetails() instanceof AuthoritiesEpoch authoritiesEpoch ? authoritiesEpoch.details() : authentication.getDetails();
+    }
+
     private List<SimpleGrantedAuthority> getUpdatedAuthorities(Person signedInUser) {
         return signedInUser.getPermissions().stream()
             .map(role -> new SimpleGrantedAuthority(role.name()))
@@ -25,22 +25,22 @@ import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
 @Configuration
-@EnableConfigurationProperties(Oauth2LoginConfigurationProperties.class)
+@EnableConfigurationProperties({Oauth2LoginConfigurationProperties.class, AuthoritiesEpochProperties.class})
 @EnableMethodSecurity
 class SecurityWebConfiguration {
 
     private final PersonService personService;
-    private final SessionService sessionService;
+    private final AuthoritiesEpochService authoritiesEpochService;
     private final OidcClientInitiatedLogoutSuccessHandler oidcClientInitiatedLogoutSuccessHandler;
     private final ClientRegistrationRepository clientRegistrationRepository;
     private final Oauth2LoginConfigurationProperties oauth2LoginConfigurationProperties;
 
-    SecurityWebConfiguration(PersonService personService, SessionService sessionService,
+    SecurityWebConfiguration(PersonService personService, AuthoritiesEpochService authoritiesEpochService,
                              OidcClientInitiatedLogoutSuccessHandler oidcClientInitiatedLogoutSuccessHandler,
                              ClientRegistrationRepository clientRegistrationRepository,
                              Oauth2LoginConfigurationProperties oauth2LoginConfigurationProperties) {
         this.personService = personService;
-        this.sessionService = sessionService;
+        this.authoritiesEpochService = authoritiesEpochService;
         this.oidcClientInitiatedLogoutSuccessHandler = oidcClientInitiatedLogoutSuccessHandler;
         this.clientRegistrationRepository = clientRegistrationRepository;
         this.oauth2LoginConfigurationProperties = oauth2LoginConfigurationProperties;
@@ -130,7 +130,7 @@ class SecurityWebConfiguration {
             .securityContext(
                 securityContext -> securityContext.securityContextRepository(securityContextRepository)
             )
-            .addFilterAfter(new ReloadAuthenticationAuthoritiesFilter(personService, sessionService, securityContextRepository, tenantContextHolder), BasicAuthenticationFilter.class)
+            .addFilterAfter(new ReloadAuthenticationAuthoritiesFilter(personService, authoritiesEpochService, securityContextRepository, tenantContextHolder), BasicAuthenticationFilter.class)
             .build();
     }
 
@@ -8,13 +8,13 @@ import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.tenancy.configuration.single.ConditionalOnSingleTenantMode;
 
-import java.util.Map;
-
+/**
+ * Deletes the sessions of deleted persons. Changed authorities of persons are reloaded by the
+ * {@link ReloadAuthenticationAuthoritiesFilter} without touching the sessions.
+ */
 @Service
 @ConditionalOnSingleTenantMode
-class SessionServiceImpl<S extends Session> implements SessionService {
-
-    static final String RELOAD_AUTHORITIES = "reloadAuthorities";
+class SessionServiceImpl<S extends Session> {
 
     private final FindByIndexNameSessionRepository<S> sessionRepository;
 
@@ -23,22 +23,6 @@ class SessionServiceImpl<S extends Session> implements SessionService {
         this.sessionRepository = sessionRepository;
     }
 
-    @Override
-    public void markSessionToReloadAuthorities(String username) {
-        final Map<String, S> map = sessionRepository.findByPrincipalName(username);
-        for (final S session : map.values()) {
-            session.setAttribute(RELOAD_AUTHORITIES, true);
-            sessionRepository.save(session);
-        }
-    }
-
-    @Override
-    public void unmarkSessionToReloadAuthorities(String sessionId) {
-        final S session = sessionRepository.findById(sessionId);
-        session.removeAttribute(RELOAD_AUTHORITIES);
-        sessionRepository.save(session);
-    }
-
     @EventListener
     void deleteSessionByEvent(PersonDeletedEvent event) {
         sessionRepository.findByPrincipalName(event.person().getUsername())
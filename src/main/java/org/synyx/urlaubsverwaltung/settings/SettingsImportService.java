@@ -1,21 +1,36 @@
 package org.synyx.urlaubsverwaltung.settings;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
 
 @Service
 public class SettingsImportService {
 
     private final SettingsRepository settingsRepository;
+    private final TenantContextHolder tenantContextHolder;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public SettingsImportService(SettingsRepository settingsRepository) {
+    public SettingsImportService(SettingsRepository settingsRepository, TenantContextHolder tenantContextHolder,
+                                 ApplicationEventPublisher applicationEventPublisher) {
         this.settingsRepository = settingsRepository;
+        this.tenantContextHolder = tenantContextHolder;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     public void deleteAll() {
         settingsRepository.deleteAll();
+        publishSettingsUpdated();
     }
 
     public void importSettings(Settings settings) {
         settingsRepository.save(settings);
+        publishSettingsUpdated();
+    }
+
+    private void publishSettingsUpdated() {
+        tenantContextHolder.getCurrentTenantId()
+            .map(SettingsUpdatedEvent::of)
+            .ifPresent(applicationEventPublisher::publishEvent);
     }
 }
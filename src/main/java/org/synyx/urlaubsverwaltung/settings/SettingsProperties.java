@@ -0,0 +1,31 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.settings")
+@Validated
+public class SettingsProperties {
+
+    /**
+     * Time the settings of a tenant are used before they are read from the database again, i.e. the maximum
+     * time until changes of other instances of the application are visible. Changes of the own instance are visible
+     * as soon as they have been committed.
+     * Default is one minute (PT1M).
+     */
+    @NotNull
+    private Duration snapshotTimeToLive = Duration.ofMinutes(1);
+
+    public Duration getSnapshotTimeToLive() {
+        return snapshotTimeToLive;
+    }
+
+    public void setSnapshotTimeToLive(Duration snapshotTimeToLive) {
+        this.snapshotTimeToLive = snapshotTimeToLive;
+    }
+}
@@ -2,13 +2,28 @@ package org.synyx.urlaubsverwaltung.settings;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMPLETION;
 
 /**
  * Implementation for {@link org.synyx.urlaubsverwaltung.settings.SettingsService}.
+ * <p>
+ * The settings of a tenant are loaded once and kept as an immutable {@link SettingsSnapshot}. The snapshot is
+ * dropped whenever a {@link SettingsUpdatedEvent} is published for the tenant and is reloaded on the next access.
+ * Settings saved by another application node do not publish an event here, therefore a snapshot is reloaded after
+ * {@link SettingsProperties#getSnapshotTimeToLive()} at the latest.
  */
 @Service
 public class SettingsServiceImpl implements SettingsService {
@@ -16,23 +31,43 @@ public class SettingsServiceImpl implements SettingsService {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final SettingsRepository settingsRepository;
+    private final TenantContextHolder tenantContextHolder;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final SettingsProperties settingsProperties;
+    private final Clock clock;
+    private final Map<TenantId, SettingsSnapshot> snapshots = new ConcurrentHashMap<>();
 
     @Autowired
-    public SettingsServiceImpl(SettingsRepository settingsRepository) {
+    public SettingsServiceImpl(SettingsRepository settingsRepository, TenantContextHolder tenantContextHolder,
+                               ApplicationEventPublisher applicationEventPublisher, SettingsProperties settingsProperties,
+                               Clock clock) {
         this.settingsRepository = settingsRepository;
+        this.tenantContextHolder = tenantContextHolder;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.settingsProperties = settingsProperties;
+        this.clock = clock;
     }
 
     @Override
     public Settings save(Settings settings) {
         final Settings savedSettings = settingsRepository.save(settings);
         LOG.info("Updated settings: {}", savedSettings);
+        publishSettingsUpdated();
         return savedSettings;
     }
 
     @Override
     public Settings getSettings() {
-        return settingsRepository.findAll().stream().findFirst()
-            .orElseThrow(() -> new IllegalStateException("No settings found in database!"));
+        final Optional<TenantId> maybeTenantId = tenantContextHolder.getCurrentTenantId();
+        if (maybeTenantId.isEmpty()) {
+            return loadSettings();
+        }
+
+        return snapshots.compute(maybeTenantId.get(), (tenantId, snapshot) ->
+            snapshot == null || snapshot.isExpired(settingsProperties.getSnapshotTimeToLive(), clock.instant())
+                ? SettingsSnapshot.of(loadSettings(), clock.instant())
+                : snapshot
+        ).toSettings();
     }
 
     @Override
@@ -44,6 +79,30 @@ public class SettingsServiceImpl implements SettingsService {
             final Settings settings = new Settings();
             final Settings savedSettings = settingsRepository.save(settings);
             LOG.info("Saved initial settings {}", savedSettings);
+            publishSettingsUpdated();
         }
     }
+
+    /**
+     * Drops the snapshot of the tenant after the surrounding transaction has been completed, regardless whether it
+     * has been committed or rolled back. The snapshot is dropped immediately when there is no surrounding transaction.
+     *
+     * @param event the settings of a tenant have been changed
+     */
+    @TransactionalEventListener(phase = AFTER_COMPLETION, fallbackExecution = true)
+    void onSettingsUpdated(SettingsUpdatedEvent event) {
+        snapshots.remove(event.tenantId());
+    }
+
+    private void publishSettingsUpdated() {
+        tenantContextHolder.getCurrentTenantId().ifPresent(tenantId -> {
+            snapshots.remove(tenantId);
+            applicationEventPublisher.publishEvent(SettingsUpdatedEvent.of(tenantId));
+        });
+    }
+
+    private Settings loadSettings() {
+        return settingsRepository.findAll().stream().findFirst()
+            .orElseThrow(() -> new IllegalStateException("No settings found in database!"));
+    }
 }
@@ -0,0 +1,41 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.springframework.util.SerializationUtils.clone;
+
+/**
+ * Immutable snapshot of the {@link Settings} of a tenant.
+ * <p>
+ * The snapshot keeps a private copy of the settings and hands out a new detached copy on every
+ * {@link #toSettings()} call, so callers are free to modify the returned settings without changing the snapshot.
+ * Copies are made by serialization, so every field of the settings and their embedded settings is copied.
+ */
+final class SettingsSnapshot {
+
+    private final Settings settings;
+    private final Instant loadedAt;
+
+    private SettingsSnapshot(Settings settings, Instant loadedAt) {
+        this.settings = settings;
+        this.loadedAt = loadedAt;
+    }
+
+    static SettingsSnapshot of(Settings settings, Instant loadedAt) {
+        return new SettingsSnapshot(clone(settings), loadedAt);
+    }
+
+    Settings toSettings() {
+        return clone(settings);
+    }
+
+    /**
+     * @param timeToLive how long a snapshot may be used
+     * @param now        the current instant
+     * @return {@code true} if the snapshot has been loaded longer than the time to live ago
+     */
+    boolean isExpired(Duration timeToLive, Instant now) {
+        return !loadedAt.plus(timeToLive).isAfter(now);
+    }
+}
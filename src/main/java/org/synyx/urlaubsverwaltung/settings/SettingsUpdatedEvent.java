@@ -0,0 +1,16 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Indicates that the {@link Settings} of a tenant have been changed and cached copies of them have to be refreshed.
+ */
+public record SettingsUpdatedEvent(UUID id, Instant createdAt, TenantId tenantId) {
+
+    public static SettingsUpdatedEvent of(TenantId tenantId) {
+        return new SettingsUpdatedEvent(UUID.randomUUID(), Instant.now(), tenantId);
+    }
+}
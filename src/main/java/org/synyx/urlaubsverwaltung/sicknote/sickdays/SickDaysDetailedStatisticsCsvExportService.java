@@ -4,13 +4,13 @@ package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 import com.opencsv.CSVWriter;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.csv.CsvExportService;
+import org.synyx.urlaubsverwaltung.csv.StreamingCsvExportService;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.text.DecimalFormat;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.text.NumberFormat.getInstance;
@@ -19,7 +19,9 @@ import static java.time.format.FormatStyle.MEDIUM;
 import static java.time.format.FormatStyle.SHORT;
 
 @Service
-class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<SickDaysDetailedStatistics> {
+class SickDaysDetailedStatisticsCsvExportService implements StreamingCsvExportService<SickDaysDetailedStatistics> {
+
+    private static final int COLUMNS = 12;
 
     private final MessageSource messageSource;
 
@@ -38,7 +40,7 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
+    public void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter) {
 
         final String[] csvHeader = {
             getTranslation(locale, "person.account.basedata.personnelNumber"),
@@ -55,14 +57,18 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
             getTranslation(locale, "sicknotes.statistics.certificate.days")
         };
 
+        csvWriter.writeNext(csvHeader);
+    }
+
+    @Override
+    public void writeRows(FilterPeriod period, Locale locale, Stream<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
+
         final DateTimeFormatter dateTimeFormatter = ofLocalizedDate(MEDIUM).withLocale(locale);
         final DecimalFormat decimalFormat = (DecimalFormat) getInstance(locale);
 
-        csvWriter.writeNext(csvHeader);
-
         allDetailedSickNotes.forEach(detailedSickNote ->
             detailedSickNote.getSickNotes().forEach(sickNote -> {
-                final String[] sickNoteCsvRow = new String[csvHeader.length];
+                final String[] sickNoteCsvRow = new String[COLUMNS];
                 sickNoteCsvRow[0] = detailedSickNote.getPersonalNumber();
                 sickNoteCsvRow[1] = detailedSickNote.getPerson().getFirstName();
                 sickNoteCsvRow[2] = detailedSickNote.getPerson().getLastName();
@@ -5,7 +5,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
@@ -31,6 +30,8 @@ import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.SICK_NOTE_VIEW;
+import static org.synyx.urlaubsverwaltung.search.PersonSortSupport.isSortByPersonAttribute;
+import static org.synyx.urlaubsverwaltung.search.PersonSortSupport.toPersonPageRequest;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
 
 @Service
@@ -115,38 +116,17 @@ public class SickDaysStatisticsService {
 
     private Page<Person> getMembersForPerson(Person person, PageableSearchQuery pageableSearchQuery) {
         final Pageable pageable = pageableSearchQuery.getPageable();
-        final boolean sortByPerson = isSortByPersonAttribute(pageable);
+        final boolean sortByPerson = isSortByPersonAttribute(pageable.getSort());
 
         if (person.hasRole(OFFICE) || person.hasRole(BOSS) && person.hasRole(SICK_NOTE_VIEW)) {
             final PageableSearchQuery query = sortByPerson
-                ? new PageableSearchQuery(mapToPersonPageRequest(pageable), pageableSearchQuery.getQuery())
+                ? new PageableSearchQuery(toPersonPageRequest(pageable), pageableSearchQuery.getQuery())
                 : new PageableSearchQuery(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), pageableSearchQuery.getQuery());
 
             return personService.getActivePersons(query);
         }
 
-        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? mapToPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
+        final PageableSearchQuery query = new PageableSearchQuery(sortByPerson ? toPersonPageRequest(pageable) : Pageable.unpaged(), pageableSearchQuery.getQuery());
         return departmentService.getManagedMembersOfPerson(person, query);
     }
-
-    private boolean isSortByPersonAttribute(Pageable pageable) {
-        for (Sort.Order order : pageable.getSort()) {
-            if (!order.getProperty().startsWith("person.")) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private PageRequest mapToPersonPageRequest(Pageable statisticsPageRequest) {
-        Sort personSort = Sort.unsorted();
-
-        for (Sort.Order order : statisticsPageRequest.getSort()) {
-            if (order.getProperty().startsWith("person.")) {
-                personSort = personSort.and(Sort.by(order.getDirection(), order.getProperty().replace("person.", "")));
-            }
-        }
-
-        return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), personSort);
-    }
 }
@@ -3,20 +3,18 @@ package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortDefault;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.StreamingCSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
@@ -27,11 +25,12 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Locale;
+import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.springframework.http.HttpStatus.OK;
+import static org.synyx.urlaubsverwaltung.csv.CsvDownloadSupport.csvHeaders;
+import static org.synyx.urlaubsverwaltung.csv.CsvDownloadSupport.streamAll;
 
 /**
  * Controller for statistics of sick notes resp. sick days.
@@ -66,7 +65,6 @@ class SickDaysStatisticsViewController {
     public ResponseEntity<ByteArrayResource> downloadCSV(
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
-        @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
         @RequestParam(value = "query", required = false, defaultValue = "") String query,
         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
         Locale locale
@@ -75,20 +73,32 @@ class SickDaysStatisticsViewController {
         final FilterPeriod period = toFilterPeriod(from, to, locale);
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
 
         final Page<SickDaysDetailedStatistics> sickDaysStatisticsPage =
             sickDaysStatisticsService.getAll(signedInUser, period.startDate(), period.endDate(), pageableSearchQuery);
 
         final CSVFile csvFile = sickDaysDetailedStatisticsCsvExportService.generateCSV(period, locale, sickDaysStatisticsPage.getContent());
 
-        final HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        return ResponseEntity.status(OK).headers(csvHeaders(csvFile.fileName())).body(csvFile.resource());
+    }
+
+    @PreAuthorize("hasAnyAuthority('OFFICE', 'SICK_NOTE_VIEW')")
+    @GetMapping(value = "/download", params = "allElements=true")
+    public ResponseEntity<StreamingResponseBody> downloadAllCSV(
+        @RequestParam(value = "from", defaultValue = "") String from,
+        @RequestParam(value = "to", defaultValue = "") String to,
+        @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+        Locale locale
+    ) {
+
+        final FilterPeriod period = toFilterPeriod(from, to, locale);
+        final Person signedInUser = personService.getSignedInUser();
+
+        final Stream<SickDaysDetailedStatistics> sickDaysStatistics = streamAll(pageable.getSort(), searchQuery -> sickDaysStatisticsService.getAll(signedInUser, period.startDate(), period.endDate(), searchQuery));
+        final StreamingCSVFile csvFile = sickDaysDetailedStatisticsCsvExportService.generateStreamingCSV(period, locale, sickDaysStatistics);
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(csvHeaders(csvFile.fileName())).body(csvFile.body());
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
@@ -149,7 +149,7 @@ public class SickNote {
         BigDecimal workingTimeSum = BigDecimal.ZERO;
         for (LocalDate localDate : dateRange) {
             final BigDecimal workingTime = workingTimeCalendar.workingTime(localDate).orElse(BigDecimal.ZERO);
-            final WorkingTimeCalendar.WorkingDayInformation workingDayInformation = workingTimeCalendar.workingDays().get(dateRange.startDate());
+            final WorkingTimeCalendar.WorkingDayInformation workingDayInformation = workingTimeCalendar.workingDayInformation(dateRange.startDate()).orElse(null);
             if (dayLength.isHalfDay() && workingDayInformation != null && !workingDayInformation.hasHalfDayPublicHoliday()) {
                 workingTimeSum = workingTimeSum.add(workingTime.divide(BigDecimal.valueOf(2), 1, RoundingMode.CEILING));
             } else {
@@ -8,11 +8,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
 import org.synyx.urlaubsverwaltung.tenancy.tenant.AbstractTenantAwareEntity;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Objects;
 
@@ -79,6 +82,14 @@ public class SickNoteEntity extends AbstractTenantAwareEntity {
     @Enumerated(STRING)
     private SickNoteStatus status;
 
+    /**
+     * Point in time of the latest insert or update of this sick note, set by the database.
+     *
+     * @since 5.23.0
+     */
+    @UpdateTimestamp(source = SourceType.DB)
+    private Instant lastModification;
+
     public Long getId() {
         return id;
     }
@@ -175,6 +186,10 @@ public class SickNoteEntity extends AbstractTenantAwareEntity {
         this.status = status;
     }
 
+    public Instant getLastModification() {
+        return lastModification;
+    }
+
     @Override
     public String toString() {
         return "SickNote{" +
@@ -0,0 +1,12 @@
+package org.synyx.urlaubsverwaltung.sicknote.sicknote;
+
+import java.time.Instant;
+
+/**
+ * Latest modification of a sick note, without loading the sick note itself.
+ *
+ * @param sickNoteId       id of the sick note
+ * @param lastModification point in time of the latest insert or update of the sick note
+ */
+record SickNoteLastModification(Long sickNoteId, Instant lastModification) {
+}
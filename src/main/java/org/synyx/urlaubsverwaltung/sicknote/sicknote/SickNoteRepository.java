@@ -8,6 +8,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.Role;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,13 @@ interface SickNoteRepository extends CrudRepository<SickNoteEntity, Long> {
     )
     List<SickNoteEntity> findByPersonAndPeriod(Person person, LocalDate startDate, LocalDate endDate);
 
+    @Query("""
+        SELECT new org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteLastModification(x.id, x.lastModification)
+        FROM SickNoteEntity x
+        WHERE x.person IN :persons AND x.endDate >= :startDate AND x.startDate <= :endDate
+        """)
+    List<SickNoteLastModification> findLastModificationsOfPersons(@Param("persons") List<Person> persons, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
     @Query("SELECT COUNT(DISTINCT x.person) FROM SickNoteEntity x WHERE YEAR(x.startDate) = ?1 OR YEAR(x.endDate) = ?1 AND x.status = 'ACTIVE'")
     Long findNumberOfPersonsWithMinimumOneSickNote(int year);
 
@@ -52,7 +60,47 @@ interface SickNoteRepository extends CrudRepository<SickNoteEntity, Long> {
 
     List<SickNoteEntity> findByPersonPermissionsIsInAndStatusInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(List<Role> roles, List<SickNoteStatus> sickNoteStatus, LocalDate startDate, LocalDate endDate);
 
-    List<SickNoteEntity> findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate startDate, LocalDate endDate);
+    /**
+     * Native query of {@link #findOverlappingByStatusNamesAndPersonIds(Collection, Collection, LocalDate, LocalDate)}.
+     */
+    String FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS = """
+        SELECT s.*
+        FROM sick_note s
+        WHERE s.status IN (:statuses)
+        AND s.person_id IN (:personIds)
+        AND s.date_range && daterange(:startDate, :endDate, '[]')
+        """;
+
+    /**
+     * Finds the sick notes of the given persons with one of the given statuses overlapping the given inclusive
+     * date range.
+     *
+     * @param sickNoteStatus of the sick notes
+     * @param persons        to find the sick notes of
+     * @param startDate      first day of the date range
+     * @param endDate        last day of the date range
+     * @return sick notes of the persons overlapping the date range
+     */
+    default List<SickNoteEntity> findOverlappingOfPersons(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate startDate, LocalDate endDate) {
+        if (sickNoteStatus.isEmpty() || persons.isEmpty()) {
+            return List.of();
+        }
+        final List<String> statusNames = sickNoteStatus.stream().map(SickNoteStatus::name).toList();
+        return findOverlappingByStatusNamesAndPersonIds(statusNames, persons.stream().map(Person::getId).toList(), startDate, endDate);
+    }
+
+    /**
+     * Finds the sick notes of the given persons with one of the given statuses overlapping the given inclusive
+     * date range. The overlap is checked on the generated {@code date_range} column, which is served by a GiST index.
+     *
+     * @param statuses  names of the {@link SickNoteStatus}, must not be empty
+     * @param personIds ids of the persons, must not be empty
+     * @param startDate first day of the date range
+     * @param endDate   last day of the date range
+     * @return sick notes of the persons overlapping the date range
+     */
+    @Query(nativeQuery = true, value = FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS)
+    List<SickNoteEntity> findOverlappingByStatusNamesAndPersonIds(@Param("statuses") Collection<String> statuses, @Param("personIds") Collection<Long> personIds, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     List<SickNoteEntity> findByStatusInAndPersonInAndPersonPermissionsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(List<SickNoteStatus> sickNoteStatus, List<Person> persons, List<Role> roles, LocalDate startDate, LocalDate endDate);
 
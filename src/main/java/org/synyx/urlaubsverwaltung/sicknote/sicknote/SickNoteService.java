@@ -3,8 +3,10 @@ package org.synyx.urlaubsverwaltung.sicknote.sicknote;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.Role;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -81,6 +83,17 @@ public interface SickNoteService {
      */
     List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate start, LocalDate end);
 
+    /**
+     * Get the latest modification of every {@link SickNote} of the given persons for the given date range, regardless
+     * of its status.
+     *
+     * @param persons {@link Person}s to consider
+     * @param start   start date (inclusive)
+     * @param end     end date (inclusive)
+     * @return the point in time of the latest modification by id of the {@link SickNote}
+     */
+    Map<Long, Instant> getLastModifications(List<Person> persons, LocalDate start, LocalDate end);
+
     List<SickNote> getForStatesAndPersonAndPersonHasRoles(List<SickNoteStatus> sickNoteStatus, List<Person> persons, List<Role> roles, LocalDate start, LocalDate end);
 
     /**
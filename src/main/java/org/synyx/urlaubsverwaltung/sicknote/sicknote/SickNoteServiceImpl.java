@@ -11,11 +11,14 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toMap;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.SUBMITTED;
@@ -144,10 +147,16 @@ class SickNoteServiceImpl implements SickNoteService {
 
     @Override
     public List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatus, List<Person> persons, LocalDate start, LocalDate end) {
-        final List<SickNoteEntity> entities = sickNoteRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(sickNoteStatus, persons, start, end);
+        final List<SickNoteEntity> entities = sickNoteRepository.findOverlappingOfPersons(sickNoteStatus, persons, start, end);
         return sickNoteMapper.toSickNoteWithWorkDays(entities, new DateRange(start, end));
     }
 
+    @Override
+    public Map<Long, Instant> getLastModifications(List<Person> persons, LocalDate start, LocalDate end) {
+        return sickNoteRepository.findLastModificationsOfPersons(persons, start, end).stream()
+            .collect(toMap(SickNoteLastModification::sickNoteId, SickNoteLastModification::lastModification));
+    }
+
     @Override
     public List<SickNote> getForStatesAndPersonAndPersonHasRoles(List<SickNoteStatus> sickNoteStatus, List<Person> persons, List<Role> roles, LocalDate start, LocalDate end) {
         final List<SickNoteEntity> entities = sickNoteRepository.findByStatusInAndPersonInAndPersonPermissionsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(sickNoteStatus, persons, roles, start, end);
@@ -1,14 +1,18 @@
 package org.synyx.urlaubsverwaltung.sicknote.statistics;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
@@ -68,17 +72,24 @@ public class SickNoteStatistics {
 
     private BigDecimal calculateTotalNumberOfSickDays(WorkDaysCountService workDaysCountService, List<SickNote> sickNotes) {
 
-        BigDecimal numberOfSickDays = ZERO;
-        for (final SickNote sickNote : sickNotes) {
+        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
 
-            final LocalDate firstDayOfYear = Year.of(year).atDay(1);
-            final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+        final List<WorkDaysCountPeriod> periods = new ArrayList<>(sickNotes.size());
+        for (final SickNote sickNote : sickNotes) {
 
             final LocalDate startDate = sickNote.getStartDate().isBefore(firstDayOfYear) ? firstDayOfYear : sickNote.getStartDate();
             final LocalDate endDate = sickNote.getEndDate().isAfter(lastDayOfYear) ? lastDayOfYear : sickNote.getEndDate();
 
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), startDate, endDate, sickNote.getPerson());
-            numberOfSickDays = numberOfSickDays.add(workDays);
+            periods.add(new WorkDaysCountPeriod(sickNote.getPerson(), sickNote.getDayLength(), new DateRange(startDate, endDate)));
+        }
+
+        // equal periods are calculated once but have to be counted for every sick note
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysByPeriod = workDaysCountService.getWorkDaysCount(periods);
+
+        BigDecimal numberOfSickDays = ZERO;
+        for (final WorkDaysCountPeriod period : periods) {
+            numberOfSickDays = numberOfSickDays.add(workDaysByPeriod.get(period));
         }
 
         return numberOfSickDays;
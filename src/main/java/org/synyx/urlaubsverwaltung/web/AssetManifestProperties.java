@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties("uv.assets.manifest")
+@Validated
+public class AssetManifestProperties {
+
+    /**
+     * Reads the assets manifest on every access instead of parsing it only once.
+     * Only useful for local development while the frontend assets are rebuilt continuously.
+     */
+    private boolean reload = false;
+
+    public boolean isReload() {
+        return reload;
+    }
+
+    public void setReload(boolean reload) {
+        this.reload = reload;
+    }
+}
@@ -2,6 +2,8 @@ package org.synyx.urlaubsverwaltung.web;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
 
@@ -9,45 +11,89 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toUnmodifiableMap;
 import static org.springframework.util.StringUtils.hasText;
 
+/**
+ * Resolves the hashed filenames of the frontend assets from the {@code assets-manifest.json} file.
+ * <p>
+ * The manifest is parsed once on first access and the assets are cached per context path,
+ * unless {@link AssetManifestProperties#isReload()} is enabled.
+ */
 @Service
 public class AssetManifestService {
 
     private static final String ASSETS_MANIFEST_FILE = "classpath:assets-manifest.json";
+    private static final String METRIC_ASSETS_MANIFEST_LOOKUP = "assets.manifest.lookup";
 
     private final ResourceLoader resourceLoader;
+    private final AssetManifestProperties assetManifestProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Map<String, Asset>> assetsByContextPath = new ConcurrentHashMap<>();
+    private final Timer lookupTimer;
 
-    public AssetManifestService(ResourceLoader resourceLoader) {
+    private volatile Map<String, Asset> assetManifest;
+
+    public AssetManifestService(ResourceLoader resourceLoader, AssetManifestProperties assetManifestProperties, MeterRegistry meterRegistry) {
         this.resourceLoader = resourceLoader;
+        this.assetManifestProperties = assetManifestProperties;
+        this.lookupTimer = Timer.builder(METRIC_ASSETS_MANIFEST_LOOKUP)
+            .description("Time to resolve frontend assets from the assets manifest")
+            .register(meterRegistry);
     }
 
     public String getHashedAssetFilename(String assetNameWithoutHash, String contextPath) {
-        return getAsset(assetNameWithoutHash, contextPath).getUrl();
+        return lookupTimer.record(() -> getAsset(assetNameWithoutHash, contextPath).getUrl());
     }
 
     public Map<String, Asset> getAssets(String contextPath) {
-        return readAssetManifest()
-            .entrySet()
-            .stream()
-            .collect(toMap(Map.Entry::getKey, entry -> withContext(entry.getValue(), contextPath)));
+        return lookupTimer.record(() -> getAssetsWithContext(contextPath));
     }
 
     private Asset getAsset(String assetNameWithoutHash, String contextPath) {
 
-        final Map<String, Asset> assets = readAssetManifest();
+        final Map<String, Asset> assets = getAssetsWithContext(contextPath);
 
         if (assets.containsKey(assetNameWithoutHash)) {
-            return withContext(assets.get(assetNameWithoutHash), contextPath);
+            return assets.get(assetNameWithoutHash);
         }
 
         throw new IllegalStateException(format("could not resolve given asset name=%s", assetNameWithoutHash));
     }
 
-    private Asset withContext(Asset asset, String contextPath) {
+    private Map<String, Asset> getAssetsWithContext(String contextPath) {
+        if (assetManifestProperties.isReload()) {
+            return withContext(readAssetManifest(), contextPath);
+        }
+
+        final String key = contextPath == null ? "" : contextPath;
+        return assetsByContextPath.computeIfAbsent(key, path -> withContext(getAssetManifest(), path));
+    }
+
+    private Map<String, Asset> getAssetManifest() {
+        Map<String, Asset> manifest = assetManifest;
+        if (manifest == null) {
+            synchronized (this) {
+                manifest = assetManifest;
+                if (manifest == null) {
+                    manifest = Map.copyOf(readAssetManifest());
+                    assetManifest = manifest;
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private static Map<String, Asset> withContext(Map<String, Asset> assets, String contextPath) {
+        return assets.entrySet()
+            .stream()
+            .collect(toUnmodifiableMap(Map.Entry::getKey, entry -> withContext(entry.getValue(), contextPath)));
+    }
+
+    private static Asset withContext(Asset asset, String contextPath) {
         final String assetUrl = withContext(asset.getUrl(), contextPath);
         final List<String> dependencies = asset.getDependencies().stream().map(url -> withContext(url, contextPath)).toList();
         return new Asset(assetUrl, dependencies);
@@ -61,9 +107,7 @@ public class AssetManifestService {
     }
 
     private Map<String, Asset> readAssetManifest() {
-        final InputStream manifest = getManifestFile();
-        final ObjectMapper objectMapper = new ObjectMapper();
-        try {
+        try (InputStream manifest = getManifestFile()) {
             return objectMapper.readValue(manifest, new TypeReference<>() {});
         } catch (IOException e) {
             throw new IllegalStateException("could not parse manifest json file");
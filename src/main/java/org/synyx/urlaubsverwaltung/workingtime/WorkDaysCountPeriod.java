@@ -0,0 +1,16 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+/**
+ * Describes a period of a person for which the number of workdays should be calculated,
+ * e.g. the period of a sick note or an application for leave.
+ *
+ * @param person    to calculate the workdays for
+ * @param dayLength of the period
+ * @param dateRange of the period, inclusive start and end date
+ */
+public record WorkDaysCountPeriod(Person person, DayLength dayLength, DateRange dateRange) {
+}
@@ -7,15 +7,21 @@ import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHoliday;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static java.math.RoundingMode.UNNECESSARY;
 import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.groupingBy;
 import static org.synyx.urlaubsverwaltung.util.DateAndTimeFormat.DD_MM_YYYY;
 
 @Service
@@ -23,11 +29,14 @@ public class WorkDaysCountService {
 
     private final PublicHolidaysService publicHolidaysService;
     private final WorkingTimeService workingTimeService;
+    private final SettingsService settingsService;
 
     @Autowired
-    public WorkDaysCountService(PublicHolidaysService publicHolidaysService, WorkingTimeService workingTimeService) {
+    public WorkDaysCountService(PublicHolidaysService publicHolidaysService, WorkingTimeService workingTimeService,
+                                SettingsService settingsService) {
         this.publicHolidaysService = publicHolidaysService;
         this.workingTimeService = workingTimeService;
+        this.settingsService = settingsService;
     }
 
     /**
@@ -54,14 +63,57 @@ public class WorkDaysCountService {
 
         final Map<LocalDate, WorkingTime> workingTimesByDate = toLocalDateWorkingTime(workingTimes);
 
+        return getWorkDaysCount(dayLength, dateRange, workingTimesByDate::get, getWorkingTimeSettings());
+    }
+
+    /**
+     * Calculates the number of workdays for each of the given periods like
+     * {@link #getWorkDaysCount(DayLength, LocalDate, LocalDate, Person)} does for a single period.
+     * <p>
+     * The working times of all persons are loaded at once and are shared between all periods of a person,
+     * so the number of database queries does not depend on the number of periods. The working time settings are
+     * resolved once for all periods.
+     *
+     * @param periods to calculate the workdays for
+     * @return number of workdays by period
+     * @throws WorkDaysCountException if there is no working time for a day of a period
+     */
+    public Map<WorkDaysCountPeriod, BigDecimal> getWorkDaysCount(Collection<WorkDaysCountPeriod> periods) {
+
+        if (periods.isEmpty()) {
+            return Map.of();
+        }
+
+        final List<Person> persons = periods.stream().map(WorkDaysCountPeriod::person).distinct().toList();
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeService.getByPersons(persons).stream()
+            .sorted(comparing(WorkingTime::getValidFrom).reversed())
+            .collect(groupingBy(WorkingTime::getPerson));
+        final WorkingTimeSettings workingTimeSettings = getWorkingTimeSettings();
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysCountByPeriod = new HashMap<>();
+        for (WorkDaysCountPeriod period : periods) {
+            workDaysCountByPeriod.computeIfAbsent(period, key -> {
+                final List<WorkingTime> workingTimesOfPerson = workingTimesByPerson.getOrDefault(key.person(), List.of());
+                return getWorkDaysCount(key.dayLength(), key.dateRange(), date -> getWorkingTimeForDate(date, workingTimesOfPerson)
+                    .orElseThrow(() -> new WorkDaysCountException("No working time found for user '" + key.person().getId()
+                        + "' at " + date.format(ofPattern(DD_MM_YYYY)))), workingTimeSettings);
+            });
+        }
+
+        return workDaysCountByPeriod;
+    }
+
+    private BigDecimal getWorkDaysCount(DayLength dayLength, DateRange dateRange, Function<LocalDate, WorkingTime> workingTimeProvider,
+                                        WorkingTimeSettings workingTimeSettings) {
+
         BigDecimal vacationDays = BigDecimal.ZERO;
-        LocalDate day = startDate;
-        while (!day.isAfter(endDate)) {
+        LocalDate day = dateRange.startDate();
+        while (!day.isAfter(dateRange.endDate())) {
 
-            final WorkingTime workingTime = workingTimesByDate.get(day);
+            final WorkingTime workingTime = workingTimeProvider.apply(day);
 
             // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
-            final Optional<PublicHoliday> maybePublicHoliday = publicHolidaysService.getPublicHoliday(day, workingTime.getFederalState());
+            final Optional<PublicHoliday> maybePublicHoliday = publicHolidaysService.getPublicHoliday(day, workingTime.getFederalState(), workingTimeSettings);
             final BigDecimal duration = maybePublicHoliday.isPresent() ? maybePublicHoliday.get().getWorkingDuration() : BigDecimal.ONE;
 
             final BigDecimal workingDuration = workingTime.getDayLengthForWeekDay(day.getDayOfWeek()).getDuration();
@@ -81,6 +133,19 @@ public class WorkDaysCountService {
         return vacationDays.multiply(dayLength.getDuration()).setScale(1, UNNECESSARY);
     }
 
+    private WorkingTimeSettings getWorkingTimeSettings() {
+        return settingsService.getSettings().getWorkingTimeSettings();
+    }
+
+    private static Optional<WorkingTime> getWorkingTimeForDate(LocalDate date, List<WorkingTime> workingTimesSortedByValidFromDesc) {
+        for (WorkingTime workingTime : workingTimesSortedByValidFromDesc) {
+            if (!workingTime.getValidFrom().isAfter(date)) {
+                return Optional.of(workingTime);
+            }
+        }
+        return Optional.empty();
+    }
+
     private Map<LocalDate, WorkingTime> toLocalDateWorkingTime(Map<DateRange, WorkingTime> workingTimes) {
         final Map<LocalDate, WorkingTime> localDateWorkingTimeMap = new HashMap<>();
         workingTimes.forEach((key, value) -> key.iterator().forEachRemaining(localDate -> localDateWorkingTimeMap.put(localDate, value)));
@@ -3,13 +3,22 @@ package org.synyx.urlaubsverwaltung.workingtime;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
+import static java.time.temporal.ChronoUnit.DAYS;
 import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
 
 /**
@@ -23,9 +32,66 @@ import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.Workin
  *     <li>2022-01-05 - DayLength.ZERO (wednesday)</li>
  * </ul>
  * <p>
+ * The calendar is immutable and stores one byte per day, starting at the first day with an entry.
+ * Each byte encodes the {@link DayLength} and the morning and noon {@link WorkingTimeCalendarEntryType}
+ * of the {@link WorkingDayInformation} of the day, {@code 0} marks a day without an entry.
+ * <p>
  * Should be used in combination with a {@link Map} to keep relation to a {@link org.synyx.urlaubsverwaltung.person.Person} for example.
  */
-public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingDays) {
+public final class WorkingTimeCalendar {
+
+    private static final byte NO_ENTRY = 0;
+    private static final DayLength[] DAY_LENGTHS = DayLength.values();
+    private static final WorkingTimeCalendarEntryType[] ENTRY_TYPES = WorkingTimeCalendarEntryType.values();
+    private static final int ENTRY_TYPE_CODES = ENTRY_TYPES.length + 1;
+    private static final WorkingDayInformation[] WORKING_DAY_INFORMATION_BY_CODE = createWorkingDayInformationByCode();
+
+    private final LocalDate startDate;
+    private final byte[] days;
+    private final int numberOfEntries;
+
+    /**
+     * Creates a calendar with the given working day information.
+     *
+     * @param workingDays working day information by date
+     */
+    public WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingDays) {
+        this(fromMap(workingDays));
+    }
+
+    private WorkingTimeCalendar(Builder builder) {
+
+        int first = 0;
+        while (first < builder.days.length && builder.days[first] == NO_ENTRY) {
+            first++;
+        }
+
+        int last = builder.days.length - 1;
+        while (last >= first && builder.days[last] == NO_ENTRY) {
+            last--;
+        }
+
+        this.startDate = builder.startDate == null ? null : builder.startDate.plusDays(first);
+        this.days = Arrays.copyOfRange(builder.days, first, last + 1);
+
+        int entries = 0;
+        for (byte day : days) {
+            if (day != NO_ENTRY) {
+                entries++;
+            }
+        }
+        this.numberOfEntries = entries;
+    }
+
+    /**
+     * Creates a builder for a calendar covering the given date range.
+     *
+     * @param dateRange the date range the calendar can hold working day information for
+     * @return a new builder
+     */
+    static Builder builder(DateRange dateRange) {
+        return new Builder(dateRange.startDate(), dateRange.endDate());
+    }
 
     /**
      * Calculates the next date of a working day.
@@ -45,16 +111,18 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
      */
     public Optional<LocalDate> nextWorkingFollowingTo(LocalDate localDate) {
 
-        final LocalDate nextDay = localDate.plusDays(1);
-        final Optional<DayLength> dayLength = workingTimeDayLength(nextDay);
+        LocalDate nextDay = localDate.plusDays(1);
+        Optional<DayLength> dayLength = workingTimeDayLength(nextDay);
 
-        if (dayLength.isEmpty()) {
-            return Optional.empty();
-        } else if (dayLength.get() != DayLength.ZERO) {
-            return Optional.of(nextDay);
-        } else {
-            return nextWorkingFollowingTo(nextDay);
+        while (dayLength.isPresent()) {
+            if (dayLength.get() != DayLength.ZERO) {
+                return Optional.of(nextDay);
+            }
+            nextDay = nextDay.plusDays(1);
+            dayLength = workingTimeDayLength(nextDay);
         }
+
+        return Optional.empty();
     }
 
     /**
@@ -76,11 +144,13 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
         if (overlap.isEmpty()) {
             return BigDecimal.ZERO;
         } else {
+            final WorkingDayInformation workingDayInformation = workingDayInformation(application.getStartDate()).orElse(null);
+            final boolean halfDay = application.getDayLength().isHalfDay() && workingDayInformation != null && !workingDayInformation.hasHalfDayPublicHoliday();
+
             BigDecimal workingTimeSum = BigDecimal.ZERO;
             for (LocalDate localDate : overlap.get()) {
                 final BigDecimal workingTime = workingTime(localDate).orElse(BigDecimal.ZERO);
-                final WorkingDayInformation workingDayInformation = this.workingDays().get(application.getStartDate());
-                if (application.getDayLength().isHalfDay() && workingDayInformation != null && !workingDayInformation.hasHalfDayPublicHoliday()) {
+                if (halfDay) {
                     workingTimeSum = workingTimeSum.add(workingTime.divide(BigDecimal.valueOf(2), 1, RoundingMode.CEILING));
                 } else {
                     workingTimeSum = workingTimeSum.add(workingTime);
@@ -112,10 +182,17 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
      * @return the {@linkplain DayLength} workingTime for the given date (e.g. DayLength.MORNING), or empty {@linkplain Optional} when there is no entry found.
      */
     public Optional<DayLength> workingTimeDayLength(LocalDate localDate) {
-        if (workingDays.containsKey(localDate)) {
-            return Optional.of(workingDays.get(localDate).dayLength());
-        }
-        return Optional.empty();
+        return workingDayInformation(localDate).map(WorkingDayInformation::dayLength);
+    }
+
+    /**
+     * Return the {@linkplain WorkingDayInformation} for the given date.
+     *
+     * @param localDate
+     * @return the {@linkplain WorkingDayInformation} for the given date, or empty {@linkplain Optional} when there is no entry found.
+     */
+    public Optional<WorkingDayInformation> workingDayInformation(LocalDate localDate) {
+        return Optional.ofNullable(decode(codeAt(localDate)));
     }
 
     /**
@@ -125,23 +202,225 @@ public record WorkingTimeCalendar(Map<LocalDate, WorkingDayInformation> workingD
      */
     public BigDecimal workingTime(LocalDate from, LocalDate to) {
 
-        if (from.isAfter(to)) {
+        if (from.isAfter(to) || days.length == 0) {
             return BigDecimal.ZERO;
         }
 
+        final long first = Math.max(0, DAYS.between(startDate, from));
+        final long last = Math.min(days.length - 1L, DAYS.between(startDate, to));
+
         BigDecimal sum = BigDecimal.ZERO;
 
-        for (Map.Entry<LocalDate, WorkingDayInformation> entry : workingDays.entrySet()) {
-            final LocalDate localDate = entry.getKey();
-            if (!localDate.isBefore(from) && !localDate.isAfter(to)) {
-                final DayLength dayLength = entry.getValue().dayLength();
-                sum = sum.add(dayLength.getDuration());
+        for (long index = first; index <= last; index++) {
+            final WorkingDayInformation workingDayInformation = decode(days[(int) index]);
+            if (workingDayInformation != null) {
+                sum = sum.add(workingDayInformation.dayLength().getDuration());
             }
         }
 
         return sum;
     }
 
+    /**
+     * Performs the given action for every date with working day information in ascending order of the date.
+     *
+     * @param action to perform for every date
+     */
+    public void forEachWorkingDay(BiConsumer<LocalDate, WorkingDayInformation> action) {
+        for (int index = 0; index < days.length; index++) {
+            final WorkingDayInformation workingDayInformation = decode(days[index]);
+            if (workingDayInformation != null) {
+                action.accept(startDate.plusDays(index), workingDayInformation);
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the working day information by date in ascending order of the date.
+     * <p>
+     * Prefer {@link #workingDayInformation(LocalDate)} or {@link #forEachWorkingDay(BiConsumer)} which do not need
+     * to create map entries.
+     *
+     * @return working day information by date
+     */
+    public Map<LocalDate, WorkingDayInformation> workingDays() {
+        return new WorkingDaysView();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final WorkingTimeCalendar that = (WorkingTimeCalendar) o;
+        return (startDate == null ? that.startDate == null : startDate.equals(that.startDate)) && Arrays.equals(days, that.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (startDate == null ? 0 : startDate.hashCode()) + Arrays.hashCode(days);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkingTimeCalendar{" +
+            "workingDays=" + workingDays() +
+            '}';
+    }
+
+    private byte codeAt(LocalDate localDate) {
+        if (days.length == 0) {
+            return NO_ENTRY;
+        }
+
+        final long index = DAYS.between(startDate, localDate);
+        if (index < 0 || index >= days.length) {
+            return NO_ENTRY;
+        }
+
+        return days[(int) index];
+    }
+
+    private static Builder fromMap(Map<LocalDate, WorkingDayInformation> workingDays) {
+        if (workingDays.isEmpty()) {
+            return new Builder(null, null);
+        }
+
+        LocalDate min = null;
+        LocalDate max = null;
+        for (LocalDate date : workingDays.keySet()) {
+            min = min == null || date.isBefore(min) ? date : min;
+            max = max == null || date.isAfter(max) ? date : max;
+        }
+
+        final Builder builder = new Builder(min, max);
+        workingDays.forEach(builder::workingDay);
+        return builder;
+    }
+
+    private static byte encode(WorkingDayInformation workingDayInformation) {
+        return (byte) (1
+            + ordinalOf(workingDayInformation.dayLength()) * ENTRY_TYPE_CODES * ENTRY_TYPE_CODES
+            + ordinalOf(workingDayInformation.morning()) * ENTRY_TYPE_CODES
+            + ordinalOf(workingDayInformation.noon()));
+    }
+
+    private static WorkingDayInformation decode(byte code) {
+        return WORKING_DAY_INFORMATION_BY_CODE[code];
+    }
+
+    private static int ordinalOf(Enum<?> value) {
+        return value == null ? 0 : value.ordinal() + 1;
+    }
+
+    private static WorkingDayInformation[] createWorkingDayInformationByCode() {
+        final WorkingDayInformation[] workingDayInformationByCode = new WorkingDayInformation[1 + (DAY_LENGTHS.length + 1) * ENTRY_TYPE_CODES * ENTRY_TYPE_CODES];
+        for (int dayLength = 0; dayLength <= DAY_LENGTHS.length; dayLength++) {
+            for (int morning = 0; morning < ENTRY_TYPE_CODES; morning++) {
+                for (int noon = 0; noon < ENTRY_TYPE_CODES; noon++) {
+                    final WorkingDayInformation workingDayInformation = new WorkingDayInformation(
+                        dayLength == 0 ? null : DAY_LENGTHS[dayLength - 1],
+                        morning == 0 ? null : ENTRY_TYPES[morning - 1],
+                        noon == 0 ? null : ENTRY_TYPES[noon - 1]
+                    );
+                    workingDayInformationByCode[encode(workingDayInformation)] = workingDayInformation;
+                }
+            }
+        }
+        return workingDayInformationByCode;
+    }
+
+    /**
+     * Collects the working day information of a date range and creates an immutable {@link WorkingTimeCalendar}.
+     */
+    static final class Builder {
+
+        private final LocalDate startDate;
+        private final byte[] days;
+
+        private Builder(LocalDate startDate, LocalDate endDate) {
+            this.startDate = startDate;
+            this.days = startDate == null ? new byte[0] : new byte[Math.toIntExact(DAYS.between(startDate, endDate) + 1)];
+        }
+
+        /**
+         * @param date                  of the working day information, has to be in the date range of the builder
+         * @param workingDayInformation of the date
+         * @return this builder
+         */
+        Builder workingDay(LocalDate date, WorkingDayInformation workingDayInformation) {
+            final long index = startDate == null ? -1 : DAYS.between(startDate, date);
+            if (index < 0 || index >= days.length) {
+                throw new IllegalArgumentException("date=" + date + " is not in the date range of the working time calendar");
+            }
+
+            days[(int) index] = encode(workingDayInformation);
+            return this;
+        }
+
+        WorkingTimeCalendar build() {
+            return new WorkingTimeCalendar(this);
+        }
+    }
+
+    private final class WorkingDaysView extends AbstractMap<LocalDate, WorkingDayInformation> {
+
+        @Override
+        public WorkingDayInformation get(Object key) {
+            return key instanceof LocalDate localDate ? decode(codeAt(localDate)) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return numberOfEntries;
+        }
+
+        @Override
+        public Set<Entry<LocalDate, WorkingDayInformation>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<LocalDate, WorkingDayInformation>> iterator() {
+                    return new Iterator<>() {
+
+                        private int index = nextIndex(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < days.length;
+                        }
+
+                        @Override
+                        public Entry<LocalDate, WorkingDayInformation> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final Entry<LocalDate, WorkingDayInformation> entry = Map.entry(startDate.plusDays(index), decode(days[index]));
+                            index = nextIndex(index + 1);
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return numberOfEntries;
+                }
+            };
+        }
+
+        private int nextIndex(int from) {
+            int index = from;
+            while (index < days.length && days[index] == NO_ENTRY) {
+                index++;
+            }
+            return index;
+        }
+    }
+
     public record WorkingDayInformation(
         DayLength dayLength,
         WorkingDayInformation.WorkingTimeCalendarEntryType morning,
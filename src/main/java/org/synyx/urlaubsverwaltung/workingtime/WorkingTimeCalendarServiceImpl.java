@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.workingtime;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.CachedSupplier;
+import org.synyx.urlaubsverwaltung.ParallelComputation;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -16,7 +17,6 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,11 +42,14 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
     private final WorkingTimeRepository workingTimeRepository;
     private final PublicHolidaysService publicHolidaysService;
     private final SettingsService settingsService;
+    private final ParallelComputation parallelComputation;
 
-    WorkingTimeCalendarServiceImpl(WorkingTimeRepository workingTimeRepository, PublicHolidaysService publicHolidaysService, SettingsService settingsService) {
+    WorkingTimeCalendarServiceImpl(WorkingTimeRepository workingTimeRepository, PublicHolidaysService publicHolidaysService,
+                                   SettingsService settingsService, ParallelComputation parallelComputation) {
         this.workingTimeRepository = workingTimeRepository;
         this.publicHolidaysService = publicHolidaysService;
         this.settingsService = settingsService;
+        this.parallelComputation = parallelComputation;
     }
 
     @Override
@@ -123,14 +126,15 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
         final LocalDate start = dateRange.startDate();
         final LocalDate end = dateRange.endDate();
 
-        return persons.stream().map(person -> {
+        // the calendars of the persons are independent of each other, so they can be built on several cores
+        return parallelComputation.map("working_time_calendars", List.copyOf(persons), person -> {
 
             final List<WorkingTime> workingTimesInDateRange = workingTimesByPerson.getOrDefault(person, List.of())
                 .stream()
                 .filter(workingTime -> !workingTime.getValidFrom().isAfter(end))
                 .toList();
 
-            final Map<LocalDate, WorkingDayInformation> dayLengthByDate = new HashMap<>();
+            final WorkingTimeCalendar.Builder workingTimeCalendar = WorkingTimeCalendar.builder(dateRange);
 
             LocalDate nextEnd = end;
 
@@ -144,7 +148,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 }
 
                 for (LocalDate date : workingTimeDateRange) {
-                    dayLengthByDate.put(date, getWorkDayLengthForWeekDay(date, workingTime, workingTimeSettings));
+                    workingTimeCalendar.workingDay(date, getWorkDayLengthForWeekDay(date, workingTime, workingTimeSettings));
                 }
 
                 if (workingTimeDateRange.startDate().equals(start)) {
@@ -154,8 +158,8 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
                 nextEnd = workingTime.getValidFrom().minusDays(1);
             }
 
-            return Map.entry(person, new WorkingTimeCalendar(dayLengthByDate));
-        }).collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+            return Map.entry(person, workingTimeCalendar.build());
+        }).stream().collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
     private WorkingDayInformation getWorkDayLengthForWeekDay(LocalDate date, WorkingTime workingTime, WorkingTimeSettings workingTimeSettings) {
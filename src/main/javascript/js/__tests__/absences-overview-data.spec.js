@@ -0,0 +1,95 @@
+import {
+  adjacentMonths,
+  dayAbbreviationKeys,
+  dayClassNames,
+  dayStyle,
+  isWorkday,
+  splitIntoMonths,
+} from "../absences-overview-data";
+
+describe("absences-overview-data", () => {
+  describe("dayClassNames", () => {
+    it("returns no workday for a day without flags", () => {
+      expect(dayClassNames(0)).toEqual(["cal-day", "no-workday"]);
+    });
+
+    it("returns the classes of a waiting absence in the morning on a workday", () => {
+      expect(dayClassNames((1 << 9) | (1 << 21))).toEqual([
+        "cal-day",
+        "absence-morning",
+        "absence-morning--outline",
+      ]);
+    });
+
+    it("returns the classes of an active sick note and a public holiday", () => {
+      expect(dayClassNames((1 << 5) | (1 << 20) | (1 << 21))).toEqual([
+        "cal-day",
+        "sick-note-full",
+        "absence-full--solid",
+        "public-holiday-full",
+      ]);
+    });
+  });
+
+  describe("isWorkday", () => {
+    it("is a workday with the workday bit", () => {
+      expect(isWorkday(1 << 21)).toBe(true);
+      expect(isWorkday(1 << 8)).toBe(false);
+    });
+  });
+
+  describe("dayStyle", () => {
+    it("returns the absence colors", () => {
+      expect(dayStyle({ morning: "ORANGE", full: "YELLOW" })).toBe(
+        "--absence-bar-color-morning:var(--absence-color-ORANGE);--absence-bar-color:var(--absence-color-YELLOW);",
+      );
+    });
+
+    it("returns nothing without color", () => {
+      expect(dayStyle(undefined)).toBe("");
+    });
+  });
+
+  describe("dayAbbreviationKeys", () => {
+    it("returns the abbreviations of the absences", () => {
+      expect(dayAbbreviationKeys((1 << 6) | (1 << 4))).toEqual(["abbrAbsenceMorning", "abbrSickNoon"]);
+    });
+  });
+
+  describe("adjacentMonths", () => {
+    it("returns the month before and after", () => {
+      expect(adjacentMonths(2024, 5)).toEqual({ from: "2024-04", to: "2024-06" });
+    });
+
+    it("stays within the year", () => {
+      expect(adjacentMonths(2024, 1)).toEqual({ from: "2024-01", to: "2024-02" });
+      expect(adjacentMonths(2024, 12)).toEqual({ from: "2024-11", to: "2024-12" });
+    });
+  });
+
+  describe("splitIntoMonths", () => {
+    it("splits the days and colors of the persons into months", () => {
+      const days = Array.from({ length: 29 + 31 }, (_, index) => index);
+      const months = splitIntoMonths({
+        from: "2024-02",
+        to: "2024-03",
+        persons: [{ id: 1, days, colors: { 0: { full: "ORANGE" }, 30: { morning: "YELLOW" } } }],
+      });
+
+      expect([...months.keys()]).toEqual(["2024-02", "2024-03"]);
+
+      const february = months.get("2024-02").get("1");
+      expect(february.days).toEqual(days.slice(0, 29));
+      expect(february.colors).toEqual({ 0: { full: "ORANGE" } });
+
+      const march = months.get("2024-03").get("1");
+      expect(march.days).toEqual(days.slice(29));
+      expect(march.colors).toEqual({ 1: { morning: "YELLOW" } });
+    });
+
+    it("splits months across the turn of the year", () => {
+      const months = splitIntoMonths({ from: "2024-12", to: "2025-01", persons: [] });
+      expect([...months.keys()]).toEqual(["2024-12", "2025-01"]);
+    });
+  });
+});
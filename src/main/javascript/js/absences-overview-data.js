@@ -0,0 +1,125 @@
+// bits of the days of `/web/absences/data`, see AbsenceOverviewDataPersonDto
+const WORKDAY_BIT = 21;
+
+const classNamesByBit = [
+  "sick-note-morning absence-morning--outline",
+  "sick-note-noon absence-noon--outline",
+  "sick-note-full absence-full--outline",
+  "sick-note-morning absence-morning--solid",
+  "sick-note-noon absence-noon--solid",
+  "sick-note-full absence-full--solid",
+  "absence-morning absence-morning--solid",
+  "absence-noon absence-noon--solid",
+  "absence-full absence-full--solid",
+  "absence-morning absence-morning--outline",
+  "absence-noon absence-noon--outline",
+  "absence-full absence-full--outline",
+  "absence-morning absence-morning--outline-solid-half",
+  "absence-noon absence-noon--outline-solid-half",
+  "absence-full absence-full--outline-solid-half",
+  "absence-morning absence-morning--outline-solid-second-half",
+  "absence-noon absence-noon--outline-solid-second-half",
+  "absence-full absence-full--outline-solid-second-half",
+  "public-holiday-morning",
+  "public-holiday-noon",
+  "public-holiday-full",
+];
+
+// print abbreviations in the order of the absences overview template
+const abbreviationsByBit = [
+  [6, "abbrAbsenceMorning"],
+  [7, "abbrAbsenceNoon"],
+  [8, "abbrAbsence"],
+  [9, "abbrAbsenceMorningWaiting"],
+  [10, "abbrAbsenceNoonWaiting"],
+  [11, "abbrAbsenceWaiting"],
+  [3, "abbrSickMorning"],
+  [4, "abbrSickNoon"],
+  [5, "abbrSick"],
+];
+
+function isSet(day, bit) {
+  return (day & (1 << bit)) !== 0;
+}
+
+export function isWorkday(day) {
+  return isSet(day, WORKDAY_BIT);
+}
+
+export function dayClassNames(day) {
+  const classNames = ["cal-day"];
+  for (const [bit, names] of classNamesByBit.entries()) {
+    if (isSet(day, bit)) {
+      classNames.push(...names.split(" "));
+    }
+  }
+  if (!isWorkday(day)) {
+    classNames.push("no-workday");
+  }
+  return classNames;
+}
+
+export function dayStyle(color) {
+  let style = "";
+  if (color?.morning) {
+    style += `--absence-bar-color-morning:var(--absence-color-${color.morning});`;
+  }
+  if (color?.noon) {
+    style += `--absence-bar-color-noon:var(--absence-color-${color.noon});`;
+  }
+  if (color?.full) {
+    style += `--absence-bar-color:var(--absence-color-${color.full});`;
+  }
+  return style;
+}
+
+export function dayAbbreviationKeys(day) {
+  return abbreviationsByBit.filter(([bit]) => isSet(day, bit)).map(([, key]) => key);
+}
+
+export function yearMonth(year, month) {
+  return `${year}-${String(month).padStart(2, "0")}`;
+}
+
+/**
+ * Months next to the given one within the same year, the overview can only switch between months of the selected year.
+ */
+export function adjacentMonths(year, month) {
+  return {
+    from: yearMonth(year, Math.max(1, month - 1)),
+    to: yearMonth(year, Math.min(12, month + 1)),
+  };
+}
+
+/**
+ * Splits the days of the persons of `/web/absences/data` into the single months.
+ *
+ * @returns {Map<string, Map<string, {days: number[], colors: object}>>} persons by id by year month (e.g. `2024-05`)
+ */
+export function splitIntoMonths(data) {
+  const [fromYear, fromMonth] = data.from.split("-").map(Number);
+  const [toYear, toMonth] = data.to.split("-").map(Number);
+
+  const months = new Map();
+  let offset = 0;
+  for (let year = fromYear, month = fromMonth; year < toYear || (year === toYear && month <= toMonth); ) {
+    const length = new Date(year, month, 0).getDate();
+    const persons = new Map();
+    for (const person of data.persons) {
+      const colors = {};
+      for (let index = 0; index < length; index++) {
+        const color = person.colors[offset + index];
+        if (color) {
+          colors[index] = color;
+        }
+      }
+      persons.set(String(person.id), { days: person.days.slice(offset, offset + length), colors });
+    }
+    months.set(yearMonth(year, month), persons);
+
+    offset += length;
+    month = month === 12 ? 1 : month + 1;
+    year = month === 1 ? year + 1 : year;
+  }
+  return months;
+}
@@ -1,5 +1,172 @@
+import { getJSON } from "./fetch";
+import {
+  adjacentMonths,
+  dayAbbreviationKeys,
+  dayClassNames,
+  dayStyle,
+  isWorkday,
+  splitIntoMonths,
+  yearMonth,
+} from "./absences-overview-data";
+
 const form = document.querySelector("#absenceOverviewForm");
+const yearSelect = form.querySelector("#yearSelect");
+const monthSelect = form.querySelector("#monthSelect");
+const tables = document.querySelectorAll(".vacationOverview-table");
+
+// persons by id of the prefetched months, only valid for the selected departments of the rendered page
+const personsByMonth = new Map();
+let shownMonth = Number(monthSelect.value);
 
-form.addEventListener("change", () => {
+form.addEventListener("change", (event) => {
+  if (event.target === monthSelect && showPrefetchedMonth(Number(monthSelect.value))) {
+    return;
+  }
   form.submit();
 });
+
+if (shownMonth && tables.length === 1) {
+  prefetchAdjacentMonths(shownMonth);
+}
+
+async function prefetchAdjacentMonths(month) {
+  const { from, to } = adjacentMonths(yearSelect.value, month);
+
+  const parameters = new URLSearchParams({ from, to });
+  for (const department of new FormData(form).getAll("department")) {
+    parameters.append("department", department);
+  }
+
+  try {
+    // the response is revalidated by its etag, so it is only calculated again when an absence has been modified
+    const data = await getJSON(`${form.dataset.dataUrl}?${parameters}`);
+    for (const [key, persons] of splitIntoMonths(data)) {
+      personsByMonth.set(key, persons);
+    }
+  } catch {
+    // the month is rendered by the server instead
+  }
+}
+
+function showPrefetchedMonth(month) {
+  if (!month || !shownMonth || tables.length !== 1) {
+    return false;
+  }
+
+  const persons = personsByMonth.get(yearMonth(yearSelect.value, month));
+  const rows = [...tables[0].querySelectorAll("tbody tr[data-person-id]")];
+  if (!persons || !rows.every((row) => persons.has(row.dataset.personId))) {
+    return false;
+  }
+
+  renderMonth(tables[0], rows, persons, month);
+  shownMonth = month;
+
+  const url = `${form.action}?${new URLSearchParams(new FormData(form))}`;
+  globalThis.history.replaceState(globalThis.history.state, "", url);
+  prefetchAdjacentMonths(month);
+  return true;
+}
+
+function renderMonth(table, rows, persons, month) {
+  const year = Number(yearSelect.value);
+  const headRow = table.querySelector("thead tr");
+  const headCells = [...headRow.querySelectorAll(".vacationOverview-cal-head")];
+
+  // every month contains every day of week, so the localized labels can be taken from the rendered month
+  const dayOfWeekLabels = new Map();
+  for (const [index, cell] of headCells.entries()) {
+    const dayOfWeek = new Date(year, shownMonth - 1, index + 1).getDay();
+    dayOfWeekLabels.set(dayOfWeek, cell.querySelector(".tw-text-zinc-500").textContent);
+  }
+
+  const today = new Date();
+  const numberOfDays = new Date(year, month, 0).getDate();
+
+  headRow.replaceChildren(
+    ...[...headRow.children].filter((cell) => !headCells.includes(cell)),
+    ...Array.from({ length: numberOfDays }, (_, index) => {
+      const date = new Date(year, month - 1, index + 1);
+      const isToday = date.toDateString() === today.toDateString();
+      return headCell(date, dayOfWeekLabels.get(date.getDay()), isToday, rows.length);
+    }),
+  );
+
+  const noWorkdayIcon = document.querySelector("#vacationOverviewLegend .no-workday-icon");
+  for (const row of rows) {
+    const person = persons.get(row.dataset.personId);
+    row.replaceChildren(
+      ...row.querySelectorAll("th"),
+      ...person.days.map((day, index) => dayCell(table, day, person.colors[index], noWorkdayIcon)),
+    );
+  }
+
+  const shownMonthLabel = monthSelect.querySelector(`option[value="${shownMonth}"]`).textContent.trim();
+  const monthLabel = monthSelect.querySelector(`option[value="${month}"]`).textContent.trim();
+  const heading = document.getElementById(`absence-table-${shownMonthLabel}`);
+  if (heading) {
+    replaceText(heading, shownMonthLabel, monthLabel);
+    heading.id = `absence-table-${monthLabel}`;
+    table.setAttribute("aria-describedby", heading.id);
+  }
+  replaceText(table.querySelector("caption"), shownMonthLabel, monthLabel);
+}
+
+function headCell(date, dayOfWeekLabel, isToday, numberOfRows) {
+  const cell = document.createElement("th");
+  cell.scope = "col";
+  cell.className = "non-sortable tw-cursor-default vacationOverview-cal-head";
+  if (isToday) {
+    cell.classList.add("today");
+    cell.style.setProperty("--vacation-overview-rows", numberOfRows);
+  }
+  if (date.getDay() === 0 || date.getDay() === 6) {
+    cell.classList.add("weekend");
+  }
+
+  const content = document.createElement("div");
+  content.className = "tw-p-2 tw-leading-none tw-text-center";
+  const dayOfMonth = document.createElement("span");
+  dayOfMonth.className = "tw-font-bold tw-block";
+  dayOfMonth.textContent = String(date.getDate()).padStart(2, "0");
+  const dayOfWeek = document.createElement("span");
+  dayOfWeek.className = "tw-text-sm tw-block tw-text-zinc-500";
+  dayOfWeek.textContent = dayOfWeekLabel ?? "";
+  content.append(dayOfMonth, dayOfWeek);
+
+  cell.append(content);
+  return cell;
+}
+
+function dayCell(table, day, color, noWorkdayIcon) {
+  const calendarDay = document.createElement("div");
+  calendarDay.classList.add(...dayClassNames(day));
+  calendarDay.style.cssText = dayStyle(color);
+
+  if (!isWorkday(day) && noWorkdayIcon) {
+    const noWorkday = document.createElement("div");
+    noWorkday.style.cssText = "height: 100%; display: flex; align-items: center; justify-content: center";
+    const icon = noWorkdayIcon.cloneNode(true);
+    icon.classList.add("tw-w-5", "tw-h-5", "tw--translate-y-px");
+    noWorkday.append(icon);
+    calendarDay.append(noWorkday);
+  }
+
+  const abbreviations = document.createElement("span");
+  abbreviations.className = "tw-hidden print:tw-inline print:tw-font-mono";
+  abbreviations.textContent = dayAbbreviationKeys(day)
+    .map((key) => table.dataset[key])
+    .join("");
+  calendarDay.append(abbreviations);
+
+  const cell = document.createElement("td");
+  cell.append(calendarDay);
+  return cell;
+}
+
+function replaceText(element, text, replacement) {
+  const walker = document.createTreeWalker(element, NodeFilter.SHOW_TEXT);
+  while (walker.nextNode()) {
+    walker.currentNode.textContent = walker.currentNode.textContent.replace(text, replacement);
+  }
+}
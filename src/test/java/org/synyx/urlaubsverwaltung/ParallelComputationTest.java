@@ -0,0 +1,97 @@
+package org.synyx.urlaubsverwaltung;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelComputationTest {
+
+    private ParallelComputationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ParallelComputation sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ParallelComputationProperties();
+        properties.setThreshold(10);
+        properties.setMaxParallelism(4);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ParallelComputation(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void ensureMapsSequentialBelowThreshold() {
+
+        final Thread caller = Thread.currentThread();
+        final List<Boolean> computedByCaller = sut.map("test", List.of(1, 2, 3), element -> Thread.currentThread() == caller);
+
+        assertThat(computedByCaller).containsOnly(true);
+        assertThat(meterRegistry.get("computation").tag("name", "test").tag("mode", "sequential").timer().count()).isOne();
+    }
+
+    @Test
+    void ensureMapsSequentialWhenDisabled() {
+
+        properties.setEnabled(false);
+
+        final Thread caller = Thread.currentThread();
+        final List<Boolean> computedByCaller = sut.map("test", elements(100), element -> Thread.currentThread() == caller);
+
+        assertThat(computedByCaller).hasSize(100).containsOnly(true);
+    }
+
+    @Test
+    void ensureMapsInParallelAndKeepsOrder() {
+
+        final Thread caller = Thread.currentThread();
+        final List<Integer> doubled = sut.map("test", elements(100), element -> {
+            assertThat(Thread.currentThread()).isNotSameAs(caller);
+            return element * 2;
+        });
+
+        assertThat(doubled).isEqualTo(IntStream.range(0, 100).map(element -> element * 2).boxed().toList());
+        assertThat(meterRegistry.get("computation").tag("name", "test").tag("mode", "parallel").timer().count()).isOne();
+    }
+
+    @Test
+    void ensureHandsOverLocaleToComputingThreads() {
+
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+
+        final List<Locale> locales = sut.map("test", elements(100), element -> LocaleContextHolder.getLocale());
+
+        assertThat(locales).hasSize(100).containsOnly(Locale.GERMAN);
+    }
+
+    @Test
+    void ensureRethrowsExceptionOfComputation() {
+
+        final List<Integer> elements = elements(100);
+        assertThatThrownBy(() -> sut.map("test", elements, element -> {
+            if (element == 42) {
+                throw new IllegalArgumentException("42");
+            }
+            return element;
+        }))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("42");
+    }
+
+    private static List<Integer> elements(int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+}
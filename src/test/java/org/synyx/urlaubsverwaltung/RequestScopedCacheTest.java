@@ -0,0 +1,69 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestScopedCacheTest {
+
+    private final RequestScopedCache<String, String> sut = new RequestScopedCache<>("test");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void ensureLoadsOnlyOncePerRequest() {
+        startRequest();
+
+        final AtomicInteger loads = new AtomicInteger();
+        assertThat(sut.get("batman", key -> key + loads.incrementAndGet())).isEqualTo("batman1");
+        assertThat(sut.get("batman", key -> key + loads.incrementAndGet())).isEqualTo("batman1");
+        assertThat(sut.get("robin", key -> key + loads.incrementAndGet())).isEqualTo("robin2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void ensureLoadsAgainInNextRequest() {
+        startRequest();
+        assertThat(sut.get("batman", key -> "first")).isEqualTo("first");
+
+        startRequest();
+        assertThat(sut.get("batman", key -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void ensureLoadsAgainAfterClear() {
+        startRequest();
+        assertThat(sut.get("batman", key -> "first")).isEqualTo("first");
+
+        sut.clear();
+        assertThat(sut.get("batman", key -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void ensureDoesNotCacheNull() {
+        startRequest();
+        assertThat(sut.get("batman", key -> null)).isNull();
+        assertThat(sut.get("batman", key -> "loaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    void ensureLoadsEveryTimeWithoutRequest() {
+        final AtomicInteger loads = new AtomicInteger();
+        sut.get("batman", key -> key + loads.incrementAndGet());
+        sut.get("batman", key -> key + loads.incrementAndGet());
+        assertThat(loads).hasValue(2);
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+}
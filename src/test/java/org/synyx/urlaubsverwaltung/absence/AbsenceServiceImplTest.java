@@ -1,11 +1,14 @@
 package org.synyx.urlaubsverwaltung.absence;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.StaticMessageSource;
+import org.synyx.urlaubsverwaltung.ParallelComputation;
+import org.synyx.urlaubsverwaltung.ParallelComputationProperties;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
@@ -22,6 +25,7 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -66,7 +70,8 @@ class AbsenceServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new AbsenceServiceImpl(applicationService, sickNoteService, workingTimeCalendarService);
+        final ParallelComputation parallelComputation = new ParallelComputation(new ParallelComputationProperties(), new SimpleMeterRegistry());
+        sut = new AbsenceServiceImpl(applicationService, sickNoteService, workingTimeCalendarService, parallelComputation);
     }
 
     @Test
@@ -103,6 +108,43 @@ class AbsenceServiceImplTest {
         verify(sickNoteService).getForStatesAndPerson(List.of(SUBMITTED, ACTIVE), List.of(batman, superman), start, end);
     }
 
+    @Test
+    void ensureAbsencesVersionContainsLastModificationOfApplicationsAndSickNotes() {
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        when(applicationService.getLastModifications(start, end, List.of(batman)))
+            .thenReturn(Map.of(2L, Instant.parse("2021-05-02T10:00:00Z"), 1L, Instant.parse("2021-05-01T10:00:00Z")));
+        when(sickNoteService.getLastModifications(List.of(batman), start, end))
+            .thenReturn(Map.of(1L, Instant.parse("2021-05-03T10:00:00Z")));
+
+        final String actual = sut.getAbsencesVersion(List.of(batman), start, end);
+        assertThat(actual).isEqualTo("application-1@2021-05-01T10:00:00Z,application-2@2021-05-02T10:00:00Z,sicknote-1@2021-05-03T10:00:00Z");
+    }
+
+    @Test
+    void ensureAbsencesVersionChangesWhenAbsenceIsMovedOutOfDateRange() {
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        when(applicationService.getLastModifications(start, end, List.of(batman)))
+            .thenReturn(Map.of(1L, Instant.parse("2021-05-01T10:00:00Z"), 2L, Instant.parse("2021-05-02T10:00:00Z")))
+            .thenReturn(Map.of(1L, Instant.parse("2021-05-01T10:00:00Z")));
+        when(sickNoteService.getLastModifications(List.of(batman), start, end)).thenReturn(Map.of());
+
+        final String before = sut.getAbsencesVersion(List.of(batman), start, end);
+        final String after = sut.getAbsencesVersion(List.of(batman), start, end);
+        assertThat(after).isNotEqualTo(before);
+    }
+
     @Test
     void ensureVacationMorning() {
 
@@ -29,6 +29,8 @@ import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHoliday;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
 
 import java.time.Clock;
@@ -48,6 +50,7 @@ import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasProperty;
@@ -56,10 +59,13 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -96,13 +102,15 @@ class AbsenceOverviewViewControllerTest {
     private WorkingTimeService workingTimeService;
     @Mock
     private VacationTypeService vacationTypeService;
+    @Mock
+    private SettingsService settingsService;
 
     private final Clock clock = Clock.systemUTC();
 
     @BeforeEach
     void setUp() {
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, clock,
-            publicHolidaysService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, absenceService, workingTimeService, vacationTypeService, settingsService);
     }
 
     @Test
@@ -489,7 +497,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2018-10-17T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, absenceService, workingTimeService, vacationTypeService, settingsService);
 
         final var person = new Person();
         person.setFirstName("boss");
@@ -584,7 +592,7 @@ class AbsenceOverviewViewControllerTest {
     void ensureOverviewForGivenYearAndGivenMonth() throws Exception {
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, clock,
-            publicHolidaysService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, absenceService, workingTimeService, vacationTypeService, settingsService);
 
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("awesome month text");
 
@@ -695,7 +703,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2020-10-17T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, absenceService, workingTimeService, vacationTypeService, settingsService);
 
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("awesome month text");
 
@@ -5006,7 +5014,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2020-12-01T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, absenceService, workingTimeService, vacationTypeService, settingsService);
 
         final var person = new Person();
         person.setId(1L);
@@ -5064,7 +5072,7 @@ class AbsenceOverviewViewControllerTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2020-12-10T00:00:00.00Z"), ZoneId.systemDefault());
 
         sut = new AbsenceOverviewViewController(personService, departmentService, messageSource, fixedClock,
-            publicHolidaysService, absenceService, workingTimeService, vacationTypeService);
+            publicHolidaysService, absenceService, workingTimeService, vacationTypeService, settingsService);
 
         final var person = new Person();
         person.setFirstName("boss");
@@ -5200,6 +5208,137 @@ class AbsenceOverviewViewControllerTest {
         return person;
     }
 
+    @Test
+    void ensureAbsenceOverviewDataEncodesDaysOfPersons() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER, OFFICE));
+        person.setFirstName("Bruce");
+        person.setLastName("Springfield");
+        person.setEmail("springfield@example.org");
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(personService.getActivePersons()).thenReturn(List.of(person));
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+
+        final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).id(42L).color(ORANGE).category(VacationCategory.HOLIDAY).build();
+        when(vacationTypeService.getAllVacationTypes()).thenReturn(List.of(vacationType));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final LocalDate today = LocalDate.now(clock);
+        final AbsencePeriod.RecordMorningVacation morning = new AbsencePeriod.RecordMorningVacation(person, 1L, AbsencePeriod.AbsenceStatus.WAITING, "HOLIDAY", 42L, false);
+        final AbsencePeriod.Record record = new AbsencePeriod.Record(today, person, morning, null);
+        when(absenceService.getOpenAbsences(List.of(person), today.with(TemporalAdjusters.firstDayOfMonth()), today.with(TemporalAdjusters.lastDayOfMonth())))
+            .thenReturn(List.of(new AbsencePeriod(List.of(record))));
+
+        final YearMonth month = YearMonth.from(today);
+        final int todayIndex = today.getDayOfMonth() - 1;
+
+        perform(get("/web/absences/data").param("from", month.toString()).param("to", month.toString()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(jsonPath("$.persons", hasSize(1)))
+            .andExpect(jsonPath("$.persons[0].id", is(1)))
+            .andExpect(jsonPath("$.persons[0].days", hasSize(month.lengthOfMonth())))
+            // waitingAbsenceMorning is bit 9
+            .andExpect(jsonPath("$.persons[0].days[" + todayIndex + "]", is(1 << 9)))
+            .andExpect(jsonPath("$.persons[0].colors", aMapWithSize(1)))
+            .andExpect(jsonPath("$.persons[0].colors['" + todayIndex + "'].morning", is("ORANGE")));
+    }
+
+    @Test
+    void ensureAbsenceOverviewDataIsNotCalculatedAgainWhenNotModified() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setFirstName("Bruce");
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(personService.getActivePersons()).thenReturn(List.of(person));
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final YearMonth yearMonth = YearMonth.now(clock);
+        when(absenceService.getAbsencesVersion(List.of(person), yearMonth.atDay(1), yearMonth.atEndOfMonth()))
+            .thenReturn("application-1@2024-01-01T10:00:00Z");
+
+        final String month = yearMonth.toString();
+
+        final String eTag = perform(get("/web/absences/data").param("from", month).param("to", month))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        perform(get("/web/absences/data").param("from", month).param("to", month).header("If-None-Match", eTag))
+            .andExpect(status().isNotModified());
+
+        verify(absenceService, times(1)).getOpenAbsences(any(), any(), any());
+    }
+
+    @Test
+    void ensureAbsenceOverviewDataIsCalculatedAgainWhenAbsenceOfPersonIsModified() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setFirstName("Bruce");
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(personService.getActivePersons()).thenReturn(List.of(person));
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final YearMonth yearMonth = YearMonth.now(clock);
+        when(absenceService.getAbsencesVersion(List.of(person), yearMonth.atDay(1), yearMonth.atEndOfMonth()))
+            .thenReturn("application-1@2024-01-01T10:00:00Z", "application-1@2024-01-01T11:00:00Z");
+
+        final String month = yearMonth.toString();
+
+        final String eTag = perform(get("/web/absences/data").param("from", month).param("to", month))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        perform(get("/web/absences/data").param("from", month).param("to", month).header("If-None-Match", eTag))
+            .andExpect(status().isOk());
+
+        verify(absenceService, times(2)).getOpenAbsences(any(), any(), any());
+    }
+
+    @Test
+    void ensureAbsenceOverviewDataIsCalculatedAgainWhenVacationTypeColorIsModified() throws Exception {
+
+        final var person = new Person();
+        person.setId(1L);
+        person.setFirstName("Bruce");
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(personService.getActivePersons()).thenReturn(List.of(person));
+        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final VacationType<?> orange = ProvidedVacationType.builder(new StaticMessageSource()).id(42L).color(ORANGE).category(VacationCategory.HOLIDAY).build();
+        final VacationType<?> yellow = ProvidedVacationType.builder(new StaticMessageSource()).id(42L).color(YELLOW).category(VacationCategory.HOLIDAY).build();
+        when(vacationTypeService.getAllVacationTypes()).thenReturn(List.of(orange), List.of(yellow));
+
+        final String month = YearMonth.now(clock).toString();
+
+        final String eTag = perform(get("/web/absences/data").param("from", month).param("to", month))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        perform(get("/web/absences/data").param("from", month).param("to", month).header("If-None-Match", eTag))
+            .andExpect(status().isOk());
+
+        verify(absenceService, times(2)).getOpenAbsences(any(), any(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02,2024-01", "2024-01,2025-01"})
+    void ensureAbsenceOverviewDataIsBadRequestForInvalidMonthRange(String range) throws Exception {
+
+        final String[] fromTo = range.split(",");
+
+        perform(get("/web/absences/data").param("from", fromTo[0]).param("to", fromTo[1]))
+            .andExpect(status().isBadRequest());
+
+        verifyNoMoreInteractions(personService, absenceService);
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut).build().perform(builder);
     }
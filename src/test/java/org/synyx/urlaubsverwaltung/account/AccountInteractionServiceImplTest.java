@@ -18,6 +18,8 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -38,6 +40,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -320,6 +323,54 @@ class AccountInteractionServiceImplTest {
         verify(accountService).getHolidaysAccount(nextYear, person);
     }
 
+    @Test
+    void ensureCreatesAndUpdatesNextYearsHolidaysAccountsInBulk() {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final Person person2 = new Person("dampf", "Dampf", "Hans", "dampf@example.org");
+        person2.setId(2L);
+
+        final Account referenceAccount = new Account(person, LocalDate.of(2014, JANUARY, 1), LocalDate.of(2014, DECEMBER, 31), true,
+            LocalDate.of(2014, APRIL, 1), BigDecimal.valueOf(30), BigDecimal.valueOf(8), BigDecimal.valueOf(4), "comment");
+        final Account referenceAccount2 = new Account(person2, LocalDate.of(2014, JANUARY, 1), LocalDate.of(2014, DECEMBER, 31), null,
+            null, BigDecimal.valueOf(28), BigDecimal.valueOf(2), ZERO, "other comment");
+
+        final Account nextYearAccount = new Account(person, LocalDate.of(2015, JANUARY, 1), LocalDate.of(2015, DECEMBER, 31), true,
+            LocalDate.of(2015, APRIL, 1), BigDecimal.valueOf(30), ZERO, BigDecimal.valueOf(5), "comment");
+
+        when(vacationDaysService.getTotalLeftVacationDays(List.of(referenceAccount, referenceAccount2)))
+            .thenReturn(Map.of(referenceAccount, BigDecimal.valueOf(3), referenceAccount2, TEN));
+        when(accountService.getHolidaysAccount(2015, List.of(person, person2))).thenReturn(List.of(nextYearAccount));
+        when(accountService.saveAll(any())).then(returnsFirstArg());
+
+        final List<Account> accounts = sut.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(referenceAccount, referenceAccount2));
+        assertThat(accounts).hasSize(2);
+
+        assertThat(accounts.get(0)).isSameAs(nextYearAccount);
+        assertThat(nextYearAccount.getRemainingVacationDays()).isEqualTo(BigDecimal.valueOf(3));
+        assertThat(nextYearAccount.getRemainingVacationDaysNotExpiring()).isEqualTo(BigDecimal.valueOf(3));
+
+        final Account createdAccount = accounts.get(1);
+        assertThat(createdAccount.getPerson()).isEqualTo(person2);
+        assertThat(createdAccount.getValidFrom()).isEqualTo(LocalDate.of(2015, 1, 1));
+        assertThat(createdAccount.getValidTo()).isEqualTo(LocalDate.of(2015, 12, 31));
+        assertThat(createdAccount.getAnnualVacationDays()).isEqualTo(BigDecimal.valueOf(28));
+        assertThat(createdAccount.getActualVacationDays()).isEqualTo(BigDecimal.valueOf(28));
+        assertThat(createdAccount.getRemainingVacationDays()).isEqualTo(TEN);
+        assertThat(createdAccount.getRemainingVacationDaysNotExpiring()).isEqualTo(ZERO);
+        assertThat(createdAccount.getExpiryDateLocally()).isNull();
+        assertThat(createdAccount.getComment()).isEqualTo("other comment");
+
+        verify(accountService).saveAll(List.of(nextYearAccount, createdAccount));
+        verify(accountService, never()).save(any());
+    }
+
+    @Test
+    void ensureBulkCreationOfNextYearsHolidaysAccountsWithoutReferenceAccountsDoesNothing() {
+        assertThat(sut.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of())).isEmpty();
+        verifyNoInteractions(accountService, vacationDaysService);
+    }
+
     @Test
     void createHolidaysAccount() {
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
@@ -360,4 +360,38 @@ class AccountServiceImplTest {
         verify(accountRepository).save(captor.capture());
         assertThat(captor.getValue()).satisfies(entity -> assertThat(entity.getExpiryDate()).isNull());
     }
+
+    @Test
+    void ensureSaveAll() {
+
+        final Account account2022 = new Account();
+        account2022.setValidFrom(LocalDate.of(2022, 1, 1));
+        account2022.setValidTo(LocalDate.of(2022, 12, 31));
+        account2022.setAnnualVacationDays(BigDecimal.valueOf(30));
+        account2022.setRemainingVacationDays(BigDecimal.valueOf(10));
+
+        final Account account2023 = new Account();
+        account2023.setValidFrom(LocalDate.of(2023, 1, 1));
+        account2023.setValidTo(LocalDate.of(2023, 12, 31));
+        account2023.setAnnualVacationDays(BigDecimal.valueOf(28));
+        account2023.setRemainingVacationDays(BigDecimal.valueOf(3));
+
+        when(accountRepository.saveAll(any())).thenAnswer(returnsFirstArg());
+
+        final Settings settings = new Settings();
+        when(settingsService.getSettings()).thenReturn(settings);
+
+        final List<Account> actual = sut.saveAll(List.of(account2022, account2023));
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<AccountEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AccountEntity::getYear).containsExactly(2022, 2023);
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getAnnualVacationDays()).isEqualTo(BigDecimal.valueOf(30));
+        assertThat(actual.get(0).getExpiryDate()).isEqualTo(LocalDate.of(2022, APRIL, 1));
+        assertThat(actual.get(1).getRemainingVacationDays()).isEqualTo(BigDecimal.valueOf(3));
+        assertThat(actual.get(1).getExpiryDate()).isEqualTo(LocalDate.of(2023, APRIL, 1));
+    }
 }
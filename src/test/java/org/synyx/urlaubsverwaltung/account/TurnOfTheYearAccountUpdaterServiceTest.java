@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,16 +16,14 @@ import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Year;
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Arrays.asList;
 import static java.util.Locale.GERMAN;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createHolidaysAccount;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
@@ -49,9 +48,14 @@ class TurnOfTheYearAccountUpdaterServiceTest {
     @Mock
     private VacationDaysReminderService vacationDaysReminderService;
 
+    private AccountProperties accountProperties;
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        sut = new TurnOfTheYearAccountUpdaterService(personService, accountService, accountInteractionService, vacationDaysReminderService, mailService, clock);
+        accountProperties = new AccountProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new TurnOfTheYearAccountUpdaterService(personService, accountService, accountInteractionService, vacationDaysReminderService, mailService, accountProperties, meterRegistry, clock);
     }
 
     @Test
@@ -69,14 +73,12 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         account3.setId(3L);
 
         when(personService.getActivePersons()).thenReturn(asList(user1, user2, user3));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user1)).thenReturn(Optional.of(account1));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user2)).thenReturn(Optional.of(account2));
-        when(accountService.getHolidaysAccount(LAST_YEAR, user3)).thenReturn(Optional.of(account3));
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user1, user2, user3))).thenReturn(List.of(account1, account2, account3));
 
         final Account newAccount = mock(Account.class);
         when(newAccount.getRemainingVacationDays()).thenReturn(BigDecimal.TEN);
-        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class)))
-            .thenReturn(newAccount);
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(account1, account2, account3)))
+            .thenReturn(List.of(newAccount, newAccount, newAccount));
 
         final Person office = new Person("muster", "Muster", "Marlene", "muster@example.org");
         when(personService.getActivePersonsByRole(OFFICE)).thenReturn(List.of(office));
@@ -84,18 +86,8 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         sut.updateAccountsForNextPeriod();
 
         verify(personService).getActivePersons();
-
-        verify(accountService, times(3))
-            .getHolidaysAccount(anyInt(), any(Person.class));
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user1);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user2);
-        verify(accountService).getHolidaysAccount(LAST_YEAR, user3);
-
-        verify(accountInteractionService, times(3))
-            .autoCreateOrUpdateNextYearsHolidaysAccount(any(Account.class));
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account1);
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account2);
-        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account3);
+        verify(accountService).getHolidaysAccount(LAST_YEAR, List.of(user1, user2, user3));
+        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(account1, account2, account3));
 
         verify(vacationDaysReminderService).remindForRemainingVacationDays();
 
@@ -107,4 +99,67 @@ class TurnOfTheYearAccountUpdaterServiceTest {
         assertThat(mail.getTemplateName()).isEqualTo("account_cron_updated_accounts_turn_of_the_year");
         assertThat(mail.getTemplateModel(GERMAN)).containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(30));
     }
+
+    @Test
+    void ensureUpdatesHolidaysAccountsInChunksInParallel() {
+
+        accountProperties.getUpdate().setChunkSize(2);
+        accountProperties.getUpdate().setParallelism(2);
+
+        final Person user1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        user1.setId(1L);
+        final Person user2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        user2.setId(2L);
+        final Person user3 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        user3.setId(3L);
+
+        final Account account1 = createHolidaysAccount(user1, LAST_YEAR);
+        final Account account2 = createHolidaysAccount(user2, LAST_YEAR);
+        final Account account3 = createHolidaysAccount(user3, LAST_YEAR);
+        account3.setAnnualVacationDays(null);
+
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2, user3));
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user1, user2))).thenReturn(List.of(account1, account2));
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user3))).thenReturn(List.of(account3));
+
+        final Account newAccount = mock(Account.class);
+        when(newAccount.getRemainingVacationDays()).thenReturn(BigDecimal.TEN);
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of(account1, account2)))
+            .thenReturn(List.of(newAccount, newAccount));
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of()))
+            .thenReturn(List.of());
+
+        sut.updateAccountsForNextPeriod();
+
+        final ArgumentCaptor<Mail> argument = ArgumentCaptor.forClass(Mail.class);
+        verify(mailService).send(argument.capture());
+        assertThat(argument.getValue().getTemplateModel(GERMAN)).containsEntry("totalRemainingVacationDays", BigDecimal.valueOf(20));
+        verify(vacationDaysReminderService).remindForRemainingVacationDays();
+
+        assertThat(meterRegistry.get("account.turn.of.the.year.accounts").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("account.turn.of.the.year").timer().count()).isOne();
+    }
+
+    @Test
+    void ensureSendsNoNotificationIfAChunkFails() {
+
+        accountProperties.getUpdate().setChunkSize(1);
+        accountProperties.getUpdate().setParallelism(2);
+
+        final Person user1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        user1.setId(1L);
+        final Person user2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        user2.setId(2L);
+
+        when(personService.getActivePersons()).thenReturn(List.of(user1, user2));
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user1))).thenReturn(List.of());
+        when(accountService.getHolidaysAccount(LAST_YEAR, List.of(user2))).thenThrow(new IllegalStateException("database gone"));
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccounts(List.of())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> sut.updateAccountsForNextPeriod())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("database gone");
+
+        verifyNoInteractions(mailService, vacationDaysReminderService);
+    }
 }
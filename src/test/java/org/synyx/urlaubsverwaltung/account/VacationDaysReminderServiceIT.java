@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.account;
 
 import com.icegreen.greenmail.junit5.GreenMailExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
@@ -17,6 +18,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -25,7 +27,6 @@ import java.time.Year;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static com.icegreen.greenmail.util.ServerSetupTest.SMTP_IMAP;
 import static java.math.BigDecimal.TEN;
@@ -55,7 +56,7 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
     void ensureReminderForLeftVacationDaysWithNextYearHolidayAccountAvailable() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), new SimpleMeterRegistry(), clock);
 
         final Person person = new Person("user", "Müller", "Lieschen", "lieschen@example.org");
         person.setId(42L);
@@ -66,13 +67,15 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
         account.setExpiryDateLocally(LocalDate.of(2022, 4, 1));
         account.setDoRemainingVacationDaysExpireLocally(true);
         when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
-        when(vacationDaysService.getTotalLeftVacationDays(account)).thenReturn(TEN);
 
         final Account accountNextYear = new Account();
         accountNextYear.setPerson(person);
         accountNextYear.setExpiryDateLocally(LocalDate.of(2023, 4, 10));
         accountNextYear.setDoRemainingVacationDaysExpireLocally(true);
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(accountNextYear));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(accountNextYear));
+
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Year.of(2022), List.of(accountNextYear)))
+            .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, leftVacationDays(TEN), leftVacationDays(TEN))));
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -100,7 +103,7 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
     void ensureReminderForLeftVacationDaysWithoutHolidayAccountForNextYearAvailableSoTakeTheExpireDayFromThisYearAccountWithNextYear() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), new SimpleMeterRegistry(), clock);
 
         final Person person = new Person("user", "Müller", "Lieschen", "lieschen@example.org");
         person.setId(42L);
@@ -111,9 +114,10 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
         account.setExpiryDateLocally(LocalDate.of(2022, 4, 1));
         account.setDoRemainingVacationDaysExpireLocally(true);
         when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
-        when(vacationDaysService.getTotalLeftVacationDays(account)).thenReturn(TEN);
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of());
 
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.empty());
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Year.of(2022), List.of()))
+            .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, leftVacationDays(TEN), leftVacationDays(TEN))));
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -141,7 +145,7 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
     void ensureReminderForRemainingVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), new SimpleMeterRegistry(), clock);
 
         final Person person = new Person("user", "Müller", "Lieschen", "lieschen@example.org");
         person.setId(42L);
@@ -195,7 +199,7 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
     void ensureReminderForExpiredRemainingVacationDays() throws MessagingException, IOException {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), new SimpleMeterRegistry(), clock);
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
         person.setId(1L);
@@ -214,7 +218,7 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
         when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(account2023));
 
         final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
-            .withAnnualVacation(ZERO)
+            .withAnnualVacation(TEN)
             .withRemainingVacation(TEN)
             .notExpiring(ZERO)
             .forUsedVacationDaysBeforeExpiry(ZERO)
@@ -222,7 +226,6 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
             .build();
         when(vacationDaysService.getVacationDaysLeft(List.of(account), Year.of(2022), List.of(account2023)))
             .thenReturn(Map.of(account, new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft)));
-        when(vacationDaysService.getTotalLeftVacationDays(account)).thenReturn(TEN);
 
         sut.notifyForExpiredRemainingVacationDays();
 
@@ -250,4 +253,14 @@ class VacationDaysReminderServiceIT extends SingleTenantTestContainersBase {
     private String readPlainContent(Message message) throws MessagingException, IOException {
         return message.getContent().toString().replaceAll("\\r", "");
     }
+
+    private static VacationDaysLeft leftVacationDays(BigDecimal vacationDays) {
+        return VacationDaysLeft.builder()
+            .withAnnualVacation(vacationDays)
+            .withRemainingVacation(ZERO)
+            .notExpiring(ZERO)
+            .forUsedVacationDaysBeforeExpiry(ZERO)
+            .forUsedVacationDaysAfterExpiry(ZERO)
+            .build();
+    }
 }
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.account;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -18,7 +19,6 @@ import java.time.Year;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.TEN;
@@ -43,12 +43,13 @@ class VacationDaysReminderServiceTest {
     private MailService mailService;
 
     final ArgumentCaptor<Mail> mailArgumentCaptor = ArgumentCaptor.forClass(Mail.class);
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Test
     void ensureNoReminderForZeroLeftVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -56,7 +57,8 @@ class VacationDaysReminderServiceTest {
         final Account account = new Account();
         account.setExpiryDateLocally(LocalDate.of(2022, 4, 1));
         when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
-        when(vacationDaysService.getTotalLeftVacationDays(account)).thenReturn(ZERO);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Year.of(2022), List.of()))
+            .thenReturn(Map.of(account, holidayAccountVacationDays(account, ZERO)));
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -67,7 +69,7 @@ class VacationDaysReminderServiceTest {
     void ensureNoReminderIfRemainingVacationDaysDoNotExpire() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -75,12 +77,14 @@ class VacationDaysReminderServiceTest {
         final Account account = new Account();
         account.setPerson(person);
         when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
-        when(vacationDaysService.getTotalLeftVacationDays(account)).thenReturn(TEN);
 
         final Account accountNextYear = new Account();
         accountNextYear.setPerson(person);
         accountNextYear.setDoRemainingVacationDaysExpireGlobally(false);
-        when(accountService.getHolidaysAccount(2023, person)).thenReturn(Optional.of(accountNextYear));
+        when(accountService.getHolidaysAccount(2023, List.of(person))).thenReturn(List.of(accountNextYear));
+
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Year.of(2022), List.of(accountNextYear)))
+            .thenReturn(Map.of(account, holidayAccountVacationDays(account, TEN)));
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -91,7 +95,7 @@ class VacationDaysReminderServiceTest {
     void ensureNoReminderIfAccountIsEmpty() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -107,7 +111,7 @@ class VacationDaysReminderServiceTest {
     void ensureReminderForLeftVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -117,7 +121,8 @@ class VacationDaysReminderServiceTest {
         account.setDoRemainingVacationDaysExpireGlobally(true);
         account.setExpiryDateLocally(LocalDate.of(2022, 4, 1));
         when(accountService.getHolidaysAccount(2022, List.of(person))).thenReturn(List.of(account));
-        when(vacationDaysService.getTotalLeftVacationDays(account)).thenReturn(TEN);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), Year.of(2022), List.of()))
+            .thenReturn(Map.of(account, holidayAccountVacationDays(account, TEN)));
 
         sut.remindForCurrentlyLeftVacationDays();
 
@@ -139,7 +144,7 @@ class VacationDaysReminderServiceTest {
     void ensureNoReminderWithoutRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -173,7 +178,7 @@ class VacationDaysReminderServiceTest {
     void ensureReminderForRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-01-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -222,7 +227,7 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWhenExpireDateNotEqualOfAfter() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-03-31T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -240,7 +245,7 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWhenNotificationWasAlreadySent() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-02T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -260,7 +265,7 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWithoutExpiredRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -295,7 +300,7 @@ class VacationDaysReminderServiceTest {
     void ensureNoNotificationWhenExpireIsDisabled() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -313,7 +318,7 @@ class VacationDaysReminderServiceTest {
     void ensureNotificationForExpiredRemainingVacationDays() {
 
         final Clock clock = Clock.fixed(Instant.parse("2022-04-01T06:00:00Z"), ZoneId.of("UTC"));
-        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, clock);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, new AccountProperties(), meterRegistry, clock);
 
         final Person person = person();
         when(personService.getActivePersons()).thenReturn(List.of(person));
@@ -339,7 +344,6 @@ class VacationDaysReminderServiceTest {
             .build();
         when(vacationDaysService.getVacationDaysLeft(List.of(account2022), Year.of(2022), List.of(account2023)))
             .thenReturn(Map.of(account2022, new HolidayAccountVacationDays(account2022, vacationDaysLeft, vacationDaysLeft)));
-        when(vacationDaysService.getTotalLeftVacationDays(account2022)).thenReturn(BigDecimal.valueOf(11L));
 
         sut.notifyForExpiredRemainingVacationDays();
 
@@ -359,6 +363,55 @@ class VacationDaysReminderServiceTest {
         );
     }
 
+    @Test
+    void ensureCalculatesLeftVacationDaysInChunksAndRecordsMetrics() {
+
+        final Clock clock = Clock.fixed(Instant.parse("2022-10-31T06:00:00Z"), ZoneId.of("UTC"));
+        final AccountProperties accountProperties = new AccountProperties();
+        accountProperties.getVacationDaysReminder().setChunkSize(1);
+        final VacationDaysReminderService sut = new VacationDaysReminderService(personService, accountService, vacationDaysService, mailService, accountProperties, meterRegistry, clock);
+
+        final Person marlene = person();
+        final Person max = new Person();
+        max.setId(1337L);
+        when(personService.getActivePersons()).thenReturn(List.of(marlene, max));
+
+        final Account accountMarlene = new Account();
+        accountMarlene.setPerson(marlene);
+        accountMarlene.setDoRemainingVacationDaysExpireGlobally(true);
+        accountMarlene.setExpiryDateLocally(LocalDate.of(2022, 4, 1));
+        when(accountService.getHolidaysAccount(2022, List.of(marlene))).thenReturn(List.of(accountMarlene));
+        when(vacationDaysService.getVacationDaysLeft(List.of(accountMarlene), Year.of(2022), List.of()))
+            .thenReturn(Map.of(accountMarlene, holidayAccountVacationDays(accountMarlene, TEN)));
+
+        final Account accountMax = new Account();
+        accountMax.setPerson(max);
+        accountMax.setExpiryDateLocally(LocalDate.of(2022, 4, 1));
+        when(accountService.getHolidaysAccount(2022, List.of(max))).thenReturn(List.of(accountMax));
+        when(vacationDaysService.getVacationDaysLeft(List.of(accountMax), Year.of(2022), List.of()))
+            .thenReturn(Map.of(accountMax, holidayAccountVacationDays(accountMax, ZERO)));
+
+        sut.remindForCurrentlyLeftVacationDays();
+
+        verify(mailService).send(mailArgumentCaptor.capture());
+        assertThat(mailArgumentCaptor.getValue().getMailAddressRecipients()).contains(List.of(marlene));
+
+        assertThat(meterRegistry.get("vacation.days.reminder.accounts").tag("job", "currently_left_vacation_days").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("vacation.days.reminder.mails").tag("job", "currently_left_vacation_days").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("vacation.days.reminder").tag("job", "currently_left_vacation_days").timer().count()).isEqualTo(1);
+    }
+
+    private static HolidayAccountVacationDays holidayAccountVacationDays(Account account, BigDecimal leftVacationDays) {
+        final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder()
+            .withAnnualVacation(leftVacationDays)
+            .withRemainingVacation(ZERO)
+            .notExpiring(ZERO)
+            .forUsedVacationDaysBeforeExpiry(ZERO)
+            .forUsedVacationDaysAfterExpiry(ZERO)
+            .build();
+        return new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft);
+    }
+
     private Person person() {
         final Person person = new Person();
         person.setFirstName("Marlene");
@@ -40,6 +40,7 @@ import static java.time.Month.MARCH;
 import static java.time.Month.MAY;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createVacationType;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -148,6 +149,43 @@ class VacationDaysServiceTest {
         assertThat(leftDays).isEqualTo(new BigDecimal("31"));
     }
 
+    @Test
+    void ensureToGetTotalLeftVacationDaysOfAccountsForPastYear() {
+
+        final Person person = anyPerson();
+
+        final Application application4Days = anyApplication(person);
+        application4Days.setStartDate(LocalDate.of(2022, JANUARY, 4));
+        application4Days.setEndDate(LocalDate.of(2022, JANUARY, 7));
+        application4Days.setStatus(ALLOWED);
+
+        final Application application1Day = anyApplication(person);
+        application1Day.setStartDate(LocalDate.of(2022, MAY, 2));
+        application1Day.setEndDate(LocalDate.of(2022, MAY, 2));
+        application1Day.setStatus(ALLOWED);
+
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(person), LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)))
+            .thenReturn(List.of(application4Days, application1Day));
+
+        final Year year = Year.of(2022);
+        final LocalDate firstDayOfYear = LocalDate.of(year.getValue(), 1, 1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = buildWorkingTimeByDate(firstDayOfYear, lastDayOfYear, date -> new WorkingDayInformation(FULL, WORKDAY, WORKDAY));
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimeByDate);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), year)).thenReturn(Map.of(person, workingTimeCalendar));
+
+        final Account account = anyAccount(person, Year.of(2022));
+        account.setRemainingVacationDays(new BigDecimal("6"));
+        account.setRemainingVacationDaysNotExpiring(new BigDecimal("2"));
+        account.setDoRemainingVacationDaysExpireLocally(true);
+
+        // total number = left vacation days + left not expiring remaining vacation days
+        // 31 = 30 + 1
+        final Map<Account, BigDecimal> leftDays = sut.getTotalLeftVacationDays(List.of(account));
+        assertThat(leftDays).containsExactly(entry(account, new BigDecimal("31")));
+    }
+
     @Test
     void ensureToGetTotalLeftVacationDaysForThisYearExpiryDate() {
 
@@ -355,6 +393,48 @@ class VacationDaysServiceTest {
         assertThat(actual.get(account).vacationDaysYear().getRemainingVacationDaysNotExpiring()).isEqualByComparingTo(ZERO);
     }
 
+    @Test
+    void ensureGetVacationDaysLeftCalculatesVacationDaysUsedNextYearOfAllPersonsAtOnce() {
+        final Person person = anyPerson();
+        final Person otherPerson = new Person("other", "Other", "Olaf", "other@example.org");
+        otherPerson.setId(2L);
+
+        final Year year = Year.of(2022);
+        final Year nextYear = year.plusYears(1);
+
+        // all remaining vacation days of next year are used by a 10 days application
+        final Application applicationNextYear = anyApplication(person);
+        applicationNextYear.setStartDate(LocalDate.of(2023, JANUARY, 2));
+        applicationNextYear.setEndDate(LocalDate.of(2023, JANUARY, 11));
+        applicationNextYear.setStatus(ALLOWED);
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(person, otherPerson), LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)))
+            .thenReturn(List.of());
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(person, otherPerson), LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)))
+            .thenReturn(List.of(applicationNextYear));
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = buildWorkingTimeByDate(year.atDay(1), nextYear.atDay(1).with(lastDayOfYear()),
+            date -> new WorkingDayInformation(FULL, WORKDAY, WORKDAY));
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(workingTimeByDate);
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person, otherPerson), year)).thenReturn(Map.of(person, workingTimeCalendar, otherPerson, workingTimeCalendar));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person, otherPerson), nextYear)).thenReturn(Map.of(person, workingTimeCalendar, otherPerson, workingTimeCalendar));
+
+        final Account account = anyAccount(person, year);
+        final Account otherAccount = anyAccount(otherPerson, year);
+
+        final Account accountNextYear = anyAccount(person, nextYear);
+        accountNextYear.setActualVacationDays(ZERO);
+        accountNextYear.setRemainingVacationDays(TEN);
+        accountNextYear.setDoRemainingVacationDaysExpireLocally(false);
+        final Account otherAccountNextYear = anyAccount(otherPerson, nextYear);
+        otherAccountNextYear.setActualVacationDays(ZERO);
+        otherAccountNextYear.setRemainingVacationDays(TEN);
+        otherAccountNextYear.setDoRemainingVacationDaysExpireLocally(false);
+
+        final Map<Account, HolidayAccountVacationDays> actual = sut.getVacationDaysLeft(List.of(account, otherAccount), year, List.of(accountNextYear, otherAccountNextYear));
+        assertThat(actual.get(account).vacationDaysYear().getVacationDaysUsedNextYear()).isEqualByComparingTo(TEN);
+        assertThat(actual.get(otherAccount).vacationDaysYear().getVacationDaysUsedNextYear()).isEqualByComparingTo(ZERO);
+    }
+
     @ParameterizedTest
     @EnumSource(value = VacationCategory.class, names = {"SPECIALLEAVE", "UNPAIDLEAVE", "OVERTIME", "OTHER"})
     void ensureGetVacationDaysLeftIgnoresVacationTypeWithYear(VacationCategory category) {
@@ -0,0 +1,100 @@
+package org.synyx.urlaubsverwaltung.application.application;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.SingleTenantTestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationRepository.FIND_OVERLAPPING_BY_STATUS_NAMES;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationRepository.FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
+
+/**
+ * Ensures that the overlap queries of applications for leave are served by the GiST index on the generated
+ * {@code date_range} column, given a history of several years, and find the same applications for leave as the
+ * former predicate on the start and end date.
+ */
+@SpringBootTest
+@Transactional
+class ApplicationDateRangeIndexIT extends SingleTenantTestContainersBase {
+
+    private static final int ROWS = 20_000;
+    private static final int DAYS_OF_HISTORY = 15 * 365;
+    private static final LocalDate START = LocalDate.of(2020, 3, 2);
+    private static final LocalDate END = LocalDate.of(2020, 3, 8);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private ApplicationRepository sut;
+
+    private Person person;
+
+    @BeforeEach
+    void setUp() {
+        person = personService.create("muster", "Marlene", "Muster", "muster@example.org");
+        entityManager.flush();
+
+        jdbcTemplate.update("""
+            INSERT INTO application (id, tenant_id, person_id, start_date, end_date, status, team_informed, two_stage_approval)
+            SELECT 1000000 + n, 'default', :personId, DATE '2010-01-01' + n % :days, DATE '2010-01-01' + n % :days + n % 5,
+                   (ARRAY ['ALLOWED', 'WAITING', 'CANCELLED', 'REJECTED'])[n % 4 + 1], false, false
+            FROM generate_series(0, :rows) AS n
+            """, Map.of("personId", person.getId(), "days", DAYS_OF_HISTORY, "rows", ROWS - 1));
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE application");
+    }
+
+    @Test
+    void ensureFindOverlappingUsesDateRangeIndex() {
+
+        final Map<String, Object> parameters = Map.of("statuses", List.of("ALLOWED", "WAITING"), "start", START, "end", END);
+
+        assertThat(explain(FIND_OVERLAPPING_BY_STATUS_NAMES, parameters)).contains("application_date_range");
+
+        assertThat(sut.findOverlapping(List.of(ALLOWED, WAITING), START, END))
+            .extracting(ApplicationEntity::getId)
+            .isNotEmpty()
+            .containsExactlyInAnyOrderElementsOf(idsBetween("AND status IN (:statuses)", parameters));
+    }
+
+    @Test
+    void ensureFindOverlappingOfPersonsUsesDateRangeIndex() {
+
+        final Map<String, Object> parameters = Map.of("statuses", List.of("ALLOWED", "WAITING"), "personIds", List.of(person.getId()), "start", START, "end", END);
+
+        assertThat(explain(FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS, parameters)).contains("application_date_range");
+
+        assertThat(sut.findOverlappingOfPersons(List.of(ALLOWED, WAITING), List.of(person), START, END))
+            .extracting(ApplicationEntity::getId)
+            .isNotEmpty()
+            .containsExactlyInAnyOrderElementsOf(idsBetween("AND status IN (:statuses) AND person_id IN (:personIds)", parameters));
+    }
+
+    private String explain(String query, Map<String, Object> parameters) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, parameters, String.class));
+    }
+
+    private List<Long> idsBetween(String condition, Map<String, Object> parameters) {
+        return jdbcTemplate.queryForList("SELECT id FROM application WHERE end_date >= :start AND start_date <= :end " + condition, parameters, Long.class);
+    }
+}
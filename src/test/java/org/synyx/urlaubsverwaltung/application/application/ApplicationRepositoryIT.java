@@ -83,11 +83,38 @@ class ApplicationRepositoryIT extends SingleTenantTestContainersBase {
         List<ApplicationStatus> statuses = List.of(WAITING);
         List<Person> persons = List.of(max, marlene);
 
-        final List<ApplicationEntity> actualApplications = sut.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(statuses, persons, askedStartDate, askedEndDate);
+        final List<ApplicationEntity> actualApplications = sut.findOverlappingOfPersons(statuses, persons, askedStartDate, askedEndDate);
 
         assertThat(actualApplications).contains(appStartingBeforePeriod, appEndingAfterPeriod, appInBetween, appStartingAtPeriod, appEndingAtPeriod);
     }
 
+    @Test
+    void ensureLastModificationsOfApplicationsForLeaveOfPersonsWithinDateRange() {
+
+        final Person max = personService.create("muster", "Max", "Mustermann", "mustermann@example.org");
+        final Person marlene = personService.create("person2", "Marlene", "Musterfrau", "musterfrau@example.org");
+        final VacationTypeEntity vacationType = getVacationType(HOLIDAY);
+
+        final LocalDate askedStartDate = LocalDate.now(UTC).with(firstDayOfMonth());
+        final LocalDate askedEndDate = LocalDate.now(UTC).with(lastDayOfMonth());
+
+        final ApplicationEntity appNotInPeriod = sut.save(applicationEntity(max, vacationType, askedEndDate.plusDays(10), askedEndDate.plusDays(12), FULL));
+        final ApplicationEntity appOfOtherPerson = sut.save(applicationEntity(marlene, vacationType, askedStartDate, askedStartDate.plusDays(2), FULL));
+
+        final ApplicationEntity appStartingBeforePeriod = applicationEntity(max, vacationType, askedStartDate.minusDays(5), askedStartDate.plusDays(1), FULL);
+        appStartingBeforePeriod.setStatus(CANCELLED);
+        sut.save(appStartingBeforePeriod);
+        final ApplicationEntity appEndingAtPeriod = sut.save(applicationEntity(max, vacationType, askedEndDate.minusDays(5), askedEndDate, FULL));
+
+        final List<ApplicationLastModification> actual = sut.findLastModificationsOfPersons(List.of(max), askedStartDate, askedEndDate);
+
+        assertThat(actual)
+            .extracting(ApplicationLastModification::applicationId)
+            .containsExactlyInAnyOrder(appStartingBeforePeriod.getId(), appEndingAtPeriod.getId())
+            .doesNotContain(appNotInPeriod.getId(), appOfOtherPerson.getId());
+        assertThat(actual).extracting(ApplicationLastModification::lastModification).doesNotContainNull();
+    }
+
     @Test
     void ensureApplicationForLeaveWithEmoji() {
 
@@ -106,7 +133,7 @@ class ApplicationRepositoryIT extends SingleTenantTestContainersBase {
         List<ApplicationStatus> statuses = List.of(WAITING);
         List<Person> persons = List.of(marlene);
 
-        final List<ApplicationEntity> actualApplications = sut.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(statuses, persons, askedStartDate, askedEndDate);
+        final List<ApplicationEntity> actualApplications = sut.findOverlappingOfPersons(statuses, persons, askedStartDate, askedEndDate);
 
         assertThat(actualApplications).contains(application);
     }
@@ -621,7 +648,7 @@ class ApplicationRepositoryIT extends SingleTenantTestContainersBase {
     }
 
     @Test
-    void ensureFindByPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual() {
+    void ensureFindOverlappingOfPersonsWithWaitingStatus() {
 
         final Person max = personService.create("muster", "Max", "Mustermann", "mustermann@example.org");
         final Person marlene = personService.create("person2", "Marlene", "Musterfrau", "musterfrau@example.org");
@@ -641,7 +668,7 @@ class ApplicationRepositoryIT extends SingleTenantTestContainersBase {
         final ApplicationEntity invalidApplication = applicationEntity(max, getVacationType(HOLIDAY), askedStartDate.plusDays(2), askedEndDate.minusDays(2), FULL);
         sut.save(invalidApplication);
 
-        final List<ApplicationEntity> actual = sut.findByPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqualAndStatusIn(List.of(marlene), askedStartDate, askedEndDate, List.of(WAITING));
+        final List<ApplicationEntity> actual = sut.findOverlappingOfPersons(List.of(WAITING), List.of(marlene), askedStartDate, askedEndDate);
 
         assertThat(actual).containsExactlyInAnyOrder(validHolidayStartingBefore, validOvertimeEndingAfter, validSpecialLeaveInBetween);
     }
@@ -16,14 +16,17 @@ import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.time.Duration.ZERO;
 import static java.util.Locale.JAPANESE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
@@ -314,6 +317,25 @@ class ApplicationServiceImplTest {
         assertThat(result).isEqualTo(List.of(application));
     }
 
+    @Test
+    void getForStatesAndPersonAndVacationCategory() {
+
+        final Application application = new Application();
+        application.setId(1L);
+
+        final ApplicationEntity applicationEntity = new ApplicationEntity();
+        applicationEntity.setId(1L);
+        applicationEntity.setVacationType(new VacationTypeEntity());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+
+        when(applicationRepository.findByStatusInAndPersonInAndVacationTypeCategory(List.of(WAITING), List.of(person), OVERTIME))
+            .thenReturn(List.of(applicationEntity));
+
+        final List<Application> result = sut.getForStatesAndPersonAndVacationCategory(List.of(WAITING), List.of(person), OVERTIME);
+        assertThat(result).isEqualTo(List.of(application));
+    }
+
     @Test
     void ensureReturnsCorrectTotalOvertimeReductionForPerson() {
 
@@ -426,7 +448,7 @@ class ApplicationServiceImplTest {
         applicationEntity.setId(1L);
         applicationEntity.setVacationType(new VacationTypeEntity());
 
-        when(applicationRepository.findByPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqualAndStatusIn(persons, startDate, endDate, List.of(WAITING)))
+        when(applicationRepository.findOverlappingOfPersons(List.of(WAITING), persons, startDate, endDate))
             .thenReturn(List.of(applicationEntity));
 
         final List<Application> actual = sut.getApplicationsForACertainPeriodAndStatus(startDate, endDate, persons, List.of(WAITING));
@@ -434,6 +456,23 @@ class ApplicationServiceImplTest {
         assertThat(actual).containsExactly(application);
     }
 
+    @Test
+    void getLastModifications() {
+
+        final Person person = new Person();
+        person.setId(1L);
+
+        final LocalDate startDate = LocalDate.of(2022, 8, 1);
+        final LocalDate endDate = LocalDate.of(2022, 8, 31);
+
+        final Instant lastModification = Instant.parse("2022-08-10T10:00:00Z");
+        when(applicationRepository.findLastModificationsOfPersons(List.of(person), startDate, endDate))
+            .thenReturn(List.of(new ApplicationLastModification(42L, lastModification)));
+
+        final Map<Long, Instant> actual = sut.getLastModifications(startDate, endDate, List.of(person));
+        assertThat(actual).containsExactly(entry(42L, lastModification));
+    }
+
     @Test
     void deleteOnPersonDeletionEventReturnsDeletedApplication() {
 
@@ -10,7 +10,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
@@ -22,6 +24,7 @@ import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
 import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.time.LocalDate;
@@ -29,12 +32,14 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
+import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
@@ -261,4 +266,45 @@ class ApplicationForLeaveExportServiceTest {
         assertThat(applicationForLeaveExport.getDepartments()).containsExactly("department");
         assertThat(applicationForLeaveExport.getApplicationForLeaves()).containsExactly(app);
     }
+
+    @Test
+    void getAllSortByNonPersonQueryForDepartmentHeadDeterminesOnlyApplicationsOfPersonsOnRequestedPage() {
+
+        final Person departmentHead = new Person();
+        departmentHead.setId(1L);
+        departmentHead.setPermissions(List.of(DEPARTMENT_HEAD));
+
+        final Person marlene = new Person();
+        marlene.setId(2L);
+        marlene.setFirstName("Marlene");
+        final Person max = new Person();
+        max.setId(3L);
+        max.setFirstName("Max");
+        final Person paul = new Person();
+        paul.setId(4L);
+        paul.setFirstName("Paul");
+        final PersonId paulId = new PersonId(paul.getId());
+
+        final PageRequest exportPageRequest = PageRequest.of(1, 2, Sort.Direction.ASC, "totalAllowedVacationDays");
+        final PageableSearchQuery exportSearchQuery = new PageableSearchQuery(exportPageRequest, "");
+        final PageableSearchQuery personSearchQuery = new PageableSearchQuery(Pageable.unpaged(), "");
+        when(departmentService.getManagedMembersOfPerson(departmentHead, personSearchQuery)).thenReturn(new PageImpl<>(List.of(marlene, max, paul)));
+
+        final LocalDate from = LocalDate.of(2023, 1, 1);
+        final LocalDate to = LocalDate.of(2023, 1, 31);
+        final Application app = new Application();
+        app.setId(1L);
+        app.setPerson(paul);
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), List.of(paul), from, to)).thenReturn(List.of(app));
+        when(personBasedataService.getBasedataByPersonId(List.of(paul.getId()))).thenReturn(Map.of(paulId, new PersonBasedata(paulId, "42", "")));
+        when(departmentService.getDepartmentNamesByMembers(List.of(paul))).thenReturn(Map.of(paulId, List.of("department")));
+
+        final Page<ApplicationForLeaveExport> export = sut.getAll(departmentHead, from, to, exportSearchQuery);
+
+        assertThat(export.getTotalElements()).isEqualTo(3);
+        assertThat(export.getContent())
+            .extracting(ApplicationForLeaveExport::getFirstName)
+            .containsExactly("Paul");
+        verify(workDaysCountService).getWorkDaysCount(List.of(new WorkDaysCountPeriod(paul, app.getDayLength(), new DateRange(app.getStartDate(), app.getEndDate()))));
+    }
 }
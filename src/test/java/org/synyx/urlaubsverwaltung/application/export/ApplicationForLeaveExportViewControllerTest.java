@@ -11,6 +11,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.application.Application;
@@ -18,6 +20,7 @@ import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.StreamingCSVFile;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -31,12 +34,18 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.math.BigDecimal.TEN;
 import static java.util.Locale.JAPANESE;
+import static java.util.stream.Collectors.joining;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -221,19 +230,21 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 25, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        when(applicationForLeaveCsvExportService.generateStreamingCSV(eq(filterPeriod), eq(locale), any())).thenAnswer(invocation -> {
+            final Stream<ApplicationForLeaveExport> exports = invocation.getArgument(2);
+            return new StreamingCSVFile("csv-file-name", outputStream -> outputStream.write(exports.map(ApplicationForLeaveExport::getPersonalNumber).collect(joining(",")).getBytes()));
+        });
 
-        perform(get("/web/application/export")
+        performAsync(get("/web/application/export")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
             .param("allElements", "true"))
             .andExpect(status().isOk())
-            .andExpect(content().string("csv-resource"));
+            .andExpect(content().string("1"));
     }
 
     @Test
@@ -269,16 +280,18 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 25, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        when(applicationForLeaveCsvExportService.generateStreamingCSV(eq(filterPeriod), eq(locale), any())).thenAnswer(invocation -> {
+            final Stream<ApplicationForLeaveExport> exports = invocation.getArgument(2);
+            return new StreamingCSVFile("csv-file-name", outputStream -> outputStream.write(exports.map(ApplicationForLeaveExport::getPersonalNumber).collect(joining(",")).getBytes()));
+        });
 
         when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
         when(dateFormatAware.parse("01.08.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 8, 1)));
 
-        perform(get("/web/application/export")
+        performAsync(get("/web/application/export")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
@@ -287,7 +300,16 @@ class ApplicationForLeaveExportViewControllerTest {
             .param("size", "50")
             .param("query", "hans"))
             .andExpect(status().isOk())
-            .andExpect(content().string("csv-resource"));
+            .andExpect(content().string("1"));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        final MockMvc mockMvc = standaloneSetup(sut)
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
     }
 
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
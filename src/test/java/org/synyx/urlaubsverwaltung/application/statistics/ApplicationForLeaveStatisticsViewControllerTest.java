@@ -16,12 +16,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeService;
 import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.StreamingCSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -37,6 +40,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Locale.JAPANESE;
 import static org.hamcrest.Matchers.aMapWithSize;
@@ -49,10 +53,12 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
@@ -461,23 +467,25 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
 
         final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 25, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        when(applicationForLeaveStatisticsCsvExportService.generateStreamingCSV(eq(filterPeriod), eq(locale), any())).thenAnswer(invocation -> {
+            final Stream<ApplicationForLeaveStatistics> streamedStatistics = invocation.getArgument(2);
+            return new StreamingCSVFile("csv-file-name", outputStream -> outputStream.write(("csv-resource-" + streamedStatistics.count()).getBytes()));
+        });
 
         when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
         when(dateFormatAware.parse("01.08.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 8, 1)));
 
-        perform(get("/web/application/statistics/download")
+        performAsync(get("/web/application/statistics/download")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
             .param("allElements", "true"))
             .andExpect(status().isOk())
-            .andExpect(content().string("csv-resource"));
+            .andExpect(content().string("csv-resource-1"));
     }
 
     @Test
@@ -496,17 +504,19 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
 
         final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 25, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of(statistics))).thenReturn(csvFile);
+        when(applicationForLeaveStatisticsCsvExportService.generateStreamingCSV(eq(filterPeriod), eq(locale), any())).thenAnswer(invocation -> {
+            final Stream<ApplicationForLeaveStatistics> streamedStatistics = invocation.getArgument(2);
+            return new StreamingCSVFile("csv-file-name", outputStream -> outputStream.write(("csv-resource-" + streamedStatistics.count()).getBytes()));
+        });
 
         when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
         when(dateFormatAware.parse("01.08.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 8, 1)));
 
-        perform(get("/web/application/statistics/download")
+        performAsync(get("/web/application/statistics/download")
             .locale(locale)
             .param("from", "01.01.2019")
             .param("to", "01.08.2019")
@@ -515,7 +525,45 @@ class ApplicationForLeaveStatisticsViewControllerTest {
             .param("size", "50")
             .param("query", "hans"))
             .andExpect(status().isOk())
-            .andExpect(content().string("csv-resource"));
+            .andExpect(content().string("csv-resource-1"));
+    }
+
+    @Test
+    void ensureToDownloadCSVStatisticsForAllSortedByStatisticsLoadsAllStatisticsAtOnce() throws Exception {
+
+        final Locale locale = JAPANESE;
+
+        final Person signedInUser = new Person();
+        signedInUser.setId(1L);
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+
+        final LocalDate startDate = LocalDate.parse("2019-01-01");
+        final LocalDate endDate = LocalDate.parse("2019-08-01");
+        final FilterPeriod filterPeriod = new FilterPeriod(startDate, endDate);
+
+        final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).build();
+
+        final ApplicationForLeaveStatistics statistics = new ApplicationForLeaveStatistics(signedInUser, List.of(vacationType));
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.DESC, "totalAllowedVacationDays")), "");
+        when(applicationForLeaveStatisticsService.getStatistics(signedInUser, filterPeriod, pageableSearchQuery))
+            .thenReturn(new PageImpl<>(List.of(statistics)));
+
+        when(applicationForLeaveStatisticsCsvExportService.generateStreamingCSV(eq(filterPeriod), eq(locale), any())).thenAnswer(invocation -> {
+            final Stream<ApplicationForLeaveStatistics> streamedStatistics = invocation.getArgument(2);
+            return new StreamingCSVFile("csv-file-name", outputStream -> outputStream.write(("csv-resource-" + streamedStatistics.count()).getBytes()));
+        });
+
+        when(dateFormatAware.parse("01.01.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 1, 1)));
+        when(dateFormatAware.parse("01.08.2019", locale)).thenReturn(Optional.of(LocalDate.of(2019, 8, 1)));
+
+        performAsync(get("/web/application/statistics/download")
+            .locale(locale)
+            .param("from", "01.01.2019")
+            .param("to", "01.08.2019")
+            .param("sort", "totalAllowedVacationDays,desc")
+            .param("allElements", "true"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("csv-resource-1"));
     }
 
     private static PageableSearchQuery defaultPersonSearchQuery() {
@@ -526,6 +574,15 @@ class ApplicationForLeaveStatisticsViewControllerTest {
         return PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "person.firstName"));
     }
 
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        final MockMvc mockMvc = standaloneSetup(sut)
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
         return standaloneSetup(sut)
             .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
@@ -0,0 +1,111 @@
+package org.synyx.urlaubsverwaltung.application.vacationtype;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Sort;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OVERTIME;
+
+@ExtendWith(MockitoExtension.class)
+class VacationTypeRegistryTest {
+
+    private VacationTypeRegistry sut;
+
+    @Mock
+    private VacationTypeRepository vacationTypeRepository;
+    @Mock
+    private MessageSource messageSource;
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    @BeforeEach
+    void setUp() {
+        sut = new VacationTypeRegistry(vacationTypeRepository, messageSource, tenantContextHolder);
+    }
+
+    @Test
+    void ensureVacationTypesAreLoadedOncePerTenant() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(vacationTypeEntity(1L, HOLIDAY, true), vacationTypeEntity(2L, OVERTIME, false)));
+
+        assertThat(sut.getAll()).extracting(VacationType::getId).containsExactly(1L, 2L);
+        assertThat(sut.getActive()).extracting(VacationType::getId).containsExactly(1L);
+        assertThat(sut.getById(2L)).hasValueSatisfying(vacationType -> assertThat(vacationType.getCategory()).isEqualTo(OVERTIME));
+
+        verify(vacationTypeRepository).findAll(Sort.by("id"));
+    }
+
+    @Test
+    void ensureVacationTypesAreLoadedPerTenant() {
+        when(tenantContextHolder.getCurrentTenantId())
+            .thenReturn(Optional.of(new TenantId("one")))
+            .thenReturn(Optional.of(new TenantId("two")));
+        when(vacationTypeRepository.findAll(Sort.by("id")))
+            .thenReturn(List.of(vacationTypeEntity(1L, HOLIDAY, true)))
+            .thenReturn(List.of(vacationTypeEntity(2L, OVERTIME, true)));
+
+        assertThat(sut.getAll()).extracting(VacationType::getId).containsExactly(1L);
+        assertThat(sut.getAll()).extracting(VacationType::getId).containsExactly(2L);
+    }
+
+    @Test
+    void ensureVacationTypesAreNotCachedWithoutTenant() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.empty());
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(vacationTypeEntity(1L, HOLIDAY, true)));
+
+        sut.getAll();
+        sut.getAll();
+
+        verify(vacationTypeRepository, times(2)).findAll(Sort.by("id"));
+    }
+
+    @Test
+    void ensureActiveWithoutCategory() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(
+            vacationTypeEntity(1L, HOLIDAY, true),
+            vacationTypeEntity(2L, OVERTIME, true),
+            vacationTypeEntity(3L, HOLIDAY, false)
+        ));
+
+        assertThat(sut.getActiveWithoutCategory(OVERTIME)).extracting(VacationType::getId).containsExactly(1L);
+        assertThat(sut.getActiveWithoutCategory(HOLIDAY)).extracting(VacationType::getId).containsExactly(2L);
+    }
+
+    @Test
+    void ensureVacationTypesAreReloadedAfterChange() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(vacationTypeRepository.findAll(Sort.by("id")))
+            .thenReturn(List.of(vacationTypeEntity(1L, HOLIDAY, true)))
+            .thenReturn(List.of(vacationTypeEntity(1L, HOLIDAY, false)));
+
+        assertThat(sut.getActive()).hasSize(1);
+
+        sut.onVacationTypeChanged();
+
+        assertThat(sut.getActive()).isEmpty();
+        verify(vacationTypeRepository, times(2)).findAll(Sort.by("id"));
+    }
+
+    private static VacationTypeEntity vacationTypeEntity(Long id, VacationCategory category, boolean active) {
+        final VacationTypeEntity entity = new VacationTypeEntity();
+        entity.setId(id);
+        entity.setCategory(category);
+        entity.setActive(active);
+        return entity;
+    }
+}
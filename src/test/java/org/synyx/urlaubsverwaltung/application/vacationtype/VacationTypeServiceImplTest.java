@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.Sort;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
 
 import java.util.List;
 import java.util.Locale;
@@ -45,10 +46,13 @@ class VacationTypeServiceImplTest {
     private ApplicationEventPublisher applicationEventPublisher;
     @Mock
     private MessageSource messageSource;
+    @Mock
+    private TenantContextHolder tenantContextHolder;
 
     @BeforeEach
     void setUp() {
-        sut = new VacationTypeServiceImpl(vacationTypeRepository, applicationEventPublisher, messageSource);
+        final VacationTypeRegistry vacationTypeRegistry = new VacationTypeRegistry(vacationTypeRepository, messageSource, tenantContextHolder);
+        sut = new VacationTypeServiceImpl(vacationTypeRepository, applicationEventPublisher, messageSource, vacationTypeRegistry);
     }
 
     @Test
@@ -69,7 +73,7 @@ class VacationTypeServiceImplTest {
         overtimeActive.setCategory(OVERTIME);
         overtimeActive.setActive(true);
 
-        when(vacationTypeRepository.findByActiveIsTrueOrderById()).thenReturn(List.of(holiday, overtimeActive, overtime));
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday, overtimeActive, overtime));
 
         final List<VacationType<?>> typesWithoutCategory = sut.getActiveVacationTypesWithoutCategory(OVERTIME);
         assertThat(typesWithoutCategory).hasSize(1);
@@ -89,7 +93,7 @@ class VacationTypeServiceImplTest {
         overtimeActive.setCategory(OVERTIME);
         overtimeActive.setActive(true);
 
-        when(vacationTypeRepository.findByActiveIsTrueOrderById()).thenReturn(List.of(holiday, overtimeActive));
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday, overtimeActive));
 
         final List<VacationType<?>> activeVacationTypes = sut.getActiveVacationTypes();
         assertThat(activeVacationTypes).hasSize(2);
@@ -49,6 +49,8 @@ class CompanyCalendarServiceTest {
     private PersonService personService;
     @Mock
     private MessageSource messageSource;
+    @Mock
+    private ICalFeedCache iCalFeedCache;
 
     private static LocalDate toDateTime(String input) {
         return LocalDate.parse(input, ofPattern("yyyy-MM-dd"));
@@ -57,7 +59,7 @@ class CompanyCalendarServiceTest {
     @BeforeEach
     void setUp() {
 
-        sut = new CompanyCalendarService(calendarAbsenceService, companyCalendarRepository, iCalService, personService, messageSource, Clock.systemUTC());
+        sut = new CompanyCalendarService(calendarAbsenceService, companyCalendarRepository, iCalService, personService, messageSource, iCalFeedCache, Clock.systemUTC());
     }
 
     @Test
@@ -131,6 +133,7 @@ class CompanyCalendarServiceTest {
         sut.deleteCalendarForPerson(1);
 
         verify(companyCalendarRepository).deleteByPerson(person);
+        verify(iCalFeedCache).invalidate();
     }
 
     @Test
@@ -211,6 +214,8 @@ class CompanyCalendarServiceTest {
 
         assertThat(actualCalendarForPerson.getPerson()).isEqualTo(person);
         assertThat(actualCalendarForPerson.getSecret()).isNotBlank();
+
+        verify(iCalFeedCache).invalidate();
     }
 
     @Test
@@ -54,12 +54,14 @@ class DepartmentCalendarServiceTest {
     private ICalService iCalService;
     @Mock
     private MessageSource messageSource;
+    @Mock
+    private ICalFeedCache iCalFeedCache;
 
     @BeforeEach
     void setUp() {
 
         sut = new DepartmentCalendarService(calendarAbsenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, Clock.systemUTC());
+            departmentCalendarRepository, iCalService, messageSource, iCalFeedCache, Clock.systemUTC());
     }
 
     @Test
@@ -72,6 +74,7 @@ class DepartmentCalendarServiceTest {
         sut.deleteCalendarForDepartmentAndPerson(1, 10);
 
         verify(departmentCalendarRepository).deleteByDepartmentIdAndPerson(1L, person);
+        verify(iCalFeedCache).invalidate();
     }
 
     @Test
@@ -197,6 +200,8 @@ class DepartmentCalendarServiceTest {
         assertThat(actualDepartmentCalendar.getDepartmentId()).isEqualTo(42);
         assertThat(actualDepartmentCalendar.getPerson()).isEqualTo(person);
         assertThat(actualDepartmentCalendar.getSecret()).isNotBlank();
+
+        verify(iCalFeedCache).invalidate();
     }
 
     @Test
@@ -268,7 +273,7 @@ class DepartmentCalendarServiceTest {
 
         final Clock clock = Clock.fixed(Instant.parse("2019-04-15T10:00:00.00Z"), ZoneId.of("UTC"));
         final DepartmentCalendarService departmentCalendarService = new DepartmentCalendarService(calendarAbsenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, clock);
+            departmentCalendarRepository, iCalService, messageSource, iCalFeedCache, clock);
 
         final Department department = createDepartment("DepartmentName");
         department.setId(1L);
@@ -300,7 +305,7 @@ class DepartmentCalendarServiceTest {
 
         final Clock clock = Clock.fixed(Instant.parse("2019-06-15T10:00:00.00Z"), ZoneId.of("UTC"));
         final DepartmentCalendarService departmentCalendarService = new DepartmentCalendarService(calendarAbsenceService, departmentService, personService,
-            departmentCalendarRepository, iCalService, messageSource, clock);
+            departmentCalendarRepository, iCalService, messageSource, iCalFeedCache, clock);
 
         final Department department = createDepartment("DepartmentName");
         department.setId(1L);
@@ -0,0 +1,182 @@
+package org.synyx.urlaubsverwaltung.calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.calendar.ICalFeedCache.Scope.COMPANY;
+import static org.synyx.urlaubsverwaltung.calendar.ICalFeedCache.Scope.PERSON;
+
+class ICalFeedCacheTest {
+
+    private static final ICalFeedCache.Key KEY = new ICalFeedCache.Key(PERSON, null, 1L, "secret", GERMAN);
+
+    private CalendarProperties calendarProperties;
+    private Clock clock;
+    private ICalFeedCache sut;
+
+    @BeforeEach
+    void setUp() {
+        calendarProperties = new CalendarProperties();
+        clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        now("2024-05-02T10:00:00Z");
+        sut = new ICalFeedCache(calendarProperties, clock);
+    }
+
+    @Test
+    void ensureRendersOnlyOnceWhileUnchanged() {
+
+        final AtomicInteger renderings = new AtomicInteger();
+
+        final ICalFeedCache.Feed first = sut.get(KEY, renderer("feed", renderings));
+        final ICalFeedCache.Feed second = sut.get(KEY, renderer("feed", renderings));
+
+        assertThat(renderings).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.content()).isEqualTo("feed".getBytes());
+        assertThat(first.lastModified()).isEqualTo(Instant.parse("2024-05-02T10:00:00Z"));
+    }
+
+    @Test
+    void ensureRendersPerKey() {
+
+        final AtomicInteger renderings = new AtomicInteger();
+
+        sut.get(KEY, renderer("feed", renderings));
+        sut.get(new ICalFeedCache.Key(COMPANY, null, 1L, "secret", GERMAN), renderer("feed", renderings));
+
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    void ensureRendersAgainAfterChange() {
+
+        sut.get(KEY, renderer("feed", new AtomicInteger()));
+
+        now("2024-05-02T10:05:00Z");
+        sut.onChange();
+
+        final ICalFeedCache.Feed feed = sut.get(KEY, renderer("changed feed", new AtomicInteger()));
+        assertThat(feed.content()).isEqualTo("changed feed".getBytes());
+        assertThat(feed.lastModified()).isEqualTo(Instant.parse("2024-05-02T10:05:00Z"));
+    }
+
+    @Test
+    void ensureKeepsLastModifiedWhenRenderedFeedIsUnchanged() {
+
+        final ICalFeedCache.Feed first = sut.get(KEY, renderer("feed", new AtomicInteger()));
+
+        now("2024-05-02T10:05:00Z");
+        sut.invalidate();
+
+        final ICalFeedCache.Feed second = sut.get(KEY, renderer("feed", new AtomicInteger()));
+        assertThat(second.eTag()).isEqualTo(first.eTag());
+        assertThat(second.lastModified()).isEqualTo(Instant.parse("2024-05-02T10:00:00Z"));
+    }
+
+    @Test
+    void ensureRendersAgainOnNextDay() {
+
+        final AtomicInteger renderings = new AtomicInteger();
+        sut.get(KEY, renderer("feed", renderings));
+
+        now("2024-05-03T00:01:00Z");
+        sut.get(KEY, renderer("feed", renderings));
+
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    void ensureRendersAgainAfterTimeToLive() {
+
+        final AtomicInteger renderings = new AtomicInteger();
+        sut.get(KEY, renderer("feed", renderings));
+
+        now("2024-05-02T10:00:09Z");
+        sut.get(KEY, renderer("feed", renderings));
+        assertThat(renderings).hasValue(1);
+
+        now("2024-05-02T10:00:10Z");
+        sut.get(KEY, renderer("feed", renderings));
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    void ensureRendersAgainAfterConfiguredTimeToLive() {
+
+        calendarProperties.getFeedCache().setTimeToLive(Duration.ofHours(1));
+
+        final AtomicInteger renderings = new AtomicInteger();
+        sut.get(KEY, renderer("feed", renderings));
+
+        now("2024-05-02T10:59:59Z");
+        sut.get(KEY, renderer("feed", renderings));
+        assertThat(renderings).hasValue(1);
+
+        now("2024-05-02T11:00:00Z");
+        sut.get(KEY, renderer("feed", renderings));
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    void ensureRendersEveryTimeWhenDisabled() {
+
+        calendarProperties.getFeedCache().setEnabled(false);
+
+        final AtomicInteger renderings = new AtomicInteger();
+        sut.get(KEY, renderer("feed", renderings));
+        sut.get(KEY, renderer("feed", renderings));
+
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    void ensureDoesNotCacheFailedRendering() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.get(KEY, () -> {
+            throw new IllegalArgumentException("invalid secret");
+        }));
+
+        final AtomicInteger renderings = new AtomicInteger();
+        sut.get(KEY, renderer("feed", renderings));
+        assertThat(renderings).hasValue(1);
+    }
+
+    @Test
+    void ensureDropsLeastRecentlyUsedFeed() {
+
+        calendarProperties.getFeedCache().setMaxEntries(1);
+        sut = new ICalFeedCache(calendarProperties, clock);
+
+        final AtomicInteger renderings = new AtomicInteger();
+        sut.get(KEY, renderer("feed", renderings));
+        sut.get(new ICalFeedCache.Key(PERSON, null, 2L, "other", GERMAN), renderer("feed", renderings));
+        sut.get(KEY, renderer("feed", renderings));
+
+        assertThat(renderings).hasValue(3);
+    }
+
+    private void now(String instant) {
+        when(clock.instant()).thenReturn(Instant.parse(instant));
+    }
+
+    private static Supplier<ByteArrayResource> renderer(String content, AtomicInteger renderings) {
+        return () -> {
+            renderings.incrementAndGet();
+            return new ByteArrayResource(content.getBytes());
+        };
+    }
+}
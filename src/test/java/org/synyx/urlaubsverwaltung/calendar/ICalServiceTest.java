@@ -12,6 +12,8 @@ import org.synyx.urlaubsverwaltung.period.Period;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.user.UserSettingsService;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +24,8 @@ import static java.util.Locale.GERMAN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.calendar.CalendarAbsenceType.DEFAULT;
 import static org.synyx.urlaubsverwaltung.calendar.ICalType.CANCELLED;
@@ -49,7 +53,7 @@ class ICalServiceTest {
     void setUp() {
         final CalendarProperties calendarProperties = new CalendarProperties();
         calendarProperties.setOrganizer("no-reply@example.org");
-        sut = new ICalService(calendarProperties, messageSource, userSettingsService);
+        sut = new ICalService(calendarProperties, messageSource, userSettingsService, Clock.systemUTC());
     }
 
     @Test
@@ -97,7 +101,6 @@ class ICalServiceTest {
                 X-MICROSOFT-CDO-ALLDAYEVENT:TRUE
                 UID:806735982DE050F90FAEE972F010854E
                 ATTENDEE;ROLE=REQ-PARTICIPANT;CN=Marlene Muster:mailto:muster@example.org
-                \s
                 ORGANIZER:mailto:no-reply@example.org
                 END:VEVENT
                 END:VCALENDAR
@@ -130,7 +133,6 @@ class ICalServiceTest {
                 SUMMARY:Marlene Muster abwesend
                 UID:4F2F28B08279622C1D317D8D5F11D44D
                 ATTENDEE;ROLE=REQ-PARTICIPANT;CN=Marlene Muster:mailto:muster@example.org
-                \s
                 ORGANIZER:mailto:no-reply@example.org
                 END:VEVENT
                 END:VCALENDAR
@@ -165,7 +167,6 @@ class ICalServiceTest {
                 X-MICROSOFT-CDO-ALLDAYEVENT:TRUE
                 UID:322D5F265624AA63A4C508E8C363B29A
                 ATTENDEE;ROLE=REQ-PARTICIPANT;CN=Marlene Muster:mailto:muster@example.org
-                \s
                 ORGANIZER:mailto:no-reply@example.org
                 END:VEVENT
                 END:VCALENDAR
@@ -198,7 +199,6 @@ class ICalServiceTest {
                 SUMMARY:Marlene Muster abwesend
                 UID:497ED5D042F718878138A3E2F8C3C35C
                 ATTENDEE;ROLE=REQ-PARTICIPANT;CN=Marlene Muster:mailto:muster@example.org
-                \s
                 ORGANIZER:mailto:no-reply@example.org
                 END:VEVENT
                 END:VCALENDAR
@@ -231,7 +231,6 @@ class ICalServiceTest {
                 SUMMARY:Marlene Muster abwesend
                 UID:791CAD0EA0808D42C4D2BED7D0A7CAC7
                 ATTENDEE;ROLE=REQ-PARTICIPANT;CN=Marlene Muster:mailto:muster@example.org
-                \s
                 ORGANIZER:mailto:no-reply@example.org
                 END:VEVENT
                 END:VCALENDAR
@@ -399,6 +398,41 @@ class ICalServiceTest {
                 """);
     }
 
+    @Test
+    void getCalendarEscapesAndFoldsLongLines() {
+
+        final Person recipient = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        when(userSettingsService.getEffectiveLocale(List.of(recipient))).thenReturn(Map.of(recipient, GERMAN));
+
+        final CalendarAbsence fullDayAbsence = absence(recipient, toDateTime("2019-03-26"), toDateTime("2019-03-26"), FULL);
+        when(messageSource.getMessage(eq(fullDayAbsence.getCalendarAbsenceTypeMessageKey()), any(), eq(GERMAN)))
+            .thenReturn("Marlene Muster ist abwesend, weil sie sich im wohlverdienten Erholungsurlaub befindet; bis bald");
+
+        final ByteArrayResource calendar = sut.getCalendar("Abwesenheitskalender", List.of(fullDayAbsence), recipient);
+        assertThat(convertCalendar(calendar))
+            .contains("\r\nSUMMARY:Marlene Muster ist abwesend\\, weil sie sich im wohlverdienten Erhol\r\n ungsurlaub befindet\\; bis bald\r\n");
+    }
+
+    @Test
+    void getCalendarTranslatesSummaryOncePerAbsenceTypeAndPerson() {
+
+        final Person recipient = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        when(userSettingsService.getEffectiveLocale(List.of(recipient))).thenReturn(Map.of(recipient, GERMAN));
+
+        final CalendarAbsence first = absence(recipient, toDateTime("2019-03-26"), toDateTime("2019-03-26"), FULL);
+        final CalendarAbsence second = absence(recipient, toDateTime("2019-04-26"), toDateTime("2019-04-26"), FULL);
+        when(messageSource.getMessage(eq(first.getCalendarAbsenceTypeMessageKey()), any(), eq(GERMAN))).thenReturn(recipient.getNiceName() + " abwesend");
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.writeCalendar("Abwesenheitskalender", List.of(first, second), recipient, outputStream);
+
+        assertThat(outputStream.toString(UTF_8)).containsSubsequence(
+            "DTSTART;VALUE=DATE:20190326", "SUMMARY:Marlene Muster abwesend",
+            "DTSTART;VALUE=DATE:20190426", "SUMMARY:Marlene Muster abwesend"
+        );
+        verify(messageSource, times(1)).getMessage(eq(first.getCalendarAbsenceTypeMessageKey()), any(), eq(GERMAN));
+    }
+
     private CalendarAbsence absence(Person person, LocalDate start, LocalDate end, DayLength length) {
         return absence(person, start, end, length, DEFAULT);
     }
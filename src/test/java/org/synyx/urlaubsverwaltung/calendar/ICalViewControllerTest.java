@@ -10,8 +10,12 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.time.Clock;
+
 import static java.util.Locale.GERMAN;
+import static org.apache.commons.codec.digest.DigestUtils.md5Hex;
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -34,7 +38,8 @@ class ICalViewControllerTest {
 
     @BeforeEach
     void setUp() {
-        sut = new ICalViewController(personCalendarService, departmentCalendarService, companyCalendarService);
+        final ICalFeedCache iCalFeedCache = new ICalFeedCache(new CalendarProperties(), Clock.systemUTC());
+        sut = new ICalViewController(personCalendarService, departmentCalendarService, companyCalendarService, iCalFeedCache);
     }
 
     @Test
@@ -51,6 +56,46 @@ class ICalViewControllerTest {
             .andExpect(content().string(containsString("iCal string")));
     }
 
+    @Test
+    void getCalendarForPersonWithETagAndLastModified() throws Exception {
+
+        when(personCalendarService.getCalendarForPerson(1L, "secret", GERMAN)).thenReturn(new ByteArrayResource("iCal string".getBytes()));
+
+        perform(get("/web/persons/1/calendar")
+            .locale(GERMAN)
+            .param("secret", "secret"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"" + md5Hex("iCal string") + "\""))
+            .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    void getCalendarForPersonNotModified() throws Exception {
+
+        when(personCalendarService.getCalendarForPerson(1L, "secret", GERMAN)).thenReturn(new ByteArrayResource("iCal string".getBytes()));
+
+        perform(get("/web/persons/1/calendar")
+            .locale(GERMAN)
+            .param("secret", "secret")
+            .header("If-None-Match", "\"" + md5Hex("iCal string") + "\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void getCalendarForPersonRendersFeedOnlyOnceWhileUnchanged() throws Exception {
+
+        when(personCalendarService.getCalendarForPerson(1L, "secret", GERMAN)).thenReturn(new ByteArrayResource("iCal string".getBytes()));
+
+        perform(get("/web/persons/1/calendar").locale(GERMAN).param("secret", "secret"))
+            .andExpect(status().isOk());
+        perform(get("/web/persons/1/calendar").locale(GERMAN).param("secret", "secret"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("iCal string")));
+
+        verify(personCalendarService).getCalendarForPerson(1L, "secret", GERMAN);
+    }
+
     @Test
     void getCalendarForPersonWithBadRequest() throws Exception {
 
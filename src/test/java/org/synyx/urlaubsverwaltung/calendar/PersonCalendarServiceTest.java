@@ -47,6 +47,8 @@ class PersonCalendarServiceTest {
     private ICalService iCalService;
     @Mock
     private MessageSource messageSource;
+    @Mock
+    private ICalFeedCache iCalFeedCache;
 
     private static LocalDate toDateTime(String input) {
         return LocalDate.parse(input, ofPattern("yyyy-MM-dd"));
@@ -55,7 +57,7 @@ class PersonCalendarServiceTest {
     @BeforeEach
     void setUp() {
 
-        sut = new PersonCalendarService(calendarAbsenceService, personService, personCalendarRepository, iCalService, messageSource, Clock.systemUTC());
+        sut = new PersonCalendarService(calendarAbsenceService, personService, personCalendarRepository, iCalService, messageSource, iCalFeedCache, Clock.systemUTC());
     }
 
     @Test
@@ -257,6 +259,7 @@ class PersonCalendarServiceTest {
         assertThat(calendarForPerson.getSecret()).isNotBlank();
         assertThat(calendarForPerson.getCalendarPeriod()).isEqualTo(java.time.Period.parse("P12M"));
 
+        verify(iCalFeedCache).invalidate();
     }
 
     @Test
@@ -295,6 +298,7 @@ class PersonCalendarServiceTest {
         sut.deletePersonalCalendarForPerson(1);
 
         verify(personCalendarRepository).deleteByPerson(person);
+        verify(iCalFeedCache).invalidate();
     }
 
     @Test
@@ -0,0 +1,65 @@
+package org.synyx.urlaubsverwaltung.csv;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CsvDownloadSupportTest {
+
+    @Test
+    void ensureStreamAllLoadsPageByPageWhenSortedByPerson() {
+        final Sort sort = Sort.by("person.firstName");
+        final List<Pageable> requestedPages = new ArrayList<>();
+
+        final Function<PageableSearchQuery, Page<String>> pageLoader = query -> {
+            final Pageable pageable = query.getPageable();
+            requestedPages.add(pageable);
+            final List<String> content = pageable.getPageNumber() == 0 ? List.of("a") : List.of("b");
+            return new PageImpl<>(content, pageable, pageable.getPageSize() + 1L);
+        };
+
+        assertThat(CsvDownloadSupport.streamAll(sort, pageLoader)).containsExactly("a", "b");
+        assertThat(requestedPages)
+            .extracting(Pageable::getPageNumber, Pageable::getSort)
+            .containsExactly(
+                tuple(0, sort),
+                tuple(1, sort)
+            );
+    }
+
+    @Test
+    void ensureStreamAllLoadsEverythingAtOnceWhenNotSortedByPerson() {
+        final Sort sort = Sort.by("totalAllowedVacationDays");
+        final List<Pageable> requestedPages = new ArrayList<>();
+
+        final Function<PageableSearchQuery, Page<String>> pageLoader = query -> {
+            requestedPages.add(query.getPageable());
+            return new PageImpl<>(List.of("a", "b"));
+        };
+
+        assertThat(CsvDownloadSupport.streamAll(sort, pageLoader)).containsExactly("a", "b");
+        assertThat(requestedPages).hasSize(1);
+        assertThat(requestedPages.get(0).getPageSize()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(requestedPages.get(0).getSort()).isEqualTo(sort);
+    }
+
+    @Test
+    void ensureCsvHeaders() {
+        final HttpHeaders headers = CsvDownloadSupport.csvHeaders("export.csv");
+
+        assertThat(headers.getContentType()).hasToString("text/csv;charset=UTF-8");
+        assertThat(headers.getContentDisposition().getType()).isEqualTo("attachment");
+        assertThat(headers.getContentDisposition().getFilename()).isEqualTo("export.csv");
+    }
+}
@@ -0,0 +1,79 @@
+package org.synyx.urlaubsverwaltung.csv;
+
+import com.opencsv.CSVWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.JAPANESE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingCsvExportServiceTest {
+
+    private final StreamingCsvExportService<String> sut = new StreamingCsvExportService<>() {
+        @Override
+        public void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter) {
+            csvWriter.writeNext(new String[]{"header", "row"});
+        }
+
+        @Override
+        public void writeRows(FilterPeriod period, Locale locale, Stream<String> data, CSVWriter csvWriter) {
+            data.forEach(value -> csvWriter.writeNext(new String[]{value, value}));
+        }
+
+        @Override
+        public String fileName(FilterPeriod period, Locale locale) {
+            return "someFileName.csv";
+        }
+    };
+
+    private final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+
+    @Test
+    void ensureStreamingCSVHasFileName() {
+        final StreamingCSVFile streamingCSVFile = sut.generateStreamingCSV(period, JAPANESE, Stream.of());
+        assertThat(streamingCSVFile.fileName()).isEqualTo("someFileName.csv");
+    }
+
+    @Test
+    void ensureStreamingCSVWritesBomHeaderAndRows() throws Exception {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.generateStreamingCSV(period, JAPANESE, Stream.of("A", "B")).body().writeTo(outputStream);
+
+        final byte[] bytes = outputStream.toByteArray();
+        assertThat(bytes).startsWith((byte) 239, (byte) 187, (byte) 191);
+        assertThat(new String(bytes, UTF_8)).isEqualTo("\uFEFFheader;row\nA;A\nB;B\n");
+    }
+
+    @Test
+    void ensureStreamingCSVClosesDataStream() throws Exception {
+
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final Stream<String> data = Stream.of("A").onClose(() -> closed.set(true));
+
+        final StreamingCSVFile streamingCSVFile = sut.generateStreamingCSV(period, JAPANESE, data);
+        assertThat(closed).isFalse();
+
+        streamingCSVFile.body().writeTo(new ByteArrayOutputStream());
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void ensureStreamingCSVEqualsInMemoryCSV() throws Exception {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.generateStreamingCSV(period, JAPANESE, Stream.of("A", "B")).body().writeTo(outputStream);
+
+        final ByteArrayResource resource = sut.generateCSV(period, JAPANESE, List.of("A", "B")).resource();
+        assertThat(outputStream.toByteArray()).isEqualTo(resource.getByteArray());
+    }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 
@@ -60,4 +61,98 @@ class DepartmentRepositoryIT extends SingleTenantTestContainersBase {
         final List<DepartmentEntity> departments = sut.findByDepartmentHeadsOrSecondStageAuthorities(savedPerson, savedPerson);
         assertThat(departments).containsOnly(savedDepartmentA, savedDepartmentB);
     }
+
+    @Test
+    void ensuresThatDepartmentPersonLinksAreFound() {
+
+        final Person departmentHead = personService.create("head", "Marlene", "Muster", "head@example.org", List.of(), List.of(USER, DEPARTMENT_HEAD));
+        final Person secondStageAuthority = personService.create("ssa", "Max", "Muster", "ssa@example.org", List.of(), List.of(USER, SECOND_STAGE_AUTHORITY));
+        final Person member = personService.create("member", "member", "member", "member@example.org", List.of(), List.of(USER));
+
+        final DepartmentMemberEmbeddable departmentMemberEmbeddable = new DepartmentMemberEmbeddable();
+        departmentMemberEmbeddable.setAccessionDate(Instant.now());
+        departmentMemberEmbeddable.setPerson(member);
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setName("department");
+        department.setCreatedAt(LocalDate.of(2022, 10, 2));
+        department.setMembers(List.of(departmentMemberEmbeddable));
+        department.setDepartmentHeads(List.of(departmentHead));
+        department.setSecondStageAuthorities(List.of(secondStageAuthority));
+        final DepartmentEntity savedDepartment = sut.save(department);
+
+        assertThat(sut.findAllMemberLinks()).containsExactly(new DepartmentPersonLink(savedDepartment.getId(), member.getId()));
+        assertThat(sut.findAllDepartmentHeadLinks()).containsExactly(new DepartmentPersonLink(savedDepartment.getId(), departmentHead.getId()));
+        assertThat(sut.findAllSecondStageAuthorityLinks()).containsExactly(new DepartmentPersonLink(savedDepartment.getId(), secondStageAuthority.getId()));
+    }
+
+    @Test
+    void ensuresThatDepartmentSummaryRowsAndInactiveMembersAreCounted() {
+
+        final Person activeMember = personService.create("active", "active", "active", "active@example.org", List.of(), List.of(USER));
+        final Person inactiveMember = personService.create("inactive", "inactive", "inactive", "inactive@example.org", List.of(), List.of(INACTIVE));
+
+        final DepartmentMemberEmbeddable activeMemberEmbeddable = new DepartmentMemberEmbeddable();
+        activeMemberEmbeddable.setAccessionDate(Instant.now());
+        activeMemberEmbeddable.setPerson(activeMember);
+
+        final DepartmentMemberEmbeddable inactiveMemberEmbeddable = new DepartmentMemberEmbeddable();
+        inactiveMemberEmbeddable.setAccessionDate(Instant.now());
+        inactiveMemberEmbeddable.setPerson(inactiveMember);
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setName("department");
+        department.setCreatedAt(LocalDate.of(2022, 10, 2));
+        department.setLastModification(LocalDate.of(2022, 10, 3));
+        department.setMembers(List.of(activeMemberEmbeddable, inactiveMemberEmbeddable));
+        final DepartmentEntity savedDepartment = sut.save(department);
+
+        final DepartmentEntity emptyDepartment = new DepartmentEntity();
+        emptyDepartment.setName("empty");
+        emptyDepartment.setCreatedAt(LocalDate.of(2022, 10, 2));
+        emptyDepartment.setLastModification(LocalDate.of(2022, 10, 3));
+        final DepartmentEntity savedEmptyDepartment = sut.save(emptyDepartment);
+
+        assertThat(sut.findAllSummaryRows()).containsExactlyInAnyOrder(
+            new DepartmentSummaryRow(savedDepartment.getId(), "department", null, LocalDate.of(2022, 10, 3), false, 2L),
+            new DepartmentSummaryRow(savedEmptyDepartment.getId(), "empty", null, LocalDate.of(2022, 10, 3), false, 0L)
+        );
+        assertThat(sut.countMembersWithRole(INACTIVE)).containsExactly(new DepartmentMembersCount(savedDepartment.getId(), 1L));
+    }
+
+    @Test
+    void ensuresThatDepartmentNamesOfRequestedMembersAreFoundOrderedByName() {
+
+        final Person memberA = personService.create("memberA", "memberA", "memberA", "memberA@example.org", List.of(), List.of(USER));
+        final Person memberB = personService.create("memberB", "memberB", "memberB", "memberB@example.org", List.of(), List.of(USER));
+        final Person notRequested = personService.create("other", "other", "other", "other@example.org", List.of(), List.of(USER));
+
+        final DepartmentEntity zebra = new DepartmentEntity();
+        zebra.setName("Zebra");
+        zebra.setCreatedAt(LocalDate.of(2022, 10, 2));
+        zebra.setMembers(List.of(member(memberA), member(notRequested)));
+        sut.save(zebra);
+
+        final DepartmentEntity alpaca = new DepartmentEntity();
+        alpaca.setName("alpaca");
+        alpaca.setCreatedAt(LocalDate.of(2022, 10, 2));
+        alpaca.setMembers(List.of(member(memberA), member(memberB)));
+        sut.save(alpaca);
+
+        assertThat(sut.findDepartmentNamesByMemberIds(List.of(memberA.getId(), memberB.getId()))).containsExactlyInAnyOrder(
+            new DepartmentMemberName(memberA.getId(), "alpaca"),
+            new DepartmentMemberName(memberB.getId(), "alpaca"),
+            new DepartmentMemberName(memberA.getId(), "Zebra")
+        );
+        assertThat(sut.findDepartmentNamesByMemberIds(List.of(memberA.getId())))
+            .extracting(DepartmentMemberName::departmentName)
+            .containsExactly("alpaca", "Zebra");
+    }
+
+    private static DepartmentMemberEmbeddable member(Person person) {
+        final DepartmentMemberEmbeddable departmentMemberEmbeddable = new DepartmentMemberEmbeddable();
+        departmentMemberEmbeddable.setAccessionDate(Instant.now());
+        departmentMemberEmbeddable.setPerson(person);
+        return departmentMemberEmbeddable;
+    }
 }
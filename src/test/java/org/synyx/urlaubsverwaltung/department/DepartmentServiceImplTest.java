@@ -20,6 +20,7 @@ import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonId;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -28,6 +29,7 @@ import java.time.Month;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
@@ -41,6 +43,7 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -66,12 +69,15 @@ class DepartmentServiceImplTest {
     private ApplicationService applicationService;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private TenantContextHolder tenantContextHolder;
 
     private final Clock clock = Clock.fixed(Instant.now(), UTC);
 
     @BeforeEach
     void setUp() {
-        sut = new DepartmentServiceImpl(departmentRepository, applicationService, applicationEventPublisher, clock);
+        sut = new DepartmentServiceImpl(departmentRepository, new OrganisationGraphRegistry(departmentRepository, tenantContextHolder, clock),
+            applicationService, applicationEventPublisher, clock);
     }
 
     @Test
@@ -218,14 +224,18 @@ class DepartmentServiceImplTest {
         janeMember.setPerson(jane);
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(10L);
         admins.setName("admins");
         admins.setMembers(List.of(maxMember, janeMember));
 
         final DepartmentEntity developers = new DepartmentEntity();
+        developers.setId(20L);
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(new DepartmentPersonLink(20L, 1L)));
+        when(departmentRepository.findAllById(Set.of(10L, 20L))).thenReturn(List.of(admins, developers));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -254,14 +264,17 @@ class DepartmentServiceImplTest {
         janeMember.setPerson(jane);
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(10L);
         admins.setName("admins");
         admins.setMembers(List.of(maxMember, janeMember));
 
         final DepartmentEntity developers = new DepartmentEntity();
+        developers.setId(20L);
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(20L, 1L)));
+        when(departmentRepository.findAllById(Set.of(10L, 20L))).thenReturn(List.of(admins, developers));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -290,14 +303,17 @@ class DepartmentServiceImplTest {
         janeMember.setPerson(jane);
 
         final DepartmentEntity admins = new DepartmentEntity();
+        admins.setId(10L);
         admins.setName("admins");
         admins.setMembers(List.of(maxMember, janeMember));
 
         final DepartmentEntity developers = new DepartmentEntity();
+        developers.setId(20L);
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(20L, 1L)));
+        when(departmentRepository.findAllById(Set.of(10L, 20L))).thenReturn(List.of(admins, developers));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -314,7 +330,7 @@ class DepartmentServiceImplTest {
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
         assertThat(actual).isEmpty();
-        verifyNoInteractions(departmentRepository);
+        verify(departmentRepository, never()).findAllById(any());
     }
 
     @Test
@@ -955,6 +971,22 @@ class DepartmentServiceImplTest {
         assertThat(createdDepartment.getLastModification()).isEqualTo(LocalDate.now(clock));
     }
 
+    @Test
+    void ensureNewDepartmentCreationPublishesEvent() {
+        final Department department = new Department();
+        department.setName("department");
+
+        final DepartmentEntity savedDepartmentEntity = new DepartmentEntity();
+        savedDepartmentEntity.setId(42L);
+        when(departmentRepository.save(any())).thenReturn(savedDepartmentEntity);
+
+        sut.create(department);
+
+        final ArgumentCaptor<DepartmentCreatedEvent> captor = ArgumentCaptor.forClass(DepartmentCreatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().department().getId()).isEqualTo(42L);
+    }
+
     @Test
     void ensureCreatedDateIsSetForNewDepartment() {
 
@@ -1018,6 +1050,23 @@ class DepartmentServiceImplTest {
         assertThat(departmentEntityToUpdate.getName()).isEqualTo("department");
     }
 
+    @Test
+    void ensureUpdatePublishesEvent() {
+
+        final Department department = new Department();
+        department.setId(42L);
+        department.setName("department");
+
+        when(departmentRepository.findById(42L)).thenReturn(Optional.of(new DepartmentEntity()));
+        when(departmentRepository.save(any())).then(returnsFirstArg());
+
+        sut.update(department);
+
+        final ArgumentCaptor<DepartmentUpdatedEvent> captor = ArgumentCaptor.forClass(DepartmentUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().department().getId()).isEqualTo(42L);
+    }
+
     @Test
     void ensureUpdateDoesNotChangeTheCreatedAtDate() {
 
@@ -1161,6 +1210,25 @@ class DepartmentServiceImplTest {
             .containsExactly(departmentA, departmentB);
     }
 
+    @Test
+    void ensureGetAllDepartmentSummariesSortedByName() {
+
+        final LocalDate lastModification = LocalDate.of(2024, 5, 3);
+        when(departmentRepository.findAllSummaryRows()).thenReturn(List.of(
+            new DepartmentSummaryRow(1L, "marketing", "description", lastModification, true, 3L),
+            new DepartmentSummaryRow(2L, "Admins", null, lastModification, false, 0L)
+        ));
+        when(departmentRepository.countMembersWithRole(INACTIVE)).thenReturn(List.of(new DepartmentMembersCount(1L, 1L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(1L, 10L), new DepartmentPersonLink(1L, 11L)));
+
+        final List<DepartmentSummary> summaries = sut.getAllDepartmentSummaries();
+        assertThat(summaries).containsExactly(
+            new DepartmentSummary(2L, "Admins", null, lastModification, false, 0, 0, List.of()),
+            new DepartmentSummary(1L, "marketing", "description", lastModification, true, 2, 1, List.of(10L, 11L))
+        );
+        verify(departmentRepository, never()).findAll();
+    }
+
     @Test
     void ensureGetManagedDepartmentsOfDepartmentHeadCallCorrectDAOMethod() {
         final Person person = new Person();
@@ -1263,6 +1331,7 @@ class DepartmentServiceImplTest {
         sut.delete(0L);
 
         verify(departmentRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(applicationEventPublisher);
     }
 
     @Test
@@ -1277,6 +1346,10 @@ class DepartmentServiceImplTest {
 
         verify(departmentRepository).existsById(0L);
         verify(departmentRepository).deleteById(0L);
+
+        final ArgumentCaptor<DepartmentDeletedEvent> captor = ArgumentCaptor.forClass(DepartmentDeletedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().departmentId()).isZero();
     }
 
     @Test
@@ -1305,17 +1378,21 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
 
         final DepartmentEntity departmentOne = new DepartmentEntity();
+        departmentOne.setId(10L);
         departmentOne.setName("departmentOne");
         departmentOne.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
 
         final DepartmentMemberEmbeddable tomMember = departmentMemberEmbeddable("tom", "Tom", "Baer", "tom.baer@example.org");
         final DepartmentEntity departmentTwo = new DepartmentEntity();
+        departmentTwo.setId(20L);
         departmentTwo.setName("departmentTwo");
         departmentTwo.setMembers(List.of(tomMember));
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentOne, departmentTwo));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(20L, 1L)));
+        when(departmentRepository.findAllById(Set.of(10L, 20L))).thenReturn(List.of(departmentOne, departmentTwo));
 
         final List<Person> members = sut.getMembersForDepartmentHead(departmentHead);
         assertThat(members).containsOnly(marleneMember.getPerson(), tomMember.getPerson(), departmentHeadMember.getPerson(), maxMember.getPerson());
@@ -1327,16 +1404,20 @@ class DepartmentServiceImplTest {
         final DepartmentMemberEmbeddable member = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
 
         final DepartmentEntity departmentOne = new DepartmentEntity();
+        departmentOne.setId(10L);
         departmentOne.setName("departmentOne");
         departmentOne.setMembers(List.of(member));
 
         final DepartmentEntity departmentTwo = new DepartmentEntity();
+        departmentTwo.setId(20L);
         departmentTwo.setName("departmentTwo");
         departmentTwo.setMembers(List.of(member));
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentOne, departmentTwo));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(20L, 1L)));
+        when(departmentRepository.findAllById(Set.of(10L, 20L))).thenReturn(List.of(departmentOne, departmentTwo));
 
         final List<Person> members = sut.getMembersForDepartmentHead(departmentHead);
         assertThat(members).containsOnly(member.getPerson());
@@ -1391,19 +1472,14 @@ class DepartmentServiceImplTest {
     void ensureReturnsTrueIfIsDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
         final Person marlenePerson = new Person("muster", "Muster", "Marlene", "marlene.muster@example.org");
-        final DepartmentMemberEmbeddable marleneMember = departmentMemberEmbeddable(marlenePerson);
-        final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
+        marlenePerson.setId(2L);
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(admins));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 2L), new DepartmentPersonLink(10L, 1L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L)));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marlenePerson);
         assertThat(isDepartmentHead).isTrue();
@@ -1413,20 +1489,14 @@ class DepartmentServiceImplTest {
     void ensureReturnsFalseIfIsNotDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentMemberEmbeddable marleneMember = departmentMemberEmbeddable("admin1", "Muster", "Marlene", "marlene.muster@example.org");
-        final DepartmentMemberEmbeddable maxMember = departmentMemberEmbeddable("admin2", "Muster", "Max", "max.muster@example.org");
-
-        final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
 
         Person marketing1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        marketing1.setId(4L);
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(admins));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 2L), new DepartmentPersonLink(10L, 3L), new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(20L, 4L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L)));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marketing1);
         assertThat(isDepartmentHead).isFalse();
@@ -1754,20 +1824,12 @@ class DepartmentServiceImplTest {
         person.setId(1L);
         person.setPermissions(List.of(USER));
 
-        final DepartmentMemberEmbeddable personMember = departmentMemberEmbeddable(person);
-
         final Person departmentHead = new Person("muster", "Muster", "Marlene", "muster@example.org");
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setName("dep");
-        departmentEntity.setMembers(List.of(personMember, departmentHeadMember));
-
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(10L, 2L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 2L)));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isTrue();
@@ -1784,14 +1846,8 @@ class DepartmentServiceImplTest {
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setName("dep");
-        departmentEntity.setMembers(List.of(departmentHeadMember));
-
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 2L), new DepartmentPersonLink(20L, 1L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 2L)));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isFalse();
@@ -1804,20 +1860,13 @@ class DepartmentServiceImplTest {
         secondStageAuthority.setId(1L);
         secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
 
-        final DepartmentMemberEmbeddable secondStageAuthorityMember = departmentMemberEmbeddable(secondStageAuthority);
-
         final Person departmentHead = new Person("muster", "Muster", "Marlene", "muster@example.org");
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity departmentEntity = new DepartmentEntity();
-        departmentEntity.setName("dep");
-        departmentEntity.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
-        departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
-
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(10L, 2L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 2L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L)));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, secondStageAuthority);
         assertThat(isAllowed).isTrue();
@@ -1830,22 +1879,13 @@ class DepartmentServiceImplTest {
         secondStageAuthority.setId(1L);
         secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY, DEPARTMENT_HEAD));
 
-        final DepartmentMemberEmbeddable secondStageAuthorityMember = departmentMemberEmbeddable(secondStageAuthority);
-
         final Person departmentHead = new Person("muster", "Muster", "Marlene", "muster@example.org");
         departmentHead.setId(2L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
-        final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
-
-        final DepartmentEntity dep = new DepartmentEntity();
-        dep.setName("dep");
-        dep.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
-        dep.setSecondStageAuthorities(List.of(secondStageAuthority));
-        dep.setDepartmentHeads(List.of(departmentHead));
-
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority))
-            .thenReturn(List.of(dep));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L), new DepartmentPersonLink(10L, 2L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 2L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L)));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(secondStageAuthority, departmentHead);
         assertThat(isAllowed).isTrue();
@@ -1912,6 +1952,7 @@ class DepartmentServiceImplTest {
     @Test
     void ensureSecondStageAuthorityHasAccessToAllowedDepartments() {
         final Person secondStageAuthority = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        secondStageAuthority.setId(1L);
         secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
 
         final DepartmentEntity departmentEntityWithSecondStageRole = new DepartmentEntity();
@@ -1921,8 +1962,9 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("Department B");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority)).thenReturn(List.of(departmentEntityWithSecondStageRole));
-        when(departmentRepository.findByMembersPerson(secondStageAuthority)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(2L, 1L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(new DepartmentPersonLink(1L, 1L)));
+        when(departmentRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(departmentEntityWithMemberRole, departmentEntityWithSecondStageRole));
 
         final Department expectedDepartmentWithSecondStageRole = new Department();
         expectedDepartmentWithSecondStageRole.setId(1L);
@@ -1936,6 +1978,7 @@ class DepartmentServiceImplTest {
     @Test
     void ensureDepartmentHeadHasAccessToAllowedDepartments() {
         final Person departmentHead = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
 
         final DepartmentEntity departmentEntityWithDepartmentHeadRole = new DepartmentEntity();
@@ -1945,8 +1988,9 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("Department B");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentEntityWithDepartmentHeadRole));
-        when(departmentRepository.findByMembersPerson(departmentHead)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(2L, 1L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(1L, 1L)));
+        when(departmentRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(departmentEntityWithMemberRole, departmentEntityWithDepartmentHeadRole));
 
         final Department expectedDepartmentWithDepartmentHeadRole = new Department();
         expectedDepartmentWithDepartmentHeadRole.setId(1L);
@@ -1960,6 +2004,7 @@ class DepartmentServiceImplTest {
     @Test
     void ensurePersonWithSecondStageAuthorityAndDepartmentHeadHasAccessToAllowedDepartments() {
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(42L);
         person.setPermissions(List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
         final DepartmentEntity departmentEntityWithSecondStageRole = new DepartmentEntity();
@@ -1972,9 +2017,10 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("Department C");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(departmentEntityWithSecondStageRole));
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntityWithDepartmentHeadRole));
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(2L, 42L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(1L, 42L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(new DepartmentPersonLink(3L, 42L)));
+        when(departmentRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(departmentEntityWithMemberRole, departmentEntityWithDepartmentHeadRole, departmentEntityWithSecondStageRole));
 
         final Department expectedDepartmentWithSecondStageRole = new Department();
         expectedDepartmentWithSecondStageRole.setId(3L);
@@ -1990,14 +2036,17 @@ class DepartmentServiceImplTest {
     @Test
     void ensurePersonHasAccessToAssignedDepartments() {
         Person user = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        user.setId(1L);
         user.setPermissions(List.of(USER));
 
         final DepartmentEntity dep = new DepartmentEntity();
+        dep.setId(10L);
         dep.setName("dep");
-        when(departmentRepository.findByMembersPerson(user)).thenReturn(List.of(dep));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(10L, 1L)));
+        when(departmentRepository.findAllById(Set.of(10L))).thenReturn(List.of(dep));
 
         final Department expectedDepartment = new Department();
-        expectedDepartment.setName("dep");
+        expectedDepartment.setId(10L);
 
         var allowedDepartments = sut.getDepartmentsPersonHasAccessTo(user);
         assertThat(allowedDepartments).containsExactly(expectedDepartment);
@@ -2006,6 +2055,7 @@ class DepartmentServiceImplTest {
     @Test
     void ensureDepartmentsHasAccessToAreSortedByName() {
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(42L);
         person.setPermissions(List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
         final DepartmentEntity departmentEntityWithSecondStageRole = new DepartmentEntity();
@@ -2018,9 +2068,10 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("department B");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(departmentEntityWithSecondStageRole));
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntityWithDepartmentHeadRole));
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(new DepartmentPersonLink(2L, 42L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(new DepartmentPersonLink(3L, 42L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(new DepartmentPersonLink(1L, 42L)));
+        when(departmentRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(departmentEntityWithMemberRole, departmentEntityWithDepartmentHeadRole, departmentEntityWithSecondStageRole));
 
         final Department expectedDepartmentWithSecondStageRole = new Department();
         expectedDepartmentWithSecondStageRole.setId(1L);
@@ -2048,20 +2099,10 @@ class DepartmentServiceImplTest {
         final Person person = new Person();
         person.setId(42L);
 
-        final DepartmentMemberEmbeddable existingPersonMember = new DepartmentMemberEmbeddable();
-        existingPersonMember.setPerson(person);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setId(1L);
-        departmentEntityA.setMembers(List.of(existingPersonMember));
-
-        final DepartmentEntity departmentEntityB = new DepartmentEntity();
-        departmentEntityB.setName("Department B");
-        departmentEntityB.setId(2L);
-        departmentEntityB.setMembers(List.of(existingPersonMember));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(person))).thenReturn(List.of(departmentEntityA, departmentEntityB));
+        when(departmentRepository.findDepartmentNamesByMemberIds(Set.of(42L))).thenReturn(List.of(
+            new DepartmentMemberName(42L, "Department A"),
+            new DepartmentMemberName(42L, "Department B")
+        ));
 
         final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(person));
         assertThat(departmentsByMembers).containsEntry(new PersonId(42L), List.of("Department A", "Department B"));
@@ -2076,23 +2117,10 @@ class DepartmentServiceImplTest {
         final Person personTwo = new Person();
         personTwo.setId(1337L);
 
-        final DepartmentMemberEmbeddable existingPersonMember = new DepartmentMemberEmbeddable();
-        existingPersonMember.setPerson(person);
-
-        final DepartmentMemberEmbeddable existingPersonMemberTwo = new DepartmentMemberEmbeddable();
-        existingPersonMemberTwo.setPerson(personTwo);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setId(1L);
-        departmentEntityA.setMembers(List.of(existingPersonMember));
-
-        final DepartmentEntity departmentEntityB = new DepartmentEntity();
-        departmentEntityB.setName("Department B");
-        departmentEntityB.setId(2L);
-        departmentEntityB.setMembers(List.of(existingPersonMemberTwo));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(person, personTwo))).thenReturn(List.of(departmentEntityA, departmentEntityB));
+        when(departmentRepository.findDepartmentNamesByMemberIds(Set.of(42L, 1337L))).thenReturn(List.of(
+            new DepartmentMemberName(42L, "Department A"),
+            new DepartmentMemberName(1337L, "Department B")
+        ));
 
         final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(person, personTwo));
 
@@ -2102,25 +2130,14 @@ class DepartmentServiceImplTest {
     }
 
     @Test
-    void getDepartmentsByMembersReturnsOnlyRequestedPersons() {
+    void getDepartmentsByMembersWithoutDepartmentIsMissing() {
 
         final Person personOne = anyPerson(1);
         final Person personTwo = anyPerson(2);
 
-        final DepartmentMemberEmbeddable departmentMemberOne = new DepartmentMemberEmbeddable();
-        departmentMemberOne.setPerson(personOne);
+        when(departmentRepository.findDepartmentNamesByMemberIds(Set.of(1L, 2L))).thenReturn(List.of(new DepartmentMemberName(1L, "Department A")));
 
-        final DepartmentMemberEmbeddable departmentMemberTwo = new DepartmentMemberEmbeddable();
-        departmentMemberTwo.setPerson(personTwo);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setId(1L);
-        departmentEntityA.setMembers(List.of(departmentMemberOne, departmentMemberTwo));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(personOne))).thenReturn(List.of(departmentEntityA));
-
-        final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(personOne));
+        final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(personOne, personTwo));
 
         assertThat(departmentsByMembers)
             .hasSize(1)
@@ -2134,39 +2151,31 @@ class DepartmentServiceImplTest {
         final Person personTwo = anyPerson(2);
         final Person personThree = anyPerson(3);
 
-        final DepartmentMemberEmbeddable departmentMemberOne = new DepartmentMemberEmbeddable();
-        departmentMemberOne.setPerson(personOne);
-
-        final DepartmentMemberEmbeddable departmentMemberTwo = new DepartmentMemberEmbeddable();
-        departmentMemberTwo.setPerson(personTwo);
-
-        final DepartmentMemberEmbeddable departmentMemberThree = new DepartmentMemberEmbeddable();
-        departmentMemberThree.setPerson(personThree);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setId(1L);
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setMembers(List.of(departmentMemberOne, departmentMemberTwo));
-
-        final DepartmentEntity departmentEntityB = new DepartmentEntity();
-        departmentEntityB.setId(2L);
-        departmentEntityB.setName("Department B");
-        departmentEntityB.setMembers(List.of(departmentMemberOne, departmentMemberTwo));
-
-        final DepartmentEntity departmentEntityC = new DepartmentEntity();
-        departmentEntityC.setId(3L);
-        departmentEntityC.setName("Department C");
-        departmentEntityC.setMembers(List.of(departmentMemberTwo, departmentMemberThree));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(personOne, personTwo, personThree))).thenReturn(List.of(departmentEntityA, departmentEntityB, departmentEntityC));
+        when(departmentRepository.findDepartmentNamesByMemberIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(
+            new DepartmentMemberName(1L, "Department A"),
+            new DepartmentMemberName(2L, "Department A"),
+            new DepartmentMemberName(1L, "Department B"),
+            new DepartmentMemberName(2L, "Department B"),
+            new DepartmentMemberName(2L, "Department C"),
+            new DepartmentMemberName(3L, "Department C")
+        ));
 
         final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(personOne, personTwo, personThree));
         assertThat(departmentsByMembers)
             .containsEntry(new PersonId(1L), List.of("Department A", "Department B"))
-            .containsEntry(new PersonId(2L), List.of("Department C", "Department A", "Department B"))
+            .containsEntry(new PersonId(2L), List.of("Department A", "Department B", "Department C"))
             .containsEntry(new PersonId(3L), List.of("Department C"));
     }
 
+    @Test
+    void getDepartmentsByMembersWithoutPersonsDoesNotQuery() {
+
+        final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of());
+
+        assertThat(departmentsByMembers).isEmpty();
+        verifyNoInteractions(departmentRepository);
+    }
+
     @Test
     void ensureDeletionOfMembershipOnPersonDeletionEvent() {
         final Person person = new Person();
@@ -0,0 +1,184 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationGraphRegistryTest {
+
+    private OrganisationGraphRegistry sut;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T10:00:00Z"));
+
+    @BeforeEach
+    void setUp() {
+        sut = new OrganisationGraphRegistry(departmentRepository, tenantContextHolder, clock);
+    }
+
+    @Test
+    void ensureGraphContainsDepartmentsOfPerson() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(link(1L, 10L), link(1L, 11L), link(2L, 10L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(link(1L, 20L), link(2L, 20L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(link(2L, 21L)));
+
+        final OrganisationGraph graph = sut.get();
+
+        assertThat(graph.getMemberDepartmentIds(10L)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(graph.getMemberDepartmentIds(11L)).containsExactly(1L);
+        assertThat(graph.getDepartmentHeadDepartmentIds(20L)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(graph.getSecondStageAuthorityDepartmentIds(21L)).containsExactly(2L);
+        assertThat(graph.getMemberDepartmentIds(99L)).isEmpty();
+        assertThat(graph.getMemberDepartmentIds(null)).isEmpty();
+    }
+
+    @Test
+    void ensureDepartmentHeadManagesMembersOfDepartmentsThatAreNotSecondStageAuthority() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(link(1L, 10L), link(1L, 21L), link(2L, 11L)));
+        when(departmentRepository.findAllDepartmentHeadLinks()).thenReturn(List.of(link(1L, 20L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(link(1L, 21L)));
+
+        final OrganisationGraph graph = sut.get();
+
+        assertThat(graph.isManagedByDepartmentHead(20L, 10L)).isTrue();
+        assertThat(graph.isManagedByDepartmentHead(20L, 21L)).isFalse();
+        assertThat(graph.isManagedByDepartmentHead(20L, 11L)).isFalse();
+        assertThat(graph.isMemberOfDepartmentOfDepartmentHead(20L, 21L)).isTrue();
+        assertThat(graph.isMemberOfDepartmentOfDepartmentHead(20L, 11L)).isFalse();
+        assertThat(graph.isMemberOfDepartmentOfDepartmentHead(20L, null)).isFalse();
+    }
+
+    @Test
+    void ensureSecondStageAuthorityManagesMembersOfDepartments() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(departmentRepository.findAllMemberLinks()).thenReturn(List.of(link(1L, 10L), link(2L, 11L)));
+        when(departmentRepository.findAllSecondStageAuthorityLinks()).thenReturn(List.of(link(1L, 21L)));
+
+        final OrganisationGraph graph = sut.get();
+
+        assertThat(graph.isMemberOfDepartmentOfSecondStageAuthority(21L, 10L)).isTrue();
+        assertThat(graph.isMemberOfDepartmentOfSecondStageAuthority(21L, 11L)).isFalse();
+        assertThat(graph.isMemberOfDepartmentOfSecondStageAuthority(10L, 10L)).isFalse();
+    }
+
+    @Test
+    void ensureGraphIsBuiltOncePerTenant() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
+        assertThat(sut.get()).isSameAs(sut.get());
+
+        verify(departmentRepository).findAllMemberLinks();
+    }
+
+    @Test
+    void ensureGraphIsBuiltPerTenant() {
+        when(tenantContextHolder.getCurrentTenantId())
+            .thenReturn(Optional.of(new TenantId("one")))
+            .thenReturn(Optional.of(new TenantId("two")));
+        when(departmentRepository.findAllMemberLinks())
+            .thenReturn(List.of(link(1L, 10L)))
+            .thenReturn(List.of(link(2L, 10L)));
+
+        assertThat(sut.get().getMemberDepartmentIds(10L)).containsExactly(1L);
+        assertThat(sut.get().getMemberDepartmentIds(10L)).containsExactly(2L);
+    }
+
+    @Test
+    void ensureGraphIsNotCachedWithoutTenant() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.empty());
+
+        sut.get();
+        sut.get();
+
+        verify(departmentRepository, times(2)).findAllMemberLinks();
+    }
+
+    @Test
+    void ensureGraphIsRebuiltAfterDepartmentChange() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(departmentRepository.findAllMemberLinks())
+            .thenReturn(List.of(link(1L, 10L)))
+            .thenReturn(List.of());
+
+        assertThat(sut.get().getMemberDepartmentIds(10L)).containsExactly(1L);
+
+        sut.onDepartmentChanged();
+
+        assertThat(sut.get().getMemberDepartmentIds(10L)).isEmpty();
+        verify(departmentRepository, times(2)).findAllMemberLinks();
+    }
+
+    @Test
+    void ensureGraphIsRebuiltAfterTimeToLive() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        when(departmentRepository.findAllMemberLinks())
+            .thenReturn(List.of(link(1L, 10L)))
+            .thenReturn(List.of());
+
+        assertThat(sut.get().getMemberDepartmentIds(10L)).containsExactly(1L);
+
+        clock.advance(OrganisationGraphRegistry.GRAPH_TIME_TO_LIVE.minusSeconds(1));
+        assertThat(sut.get().getMemberDepartmentIds(10L)).containsExactly(1L);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(sut.get().getMemberDepartmentIds(10L)).isEmpty();
+
+        verify(departmentRepository, times(2)).findAllMemberLinks();
+    }
+
+    private static DepartmentPersonLink link(Long departmentId, Long personId) {
+        return new DepartmentPersonLink(departmentId, personId);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
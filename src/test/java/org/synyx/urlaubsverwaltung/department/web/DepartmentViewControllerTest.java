@@ -12,10 +12,12 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.validation.Errors;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.department.DepartmentSummary;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,8 +68,8 @@ class DepartmentViewControllerTest {
     @Test
     void showAllDepartmentsAddsDepartmentsToModel() throws Exception {
 
-        final List<Department> departments = List.of(new Department());
-        when(departmentService.getAllDepartments()).thenReturn(departments);
+        final List<DepartmentSummary> departments = List.of(new DepartmentSummary(1L, "Department", null, LocalDate.now(), false, 2, 1, List.of()));
+        when(departmentService.getAllDepartmentSummaries()).thenReturn(departments);
 
         final Person signedInUser = new Person("muster", "Muster", "Marlene", "muster@example.org");
         signedInUser.setPermissions(List.of(USER));
@@ -93,8 +95,8 @@ class DepartmentViewControllerTest {
     @Test
     void ensureThatOfficeCanCreateAndModifyDepartment() throws Exception {
 
-        final List<Department> departments = List.of(new Department());
-        when(departmentService.getAllDepartments()).thenReturn(departments);
+        final List<DepartmentSummary> departments = List.of(new DepartmentSummary(1L, "Department", null, LocalDate.now(), false, 2, 1, List.of()));
+        when(departmentService.getAllDepartmentSummaries()).thenReturn(departments);
 
         final Person signedInUser = new Person("muster", "Muster", "Marlene", "muster@example.org");
         signedInUser.setPermissions(List.of(USER, OFFICE));
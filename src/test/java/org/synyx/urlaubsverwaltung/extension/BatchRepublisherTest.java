@@ -0,0 +1,185 @@
+package org.synyx.urlaubsverwaltung.extension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchRepublisherTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    private BatchRepublisher sut;
+
+    @Mock
+    private RepublishCheckpointRepository checkpointRepository;
+
+    private ExtensionRepublishProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExtensionRepublishProperties();
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new BatchRepublisher(properties, checkpointRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    @Test
+    void ensureRepublishesSourcesInBatchesOfPersonsAndStoresCheckpoint() {
+
+        final Person batman = person(1L);
+        final Person robin = person(2L);
+        final Person joker = person(3L);
+
+        final List<List<String>> batches = new ArrayList<>();
+        sut.republish("TestEvent", START, END, List.of("joker", "batman-1", "robin", "batman-2"),
+            source -> source.startsWith("batman") ? batman : source.equals("robin") ? robin : joker,
+            batches::add);
+
+        assertThat(batches).containsExactly(List.of("batman-1", "batman-2", "robin"), List.of("joker"));
+
+        final ArgumentCaptor<RepublishCheckpointEntity> captor = ArgumentCaptor.forClass(RepublishCheckpointEntity.class);
+        verify(checkpointRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo("TestEvent");
+        assertThat(captor.getValue().getPeriodStart()).isEqualTo(START);
+        assertThat(captor.getValue().getPeriodEnd()).isEqualTo(END);
+        assertThat(captor.getValue().getLastPersonId()).isEqualTo(2L);
+
+        assertThat(meterRegistry.get("extension.republish.events").tag("type", "TestEvent").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("extension.republish.remaining.persons").tag("type", "TestEvent").gauge().value()).isZero();
+    }
+
+    @Test
+    void ensureIgnoresCheckpointIfResumingIsDisabled() {
+
+        final RepublishCheckpointEntity checkpoint = new RepublishCheckpointEntity();
+        checkpoint.setEventType("TestEvent");
+        checkpoint.setPeriodStart(START);
+        checkpoint.setPeriodEnd(END);
+        checkpoint.setLastPersonId(1L);
+        when(checkpointRepository.findByEventType("TestEvent")).thenReturn(Optional.of(checkpoint));
+
+        final List<List<String>> batches = new ArrayList<>();
+        sut.republish("TestEvent", START, END, List.of("batman"), source -> person(1L), batches::add);
+
+        assertThat(batches).containsExactly(List.of("batman"));
+        verify(checkpointRepository).delete(checkpoint);
+    }
+
+    @Test
+    void ensureResumesAfterPersonOfCheckpointForSamePeriod() {
+
+        properties.setResumeFromCheckpoint(true);
+
+        final RepublishCheckpointEntity checkpoint = new RepublishCheckpointEntity();
+        checkpoint.setEventType("TestEvent");
+        checkpoint.setPeriodStart(START);
+        checkpoint.setPeriodEnd(END);
+        checkpoint.setLastPersonId(1L);
+        when(checkpointRepository.findByEventType("TestEvent")).thenReturn(Optional.of(checkpoint));
+
+        final List<List<String>> batches = new ArrayList<>();
+        sut.republish("TestEvent", START, END, List.of("batman", "robin"),
+            source -> source.equals("batman") ? person(1L) : person(2L), batches::add);
+
+        assertThat(batches).containsExactly(List.of("robin"));
+        verify(checkpointRepository).delete(checkpoint);
+    }
+
+    @Test
+    void ensureDeletesCheckpointOfCompletedRunSoThatRerunRepublishesEverything() {
+
+        properties.setBatchSize(1);
+        properties.setResumeFromCheckpoint(true);
+
+        final AtomicReference<RepublishCheckpointEntity> storedCheckpoint = new AtomicReference<>();
+        when(checkpointRepository.findByEventType("TestEvent")).thenAnswer(invocation -> Optional.ofNullable(storedCheckpoint.get()));
+        when(checkpointRepository.save(any(RepublishCheckpointEntity.class))).thenAnswer(invocation -> {
+            storedCheckpoint.set(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        doAnswer(invocation -> {
+            storedCheckpoint.set(null);
+            return null;
+        }).when(checkpointRepository).delete(any(RepublishCheckpointEntity.class));
+
+        final List<List<String>> firstRun = new ArrayList<>();
+        sut.republish("TestEvent", START, END, List.of("batman", "robin"),
+            source -> source.equals("batman") ? person(1L) : person(2L), firstRun::add);
+
+        assertThat(firstRun).containsExactly(List.of("batman"), List.of("robin"));
+        assertThat(storedCheckpoint.get()).isNull();
+
+        final List<List<String>> rerun = new ArrayList<>();
+        sut.republish("TestEvent", START, END, List.of("batman", "robin"),
+            source -> source.equals("batman") ? person(1L) : person(2L), rerun::add);
+
+        assertThat(rerun).containsExactly(List.of("batman"), List.of("robin"));
+        assertThat(storedCheckpoint.get()).isNull();
+    }
+
+    @Test
+    void ensureDeletesCheckpointIfNothingIsPendingAfterIt() {
+
+        properties.setResumeFromCheckpoint(true);
+
+        final RepublishCheckpointEntity checkpoint = new RepublishCheckpointEntity();
+        checkpoint.setEventType("TestEvent");
+        checkpoint.setPeriodStart(START);
+        checkpoint.setPeriodEnd(END);
+        checkpoint.setLastPersonId(2L);
+        when(checkpointRepository.findByEventType("TestEvent")).thenReturn(Optional.of(checkpoint));
+
+        final List<List<String>> batches = new ArrayList<>();
+        sut.republish("TestEvent", START, END, List.of("batman", "robin"),
+            source -> source.equals("batman") ? person(1L) : person(2L), batches::add);
+
+        assertThat(batches).isEmpty();
+        verify(checkpointRepository).delete(checkpoint);
+    }
+
+    @Test
+    void ensureRepublishesEverythingIfCheckpointIsOfOtherPeriod() {
+
+        properties.setResumeFromCheckpoint(true);
+
+        final RepublishCheckpointEntity checkpoint = new RepublishCheckpointEntity();
+        checkpoint.setEventType("TestEvent");
+        checkpoint.setPeriodStart(START.minusYears(1));
+        checkpoint.setPeriodEnd(END.minusYears(1));
+        checkpoint.setLastPersonId(1L);
+        when(checkpointRepository.findByEventType("TestEvent")).thenReturn(Optional.of(checkpoint));
+
+        final List<List<String>> batches = new ArrayList<>();
+        sut.republish("TestEvent", START, END, List.of("batman"), source -> person(1L), batches::add);
+
+        assertThat(batches).containsExactly(List.of("batman"));
+        verify(checkpointRepository).delete(checkpoint);
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person();
+        person.setId(id);
+        return person;
+    }
+}
@@ -0,0 +1,124 @@
+package org.synyx.urlaubsverwaltung.extension.application;
+
+import de.focus_shift.urlaubsverwaltung.extension.api.application.ApplicationAllowedEventDTO;
+import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.support.StaticMessageSource;
+import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.AbsenceService;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeColor.YELLOW;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationEventHandlerExtensionTest {
+
+    private ApplicationEventHandlerExtension sut;
+
+    @Mock
+    private TenantSupplier tenantSupplier;
+    @Mock
+    private AbsenceService absenceService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Captor
+    private ArgumentCaptor<ApplicationAllowedEventDTO> eventCaptor;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ApplicationEventHandlerExtension(tenantSupplier, absenceService, applicationEventPublisher);
+    }
+
+    @Test
+    void ensureRepublishMatchesAbsencePeriodsOfAllPersonsByApplicationId() {
+
+        when(tenantSupplier.get()).thenReturn("default");
+
+        final Person batman = person(1L, "batman");
+        final Person robin = person(2L, "robin");
+
+        final Application march = application(10L, batman, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+        final Application april = application(20L, robin, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 1));
+        final Application may = application(30L, batman, LocalDate.of(2024, 5, 10), LocalDate.of(2024, 5, 10));
+
+        when(absenceService.getOpenAbsences(List.of(batman, robin), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 5, 10)))
+            .thenReturn(List.of(
+                absencePeriod(batman, 30L, LocalDate.of(2024, 5, 10)),
+                absencePeriod(batman, 10L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2))
+            ));
+
+        sut.republish(List.of(ApplicationAllowedEvent.of(march), ApplicationAllowedEvent.of(april), ApplicationAllowedEvent.of(may)));
+
+        verify(applicationEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        final List<ApplicationAllowedEventDTO> events = eventCaptor.getAllValues();
+
+        assertThat(events.get(0).getSourceId()).isEqualTo(10L);
+        assertThat(events.get(0).getTenantId()).isEqualTo("default");
+        assertThat(events.get(0).getPerson().getUsername()).isEqualTo("batman");
+        assertThat(events.get(0).getAbsentWorkingDays()).containsExactlyInAnyOrder(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+
+        assertThat(events.get(1).getSourceId()).isEqualTo(30L);
+        assertThat(events.get(1).getAbsentWorkingDays()).containsExactly(LocalDate.of(2024, 5, 10));
+    }
+
+    @Test
+    void ensureRepublishDoesNothingWithoutEvents() {
+        sut.republish(List.of());
+        verifyNoInteractions(tenantSupplier, absenceService, applicationEventPublisher);
+    }
+
+    private static Person person(Long id, String username) {
+        final Person person = new Person(username, username, username, username + "@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static Application application(Long id, Person person, LocalDate startDate, LocalDate endDate) {
+        final Application application = new Application();
+        application.setId(id);
+        application.setPerson(person);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        application.setDayLength(FULL);
+        application.setStatus(ALLOWED);
+        application.setVacationType(ProvidedVacationType.builder(new StaticMessageSource())
+            .id(1L)
+            .category(HOLIDAY)
+            .color(YELLOW)
+            .messageKey("application.data.vacationType.holiday")
+            .build());
+        return application;
+    }
+
+    private static AbsencePeriod absencePeriod(Person person, Long applicationId, LocalDate... dates) {
+        final List<AbsencePeriod.Record> records = Arrays.stream(dates)
+            .map(date -> new AbsencePeriod.Record(date, person,
+                new AbsencePeriod.RecordMorningVacation(person, applicationId, AbsencePeriod.AbsenceStatus.ALLOWED, "HOLIDAY", 1L, false),
+                new AbsencePeriod.RecordNoonVacation(person, applicationId, AbsencePeriod.AbsenceStatus.ALLOWED, "HOLIDAY", 1L, false)))
+            .toList();
+        return new AbsencePeriod(records);
+    }
+}
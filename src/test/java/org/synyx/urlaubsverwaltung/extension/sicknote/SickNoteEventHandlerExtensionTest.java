@@ -0,0 +1,121 @@
+package org.synyx.urlaubsverwaltung.extension.sicknote;
+
+import de.focus_shift.urlaubsverwaltung.extension.api.sicknote.SickNoteCreatedEventDTO;
+import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.AbsenceService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCategory.SICK_NOTE;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+
+@ExtendWith(MockitoExtension.class)
+class SickNoteEventHandlerExtensionTest {
+
+    private SickNoteEventHandlerExtension sut;
+
+    @Mock
+    private TenantSupplier tenantSupplier;
+    @Mock
+    private AbsenceService absenceService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Captor
+    private ArgumentCaptor<SickNoteCreatedEventDTO> eventCaptor;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SickNoteEventHandlerExtension(tenantSupplier, absenceService, applicationEventPublisher);
+    }
+
+    @Test
+    void ensureRepublishMatchesAbsencePeriodsOfAllPersonsBySickNoteId() {
+
+        when(tenantSupplier.get()).thenReturn("default");
+
+        final Person batman = person(1L, "batman");
+        final Person robin = person(2L, "robin");
+
+        final SickNote march = sickNote(10L, batman, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+        final SickNote april = sickNote(20L, robin, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 1));
+        final SickNote may = sickNote(30L, batman, LocalDate.of(2024, 5, 10), LocalDate.of(2024, 5, 10));
+
+        when(absenceService.getOpenAbsences(List.of(batman, robin), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 5, 10)))
+            .thenReturn(List.of(
+                absencePeriod(batman, 30L, LocalDate.of(2024, 5, 10)),
+                absencePeriod(batman, 10L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2))
+            ));
+
+        sut.republish(List.of(SickNoteCreatedEvent.of(march), SickNoteCreatedEvent.of(april), SickNoteCreatedEvent.of(may)));
+
+        verify(applicationEventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        final List<SickNoteCreatedEventDTO> events = eventCaptor.getAllValues();
+
+        assertThat(events.get(0).getSourceId()).isEqualTo(10L);
+        assertThat(events.get(0).getTenantId()).isEqualTo("default");
+        assertThat(events.get(0).getPerson().getUsername()).isEqualTo("batman");
+        assertThat(events.get(0).getAbsentWorkingDays()).containsExactlyInAnyOrder(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+
+        assertThat(events.get(1).getSourceId()).isEqualTo(30L);
+        assertThat(events.get(1).getAbsentWorkingDays()).containsExactly(LocalDate.of(2024, 5, 10));
+    }
+
+    @Test
+    void ensureRepublishDoesNothingWithoutEvents() {
+        sut.republish(List.of());
+        verifyNoInteractions(tenantSupplier, absenceService, applicationEventPublisher);
+    }
+
+    private static Person person(Long id, String username) {
+        final Person person = new Person(username, username, username, username + "@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static SickNote sickNote(Long id, Person person, LocalDate startDate, LocalDate endDate) {
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setCategory(SICK_NOTE);
+        sickNoteType.setMessageKey("application.data.sicknotetype.sicknote");
+
+        return SickNote.builder()
+            .id(id)
+            .person(person)
+            .sickNoteType(sickNoteType)
+            .startDate(startDate)
+            .endDate(endDate)
+            .dayLength(FULL)
+            .status(ACTIVE)
+            .build();
+    }
+
+    private static AbsencePeriod absencePeriod(Person person, Long sickNoteId, LocalDate... dates) {
+        final List<AbsencePeriod.Record> records = Arrays.stream(dates)
+            .map(date -> new AbsencePeriod.Record(date, person,
+                new AbsencePeriod.RecordMorningSick(person, sickNoteId, AbsencePeriod.AbsenceStatus.ACTIVE, "SICK_NOTE", 1L),
+                new AbsencePeriod.RecordNoonSick(person, sickNoteId, AbsencePeriod.AbsenceStatus.ACTIVE, "SICK_NOTE", 1L)))
+            .toList();
+        return new AbsencePeriod(records);
+    }
+}
@@ -0,0 +1,192 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private MailOutbox sut;
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+    @Mock
+    private MailSenderService mailSenderService;
+
+    private MailProperties mailProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        mailProperties = new MailProperties();
+        mailProperties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new MailOutbox(mailOutboxRepository, mailSenderService, mailProperties, meterRegistry, Clock.fixed(NOW, UTC));
+    }
+
+    @Test
+    void ensureEnqueuesMailsWithAttachments() {
+
+        final ByteArrayResource iCal = new ByteArrayResource(new byte[]{1, 2, 3}, "calendar.ics");
+        sut.enqueue(List.of(new OutboundMail("from@example.org", "replyTo@example.org", "hans@example.org", "subject", "text", List.of(new MailAttachment("calendar.ics", iCal)))));
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<MailOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(entity -> {
+            assertThat(entity.getSender()).isEqualTo("from@example.org");
+            assertThat(entity.getReplyTo()).isEqualTo("replyTo@example.org");
+            assertThat(entity.getRecipient()).isEqualTo("hans@example.org");
+            assertThat(entity.getSubject()).isEqualTo("subject");
+            assertThat(entity.getBody()).isEqualTo("text");
+            assertThat(entity.getAttachments()).singleElement().satisfies(attachment -> {
+                assertThat(attachment.getName()).isEqualTo("calendar.ics");
+                assertThat(attachment.getContent()).containsExactly(1, 2, 3);
+            });
+            assertThat(entity.getAttempts()).isZero();
+            assertThat(entity.getNextAttemptAt()).isEqualTo(NOW);
+        });
+
+        assertThat(meterRegistry.get("mail.outbox.enqueued").counter().count()).isOne();
+        assertThat(meterRegistry.get("mail.outbox.backlog").gauge().value()).isOne();
+    }
+
+    @Test
+    void ensureEnqueuesMoreMailsThanBatchSizeWithoutSending() {
+
+        sut.enqueue(List.of(
+            new OutboundMail("from@example.org", "replyTo@example.org", "hans@example.org", "subject", "text"),
+            new OutboundMail("from@example.org", "replyTo@example.org", "franz@example.org", "subject", "text"),
+            new OutboundMail("from@example.org", "replyTo@example.org", "john@example.org", "subject", "text")
+        ));
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<MailOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(MailOutboxEntity::getRecipient)
+            .containsExactly("hans@example.org", "franz@example.org", "john@example.org");
+        verifyNoInteractions(mailSenderService);
+
+        assertThat(meterRegistry.get("mail.outbox.backlog").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void ensureDeliversDueMailsInBatches() {
+
+        final MailOutboxEntity first = entity(1L, "hans@example.org");
+        final MailOutboxEntity second = entity(2L, "franz@example.org");
+        final MailOutboxEntity third = entity(3L, "john@example.org");
+        when(mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(NOW, Limit.of(2)))
+            .thenReturn(List.of(first, second), List.of(third));
+        when(mailSenderService.sendEmails(anyList())).thenReturn(Map.of());
+
+        sut.deliver();
+
+        verify(mailSenderService).sendEmails(List.of(
+            new OutboundMail("from@example.org", "replyTo@example.org", "hans@example.org", "subject", "text"),
+            new OutboundMail("from@example.org", "replyTo@example.org", "franz@example.org", "subject", "text")
+        ));
+        verify(mailSenderService).sendEmails(List.of(
+            new OutboundMail("from@example.org", "replyTo@example.org", "john@example.org", "subject", "text")
+        ));
+        verify(mailOutboxRepository).deleteAll(List.of(first, second));
+        verify(mailOutboxRepository).deleteAll(List.of(third));
+
+        assertThat(meterRegistry.get("mail.outbox.sent").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void ensureRetriesFailedMailsWithBackoffAndStopsIfNothingCouldBeSent() {
+
+        final MailOutboxEntity first = entity(1L, "hans@example.org");
+        first.setAttempts(2);
+        final MailOutboxEntity second = entity(2L, "franz@example.org");
+        when(mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(NOW, Limit.of(2))).thenReturn(List.of(first, second));
+
+        when(mailSenderService.sendEmails(anyList())).thenAnswer(invocation -> {
+            final List<OutboundMail> mails = invocation.getArgument(0);
+            final Map<OutboundMail, Exception> failedMails = new IdentityHashMap<>();
+            mails.forEach(mail -> failedMails.put(mail, new IllegalStateException("connection refused")));
+            return failedMails;
+        });
+
+        sut.deliver();
+
+        assertThat(first.getAttempts()).isEqualTo(3);
+        assertThat(first.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(4)));
+        assertThat(second.getAttempts()).isOne();
+        assertThat(second.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(1)));
+        verify(mailOutboxRepository).saveAll(List.of(first, second));
+        verify(mailOutboxRepository).deleteAll(List.of());
+
+        assertThat(meterRegistry.get("mail.outbox.failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void ensureDiscardsMailAfterMaxAttempts() {
+
+        mailProperties.getOutbox().setMaxAttempts(3);
+
+        final MailOutboxEntity mail = entity(1L, "hans@example.org");
+        mail.setAttempts(2);
+        when(mailOutboxRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(NOW, Limit.of(2))).thenReturn(List.of(mail));
+
+        when(mailSenderService.sendEmails(anyList())).thenAnswer(invocation -> {
+            final List<OutboundMail> mails = invocation.getArgument(0);
+            final Map<OutboundMail, Exception> failedMails = new IdentityHashMap<>();
+            failedMails.put(mails.getFirst(), new IllegalStateException("mailbox unavailable"));
+            return failedMails;
+        });
+
+        sut.deliver();
+
+        verify(mailOutboxRepository).deleteAll(List.of(mail));
+        verify(mailOutboxRepository, never()).saveAll(List.of(mail));
+        assertThat(meterRegistry.get("mail.outbox.discarded").counter().count()).isOne();
+    }
+
+    @Test
+    void ensureBackoffIsLimitedToMaxBackoff() {
+        assertThat(sut.backoff(1)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(sut.backoff(2)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(sut.backoff(7)).isEqualTo(Duration.ofHours(1));
+        assertThat(sut.backoff(100)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private static MailOutboxEntity entity(Long id, String recipient) {
+        final MailOutboxEntity entity = new MailOutboxEntity();
+        entity.setId(id);
+        entity.setSender("from@example.org");
+        entity.setReplyTo("replyTo@example.org");
+        entity.setRecipient(recipient);
+        entity.setSubject("subject");
+        entity.setBody("text");
+        entity.setNextAttemptAt(NOW);
+        entity.setCreatedAt(NOW);
+        return entity;
+    }
+}
@@ -1,8 +1,10 @@
 package org.synyx.urlaubsverwaltung.mail;
 
 
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,15 +16,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.simplejavamail.converter.EmailConverter;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import static jakarta.mail.Session.getInstance;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -35,14 +41,17 @@ class MailSenderServiceTest {
     @Mock
     private JavaMailSender javaMailSender;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        sut = new MailSenderService(javaMailSender);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new MailSenderService(javaMailSender, meterRegistry);
     }
 
     @Test
-    void sendEmail() {
-        final ArgumentCaptor<SimpleMailMessage> mailMessageArgumentCaptor = forClass(SimpleMailMessage.class);
+    void sendEmail() throws Exception {
+        final ArgumentCaptor<MimeMessage[]> mailMessageArgumentCaptor = forClass(MimeMessage[].class);
 
         final String recipient = "hans@dampf.com";
         final String subject = "subject";
@@ -50,27 +59,31 @@ class MailSenderServiceTest {
         final String from = "from@example.org";
         final String replyTo = "replyTo@example.org";
 
-        sut.sendEmail(from, replyTo, recipient, subject, body);
+        when(javaMailSender.createMimeMessage()).thenReturn(new MimeMessage(getInstance(new Properties(), null)));
+
+        sut.sendEmails(List.of(new OutboundMail(from, replyTo, recipient, subject, body)));
 
         verify(javaMailSender).send(mailMessageArgumentCaptor.capture());
-        final SimpleMailMessage mailMessage = mailMessageArgumentCaptor.getValue();
-        assertThat(mailMessage.getFrom()).contains(from);
-        assertThat(mailMessage.getTo()).containsExactly(recipient);
+        assertThat(mailMessageArgumentCaptor.getValue()).hasSize(1);
+        final MimeMessage mailMessage = mailMessageArgumentCaptor.getValue()[0];
+        assertThat(mailMessage.getFrom()).contains(new InternetAddress(from));
+        assertThat(mailMessage.getReplyTo()).contains(new InternetAddress(replyTo));
+        assertThat(mailMessage.getAllRecipients()).containsExactly(new InternetAddress(recipient));
         assertThat(mailMessage.getSubject()).isEqualTo(subject);
-        assertThat(mailMessage.getText()).isEqualTo(body);
+        assertThat(readPlainContent(mailMessage)).hasToString(body);
     }
 
     @ParameterizedTest
     @NullSource
     @ValueSource(strings = {"", " "})
     void doesNotSendMailForNullRecipients(final String recipient) {
-        sut.sendEmail("from@example.org", "replyTo@example.org", recipient, "subject", "text");
+        sut.sendEmails(List.of(new OutboundMail("from@example.org", "replyTo@example.org", recipient, "subject", "text")));
         verifyNoInteractions(javaMailSender);
     }
 
     @Test
     void ensuresSendMailWithAttachment() throws Exception {
-        final ArgumentCaptor<MimeMessage> mailMessageArgumentCaptor = forClass(MimeMessage.class);
+        final ArgumentCaptor<MimeMessage[]> mailMessageArgumentCaptor = forClass(MimeMessage[].class);
 
         final String recipient = "hans@dampf.com";
         final String subject = "subject";
@@ -82,22 +95,64 @@ class MailSenderServiceTest {
         final MimeMessage msg = new MimeMessage(getInstance(new Properties(), null));
         when(javaMailSender.createMimeMessage()).thenReturn(msg);
 
-        sut.sendEmail(from, replyTo, recipient, subject, body, mailAttachments);
+        sut.sendEmails(List.of(new OutboundMail(from, replyTo, recipient, subject, body, mailAttachments)));
 
         verify(javaMailSender).send(mailMessageArgumentCaptor.capture());
-        final MimeMessage mailMessage = mailMessageArgumentCaptor.getValue();
+        assertThat(mailMessageArgumentCaptor.getValue()).hasSize(1);
+        final MimeMessage mailMessage = mailMessageArgumentCaptor.getValue()[0];
         assertThat(mailMessage.getFrom()).contains(new InternetAddress(from));
         assertThat(mailMessage.getAllRecipients()).containsExactly(new InternetAddress(recipient));
         assertThat(mailMessage.getSubject()).isEqualTo(subject);
         assertThat(readPlainContent(mailMessage)).hasToString(body);
     }
 
-    @ParameterizedTest
-    @NullSource
-    @ValueSource(strings = {"", " "})
-    void doesNotSendMailWithAttachmentToNullRecipients(final String recipient) {
-        sut.sendEmail("from@example.org", "replyTo@example.org", recipient, "subject", "text", List.of());
-        verifyNoInteractions(javaMailSender);
+    @Test
+    void ensureSendsAllMailsOverOneConnection() {
+
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(getInstance(new Properties(), null)));
+
+        final Map<OutboundMail, Exception> failedMails = sut.sendEmails(List.of(
+            new OutboundMail("from@example.org", "replyTo@example.org", "hans@example.org", "subject", "text"),
+            new OutboundMail("from@example.org", "replyTo@example.org", "franz@example.org", "subject", "text"),
+            new OutboundMail("from@example.org", "replyTo@example.org", "john@example.org", "subject", "text")
+        ));
+        assertThat(failedMails).isEmpty();
+
+        final ArgumentCaptor<MimeMessage[]> batchCaptor = forClass(MimeMessage[].class);
+        verify(javaMailSender).send(batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).hasSize(3);
+
+        assertThat(meterRegistry.get("mail.send").timer().count()).isOne();
+    }
+
+    @Test
+    void ensureReturnsFailedMails() {
+
+        final MimeMessage hansMessage = new MimeMessage(getInstance(new Properties(), null));
+        final MimeMessage franzMessage = new MimeMessage(getInstance(new Properties(), null));
+        when(javaMailSender.createMimeMessage()).thenReturn(hansMessage, franzMessage);
+
+        final MessagingException failure = new MessagingException("mailbox unavailable");
+        doThrow(new MailSendException(Map.<Object, Exception>of(franzMessage, failure))).when(javaMailSender).send(any(MimeMessage[].class));
+
+        final OutboundMail hans = new OutboundMail("from@example.org", "replyTo@example.org", "hans@example.org", "subject", "text");
+        final OutboundMail franz = new OutboundMail("from@example.org", "replyTo@example.org", "franz@example.org", "subject", "text");
+
+        final Map<OutboundMail, Exception> failedMails = sut.sendEmails(List.of(hans, franz));
+        assertThat(failedMails).containsExactly(entry(franz, failure));
+    }
+
+    @Test
+    void ensureReturnsAllMailsAsFailedIfMailServerIsNotAvailable() {
+
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(getInstance(new Properties(), null)));
+        doThrow(new MailSendException("connection refused")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        final OutboundMail hans = new OutboundMail("from@example.org", "replyTo@example.org", "hans@example.org", "subject", "text");
+        final OutboundMail franz = new OutboundMail("from@example.org", "replyTo@example.org", "franz@example.org", "subject", "text");
+
+        final Map<OutboundMail, Exception> failedMails = sut.sendEmails(List.of(hans, franz));
+        assertThat(failedMails).containsOnlyKeys(hans, franz);
     }
 
     private String readPlainContent(MimeMessage message) {
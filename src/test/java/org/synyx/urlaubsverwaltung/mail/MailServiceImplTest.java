@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,11 +16,18 @@ import org.synyx.urlaubsverwaltung.user.UserSettingsService;
 import org.thymeleaf.ITemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -34,7 +42,7 @@ class MailServiceImplTest {
     @Mock
     private ITemplateEngine emailTemplateEngine;
     @Mock
-    private MailSenderService mailSenderService;
+    private MailOutbox mailOutbox;
     @Mock
     private MailProperties mailProperties;
     @Mock
@@ -49,7 +57,7 @@ class MailServiceImplTest {
         when(mailProperties.getReplyTo()).thenReturn("no-reply@example.org");
         when(mailProperties.getReplyToDisplayName()).thenReturn("Urlaubsverwaltung");
         when(mailProperties.getApplicationUrl()).thenReturn("http://localhost:8080");
-        sut = new MailServiceImpl(messageSource, emailTemplateEngine, mailSenderService, mailProperties, userSettingsService);
+        sut = new MailServiceImpl(messageSource, emailTemplateEngine, mailOutbox, mailProperties, userSettingsService, new SimpleMeterRegistry());
     }
 
     @Test
@@ -71,7 +79,9 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verify(mailOutbox).enqueue(List.of(
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody")
+        ));
     }
 
     @Test
@@ -97,8 +107,10 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
+        verify(mailOutbox).enqueue(List.of(
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody"),
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody")
+        ));
     }
 
     @Test
@@ -127,8 +139,10 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
+        verify(mailOutbox).enqueue(List.of(
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal))),
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)))
+        ));
     }
 
     @Test
@@ -157,8 +171,10 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
+        verify(mailOutbox).enqueue(List.of(
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal))),
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)))
+        ));
     }
 
     @Test
@@ -180,8 +196,10 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
-        verifyNoMoreInteractions(mailSenderService);
+        verify(mailOutbox).enqueue(List.of(
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody")
+        ));
+        verifyNoMoreInteractions(mailOutbox);
     }
 
     @Test
@@ -205,7 +223,51 @@ class MailServiceImplTest {
 
         sut.send(mail);
 
-        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Hans Dampf <hans@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)));
+        verify(mailOutbox).enqueue(List.of(
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Hans Dampf <hans@example.org>", "hans@example.org", "subject", "emailBody", List.of(new MailAttachment("fileName", iCal)))
+        ));
+    }
+
+    @Test
+    void ensureCreatesTemplateModelAndSubjectOncePerLocale() {
+
+        setupMockServletRequest();
+
+        final Person hans = new Person();
+        hans.setId(1L);
+        hans.setEmail("hans@example.org");
+
+        final Person franz = new Person();
+        franz.setId(2L);
+        franz.setEmail("franz@example.org");
+
+        final Person john = new Person();
+        john.setId(3L);
+        john.setEmail("john@example.org");
+
+        when(userSettingsService.getEffectiveLocale(List.of(hans, franz, john))).thenReturn(Map.of(hans, GERMAN, franz, GERMAN, john, ENGLISH));
+
+        final List<Locale> templateModelLocales = new ArrayList<>();
+        final Mail mail = Mail.builder()
+            .withRecipient(List.of(hans, franz, john))
+            .withSubject("subject.overtime.created")
+            .withTemplate("overtime_office", locale -> {
+                templateModelLocales.add(locale);
+                return new HashMap<>();
+            })
+            .build();
+
+        sut.send(mail);
+
+        assertThat(templateModelLocales).containsExactly(GERMAN, ENGLISH);
+        verify(messageSource).getMessage("subject.overtime.created", new Object[]{}, GERMAN);
+        verify(messageSource).getMessage("subject.overtime.created", new Object[]{}, ENGLISH);
+        verify(emailTemplateEngine, times(3)).process(any(String.class), any(Context.class));
+        verify(mailOutbox).enqueue(List.of(
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody"),
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody"),
+            new OutboundMail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "john@example.org", "subject", "emailBody")
+        ));
     }
 
     private void setupMockServletRequest() {
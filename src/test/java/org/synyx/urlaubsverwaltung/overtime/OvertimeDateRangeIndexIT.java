@@ -0,0 +1,77 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.SingleTenantTestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.overtime.OvertimeRepository.FIND_OVERLAPPING_BY_PERSON_IDS;
+
+/**
+ * Ensures that the overlap query of overtime records is served by the GiST index on the generated
+ * {@code date_range} column, given a history of several years, and finds the same overtime records as the former
+ * predicate on the start and end date.
+ */
+@SpringBootTest
+@Transactional
+class OvertimeDateRangeIndexIT extends SingleTenantTestContainersBase {
+
+    private static final int ROWS = 20_000;
+    private static final int DAYS_OF_HISTORY = 15 * 365;
+    private static final LocalDate START = LocalDate.of(2020, 3, 2);
+    private static final LocalDate END = LocalDate.of(2020, 3, 8);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private OvertimeRepository sut;
+
+    @Test
+    void ensureFindOverlappingOfPersonsUsesDateRangeIndex() {
+
+        final Person person = personService.create("muster", "Marlene", "Muster", "muster@example.org");
+        entityManager.flush();
+
+        jdbcTemplate.update("""
+            INSERT INTO overtime (id, tenant_id, person_id, start_date, end_date, duration, last_modification_date)
+            SELECT 1000000 + n, 'default', :personId, DATE '2010-01-01' + n % :days, DATE '2010-01-01' + n % :days + n % 5, 1.5, CURRENT_DATE
+            FROM generate_series(0, :rows) AS n
+            """, Map.of("personId", person.getId(), "days", DAYS_OF_HISTORY, "rows", ROWS - 1));
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE overtime");
+
+        final Map<String, Object> parameters = Map.of("personIds", List.of(person.getId()), "start", START, "end", END);
+
+        final String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + FIND_OVERLAPPING_BY_PERSON_IDS, parameters, String.class));
+        assertThat(plan).contains("overtime_date_range");
+
+        final List<Long> idsBetween = jdbcTemplate.queryForList("""
+            SELECT id
+            FROM overtime
+            WHERE end_date >= :start AND start_date <= :end
+            AND person_id IN (:personIds)
+            """, parameters, Long.class);
+
+        assertThat(sut.findOverlappingOfPersons(List.of(person), START, END))
+            .extracting(Overtime::getId)
+            .isNotEmpty()
+            .containsExactlyInAnyOrderElementsOf(idsBetween);
+    }
+}
@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.SingleTenantTestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class OvertimeLedgerRepositoryIT extends SingleTenantTestContainersBase {
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private OvertimeLedgerRepository sut;
+
+    @Test
+    void ensureFindsLatestEntryBeforeYearOfEveryPerson() {
+
+        final Person person = personService.create("sam", "sam", "smith", "smith@example.org");
+        final Person otherPerson = personService.create("freddy", "freddy", "Gwin", "gwin@example.org");
+        final Person personWithoutLedger = personService.create("muster", "Marlene", "Muster", "muster@example.org");
+
+        sut.save(entry(person, 2021, Duration.ofHours(3)));
+        sut.save(entry(person, 2022, Duration.ofHours(5)));
+        sut.save(entry(person, 2024, Duration.ofHours(8)));
+        sut.save(entry(otherPerson, 2024, Duration.ofHours(1)));
+
+        final List<Person> persons = List.of(person, otherPerson, personWithoutLedger);
+
+        assertThat(sut.findLatestBeforeYear(persons, 2024))
+            .extracting(OvertimeLedgerEntity::getPerson, OvertimeLedgerEntity::getYear, OvertimeLedgerEntity::getClosingBalance)
+            .containsExactly(tuple(person, 2022, Duration.ofHours(5)));
+
+        assertThat(sut.findPersonsWithoutLedger(Limit.unlimited()))
+            .contains(personWithoutLedger)
+            .doesNotContain(person, otherPerson);
+        assertThat(sut.findFirstByPersonOrderByYearDesc(person)).hasValueSatisfying(entry -> assertThat(entry.getYear()).isEqualTo(2024));
+    }
+
+    private static OvertimeLedgerEntity entry(Person person, int year, Duration closingBalance) {
+        final OvertimeLedgerEntity entry = new OvertimeLedgerEntity(person, year);
+        entry.setClosingBalance(closingBalance);
+        return entry;
+    }
+}
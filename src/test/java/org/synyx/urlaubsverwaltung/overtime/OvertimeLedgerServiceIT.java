@@ -0,0 +1,97 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.SingleTenantTestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a surrounding test transaction, because concurrent updates have to commit in their own transactions.
+ */
+@SpringBootTest
+class OvertimeLedgerServiceIT extends SingleTenantTestContainersBase {
+
+    @Autowired
+    private OvertimeLedgerService sut;
+
+    @Autowired
+    private OvertimeLedgerRepository overtimeLedgerRepository;
+    @Autowired
+    private OvertimeRepository overtimeRepository;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Person person;
+
+    @AfterEach
+    void tearDown() {
+        if (person != null) {
+            personService.delete(person, person);
+        }
+    }
+
+    @Test
+    void ensureConcurrentUpdatesOfSamePersonDoNotLoseOvertime() throws Exception {
+
+        person = personService.create("concurrent-ledger", "Marlene", "Muster", "concurrent-ledger@example.org");
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final CountDownLatch firstUpdateLocked = new CountDownLatch(1);
+
+        final CompletableFuture<Void> firstUpdate = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            final LocalDate date = LocalDate.of(2024, 1, 8);
+            overtimeRepository.save(new Overtime(person, date, date, Duration.ofHours(3)));
+            sut.update(person, date, date);
+            firstUpdateLocked.countDown();
+            sleep();
+        }));
+
+        final CompletableFuture<Void> secondUpdate = CompletableFuture.runAsync(() -> {
+            await(firstUpdateLocked);
+            transactionTemplate.executeWithoutResult(status -> {
+                final LocalDate date = LocalDate.of(2024, 1, 9);
+                overtimeRepository.save(new Overtime(person, date, date, Duration.ofHours(5)));
+                sut.update(person, date, date);
+            });
+        });
+
+        CompletableFuture.allOf(firstUpdate, secondUpdate).get(30, TimeUnit.SECONDS);
+
+        assertThat(overtimeLedgerRepository.findFirstByPersonOrderByYearDesc(person))
+            .hasValueSatisfying(entry -> assertThat(entry.getClosingBalance()).isEqualTo(Duration.ofHours(8)));
+    }
+
+    private static void sleep() {
+        try {
+            // keeps the ledger locked, so that the second update has to wait for the commit of the first one
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.data.domain.Limit;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OVERTIME;
+
+@ExtendWith(MockitoExtension.class)
+class OvertimeLedgerServiceTest {
+
+    private OvertimeLedgerService sut;
+
+    @Mock
+    private OvertimeLedgerRepository overtimeLedgerRepository;
+    @Mock
+    private OvertimeRepository overtimeRepository;
+    @Mock
+    private ApplicationService applicationService;
+
+    @Captor
+    private ArgumentCaptor<Iterable<OvertimeLedgerEntity>> entriesCaptor;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        sut = new OvertimeLedgerService(overtimeLedgerRepository, overtimeRepository, applicationService, clock);
+    }
+
+    @Test
+    void ensureBuildsLedgerWithClosingBalancePerYear() {
+
+        final Person person = person(1L);
+
+        final Overtime overtime2022 = new Overtime(person, LocalDate.of(2022, 3, 1), LocalDate.of(2022, 3, 1), Duration.ofHours(10));
+        final Overtime overtimeOverNewYear = new Overtime(person, LocalDate.of(2022, 12, 31), LocalDate.of(2023, 1, 1), Duration.ofHours(4));
+        final Application overtimeReduction2023 = overtimeReduction(person, LocalDate.of(2023, 5, 2), Duration.ofHours(3));
+
+        when(overtimeLedgerRepository.findPersonsWithoutLedger(Limit.of(100))).thenReturn(List.of(person));
+        when(overtimeRepository.findByPersonIsIn(List.of(person))).thenReturn(List.of(overtime2022, overtimeOverNewYear));
+        when(applicationService.getForStatesAndPersonAndVacationCategory(activeStatuses(), List.of(person), OVERTIME)).thenReturn(List.of(overtimeReduction2023));
+
+        assertThat(sut.buildMissingLedgers(100)).isOne();
+
+        verify(overtimeLedgerRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+            .extracting(OvertimeLedgerEntity::getYear, OvertimeLedgerEntity::getOvertime, OvertimeLedgerEntity::getOvertimeReduction, OvertimeLedgerEntity::getClosingBalance)
+            .containsExactly(
+                tuple(2022, Duration.ofHours(12), Duration.ZERO, Duration.ofHours(12)),
+                tuple(2023, Duration.ofHours(2), Duration.ofHours(3), Duration.ofHours(11))
+            );
+    }
+
+    @Test
+    void ensureBuildsEmptyLedgerEntryOfCurrentYearForPersonWithoutOvertime() {
+
+        final Person person = person(1L);
+
+        when(overtimeLedgerRepository.findPersonsWithoutLedger(Limit.of(100))).thenReturn(List.of(person));
+
+        sut.buildMissingLedgers(100);
+
+        verify(overtimeLedgerRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+            .extracting(OvertimeLedgerEntity::getYear, OvertimeLedgerEntity::getClosingBalance)
+            .containsExactly(tuple(2024, Duration.ZERO));
+    }
+
+    @Test
+    void ensureBuildMissingLedgersDoesNothingIfEveryPersonHasLedger() {
+
+        when(overtimeLedgerRepository.findPersonsWithoutLedger(Limit.of(100))).thenReturn(List.of());
+
+        assertThat(sut.buildMissingLedgers(100)).isZero();
+
+        verifyNoInteractions(overtimeRepository, applicationService);
+        verify(overtimeLedgerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void ensureGetLeftOvertimeBeforeYearReadsLatestLedgerEntries() {
+
+        final Person person = person(1L);
+        final Person personWithoutOvertimeBeforeYear = person(2L);
+        final List<Person> persons = List.of(person, personWithoutOvertimeBeforeYear);
+
+        final OvertimeLedgerEntity entry = new OvertimeLedgerEntity(person, 2022);
+        entry.setClosingBalance(Duration.ofHours(7));
+
+        when(overtimeLedgerRepository.findLatestBeforeYear(persons, 2024)).thenReturn(List.of(entry));
+
+        final Map<Person, Duration> leftOvertime = sut.getLeftOvertimeBeforeYear(persons, 2024);
+        assertThat(leftOvertime)
+            .containsEntry(person, Duration.ofHours(7))
+            .containsEntry(personWithoutOvertimeBeforeYear, Duration.ZERO);
+
+        verifyNoInteractions(overtimeRepository, applicationService);
+        verify(overtimeLedgerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void ensureGetLeftOvertimeReadsLatestLedgerEntry() {
+
+        final Person person = person(1L);
+
+        final OvertimeLedgerEntity entry = new OvertimeLedgerEntity(person, 2025);
+        entry.setClosingBalance(Duration.ofHours(3));
+        when(overtimeLedgerRepository.findFirstByPersonOrderByYearDesc(person)).thenReturn(Optional.of(entry));
+
+        assertThat(sut.getLeftOvertime(person)).isEqualTo(Duration.ofHours(3));
+        verifyNoInteractions(overtimeRepository, applicationService);
+    }
+
+    @Test
+    void ensureGetLeftOvertimeIsZeroWithoutLedgerAndDoesNotBuildIt() {
+
+        final Person person = person(1L);
+
+        when(overtimeLedgerRepository.findFirstByPersonOrderByYearDesc(person)).thenReturn(Optional.empty());
+
+        assertThat(sut.getLeftOvertime(person)).isZero();
+
+        verifyNoInteractions(overtimeRepository, applicationService);
+        verify(overtimeLedgerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void ensureUpdateRecalculatesYearsOfDateRangeAndFollowingClosingBalances() {
+
+        final Person person = person(1L);
+
+        final OvertimeLedgerEntity entry2022 = entry(person, 2022, Duration.ofHours(10), Duration.ZERO);
+        final OvertimeLedgerEntity entry2024 = entry(person, 2024, Duration.ofHours(2), Duration.ofHours(1));
+        when(overtimeLedgerRepository.findByPersonOrderByYear(person)).thenReturn(List.of(entry2022, entry2024));
+
+        final Overtime newOvertime = new Overtime(person, LocalDate.of(2023, 4, 3), LocalDate.of(2023, 4, 3), Duration.ofHours(5));
+        when(overtimeRepository.findByPersonAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(person, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)))
+            .thenReturn(List.of(newOvertime));
+
+        sut.update(person, LocalDate.of(2023, 4, 3), LocalDate.of(2023, 4, 3));
+
+        verify(overtimeLedgerRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+            .extracting(OvertimeLedgerEntity::getYear, OvertimeLedgerEntity::getClosingBalance)
+            .containsExactly(
+                tuple(2022, Duration.ofHours(10)),
+                tuple(2023, Duration.ofHours(15)),
+                tuple(2024, Duration.ofHours(16))
+            );
+        verify(overtimeRepository, never()).findByPersonIsIn(any());
+    }
+
+    @Test
+    void ensureUpdateLocksPersonAndBuildsLedgerWithoutLedgerEntries() {
+
+        final Person person = person(1L);
+
+        when(overtimeLedgerRepository.findByPersonOrderByYear(person)).thenReturn(List.of());
+        when(overtimeRepository.findByPersonIsIn(List.of(person)))
+            .thenReturn(List.of(new Overtime(person, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 8), Duration.ofHours(3))));
+
+        sut.update(person, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 8));
+
+        verify(overtimeLedgerRepository).lockPerson(person);
+        verify(overtimeLedgerRepository, times(2)).findByPersonOrderByYear(person);
+        verify(overtimeLedgerRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+            .extracting(OvertimeLedgerEntity::getYear, OvertimeLedgerEntity::getClosingBalance)
+            .containsExactly(tuple(2024, Duration.ofHours(3)));
+    }
+
+    @Test
+    void ensureUpdateDoesNotLockPersonWithLedgerEntries() {
+
+        final Person person = person(1L);
+
+        when(overtimeLedgerRepository.findByPersonOrderByYear(person)).thenReturn(List.of(entry(person, 2024, Duration.ofHours(2), Duration.ZERO)));
+
+        sut.update(person, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 8));
+
+        verify(overtimeLedgerRepository, never()).lockPerson(any());
+    }
+
+    @Test
+    void ensureOvertimeReductionUpdatesLedger() {
+
+        final Person person = person(1L);
+        final Application application = overtimeReduction(person, LocalDate.of(2024, 2, 5), Duration.ofHours(2));
+
+        when(overtimeLedgerRepository.findByPersonOrderByYear(person)).thenReturn(List.of(entry(person, 2024, Duration.ofHours(8), Duration.ZERO)));
+        when(overtimeRepository.findByPersonAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(person, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+            .thenReturn(List.of(new Overtime(person, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 8), Duration.ofHours(8))));
+        when(applicationService.getApplicationsForACertainPeriodAndPersonAndVacationCategory(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), person, activeStatuses(), OVERTIME))
+            .thenReturn(List.of(application));
+
+        sut.on(ApplicationAllowedEvent.of(application));
+
+        verify(overtimeLedgerRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+            .extracting(OvertimeLedgerEntity::getYear, OvertimeLedgerEntity::getOvertimeReduction, OvertimeLedgerEntity::getClosingBalance)
+            .containsExactly(tuple(2024, Duration.ofHours(2), Duration.ofHours(6)));
+    }
+
+    @Test
+    void ensureApplicationOfOtherCategoryDoesNotUpdateLedger() {
+
+        final Application application = application(person(1L), LocalDate.of(2024, 2, 5), null, HOLIDAY);
+
+        sut.on(ApplicationCancelledEvent.of(application));
+
+        verifyNoInteractions(overtimeLedgerRepository, overtimeRepository, applicationService);
+    }
+
+    @Test
+    void ensureEditedApplicationRebuildsLedger() {
+
+        final Person person = person(1L);
+        final Application application = application(person, LocalDate.of(2024, 2, 5), null, HOLIDAY);
+
+        final OvertimeLedgerEntity outdatedEntry = entry(person, 2023, Duration.ZERO, Duration.ofHours(4));
+        when(overtimeLedgerRepository.findByPersonOrderByYear(person)).thenReturn(List.of(outdatedEntry));
+
+        sut.on(ApplicationUpdatedEvent.of(application));
+
+        verify(overtimeLedgerRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+            .extracting(OvertimeLedgerEntity::getYear, OvertimeLedgerEntity::getOvertimeReduction, OvertimeLedgerEntity::getClosingBalance)
+            .containsExactly(tuple(2023, Duration.ZERO, Duration.ZERO));
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person("muster" + id, "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static OvertimeLedgerEntity entry(Person person, int year, Duration overtime, Duration overtimeReduction) {
+        final OvertimeLedgerEntity entry = new OvertimeLedgerEntity(person, year);
+        entry.setOvertime(overtime);
+        entry.setOvertimeReduction(overtimeReduction);
+        return entry;
+    }
+
+    private static Application overtimeReduction(Person person, LocalDate date, Duration hours) {
+        return application(person, date, hours, OVERTIME);
+    }
+
+    private static Application application(Person person, LocalDate date, Duration hours, VacationCategory category) {
+        final Application application = new Application();
+        application.setPerson(person);
+        application.setStartDate(date);
+        application.setEndDate(date);
+        application.setHours(hours);
+        application.setVacationType(ProvidedVacationType.builder(new StaticMessageSource()).id(1L).category(category).build());
+        return application;
+    }
+}
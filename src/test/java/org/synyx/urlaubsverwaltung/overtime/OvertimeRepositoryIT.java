@@ -130,7 +130,7 @@ class OvertimeRepositoryIT extends SingleTenantTestContainersBase {
     }
 
     @Test
-    void ensureFindByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual() {
+    void ensureFindOverlappingOfPersons() {
 
         final Person person = personService.create("muster", "Marlene", "Muster", "muster@example.org");
         final Person person2 = personService.create("retsum", "Enelram", "Retsum", "retsum@example.org");
@@ -150,7 +150,7 @@ class OvertimeRepositoryIT extends SingleTenantTestContainersBase {
         sut.save(new Overtime(person, start.minusDays(5), start.minusDays(4), Duration.ofHours(10)));
         sut.save(new Overtime(person3, start, start, Duration.ofHours(10)));
 
-        final List<Overtime> actual = sut.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, start, end);
+        final List<Overtime> actual = sut.findOverlappingOfPersons(persons, start, end);
 
         assertThat(actual).hasSize(4);
         assertThat(actual.get(0).getPerson()).isEqualTo(person);
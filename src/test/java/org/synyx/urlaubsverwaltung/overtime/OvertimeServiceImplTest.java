@@ -56,6 +56,8 @@ class OvertimeServiceImplTest {
     @Mock
     private OvertimeCommentRepository overtimeCommentRepository;
     @Mock
+    private OvertimeLedgerService overtimeLedgerService;
+    @Mock
     private ApplicationService applicationService;
     @Mock
     private OvertimeMailService overtimeMailService;
@@ -66,7 +68,7 @@ class OvertimeServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new OvertimeServiceImpl(overtimeRepository, overtimeCommentRepository, applicationService, overtimeMailService, settingsService, clock);
+        sut = new OvertimeServiceImpl(overtimeRepository, overtimeCommentRepository, overtimeLedgerService, applicationService, overtimeMailService, settingsService, clock);
     }
 
     // Record overtime -------------------------------------------------------------------------------------------------
@@ -167,6 +169,31 @@ class OvertimeServiceImplTest {
         assertThat(comment.getAction()).isEqualTo(OvertimeCommentAction.EDITED);
     }
 
+    @Test
+    void ensureRecordingNewOvertimeUpdatesLedgerOfItsDateRange() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Overtime overtime = new Overtime(person, LocalDate.of(2022, 12, 30), LocalDate.of(2023, 1, 2), Duration.ofHours(4));
+
+        sut.save(overtime, Optional.empty(), person);
+
+        verify(overtimeLedgerService).update(person, LocalDate.of(2022, 12, 30), LocalDate.of(2023, 1, 2));
+        verify(overtimeLedgerService, never()).rebuild(any());
+    }
+
+    @Test
+    void ensureRecordingExistentOvertimeRebuildsLedger() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final Overtime overtime = new Overtime(person, LocalDate.of(2022, 12, 30), LocalDate.of(2023, 1, 2), Duration.ofHours(4));
+        overtime.setId(1L);
+
+        sut.save(overtime, Optional.empty(), person);
+
+        verify(overtimeLedgerService).rebuild(person);
+        verify(overtimeLedgerService, never()).update(any(), any(), any());
+    }
+
     @Test
     void ensureCreatedCommentWithoutTextHasCorrectProperties() {
 
@@ -267,13 +294,7 @@ class OvertimeServiceImplTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        final Overtime overtime = new Overtime(person, LocalDate.of(2016, 1, 5), LocalDate.of(2016, 1, 5), Duration.ofHours(10));
-        final Overtime overtime2 = new Overtime(person, LocalDate.of(2016, 2, 5), LocalDate.of(2016, 2, 5), Duration.ofHours(4));
-
-        final LocalDate firstDayOfYear = LocalDate.of(2017, 1, 1);
-        final LocalDate lastDayOfBeforeYear = firstDayOfYear.minusYears(1).with(lastDayOfYear());
-        when(overtimeRepository.findByPersonAndStartDateIsBefore(person, firstDayOfYear)).thenReturn(List.of(overtime, overtime2));
-        when(applicationService.getTotalOvertimeReductionOfPersonUntil(person, lastDayOfBeforeYear)).thenReturn(Duration.ofHours(1));
+        when(overtimeLedgerService.getLeftOvertimeBeforeYear(List.of(person), 2017)).thenReturn(Map.of(person, Duration.ofHours(13)));
 
         final Duration totalHours = sut.getTotalOvertimeForPersonBeforeYear(person, 2017);
         assertThat(totalHours).isEqualTo(Duration.ofHours(13));
@@ -281,45 +302,14 @@ class OvertimeServiceImplTest {
 
     // Get left overtime -----------------------------------------------------------------------------------------------
     @Test
-    void ensureReturnsZeroAsLeftOvertimeIfPersonHasNoOvertimeRecordsYet() {
+    void ensureTheLeftOvertimeIsReadFromLedger() {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.empty());
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ZERO);
-
-        final Duration totalHours = sut.getLeftOvertimeForPerson(person);
-        assertThat(totalHours).isEqualTo(Duration.ZERO);
-
-        verify(overtimeRepository).calculateTotalHoursForPerson(person);
-        verify(applicationService).getTotalOvertimeReductionOfPerson(person);
-    }
-
-    @Test
-    void ensureTheLeftOvertimeIsTheDifferenceBetweenTotalOvertimeAndOvertimeReduction() {
-
-        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.of((double) Duration.ofHours(10L).toMinutes() / 60));
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ofHours(1));
+        when(overtimeLedgerService.getLeftOvertime(person)).thenReturn(Duration.ofHours(9));
 
         final Duration leftOvertime = sut.getLeftOvertimeForPerson(person);
         assertThat(leftOvertime).isEqualTo(Duration.ofHours(9));
-
-        verify(overtimeRepository).calculateTotalHoursForPerson(person);
-        verify(applicationService).getTotalOvertimeReductionOfPerson(person);
-    }
-
-    @Test
-    void ensureTheLeftOvertimeIsZeroIfPersonHasNeitherOvertimeRecordsNorOvertimeReduction() {
-
-        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.empty());
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ZERO);
-
-        final Duration leftOvertime = sut.getLeftOvertimeForPerson(person);
-        assertThat(leftOvertime).isEqualTo(Duration.ZERO);
     }
 
     @Test
@@ -327,8 +317,7 @@ class OvertimeServiceImplTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.of((double) Duration.ofHours(10L).toMinutes() / 60));
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ofHours(5));
+        when(overtimeLedgerService.getLeftOvertime(person)).thenReturn(Duration.ofHours(5));
 
         final VacationType<?> overtimeVacationType = ProvidedVacationType.builder(new StaticMessageSource()).id(1L).category(OVERTIME).build();
         final Application applicationToEdit = new Application();
@@ -456,9 +445,9 @@ class OvertimeServiceImplTest {
         overtimeThree.setEndDate(to.plusDays(4));
         overtimeThree.setDuration(Duration.ofHours(10));
 
-        when(overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, from.with(firstDayOfYear()), to.with(lastDayOfYear())))
+        when(overtimeRepository.findOverlappingOfPersons(persons, from.with(firstDayOfYear()), to.with(lastDayOfYear())))
             .thenReturn(List.of(overtimeOne, overtimeOneOne, overtimeTwo, overtimeThree));
-        when(overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, from, to))
+        when(overtimeRepository.findOverlappingOfPersons(persons, from, to))
             .thenReturn(List.of(overtimeOne, overtimeTwo));
 
         final List<Application> applications = List.of();
@@ -515,9 +504,9 @@ class OvertimeServiceImplTest {
         overtimeTwoTwo.setEndDate(to.plusDays(4));
         overtimeTwoTwo.setDuration(Duration.ofHours(10));
 
-        when(overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, from.with(firstDayOfYear()), to.with(lastDayOfYear())))
+        when(overtimeRepository.findOverlappingOfPersons(persons, from.with(firstDayOfYear()), to.with(lastDayOfYear())))
             .thenReturn(List.of(overtimeOne, overtimeOneOne, overtimeTwo, overtimeTwoTwo));
-        when(overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, from, to))
+        when(overtimeRepository.findOverlappingOfPersons(persons, from, to))
             .thenReturn(List.of(overtimeOne, overtimeTwo));
 
         final VacationType<?> overtimeVacationType = ProvidedVacationType.builder(new StaticMessageSource())
@@ -562,8 +551,8 @@ class OvertimeServiceImplTest {
 
         final List<Person> persons = List.of(personWithoutOvertime);
 
-        when(overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, from.with(firstDayOfYear()), to.with(lastDayOfYear()))).thenReturn(List.of());
-        when(overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, from, to)).thenReturn(List.of());
+        when(overtimeRepository.findOverlappingOfPersons(persons, from.with(firstDayOfYear()), to.with(lastDayOfYear()))).thenReturn(List.of());
+        when(overtimeRepository.findOverlappingOfPersons(persons, from, to)).thenReturn(List.of());
 
         final List<Application> applications = List.of();
 
@@ -578,14 +567,37 @@ class OvertimeServiceImplTest {
         assertThat(leftOvertime.leftOvertimeDateRange()).isEqualTo(Duration.ZERO);
     }
 
+    @Test
+    void ensureGetLeftOvertimeTotalAndDateRangeForPersonsAddsLeftOvertimeBeforeYearFromLedger() {
+        final LocalDate from = LocalDate.of(2023, AUGUST, 1);
+        final LocalDate to = LocalDate.of(2023, AUGUST, 31);
+
+        final Person person = new Person();
+        person.setId(1L);
+
+        final List<Person> persons = List.of(person);
+
+        final Overtime overtime = new Overtime(person, from, from, Duration.ofHours(2));
+
+        when(overtimeLedgerService.getLeftOvertimeBeforeYear(persons, 2023)).thenReturn(Map.of(person, Duration.ofHours(5)));
+        when(overtimeRepository.findOverlappingOfPersons(persons, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)))
+            .thenReturn(List.of(overtime));
+        when(overtimeRepository.findOverlappingOfPersons(persons, from, to))
+            .thenReturn(List.of(overtime));
+
+        final Map<Person, LeftOvertime> actual = sut.getLeftOvertimeTotalAndDateRangeForPersons(persons, List.of(), from, to);
+        assertThat(actual.get(person)).isEqualTo(new LeftOvertime(Duration.ofHours(7), Duration.ofHours(7)));
+    }
+
     @Test
     void ensureDeletionOnPersonDeletionEvent() {
         final Person person = new Person();
 
         sut.deleteAll(new PersonDeletedEvent(person));
 
-        final InOrder inOrder = inOrder(overtimeCommentRepository, overtimeRepository);
+        final InOrder inOrder = inOrder(overtimeCommentRepository, overtimeLedgerService, overtimeRepository);
         inOrder.verify(overtimeCommentRepository).deleteByOvertimePerson(person);
+        inOrder.verify(overtimeLedgerService).deleteByPerson(person);
         inOrder.verify(overtimeRepository).deleteByPerson(person);
     }
 
@@ -13,9 +13,12 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
@@ -34,6 +37,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -73,6 +77,7 @@ class PersonServiceImplTest {
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
     }
 
     @Test
@@ -401,6 +406,47 @@ class PersonServiceImplTest {
         assertThat(signedInUser).isEqualTo(person);
     }
 
+    @Test
+    void ensureLoadsSignedInUserOnlyOncePerRequest() {
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        when(personRepository.findByUsernameIgnoreCase("muster")).thenReturn(Optional.of(person));
+
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(person.getUsername());
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        assertThat(sut.getSignedInUser()).isEqualTo(person);
+        assertThat(sut.getSignedInUser()).isEqualTo(person);
+
+        verify(personRepository).findByUsernameIgnoreCase("muster");
+    }
+
+    @Test
+    void ensureLoadsSignedInUserAgainAfterUpdateInSameRequest() {
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        when(personRepository.findByUsernameIgnoreCase("muster")).thenReturn(Optional.of(person));
+        when(personRepository.save(any(Person.class))).then(returnsFirstArg());
+
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(person.getUsername());
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+
+        sut.getSignedInUser();
+        sut.update(person);
+        sut.getSignedInUser();
+
+        verify(personRepository, times(2)).findByUsernameIgnoreCase("muster");
+    }
+
     @Test
     void ensureThrowsIllegalOnNullAuthentication() {
         assertThatIllegalStateException()
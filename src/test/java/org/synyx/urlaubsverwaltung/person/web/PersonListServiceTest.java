@@ -0,0 +1,90 @@
+package org.synyx.urlaubsverwaltung.person.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.account.AccountService;
+import org.synyx.urlaubsverwaltung.account.HolidayAccountVacationDays;
+import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
+import org.synyx.urlaubsverwaltung.account.VacationDaysService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonId;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedata;
+import org.synyx.urlaubsverwaltung.person.basedata.PersonBasedataService;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.math.BigDecimal.TEN;
+import static java.math.BigDecimal.ZERO;
+import static java.time.Month.APRIL;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PersonListServiceTest {
+
+    private PersonListService sut;
+
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private VacationDaysService vacationDaysService;
+    @Mock
+    private PersonBasedataService personBasedataService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PersonListService(accountService, vacationDaysService, personBasedataService);
+    }
+
+    @Test
+    void ensureEntriesOfAllPersonsAreLoadedAtOnce() {
+
+        final Person batman = new Person("batman", "Wayne", "Bruce", "batman@example.org");
+        batman.setId(1L);
+        final Person robin = new Person("robin", "Grayson", "Dick", "robin@example.org");
+        robin.setId(2L);
+        final List<Person> persons = List.of(batman, robin);
+
+        final Year year = Year.of(2024);
+
+        final PersonBasedata basedata = new PersonBasedata(new PersonId(2L), "42", null);
+        when(personBasedataService.getBasedataByPersonId(List.of(1L, 2L))).thenReturn(Map.of(new PersonId(2L), basedata));
+
+        final Account account = account(batman, year);
+        when(accountService.getHolidaysAccount(2024, persons)).thenReturn(List.of(account));
+        final Account accountNextYear = account(batman, year.plusYears(1));
+        when(accountService.getHolidaysAccount(2025, persons)).thenReturn(List.of(accountNextYear));
+
+        final VacationDaysLeft vacationDaysLeft = VacationDaysLeft.builder().withAnnualVacation(TEN).withRemainingVacation(ZERO).build();
+        final HolidayAccountVacationDays holidayAccountVacationDays = new HolidayAccountVacationDays(account, vacationDaysLeft, vacationDaysLeft);
+        when(vacationDaysService.getVacationDaysLeft(List.of(account), year, List.of(accountNextYear))).thenReturn(Map.of(account, holidayAccountVacationDays));
+
+        final List<PersonListEntry> entries = sut.getEntries(persons, year);
+        assertThat(entries).containsExactly(
+            new PersonListEntry(batman, Optional.empty(), Optional.of(account), Optional.of(holidayAccountVacationDays)),
+            new PersonListEntry(robin, Optional.of(basedata), Optional.empty(), Optional.empty())
+        );
+    }
+
+    @Test
+    void ensureNoEntriesWithoutPersons() {
+        assertThat(sut.getEntries(List.of(), Year.of(2024))).isEmpty();
+        verifyNoInteractions(accountService, vacationDaysService, personBasedataService);
+    }
+
+    private static Account account(Person person, Year year) {
+        return new Account(person, LocalDate.of(year.getValue(), JANUARY, 1), LocalDate.of(year.getValue(), DECEMBER, 31), true,
+            LocalDate.of(year.getValue(), APRIL, 1), TEN, ZERO, ZERO, null);
+    }
+}
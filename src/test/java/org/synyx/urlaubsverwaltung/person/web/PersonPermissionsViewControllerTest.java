@@ -16,7 +16,6 @@ import org.synyx.urlaubsverwaltung.person.PersonMailService;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.person.Role;
 import org.synyx.urlaubsverwaltung.person.UnknownPersonException;
-import org.synyx.urlaubsverwaltung.security.SessionService;
 
 import java.util.List;
 import java.util.Optional;
@@ -56,12 +55,10 @@ class PersonPermissionsViewControllerTest {
     private PersonMailService personMailService;
     @Mock
     private PersonPermissionsDtoValidator validator;
-    @Mock
-    private SessionService sessionService;
 
     @BeforeEach
     void setUp() {
-        sut = new PersonPermissionsViewController(personService, departmentService, personMailService, validator, sessionService);
+        sut = new PersonPermissionsViewController(personService, departmentService, personMailService, validator);
     }
 
     @Test
@@ -130,24 +127,6 @@ class PersonPermissionsViewControllerTest {
         verify(personService).update(person);
     }
 
-    @Test
-    void editPersonPermissionsAndMarkSessionToReloadAuthorities() throws Exception {
-
-        final Person person = new Person("username", "Meier", "Nina", "nina@example.org");
-        person.setPermissions(List.of(USER));
-        when(personService.getPersonByID(1L)).thenReturn(Optional.of(person));
-        when(personService.update(any(Person.class))).thenReturn(person);
-
-        perform(post("/web/person/1/permissions")
-            .param("id", "1")
-            .param("permissions[0]", "USER")
-            .param("permissions[1]", "OFFICE")
-        );
-
-        verify(personService).update(person);
-        verify(sessionService).markSessionToReloadAuthorities("username");
-    }
-
     @Test
     void ensureToSendNotificationOnGainedNewPermissions() throws Exception {
 
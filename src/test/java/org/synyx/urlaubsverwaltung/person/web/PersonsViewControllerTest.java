@@ -21,6 +21,7 @@ import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
 import org.synyx.urlaubsverwaltung.account.VacationDaysService;
 import org.synyx.urlaubsverwaltung.department.Department;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
+import org.synyx.urlaubsverwaltung.department.DepartmentSummary;
 import org.synyx.urlaubsverwaltung.department.web.UnknownDepartmentException;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonId;
@@ -93,7 +94,7 @@ class PersonsViewControllerTest {
     @BeforeEach
     void setUp() {
         clock = Clock.systemUTC();
-        sut = new PersonsViewController(personService, accountService, vacationDaysService, departmentService, personBasedataService, clock);
+        sut = new PersonsViewController(personService, departmentService, new PersonListService(accountService, vacationDaysService, personBasedataService), clock);
     }
 
     @Test
@@ -461,7 +462,7 @@ class PersonsViewControllerTest {
     void showPersonWithActiveFlagUsesGivenYear() throws Exception {
 
         clock = Clock.fixed(Instant.parse("2022-08-04T06:00:00Z"), ZoneId.of("UTC"));
-        sut = new PersonsViewController(personService, accountService, vacationDaysService, departmentService, personBasedataService, clock);
+        sut = new PersonsViewController(personService, departmentService, new PersonListService(accountService, vacationDaysService, personBasedataService), clock);
 
         final Person person = new Person();
         person.setId(1L);
@@ -483,7 +484,7 @@ class PersonsViewControllerTest {
     void showPersonWithActiveFlagUsesCurrentYearIfNoYearGiven() throws Exception {
 
         clock = Clock.fixed(Instant.parse("2022-08-04T06:00:00Z"), ZoneId.of("UTC"));
-        sut = new PersonsViewController(personService, accountService, vacationDaysService, departmentService, personBasedataService, clock);
+        sut = new PersonsViewController(personService, departmentService, new PersonListService(accountService, vacationDaysService, personBasedataService), clock);
 
         final Person person = new Person();
         person.setId(1L);
@@ -504,8 +505,8 @@ class PersonsViewControllerTest {
         final Person boss = personWithRole(USER, BOSS);
         when(personService.getSignedInUser()).thenReturn(boss);
 
-        final Department department = new Department();
-        when(departmentService.getAllDepartments()).thenReturn(List.of(department));
+        final DepartmentSummary department = new DepartmentSummary(1L, "Department", null, null, false, 1, 0, List.of());
+        when(departmentService.getAllDepartmentSummaries()).thenReturn(List.of(department));
 
         final PageImpl<Person> page = new PageImpl<>(List.of());
         when(personService.getActivePersons(defaultPersonSearchQuery())).thenReturn(page);
@@ -522,8 +523,8 @@ class PersonsViewControllerTest {
         final Person office = personWithRole(USER, OFFICE);
         when(personService.getSignedInUser()).thenReturn(office);
 
-        final Department department = new Department();
-        when(departmentService.getAllDepartments()).thenReturn(List.of(department));
+        final DepartmentSummary department = new DepartmentSummary(1L, "Department", null, null, false, 1, 0, List.of());
+        when(departmentService.getAllDepartmentSummaries()).thenReturn(List.of(department));
 
         final PageImpl<Person> page = new PageImpl<>(List.of());
         when(personService.getActivePersons(defaultPersonSearchQuery())).thenReturn(page);
@@ -567,7 +568,7 @@ class PersonsViewControllerTest {
                 model().attribute("departments", allOf(
                     hasSize(1),
                     contains(
-                        hasProperty("name", is("awesome-department"))
+                        new DepartmentSummary(1L, "awesome-department", null, department.getLastModification(), false, 0, 0, List.of())
                     )
                 ))
             );
@@ -631,7 +632,7 @@ class PersonsViewControllerTest {
         final PageImpl<Person> page = new PageImpl<>(List.of(wayne, wolf));
         when(personService.getActivePersons(defaultPersonSearchQuery())).thenReturn(page);
 
-        when(personBasedataService.getBasedataByPersonId(2)).thenReturn(Optional.of(new PersonBasedata(new PersonId(2L), "42", null)));
+        when(personBasedataService.getBasedataByPersonId(List.of(2L, 3L))).thenReturn(Map.of(new PersonId(2L), new PersonBasedata(new PersonId(2L), "42", null)));
 
         perform(get("/web/person"))
             .andExpect(
@@ -680,7 +681,7 @@ class PersonsViewControllerTest {
     void ensuresThatRemainingVacationDaysLeftAreOnlyDisplayedIfTheyDoNotExpire(final boolean doExpire, final BigDecimal remainingVacationDays) throws Exception {
 
         clock = Clock.fixed(Instant.parse("2022-04-02T06:00:00Z"), ZoneId.of("UTC"));
-        sut = new PersonsViewController(personService, accountService, vacationDaysService, departmentService, personBasedataService, clock);
+        sut = new PersonsViewController(personService, departmentService, new PersonListService(accountService, vacationDaysService, personBasedataService), clock);
 
         final Person signedInUser = personWithRole(USER, OFFICE);
         signedInUser.setId(1L);
@@ -734,7 +735,7 @@ class PersonsViewControllerTest {
     void ensuresThatRemainingVacationDaysLeftAreDisplayedIfBeforeExpireDate() throws Exception {
 
         clock = Clock.fixed(Instant.parse("2022-03-31T06:00:00Z"), ZoneId.of("UTC"));
-        sut = new PersonsViewController(personService, accountService, vacationDaysService, departmentService, personBasedataService, clock);
+        sut = new PersonsViewController(personService, departmentService, new PersonListService(accountService, vacationDaysService, personBasedataService), clock);
 
         final Person signedInUser = personWithRole(USER, OFFICE);
         signedInUser.setId(1L);
@@ -0,0 +1,69 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.jollyday.core.Holiday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import static de.focus_shift.jollyday.core.HolidayType.PUBLIC_HOLIDAY;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static java.time.Month.MAY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicHolidayTableTest {
+
+    private final Holiday newYear = new Holiday(LocalDate.of(2024, JANUARY, 1), "NEW_YEAR", PUBLIC_HOLIDAY);
+    private final Holiday labourDay = new Holiday(LocalDate.of(2024, MAY, 1), "LABOUR_DAY", PUBLIC_HOLIDAY);
+    private final Holiday newYearsEve = new Holiday(LocalDate.of(2024, DECEMBER, 31), "NEW_YEARS_EVE", PUBLIC_HOLIDAY);
+
+    @Test
+    void ensureIsPublicHoliday() {
+
+        final PublicHolidayTable sut = PublicHolidayTable.of(Year.of(2024), List.of(newYear, labourDay, newYearsEve));
+
+        assertThat(sut.isPublicHoliday(LocalDate.of(2024, JANUARY, 1))).isTrue();
+        assertThat(sut.isPublicHoliday(LocalDate.of(2024, MAY, 1))).isTrue();
+        assertThat(sut.isPublicHoliday(LocalDate.of(2024, DECEMBER, 31))).isTrue();
+        assertThat(sut.isPublicHoliday(LocalDate.of(2024, MAY, 2))).isFalse();
+    }
+
+    @Test
+    void ensureIsNoPublicHolidayForDateOfOtherYear() {
+
+        final PublicHolidayTable sut = PublicHolidayTable.of(Year.of(2024), List.of(newYear));
+
+        assertThat(sut.isPublicHoliday(LocalDate.of(2025, JANUARY, 1))).isFalse();
+        assertThat(sut.getHolidays(LocalDate.of(2025, JANUARY, 1))).isEmpty();
+    }
+
+    @Test
+    void ensureIgnoresHolidaysOfOtherYears() {
+
+        final Holiday otherYear = new Holiday(LocalDate.of(2023, MAY, 1), "LABOUR_DAY", PUBLIC_HOLIDAY);
+        final PublicHolidayTable sut = PublicHolidayTable.of(Year.of(2024), List.of(otherYear, labourDay));
+
+        assertThat(sut.getHolidays(LocalDate.of(2020, JANUARY, 1), LocalDate.of(2030, DECEMBER, 31))).containsExactly(labourDay);
+    }
+
+    @Test
+    void ensureGetHolidaysOfDayContainsMultipleHolidaysOnce() {
+
+        final Holiday otherHolidayOnLabourDay = new Holiday(LocalDate.of(2024, MAY, 1), "OTHER", PUBLIC_HOLIDAY);
+        final PublicHolidayTable sut = PublicHolidayTable.of(Year.of(2024), List.of(labourDay, otherHolidayOnLabourDay, labourDay));
+
+        assertThat(sut.getHolidays(LocalDate.of(2024, MAY, 1))).containsExactly(labourDay, otherHolidayOnLabourDay);
+    }
+
+    @Test
+    void ensureGetHolidaysOfDateRangeIsInclusiveAndSortedByDate() {
+
+        final PublicHolidayTable sut = PublicHolidayTable.of(Year.of(2024), List.of(newYearsEve, labourDay, newYear));
+
+        assertThat(sut.getHolidays(LocalDate.of(2024, JANUARY, 1), LocalDate.of(2024, DECEMBER, 31))).containsExactly(newYear, labourDay, newYearsEve);
+        assertThat(sut.getHolidays(LocalDate.of(2024, JANUARY, 2), LocalDate.of(2024, MAY, 1))).containsExactly(labourDay);
+        assertThat(sut.getHolidays(LocalDate.of(2024, MAY, 2), LocalDate.of(2024, MAY, 1))).isEmpty();
+    }
+}
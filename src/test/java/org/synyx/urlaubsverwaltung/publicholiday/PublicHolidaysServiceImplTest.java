@@ -223,6 +223,31 @@ class PublicHolidaysServiceImplTest {
             new PublicHoliday(LocalDate.of(2023, DECEMBER, 31), null, null));
     }
 
+    @Test
+    void ensureGetPublicHolidaysAcrossYearsIsSortedByDate() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final List<PublicHoliday> publicHolidays = sut.getPublicHolidays(of(2019, DECEMBER, 24), of(2020, JANUARY, 1), GERMANY_BADEN_WUERTTEMBERG);
+
+        assertThat(publicHolidays)
+            .extracting(PublicHoliday::date)
+            .containsExactly(of(2019, DECEMBER, 24), of(2019, DECEMBER, 25), of(2019, DECEMBER, 26), of(2019, DECEMBER, 31), of(2020, JANUARY, 1));
+    }
+
+    @Test
+    void ensureGetPublicHolidayUsesGivenWorkingTimeSettingsForRepeatedLookups() {
+
+        final Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(DayLength.ZERO);
+        assertThat(sut.getPublicHoliday(of(2019, DECEMBER, 24), GERMANY_BADEN_WUERTTEMBERG, settings.getWorkingTimeSettings()))
+            .hasValueSatisfying(publicHoliday -> assertThat(publicHoliday.dayLength()).isEqualTo(DayLength.FULL));
+
+        settings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(DayLength.FULL);
+        assertThat(sut.getPublicHoliday(of(2019, DECEMBER, 24), GERMANY_BADEN_WUERTTEMBERG, settings.getWorkingTimeSettings()))
+            .hasValueSatisfying(publicHoliday -> assertThat(publicHoliday.dayLength()).isEqualTo(DayLength.ZERO));
+    }
+
     private HolidayManager getHolidayManager() {
         return HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
     }
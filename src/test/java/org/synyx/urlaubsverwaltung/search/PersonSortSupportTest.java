@@ -0,0 +1,27 @@
+package org.synyx.urlaubsverwaltung.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+class PersonSortSupportTest {
+
+    @Test
+    void ensureSortByPersonAttribute() {
+        assertThat(PersonSortSupport.isSortByPersonAttribute(Sort.unsorted())).isTrue();
+        assertThat(PersonSortSupport.isSortByPersonAttribute(Sort.by("person.firstName", "person.lastName"))).isTrue();
+        assertThat(PersonSortSupport.isSortByPersonAttribute(Sort.by("person.firstName", "totalAllowedVacationDays"))).isFalse();
+    }
+
+    @Test
+    void ensureToPersonPageRequestKeepsPersonAttributesOnly() {
+        final PageRequest pageRequest = PageRequest.of(2, 10, Sort.by(DESC, "person.lastName").and(Sort.by(ASC, "totalAllowedVacationDays")));
+
+        assertThat(PersonSortSupport.toPersonPageRequest(pageRequest))
+            .isEqualTo(PageRequest.of(2, 10, Sort.by(DESC, "lastName")));
+    }
+}
@@ -0,0 +1,188 @@
+package org.synyx.urlaubsverwaltung.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+import org.synyx.urlaubsverwaltung.person.Role;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+@ExtendWith(MockitoExtension.class)
+class AuthoritiesEpochServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private AuthoritiesEpochService sut;
+
+    @Mock
+    private AuthoritiesEpochRepository authoritiesEpochRepository;
+    @Mock
+    private PersonService personService;
+
+    private final AuthoritiesEpochProperties authoritiesEpochProperties = new AuthoritiesEpochProperties();
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @BeforeEach
+    void setUp() {
+        sut = new AuthoritiesEpochService(authoritiesEpochRepository, authoritiesEpochProperties, personService, clock);
+    }
+
+    @Test
+    void ensureEpochIsZeroForPersonsNeverUpdated() {
+        when(authoritiesEpochRepository.findByUsername("marlene")).thenReturn(Optional.empty());
+
+        assertThat(sut.getEpoch("marlene")).isZero();
+    }
+
+    @Test
+    void ensureEpochIsZeroWithoutUsername() {
+        assertThat(sut.getEpoch(null)).isZero();
+        verify(authoritiesEpochRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void ensureEpochIsReadAgainAfterRefreshInterval() {
+        when(authoritiesEpochRepository.findByUsername("marlene"))
+            .thenReturn(Optional.of(authoritiesEpoch("marlene", 2L, "USER")), Optional.of(authoritiesEpoch("marlene", 3L, "OFFICE,USER")));
+
+        assertThat(sut.getEpoch("marlene")).isEqualTo(2L);
+
+        clock.advance(authoritiesEpochProperties.getRefreshInterval().minusSeconds(1));
+        assertThat(sut.getEpoch("marlene")).isEqualTo(2L);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(sut.getEpoch("marlene")).isEqualTo(3L);
+
+        verify(authoritiesEpochRepository, times(2)).findByUsername("marlene");
+    }
+
+    @Test
+    void ensureEpochIsReadOnEveryAccessWithoutRefreshInterval() {
+        authoritiesEpochProperties.setRefreshInterval(Duration.ZERO);
+        when(authoritiesEpochRepository.findByUsername("marlene"))
+            .thenReturn(Optional.of(authoritiesEpoch("marlene", 2L, "USER")), Optional.of(authoritiesEpoch("marlene", 3L, "OFFICE,USER")));
+
+        assertThat(sut.getEpoch("marlene")).isEqualTo(2L);
+        assertThat(sut.getEpoch("marlene")).isEqualTo(3L);
+    }
+
+    @Test
+    void ensureIncreasesEpochOfNewPerson() {
+        when(personService.getPersonByID(1L)).thenReturn(Optional.of(person(USER, OFFICE)));
+        when(authoritiesEpochRepository.findByUsername("marlene")).thenReturn(Optional.empty());
+        when(authoritiesEpochRepository.save(any(AuthoritiesEpochEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        sut.increaseEpochIfPermissionsChanged(personUpdatedEvent("marlene"));
+
+        final ArgumentCaptor<AuthoritiesEpochEntity> captor = ArgumentCaptor.forClass(AuthoritiesEpochEntity.class);
+        verify(authoritiesEpochRepository).save(captor.capture());
+        assertThat(captor.getValue().getUsername()).isEqualTo("marlene");
+        assertThat(captor.getValue().getEpoch()).isEqualTo(1L);
+        assertThat(captor.getValue().getPermissions()).isEqualTo("OFFICE,USER");
+    }
+
+    @Test
+    void ensureIncreasesEpochIfPermissionsChanged() {
+        when(personService.getPersonByID(1L)).thenReturn(Optional.of(person(USER, OFFICE)));
+        final AuthoritiesEpochEntity authoritiesEpoch = authoritiesEpoch("marlene", 4L, "USER");
+        when(authoritiesEpochRepository.findByUsername("marlene")).thenReturn(Optional.of(authoritiesEpoch));
+        when(authoritiesEpochRepository.save(authoritiesEpoch)).thenReturn(authoritiesEpoch);
+
+        sut.increaseEpochIfPermissionsChanged(personUpdatedEvent("marlene"));
+
+        assertThat(authoritiesEpoch.getEpoch()).isEqualTo(5L);
+        assertThat(authoritiesEpoch.getPermissions()).isEqualTo("OFFICE,USER");
+    }
+
+    @Test
+    void ensureKeepsEpochIfPermissionsAreUnchanged() {
+        when(personService.getPersonByID(1L)).thenReturn(Optional.of(person(OFFICE, USER)));
+        final AuthoritiesEpochEntity authoritiesEpoch = authoritiesEpoch("marlene", 4L, "OFFICE,USER");
+        when(authoritiesEpochRepository.findByUsername("marlene")).thenReturn(Optional.of(authoritiesEpoch));
+
+        sut.increaseEpochIfPermissionsChanged(personUpdatedEvent("marlene"));
+
+        assertThat(authoritiesEpoch.getEpoch()).isEqualTo(4L);
+        verify(authoritiesEpochRepository, never()).save(any());
+    }
+
+    @Test
+    void ensureCommittedEpochIsReadAgainAfterUpdate() {
+        when(authoritiesEpochRepository.findByUsername("marlene"))
+            .thenReturn(Optional.of(authoritiesEpoch("marlene", 2L, "USER")), Optional.of(authoritiesEpoch("marlene", 3L, "OFFICE,USER")));
+
+        assertThat(sut.getEpoch("marlene")).isEqualTo(2L);
+
+        sut.forgetEpoch(personUpdatedEvent("marlene"));
+
+        assertThat(sut.getEpoch("marlene")).isEqualTo(3L);
+    }
+
+    private static AuthoritiesEpochEntity authoritiesEpoch(String username, long epoch, String permissions) {
+        final AuthoritiesEpochEntity entity = new AuthoritiesEpochEntity();
+        entity.setUsername(username);
+        entity.setEpoch(epoch);
+        entity.setPermissions(permissions);
+        return entity;
+    }
+
+    private static Person person(Role... permissions) {
+        final Person person = new Person("marlene", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        person.setPermissions(List.of(permissions));
+        return person;
+    }
+
+    private static PersonUpdatedEvent personUpdatedEvent(String username) {
+        return new PersonUpdatedEvent(new Object(), 1L, "Marlene Muster", username, "muster@example.org", true);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.security;
 
 import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.security.web.context.DelegatingSecurityContextRepository;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -23,6 +25,7 @@ import java.io.IOException;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,7 +40,7 @@ class ReloadAuthenticationAuthoritiesFilterTest {
     @Mock
     private PersonService personService;
     @Mock
-    private SessionService sessionService;
+    private AuthoritiesEpochService authoritiesEpochService;
     @Mock
     private DelegatingSecurityContextRepository securityContextRepository;
     @Mock
@@ -45,7 +48,12 @@ class ReloadAuthenticationAuthoritiesFilterTest {
 
     @BeforeEach
     void setUp() {
-        sut = new ReloadAuthenticationAuthoritiesFilter(personService, sessionService, securityContextRepository, tenantContextHolder);
+        sut = new ReloadAuthenticationAuthoritiesFilter(personService, authoritiesEpochService, securityContextRepository, tenantContextHolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -55,14 +63,17 @@ class ReloadAuthenticationAuthoritiesFilterTest {
         final MockHttpServletResponse response = new MockHttpServletResponse();
         final MockFilterChain filterChain = new MockFilterChain();
 
-        request.getSession().setAttribute("reloadAuthorities", true);
-
         final Person signedInUser = new Person("marlene", "Muster", "Marlene", "muster@example.org");
         signedInUser.setPermissions(List.of(USER, OFFICE));
         when(personService.getSignedInUser()).thenReturn(signedInUser);
 
+        final WebAuthenticationDetails webAuthenticationDetails = new WebAuthenticationDetails("127.0.0.1", "session-id");
+        final OAuth2AuthenticationToken authentication = prepareOAuth2Authentication();
+        when(authentication.getDetails()).thenReturn(webAuthenticationDetails);
+
         final SecurityContext context = SecurityContextHolder.getContext();
-        context.setAuthentication(prepareOAuth2Authentication());
+        context.setAuthentication(authentication);
+        when(authoritiesEpochService.getEpoch("marlene")).thenReturn(3L);
 
         sut.doFilterInternal(request, response, filterChain);
 
@@ -70,36 +81,93 @@ class ReloadAuthenticationAuthoritiesFilterTest {
             .map(GrantedAuthority::getAuthority)
             .toList();
         assertThat(updatedAuthorities).containsExactly("USER", "OFFICE");
+        assertThat(context.getAuthentication().getDetails()).isEqualTo(new AuthoritiesEpoch(3L, webAuthenticationDetails));
 
-        verify(sessionService).unmarkSessionToReloadAuthorities(request.getSession().getId());
         verify(securityContextRepository).saveContext(context, request, response);
     }
 
     @Test
-    void ensuresFilterSetsAuthenticationWithNewAuthoritiesButSessionIsNullDoNothing() {
+    void ensuresFilterKeepsOriginalDetailsOnRepeatedReload() throws ServletException, IOException {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        final Person signedInUser = new Person("marlene", "Muster", "Marlene", "muster@example.org");
+        signedInUser.setPermissions(List.of(USER));
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+
+        final WebAuthenticationDetails webAuthenticationDetails = new WebAuthenticationDetails("127.0.0.1", "session-id");
+        final OAuth2AuthenticationToken authentication = prepareOAuth2Authentication();
+        when(authentication.getDetails()).thenReturn(new AuthoritiesEpoch(2L, webAuthenticationDetails));
+
+        final SecurityContext context = SecurityContextHolder.getContext();
+        context.setAuthentication(authentication);
+        when(authoritiesEpochService.getEpoch("marlene")).thenReturn(3L);
+
+        sut.doFilterInternal(request, response, filterChain);
+
+        assertThat(context.getAuthentication().getDetails()).isEqualTo(new AuthoritiesEpoch(3L, webAuthenticationDetails));
+    }
+
+    @Test
+    void ensuresFilterIsSkippedWithoutOAuth2Authentication() {
 
-        final MockHttpServletRequest request = mock(MockHttpServletRequest.class);
-        when(request.getSession()).thenReturn(null);
+        final MockHttpServletRequest request = new MockHttpServletRequest();
 
         final boolean shouldNotFilter = sut.shouldNotFilter(request);
         assertThat(shouldNotFilter).isTrue();
+        assertThat(request.getSession(false)).isNull();
     }
 
     @Test
-    void ensuresFilterSetsNoNewAuthenticationIfReloadIsNotDefined() {
+    void ensuresFilterIsSkippedIfAuthoritiesAreUpToDate() {
 
         final MockHttpServletRequest request = new MockHttpServletRequest();
 
+        final OAuth2AuthenticationToken authentication = prepareOAuth2Authentication();
+        when(authentication.getDetails()).thenReturn(new AuthoritiesEpoch(3L, null));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        when(authoritiesEpochService.getEpoch("marlene")).thenReturn(3L);
+
         final boolean shouldNotFilter = sut.shouldNotFilter(request);
         assertThat(shouldNotFilter).isTrue();
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    void ensuresFilterIsAppliedIfAuthoritiesAreOutdated() {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+
+        final OAuth2AuthenticationToken authentication = prepareOAuth2Authentication();
+        when(authentication.getDetails()).thenReturn(new AuthoritiesEpoch(2L, null));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        when(authoritiesEpochService.getEpoch("marlene")).thenReturn(3L);
+
+        final boolean shouldNotFilter = sut.shouldNotFilter(request);
+        assertThat(shouldNotFilter).isFalse();
+    }
+
+    @Test
+    void ensuresFilterIsAppliedIfAuthenticationHasNoEpochAndPersonHasBeenUpdated() {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+
+        SecurityContextHolder.getContext().setAuthentication(prepareOAuth2Authentication());
+        when(authoritiesEpochService.getEpoch("marlene")).thenReturn(1L);
+
+        final boolean shouldNotFilter = sut.shouldNotFilter(request);
+        assertThat(shouldNotFilter).isFalse();
     }
 
     @Test
-    void ensuresFilterSetsNoNewAuthenticationIfReloadIsFalse() {
+    void ensuresFilterIsSkippedIfAuthenticationHasNoEpochAndPersonHasNeverBeenUpdated() {
 
         final MockHttpServletRequest request = new MockHttpServletRequest();
 
-        request.getSession().setAttribute("reloadAuthorities", false);
+        SecurityContextHolder.getContext().setAuthentication(prepareOAuth2Authentication());
+        when(authoritiesEpochService.getEpoch("marlene")).thenReturn(0L);
 
         final boolean shouldNotFilter = sut.shouldNotFilter(request);
         assertThat(shouldNotFilter).isTrue();
@@ -108,8 +176,9 @@ class ReloadAuthenticationAuthoritiesFilterTest {
     private OAuth2AuthenticationToken prepareOAuth2Authentication() {
         final OAuth2AuthenticationToken authentication = mock(OAuth2AuthenticationToken.class);
         final OidcUser oidcUser = mock(OidcUser.class);
-        when(authentication.getPrincipal()).thenReturn(oidcUser);
-        when(authentication.getAuthorizedClientRegistrationId()).thenReturn("authorizedClientRegistrationId");
+        lenient().when(authentication.getPrincipal()).thenReturn(oidcUser);
+        lenient().when(authentication.getName()).thenReturn("marlene");
+        lenient().when(authentication.getAuthorizedClientRegistrationId()).thenReturn("authorizedClientRegistrationId");
         return authentication;
     }
 }
@@ -3,14 +3,26 @@ package org.synyx.urlaubsverwaltung.settings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantContextHolder;
+import org.synyx.urlaubsverwaltung.tenancy.tenant.TenantId;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
 
 @ExtendWith(MockitoExtension.class)
 class SettingsServiceImplTest {
@@ -19,23 +31,165 @@ class SettingsServiceImplTest {
 
     @Mock
     private SettingsRepository settingsRepository;
+    @Mock
+    private TenantContextHolder tenantContextHolder;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final SettingsProperties settingsProperties = new SettingsProperties();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
 
     @BeforeEach
     void setUp() {
-        sut = new SettingsServiceImpl(settingsRepository);
+        sut = new SettingsServiceImpl(settingsRepository, tenantContextHolder, applicationEventPublisher, settingsProperties, clock);
     }
 
     @Test
     void ensureGetSettingsReturnsFromDB() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
         final Settings settings = new Settings();
+        settings.setId(1L);
         when(settingsRepository.findAll()).thenReturn(List.of(settings));
 
         final Settings actualSettings = sut.getSettings();
         assertThat(actualSettings).isEqualTo(settings);
     }
 
+    @Test
+    void ensureGetSettingsReturnsFromDBWithoutTenant() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.empty());
+
+        final Settings settings = new Settings();
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        assertThat(sut.getSettings()).isSameAs(settings);
+        assertThat(sut.getSettings()).isSameAs(settings);
+        verify(settingsRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureGetSettingsLoadsSettingsOnlyOncePerTenant() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        sut.getSettings();
+        sut.getSettings();
+        verify(settingsRepository).findAll();
+    }
+
+    @Test
+    void ensureGetSettingsReloadsSnapshotAfterTimeToLive() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        sut.getSettings();
+        clock.advance(Duration.ofSeconds(59));
+        sut.getSettings();
+        verify(settingsRepository).findAll();
+
+        clock.advance(Duration.ofSeconds(1));
+        sut.getSettings();
+        verify(settingsRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureGetSettingsReloadsSnapshotAfterConfiguredTimeToLive() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+        settingsProperties.setSnapshotTimeToLive(Duration.ofSeconds(10));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        sut.getSettings();
+        clock.advance(Duration.ofSeconds(9));
+        sut.getSettings();
+        verify(settingsRepository).findAll();
+
+        clock.advance(Duration.ofSeconds(1));
+        sut.getSettings();
+        verify(settingsRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureGetSettingsReturnsCompleteCopy() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        settings.setTenantId("default");
+        settings.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+        settings.getOvertimeSettings().setOvertimeActive(true);
+        settings.getTimeSettings().setTimeZoneId("Europe/Paris");
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isNotSameAs(settings);
+        assertThat(actualSettings).usingRecursiveComparison().isEqualTo(settings);
+    }
+
+    @Test
+    void ensureGetSettingsReturnsCopiesThatDoNotChangeTheSnapshot() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        settings.setTenantId("default");
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        final Settings modified = sut.getSettings();
+        modified.getWorkingTimeSettings().setFederalState(GERMANY_BERLIN);
+
+        final Settings actualSettings = sut.getSettings();
+        assertThat(actualSettings).isNotSameAs(modified);
+        assertThat(actualSettings.getId()).isEqualTo(1L);
+        assertThat(actualSettings.getTenantId()).isEqualTo("default");
+        assertThat(actualSettings.getWorkingTimeSettings().getFederalState()).isEqualTo(settings.getWorkingTimeSettings().getFederalState());
+    }
+
+    @Test
+    void ensureSaveDropsSnapshotAndPublishesEvent() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+        when(settingsRepository.save(settings)).thenReturn(settings);
+
+        sut.getSettings();
+        sut.save(settings);
+        sut.getSettings();
+        verify(settingsRepository, times(2)).findAll();
+
+        final ArgumentCaptor<SettingsUpdatedEvent> captor = ArgumentCaptor.forClass(SettingsUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().tenantId()).isEqualTo(new TenantId("default"));
+    }
+
+    @Test
+    void ensureSettingsUpdatedEventDropsSnapshot() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
+
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.findAll()).thenReturn(List.of(settings));
+
+        sut.getSettings();
+        sut.onSettingsUpdated(SettingsUpdatedEvent.of(new TenantId("default")));
+        sut.getSettings();
+        verify(settingsRepository, times(2)).findAll();
+    }
+
     @Test
     void ensureGetSettingsRequiresInitializationFirst() {
+        when(tenantContextHolder.getCurrentTenantId()).thenReturn(Optional.of(new TenantId("default")));
 
         when(settingsRepository.findAll()).thenReturn(List.of());
 
@@ -44,4 +198,32 @@ class SettingsServiceImplTest {
             .hasMessage("No settings found in database!");
 
     }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
@@ -10,9 +10,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.synyx.urlaubsverwaltung.csv.StreamingCSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
@@ -26,9 +29,14 @@ import java.util.Locale;
 import java.util.Optional;
 
 import static java.util.Locale.JAPANESE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
@@ -147,20 +155,21 @@ class SickDaysStatisticsViewControllerTest {
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
         final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+            new PageableSearchQuery(PageRequest.of(0, 25, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.generateStreamingCSV(eq(filterPeriod), eq(locale), any()))
+            .thenReturn(new StreamingCSVFile("filename.csv", outputStream -> outputStream.write("csv-resource".getBytes())));
 
-        perform(get("/web/sickdays/statistics/download")
+        performAsync(get("/web/sickdays/statistics/download")
             .locale(locale)
             .param("from", fromString)
             .param("to", endString)
             .param("allElements", "true")
         )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(content().string("csv-resource"));
     }
 
     @Test
@@ -182,14 +191,14 @@ class SickDaysStatisticsViewControllerTest {
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
         final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+            new PageableSearchQuery(PageRequest.of(0, 25, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.generateStreamingCSV(eq(filterPeriod), eq(locale), any()))
+            .thenReturn(new StreamingCSVFile("filename.csv", outputStream -> outputStream.write("csv-resource".getBytes())));
 
-        perform(get("/web/sickdays/statistics/download")
+        performAsync(get("/web/sickdays/statistics/download")
             .locale(locale)
             .param("from", fromString)
             .param("to", endString)
@@ -198,7 +207,17 @@ class SickDaysStatisticsViewControllerTest {
             .param("size", "50")
             .param("query", "hans")
         )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(content().string("csv-resource"));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        final MockMvc mockMvc = standaloneSetup(sut)
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
     }
 
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
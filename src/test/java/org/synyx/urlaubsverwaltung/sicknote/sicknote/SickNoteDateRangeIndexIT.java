@@ -0,0 +1,79 @@
+package org.synyx.urlaubsverwaltung.sicknote.sicknote;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.SingleTenantTestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteRepository.FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+
+/**
+ * Ensures that the overlap query of sick notes is served by the GiST index on the generated {@code date_range}
+ * column, given a history of several years, and finds the same sick notes as the former predicate on the start and
+ * end date.
+ */
+@SpringBootTest
+@Transactional
+class SickNoteDateRangeIndexIT extends SingleTenantTestContainersBase {
+
+    private static final int ROWS = 20_000;
+    private static final int DAYS_OF_HISTORY = 15 * 365;
+    private static final LocalDate START = LocalDate.of(2020, 3, 2);
+    private static final LocalDate END = LocalDate.of(2020, 3, 8);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private SickNoteRepository sut;
+
+    @Test
+    void ensureFindOverlappingOfPersonsUsesDateRangeIndex() {
+
+        final Person person = personService.create("muster", "Marlene", "Muster", "muster@example.org");
+        entityManager.flush();
+
+        jdbcTemplate.update("""
+            INSERT INTO sick_note (id, tenant_id, person_id, start_date, end_date, status)
+            SELECT 1000000 + n, 'default', :personId, DATE '2010-01-01' + n % :days, DATE '2010-01-01' + n % :days + n % 5,
+                   (ARRAY ['ACTIVE', 'CONVERTED_TO_VACATION', 'CANCELLED'])[n % 3 + 1]
+            FROM generate_series(0, :rows) AS n
+            """, Map.of("personId", person.getId(), "days", DAYS_OF_HISTORY, "rows", ROWS - 1));
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE sick_note");
+
+        final Map<String, Object> parameters = Map.of("statuses", List.of("ACTIVE"), "personIds", List.of(person.getId()), "startDate", START, "endDate", END);
+
+        final String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + FIND_OVERLAPPING_BY_STATUS_NAMES_AND_PERSON_IDS, parameters, String.class));
+        assertThat(plan).contains("sick_note_date_range");
+
+        final List<Long> idsBetween = jdbcTemplate.queryForList("""
+            SELECT id
+            FROM sick_note
+            WHERE end_date >= :startDate AND start_date <= :endDate
+            AND status IN (:statuses) AND person_id IN (:personIds)
+            """, parameters, Long.class);
+
+        assertThat(sut.findOverlappingOfPersons(List.of(ACTIVE), List.of(person), START, END))
+            .extracting(SickNoteEntity::getId)
+            .isNotEmpty()
+            .containsExactlyInAnyOrderElementsOf(idsBetween);
+    }
+}
@@ -239,11 +239,35 @@ class SickNoteRepositoryIT extends SingleTenantTestContainersBase {
         List<SickNoteStatus> statuses = List.of(ACTIVE);
         List<Person> persons = List.of(max, marlene);
 
-        final List<SickNoteEntity> actualSickNotes = sickNoteRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(statuses, persons, askedStartDate, askedEndDate);
+        final List<SickNoteEntity> actualSickNotes = sickNoteRepository.findOverlappingOfPersons(statuses, persons, askedStartDate, askedEndDate);
 
         assertThat(actualSickNotes).contains(noteStartingBeforePeriod, noteEndingAfterPeriod, noteInBetween, noteStartingAtPeriod, noteEndingAtPeriod);
     }
 
+    @Test
+    void findLastModificationsOfSickNotesOverlappingWithDateRange() {
+
+        final Person max = personService.create("muster", "Max", "Mustermann", "mustermann@example.org");
+        final Person marlene = personService.create("person2", "Marlene", "Musterfrau", "musterfrau@example.org");
+
+        final LocalDate askedStartDate = LocalDate.now(UTC).with(firstDayOfMonth());
+        final LocalDate askedEndDate = LocalDate.now(UTC).with(lastDayOfMonth());
+
+        final SickNoteEntity noteNotInPeriod = sickNoteRepository.save(createSickNote(max, askedStartDate.minusDays(10), askedStartDate.minusDays(5), ACTIVE));
+        final SickNoteEntity noteOfOtherPerson = sickNoteRepository.save(createSickNote(marlene, askedStartDate, askedStartDate.plusDays(2), ACTIVE));
+
+        final SickNoteEntity noteStartingBeforePeriod = sickNoteRepository.save(createSickNote(max, askedStartDate.minusDays(5), askedStartDate.plusDays(1), CANCELLED));
+        final SickNoteEntity noteEndingAfterPeriod = sickNoteRepository.save(createSickNote(max, askedEndDate.minusDays(1), askedEndDate.plusDays(1), ACTIVE));
+
+        final List<SickNoteLastModification> actual = sickNoteRepository.findLastModificationsOfPersons(List.of(max), askedStartDate, askedEndDate);
+
+        assertThat(actual)
+            .extracting(SickNoteLastModification::sickNoteId)
+            .containsExactlyInAnyOrder(noteStartingBeforePeriod.getId(), noteEndingAfterPeriod.getId())
+            .doesNotContain(noteNotInPeriod.getId(), noteOfOtherPerson.getId());
+        assertThat(actual).extracting(SickNoteLastModification::lastModification).doesNotContainNull();
+    }
+
     private SickNoteEntity createSickNote(Person person, LocalDate startDate, LocalDate endDate, SickNoteStatus active) {
         final SickNoteEntity sickNoteEntity = new SickNoteEntity();
         sickNoteEntity.setPerson(person);
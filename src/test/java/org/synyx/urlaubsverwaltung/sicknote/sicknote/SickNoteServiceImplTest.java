@@ -28,6 +28,7 @@ import java.util.function.Function;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -448,6 +449,20 @@ class SickNoteServiceImplTest {
         assertThat(entityToSave.getEndOfSickPayNotificationSend()).isEqualTo(LocalDate.now(fixedClock));
     }
 
+    @Test
+    void getLastModifications() {
+        final Person person = new Person();
+        final LocalDate start = LocalDate.of(2024, 1, 1);
+        final LocalDate end = LocalDate.of(2024, 1, 31);
+
+        final Instant lastModification = Instant.parse("2024-01-10T10:00:00Z");
+        when(sickNoteRepository.findLastModificationsOfPersons(List.of(person), start, end))
+            .thenReturn(List.of(new SickNoteLastModification(1L, lastModification)));
+
+        final Map<Long, Instant> actual = sut.getLastModifications(List.of(person), start, end);
+        assertThat(actual).containsExactly(entry(1L, lastModification));
+    }
+
     @Test
     void deleteAll() {
         final Person person = new Person();
@@ -9,19 +9,25 @@ import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Year;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static java.math.BigDecimal.ONE;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -69,7 +75,7 @@ class SickNoteStatisticsServiceTest {
             .endDate(LocalDate.of(2022, 10, 10))
             .build());
         when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), members, firstDayOfYear, lastDayOfYear)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyCollection())).thenAnswer(invocation -> oneWorkDayPerPeriod(invocation.getArgument(0)));
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(departmentHead, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -111,7 +117,7 @@ class SickNoteStatisticsServiceTest {
             .build();
         final List<SickNote> sickNotes = List.of(sickNote);
         when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), members, firstDayOfYear, lastDayOfYear)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyCollection())).thenAnswer(invocation -> oneWorkDayPerPeriod(invocation.getArgument(0)));
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(ssa, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -150,7 +156,7 @@ class SickNoteStatisticsServiceTest {
             .build();
         final List<SickNote> sickNotes = List.of(sickNote);
         when(sickNoteService.getAllActiveByPeriod(from, to)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyCollection())).thenAnswer(invocation -> oneWorkDayPerPeriod(invocation.getArgument(0)));
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(personWithRole, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -189,7 +195,7 @@ class SickNoteStatisticsServiceTest {
             .build();
         final List<SickNote> sickNotes = List.of(sickNote);
         when(sickNoteService.getAllActiveByPeriod(from, to)).thenReturn(sickNotes);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), any())).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCount(anyCollection())).thenAnswer(invocation -> oneWorkDayPerPeriod(invocation.getArgument(0)));
 
         final SickNoteStatistics sickNoteStatistics = sut.createStatisticsForPerson(personWithRole, fixedClock);
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isOne();
@@ -208,4 +214,8 @@ class SickNoteStatisticsServiceTest {
         assertThat(sickNoteStatistics.getTotalNumberOfSickNotes()).isZero();
         assertThat(sickNoteStatistics.getNumberOfPersonsWithMinimumOneSickNote()).isZero();
     }
+
+    private static Map<WorkDaysCountPeriod, BigDecimal> oneWorkDayPerPeriod(Collection<WorkDaysCountPeriod> periods) {
+        return periods.stream().distinct().collect(toMap(identity(), period -> ONE));
+    }
 }
@@ -1,9 +1,11 @@
 package org.synyx.urlaubsverwaltung.web.thymeleaf;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.synyx.urlaubsverwaltung.web.AssetManifestProperties;
 import org.synyx.urlaubsverwaltung.web.AssetManifestService;
 
 import java.io.IOException;
@@ -12,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AssetManifestServiceTest {
@@ -23,7 +27,7 @@ class AssetManifestServiceTest {
         final ClassPathResource manifest = new ClassPathResource("asset-manifest-service-manifest-file.json");
         when(resourceLoader.getResource("classpath:assets-manifest.json")).thenReturn(manifest);
 
-        final AssetManifestService sut = new AssetManifestService(resourceLoader);
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, new AssetManifestProperties(), new SimpleMeterRegistry());
 
         String jsAsset = sut.getHashedAssetFilename("file-one.js", "");
         assertThat(jsAsset).isEqualTo("/public-path/file-one.contenthash.min.js");
@@ -39,7 +43,7 @@ class AssetManifestServiceTest {
         final ClassPathResource manifest = new ClassPathResource("asset-manifest-service-manifest-file-empty.json");
         when(resourceLoader.getResource("classpath:assets-manifest.json")).thenReturn(manifest);
 
-        final AssetManifestService sut = new AssetManifestService(resourceLoader);
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, new AssetManifestProperties(), new SimpleMeterRegistry());
 
         assertThatIllegalStateException()
             .isThrownBy(() -> sut.getHashedAssetFilename("non-existent-filename", ""))
@@ -54,7 +58,7 @@ class AssetManifestServiceTest {
 
         when(resourceLoader.getResource("classpath:assets-manifest.json")).thenReturn(manifest);
 
-        final AssetManifestService sut = new AssetManifestService(resourceLoader);
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, new AssetManifestProperties(), new SimpleMeterRegistry());
 
         assertThatIllegalStateException()
             .isThrownBy(() -> sut.getHashedAssetFilename("filename", ""))
@@ -70,10 +74,73 @@ class AssetManifestServiceTest {
         final ResourceLoader resourceLoader = mock(ResourceLoader.class);
         when(resourceLoader.getResource(anyString())).thenReturn(missingManifest);
 
-        final AssetManifestService sut = new AssetManifestService(resourceLoader);
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, new AssetManifestProperties(), new SimpleMeterRegistry());
 
         assertThatIllegalStateException()
             .isThrownBy(() -> sut.getHashedAssetFilename("filename", ""))
             .withMessage("could not read classpath:assets-manifest.json. please ensure 'npm run build' has been executed.");
     }
+
+    @Test
+    void getHashedAssetFilenameWithContextPath() {
+
+        final ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        final ClassPathResource manifest = new ClassPathResource("asset-manifest-service-manifest-file.json");
+        when(resourceLoader.getResource("classpath:assets-manifest.json")).thenReturn(manifest);
+
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, new AssetManifestProperties(), new SimpleMeterRegistry());
+
+        assertThat(sut.getHashedAssetFilename("file-one.js", "/context")).isEqualTo("/context/public-path/file-one.contenthash.min.js");
+        assertThat(sut.getHashedAssetFilename("file-one.js", "/")).isEqualTo("/public-path/file-one.contenthash.min.js");
+    }
+
+    @Test
+    void ensureManifestIsReadOnlyOnce() {
+
+        final ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        final ClassPathResource manifest = new ClassPathResource("asset-manifest-service-manifest-file.json");
+        when(resourceLoader.getResource("classpath:assets-manifest.json")).thenReturn(manifest);
+
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, new AssetManifestProperties(), new SimpleMeterRegistry());
+
+        sut.getHashedAssetFilename("file-one.js", "");
+        sut.getHashedAssetFilename("file-one.css", "/context");
+        sut.getAssets("");
+
+        verify(resourceLoader).getResource("classpath:assets-manifest.json");
+    }
+
+    @Test
+    void ensureManifestIsReadOnEveryAccessWithReloadEnabled() {
+
+        final ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        final ClassPathResource manifest = new ClassPathResource("asset-manifest-service-manifest-file.json");
+        when(resourceLoader.getResource("classpath:assets-manifest.json")).thenReturn(manifest);
+
+        final AssetManifestProperties assetManifestProperties = new AssetManifestProperties();
+        assetManifestProperties.setReload(true);
+
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, assetManifestProperties, new SimpleMeterRegistry());
+
+        sut.getHashedAssetFilename("file-one.js", "");
+        sut.getHashedAssetFilename("file-one.js", "");
+
+        verify(resourceLoader, times(2)).getResource("classpath:assets-manifest.json");
+    }
+
+    @Test
+    void ensureLookupsAreTimed() {
+
+        final ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        final ClassPathResource manifest = new ClassPathResource("asset-manifest-service-manifest-file.json");
+        when(resourceLoader.getResource("classpath:assets-manifest.json")).thenReturn(manifest);
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final AssetManifestService sut = new AssetManifestService(resourceLoader, new AssetManifestProperties(), meterRegistry);
+
+        sut.getHashedAssetFilename("file-one.js", "");
+        sut.getAssets("");
+
+        assertThat(meterRegistry.get("assets.manifest.lookup").timer().count()).isEqualTo(2);
+    }
 }
@@ -31,8 +31,11 @@ import static java.time.Month.DECEMBER;
 import static java.time.Month.JANUARY;
 import static java.time.Month.NOVEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
@@ -52,7 +55,7 @@ class WorkDaysCountServiceTest {
     @BeforeEach
     void setUp() {
         final var publicHolidaysService = new PublicHolidaysServiceImpl(settingsService, Map.of("de", getHolidayManager()));
-        sut = new WorkDaysCountService(publicHolidaysService, workingTimeService);
+        sut = new WorkDaysCountService(publicHolidaysService, workingTimeService, settingsService);
     }
 
     @Test
@@ -75,6 +78,8 @@ class WorkDaysCountServiceTest {
         // netto days: 10 (considering public holidays and weekends)
         final BigDecimal workDaysCount = sut.getWorkDaysCount(FULL, startDate, endDate, person);
         assertThat(workDaysCount).isEqualByComparingTo(TEN);
+
+        verify(settingsService).getSettings();
     }
 
     @Test
@@ -415,6 +420,75 @@ class WorkDaysCountServiceTest {
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(2.5));
     }
 
+    @Test
+    void ensureGetWorkDaysCountForPeriodsLoadsWorkingTimesOnceForAllPersons() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final Person otherPerson = new Person("other", "Other", "Olaf", "other@example.org");
+        otherPerson.setId(2L);
+
+        final WorkingTime workingTime = createWorkingTime(person, LocalDate.of(2009, 1, 1), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        final WorkingTime otherWorkingTime = createWorkingTime(otherPerson, LocalDate.of(2009, 1, 1), MONDAY, TUESDAY, WEDNESDAY);
+        when(workingTimeService.getByPersons(List.of(person, otherPerson))).thenReturn(List.of(workingTime, otherWorkingTime));
+
+        final WorkDaysCountPeriod christmas = new WorkDaysCountPeriod(person, FULL, new DateRange(LocalDate.of(2010, 12, 17), LocalDate.of(2010, 12, 31)));
+        final WorkDaysCountPeriod morning = new WorkDaysCountPeriod(person, MORNING, new DateRange(LocalDate.of(2011, 1, 4), LocalDate.of(2011, 1, 4)));
+        final WorkDaysCountPeriod otherPeriod = new WorkDaysCountPeriod(otherPerson, FULL, new DateRange(LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 16)));
+
+        final Map<WorkDaysCountPeriod, BigDecimal> workDaysCount = sut.getWorkDaysCount(List.of(christmas, morning, otherPeriod, christmas));
+        assertThat(workDaysCount).hasSize(3);
+        assertThat(workDaysCount.get(christmas)).isEqualByComparingTo(TEN);
+        assertThat(workDaysCount.get(morning)).isEqualByComparingTo(BigDecimal.valueOf(0.5));
+        assertThat(workDaysCount.get(otherPeriod)).isEqualByComparingTo(BigDecimal.valueOf(3));
+
+        verify(settingsService).getSettings();
+    }
+
+    @Test
+    void ensureGetWorkDaysCountForPeriodsUsesWorkingTimeValidAtEachDay() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final LocalDate startDate = LocalDate.of(2022, 1, 10);
+        final LocalDate midDate = LocalDate.of(2022, 1, 17);
+        final LocalDate endDate = LocalDate.of(2022, 1, 23);
+
+        final WorkingTime workingTimeFullWeek = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        final WorkingTime workingTimeHalfWeek = createWorkingTime(person, midDate, MONDAY, TUESDAY, WEDNESDAY);
+        when(workingTimeService.getByPersons(List.of(person))).thenReturn(List.of(workingTimeHalfWeek, workingTimeFullWeek));
+
+        final WorkDaysCountPeriod period = new WorkDaysCountPeriod(person, FULL, new DateRange(startDate, endDate));
+        assertThat(sut.getWorkDaysCount(List.of(period))).containsEntry(period, new BigDecimal("8.0"));
+    }
+
+    @Test
+    void ensureGetWorkDaysCountForPeriodsThrowsIfNoWorkingTimeIsValid() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+
+        final WorkingTime workingTime = createWorkingTime(person, LocalDate.of(2022, 1, 17), MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getByPersons(List.of(person))).thenReturn(List.of(workingTime));
+
+        final WorkDaysCountPeriod period = new WorkDaysCountPeriod(person, FULL, new DateRange(LocalDate.of(2022, 1, 10), LocalDate.of(2022, 1, 23)));
+        final List<WorkDaysCountPeriod> periods = List.of(period);
+        assertThatThrownBy(() -> sut.getWorkDaysCount(periods))
+            .isInstanceOf(WorkDaysCountException.class);
+    }
+
+    @Test
+    void ensureGetWorkDaysCountForNoPeriods() {
+        assertThat(sut.getWorkDaysCount(List.of())).isEmpty();
+        verifyNoInteractions(workingTimeService);
+    }
+
 
     private HolidayManager getHolidayManager() {
         return HolidayManager.getInstance(ManagerParameters.create(HolidayCalendar.GERMANY));
@@ -1,10 +1,13 @@
 package org.synyx.urlaubsverwaltung.workingtime;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.ParallelComputation;
+import org.synyx.urlaubsverwaltung.ParallelComputationProperties;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -55,7 +58,8 @@ class WorkingTimeCalendarServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new WorkingTimeCalendarServiceImpl(workingTimeRepository, publicHolidaysService, settingsService);
+        final ParallelComputation parallelComputation = new ParallelComputation(new ParallelComputationProperties(), new SimpleMeterRegistry());
+        sut = new WorkingTimeCalendarServiceImpl(workingTimeRepository, publicHolidaysService, settingsService, parallelComputation);
     }
 
     @Test
@@ -25,6 +25,7 @@ import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
 import static java.time.DayOfWeek.WEDNESDAY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
@@ -349,6 +350,70 @@ class WorkingTimeCalendarTest {
         }
     }
 
+    @Nested
+    class EnsureCompactRepresentation {
+
+        @Test
+        void ensureBuilderCreatesSameCalendarAsMap() {
+
+            final LocalDate from = LocalDate.of(2024, 7, 1);
+            final LocalDate to = LocalDate.of(2024, 7, 31);
+
+            final Map<LocalDate, WorkingDayInformation> workingTimeByDate = buildWorkingTimeByDate(from, to.minusDays(2), date -> fullWorkingDayInformation());
+
+            final WorkingTimeCalendar.Builder builder = WorkingTimeCalendar.builder(new DateRange(from.minusDays(3), to));
+            workingTimeByDate.forEach(builder::workingDay);
+
+            final WorkingTimeCalendar sut = builder.build();
+            assertThat(sut).isEqualTo(new WorkingTimeCalendar(workingTimeByDate));
+            assertThat(sut.workingDays()).isEqualTo(workingTimeByDate);
+        }
+
+        @Test
+        void ensureBuilderThrowsForDateOutOfRange() {
+
+            final LocalDate date = LocalDate.of(2024, 7, 1);
+            final WorkingTimeCalendar.Builder builder = WorkingTimeCalendar.builder(new DateRange(date, date));
+
+            assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.workingDay(date.plusDays(1), fullWorkingDayInformation()));
+        }
+
+        @Test
+        void ensureWorkingDaysOmitsDatesWithoutEntry() {
+
+            final LocalDate first = LocalDate.of(2024, 7, 1);
+            final LocalDate last = LocalDate.of(2024, 7, 5);
+
+            final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of(
+                first, fullWorkingDayInformation(),
+                last, new WorkingDayInformation(MORNING, WORKDAY, PUBLIC_HOLIDAY)
+            ));
+
+            assertThat(sut.workingDays()).hasSize(2)
+                .containsEntry(first, fullWorkingDayInformation())
+                .containsEntry(last, new WorkingDayInformation(MORNING, WORKDAY, PUBLIC_HOLIDAY))
+                .doesNotContainKey(LocalDate.of(2024, 7, 3));
+            assertThat(sut.workingDayInformation(LocalDate.of(2024, 7, 3))).isEmpty();
+            assertThat(sut.workingTime(first, last)).isEqualByComparingTo(BigDecimal.valueOf(1.5));
+
+            final Map<LocalDate, WorkingDayInformation> visited = new HashMap<>();
+            sut.forEachWorkingDay(visited::put);
+            assertThat(visited).isEqualTo(sut.workingDays());
+        }
+
+        @Test
+        void ensureEmptyCalendar() {
+
+            final WorkingTimeCalendar sut = new WorkingTimeCalendar(Map.of());
+
+            assertThat(sut.workingDays()).isEmpty();
+            assertThat(sut.workingTimeDayLength(LocalDate.of(2024, 7, 1))).isEmpty();
+            assertThat(sut.workingTime(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 31))).isEqualTo(BigDecimal.ZERO);
+            assertThat(sut.nextWorkingFollowingTo(LocalDate.of(2024, 7, 1))).isEmpty();
+        }
+    }
+
     private static WorkingDayInformation emptyWorkingDayInformation() {
         return new WorkingDayInformation(ZERO, NO_WORKDAY, NO_WORKDAY);
     }